@@ -31,6 +31,84 @@ CREATE TABLE IF NOT EXISTS REQ_REQUEST (
     PRIMARY KEY (req_id)
 );
 
+CREATE TABLE IF NOT EXISTS REQ_ANALYSIS_CHECKPOINT (
+    req_id              VARCHAR(30)     NOT NULL,
+    last_stage          VARCHAR(4)      NOT NULL,
+    input_hash          VARCHAR(64)     NOT NULL,
+    snapshot_version    BIGINT,
+    trace_id            VARCHAR(50),
+    completed_at        TIMESTAMP       NOT NULL,
+    PRIMARY KEY (req_id)
+);
+
+-- 분석 노드(M3, M4 산출기, M5, M6)별 마지막 커밋 산출물의 입력 지문 (증분 재분석)
+CREATE TABLE IF NOT EXISTS REQ_ANALYSIS_FINGERPRINT (
+    req_id              VARCHAR(30)     NOT NULL,
+    node                VARCHAR(10)     NOT NULL,
+    fingerprint         VARCHAR(64)     NOT NULL,
+    trace_id            VARCHAR(50),
+    computed_at         TIMESTAMP       NOT NULL,
+    PRIMARY KEY (req_id, node)
+);
+
+-- 분석 결과 재사용 캐시: 캐시 키(입력 체크섬 + 기준정보 지문 + 엔진 버전 + 요청 조건)별 마지막 완료 요청
+-- 조회는 항상 cache_key 단건이므로 PK 가 조회 인덱스를 겸한다
+CREATE TABLE IF NOT EXISTS REQ_RESULT_CACHE (
+    cache_key           VARCHAR(64)     NOT NULL,
+    source_req_id       VARCHAR(30)     NOT NULL,
+    input_hash          VARCHAR(64)     NOT NULL,
+    engine_version      VARCHAR(20)     NOT NULL,
+    snapshot_version    BIGINT,
+    created_at          TIMESTAMP       NOT NULL,
+    PRIMARY KEY (cache_key)
+);
+
+-- 여러 노드가 공유하는 분석 작업 대기열 (pending → leased → done/failed, 리스 만료 시 다른 노드가 재획득, 일괄 분석 선점 거부는 rejected)
+CREATE TABLE IF NOT EXISTS REQ_ANALYSIS_JOB (
+    job_id              VARCHAR(36)     NOT NULL,
+    req_id              VARCHAR(30)     NOT NULL,
+    trace_id            VARCHAR(50)     NOT NULL,
+    tenant              VARCHAR(100)    NOT NULL,
+    priority            INT             NOT NULL,
+    batch_id            VARCHAR(36),
+    resume_from         VARCHAR(4),
+    job_status          VARCHAR(10)     NOT NULL,
+    lease_owner         VARCHAR(100),
+    lease_expires_at    TIMESTAMP,
+    heartbeat_at        TIMESTAMP,
+    attempts            INT             NOT NULL DEFAULT 0,
+    error_code          VARCHAR(20),
+    error_message       VARCHAR(1000),
+    created_at          TIMESTAMP       NOT NULL,
+    started_at          TIMESTAMP,
+    finished_at         TIMESTAMP,
+    PRIMARY KEY (job_id)
+);
+
+-- 일괄 분석 접수 정보 (구성 요청은 REQ_ANALYSIS_JOB.batch_id 로 연결, 진행 상태는 작업 행 집계)
+CREATE TABLE IF NOT EXISTS REQ_ANALYSIS_BATCH (
+    batch_id            VARCHAR(36)     NOT NULL,
+    tenant              VARCHAR(100)    NOT NULL,
+    concurrency         INT             NOT NULL,
+    total               INT             NOT NULL,
+    created_at          TIMESTAMP       NOT NULL,
+    PRIMARY KEY (batch_id)
+);
+
+-- 분석 완료 후 보관 기간이 지난 요청의 INP_*/CHK_*/OUT_* 행 묶음 (gzip JSON, 조회 시 원 테이블로 복원)
+CREATE TABLE IF NOT EXISTS REQ_ARCHIVE (
+    req_id              VARCHAR(30)     NOT NULL,
+    archive_status      VARCHAR(10)     NOT NULL,
+    bundle              LONGBLOB,
+    row_count           INT             NOT NULL,
+    raw_byte_size       BIGINT          NOT NULL,
+    bundle_byte_size    BIGINT          NOT NULL,
+    checksum            VARCHAR(64)     NOT NULL,
+    archived_at         TIMESTAMP       NOT NULL,
+    rehydrated_at       TIMESTAMP,
+    PRIMARY KEY (req_id)
+);
+
 -- ============================================================
 -- 2. 입력 (Input) 테이블
 -- ============================================================
@@ -353,13 +431,18 @@ CREATE TABLE IF NOT EXISTS LOG_CALCULATION (
     input_data          TEXT,
     output_data         TEXT,
     legal_basis         VARCHAR(200),
-    executed_at         TIMESTAMP,
+    executed_at         DATETIME        NOT NULL,
     log_level           VARCHAR(10),
     executed_by         VARCHAR(50),
     duration_ms         INT,
     trace_id            VARCHAR(50),
     prev_data_hash      VARCHAR(64),
-    PRIMARY KEY (log_id)
+    PRIMARY KEY (log_id, executed_at)
+)
+-- executed_at 기준 월 파티션 (MySQL). 설치 시점에는 pmax 하나로 만들고, 설치 월부터의 월 파티션(p{yyyyMM}) 생성과
+-- 보존 기간 경과분 반출·DROP 은 CalculationLogRetentionJob 이 기동 직후와 매일 수행한다 (tax-service.audit-log.retention.*)
+PARTITION BY RANGE COLUMNS (executed_at) (
+    PARTITION pmax VALUES LESS THAN (MAXVALUE)
 );
 
 -- ============================================================
@@ -393,6 +476,7 @@ CREATE TABLE IF NOT EXISTS REF_EMPLOYMENT_CREDIT (
     region              VARCHAR(10),
     worker_type         VARCHAR(20),
     credit_per_person   BIGINT,
+    updated_at          TIMESTAMP       DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
     PRIMARY KEY (credit_id)
 );
 
@@ -403,6 +487,7 @@ CREATE TABLE IF NOT EXISTS REF_INVESTMENT_CREDIT_RATE (
     corp_size           VARCHAR(10),
     basic_rate          DECIMAL(5,2),
     additional_rate     DECIMAL(5,2),
+    updated_at          TIMESTAMP       DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
     PRIMARY KEY (rate_id)
 );
 
@@ -415,6 +500,7 @@ CREATE TABLE IF NOT EXISTS REF_MUTUAL_EXCLUSION (
     is_allowed          BOOLEAN,
     condition_note      VARCHAR(500),
     legal_basis         VARCHAR(100),
+    updated_at          TIMESTAMP       DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
     PRIMARY KEY (rule_id)
 );
 
@@ -473,6 +559,7 @@ CREATE TABLE IF NOT EXISTS REF_STARTUP_DEDUCTION_RATE (
     year_to             VARCHAR(4),
     legal_basis         VARCHAR(100),
     remark              VARCHAR(200),
+    updated_at          TIMESTAMP       DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
     PRIMARY KEY (rate_id)
 );
 
@@ -504,6 +591,7 @@ CREATE TABLE IF NOT EXISTS REF_LAW_VERSION (
     year_from           VARCHAR(4),
     year_to             VARCHAR(4),
     version_note        TEXT,
+    updated_at          TIMESTAMP       DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
     PRIMARY KEY (version_id)
 );
 
@@ -583,6 +671,7 @@ CREATE TABLE IF NOT EXISTS REF_EXCHANGE_RATE (
     standard_rate       DECIMAL(10,4),
     buy_rate            DECIMAL(10,4),
     sell_rate           DECIMAL(10,4),
+    updated_at          TIMESTAMP       DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
     PRIMARY KEY (rate_date, currency)
 );
 
@@ -634,12 +723,17 @@ CREATE TABLE IF NOT EXISTS REF_INC_SINCERITY_THRESHOLD (
 -- 9. 인덱스
 -- ============================================================
 
-CREATE INDEX IF NOT EXISTS idx_req_request_applicant      ON REQ_REQUEST (applicant_id);
-CREATE INDEX IF NOT EXISTS idx_req_request_tax_year       ON REQ_REQUEST (tax_year);
-CREATE INDEX IF NOT EXISTS idx_req_request_status         ON REQ_REQUEST (request_status);
+-- 요청 목록 조회(API-10) 키셋 페이징: 조건 컬럼 + (created_at, req_id) 순서로 정렬 없이 읽는다
+CREATE INDEX IF NOT EXISTS idx_req_request_status         ON REQ_REQUEST (request_status, created_at, req_id);
+CREATE INDEX IF NOT EXISTS idx_req_request_applicant      ON REQ_REQUEST (applicant_id, created_at, req_id);
+CREATE INDEX IF NOT EXISTS idx_req_request_tax_year       ON REQ_REQUEST (tax_year, created_at, req_id);
+CREATE INDEX IF NOT EXISTS idx_req_request_created        ON REQ_REQUEST (created_at, req_id);
+CREATE INDEX IF NOT EXISTS idx_req_analysis_job_poll     ON REQ_ANALYSIS_JOB (job_status, lease_expires_at, priority, created_at);
+CREATE INDEX IF NOT EXISTS idx_req_analysis_job_tenant   ON REQ_ANALYSIS_JOB (tenant, job_status);
+CREATE INDEX IF NOT EXISTS idx_req_analysis_job_batch    ON REQ_ANALYSIS_JOB (batch_id, job_status);
 CREATE INDEX IF NOT EXISTS idx_inp_raw_data_req           ON INP_RAW_DATA (req_id);
-CREATE INDEX IF NOT EXISTS idx_log_calculation_req        ON LOG_CALCULATION (req_id);
-CREATE INDEX IF NOT EXISTS idx_log_calculation_trace      ON LOG_CALCULATION (trace_id);
+CREATE INDEX IF NOT EXISTS idx_log_calculation_req        ON LOG_CALCULATION (req_id, executed_at);
+CREATE INDEX IF NOT EXISTS idx_log_calculation_trace      ON LOG_CALCULATION (trace_id, executed_at);
 CREATE INDEX IF NOT EXISTS idx_out_credit_detail_provision ON OUT_CREDIT_DETAIL (provision);
 CREATE INDEX IF NOT EXISTS idx_out_combination_rank       ON OUT_COMBINATION (req_id, combo_rank);
 CREATE INDEX IF NOT EXISTS idx_out_risk_level             ON OUT_RISK (risk_level);
@@ -0,0 +1,121 @@
+package com.entec.tax.api.controller;
+
+import com.entec.tax.domain.common.dto.ApiResponse;
+import com.entec.tax.domain.request.dto.BatchAnalysisRequestDto;
+import com.entec.tax.engine.orchestrator.AnalysisBatch;
+import com.entec.tax.engine.orchestrator.AnalysisBatchService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import javax.validation.Valid;
+import java.net.URI;
+import java.util.Map;
+
+/**
+ * 일괄 분석 REST 컨트롤러.
+ * <p>
+ * 여러 요청 건을 한 번에 분석 실행하고, 배치 진행 상황과 요청별 결과를 제공한다.
+ * </p>
+ *
+ * <ul>
+ *   <li>POST /api/v1/analyses/batch — 일괄 분석 접수 (202, 배치 ID 반환)</li>
+ *   <li>GET /api/v1/analyses/batch/{batchId} — 배치 진행 상황·실패 건 조회</li>
+ *   <li>GET /api/v1/analyses/batch/{batchId}/events — 요청별 결과 스트리밍 (Server-Sent Events)</li>
+ * </ul>
+ */
+@RestController
+@RequestMapping("/api/v1/analyses")
+@RequiredArgsConstructor
+@Slf4j
+public class AnalysisBatchController {
+
+    /** 결과 스트림 최대 유지 시간 (밀리초) */
+    private static final long EVENT_STREAM_TIMEOUT_MS = 30L * 60 * 1000;
+
+    /** 일괄 분석 서비스 */
+    private final AnalysisBatchService analysisBatchService;
+
+    /**
+     * 일괄 분석 접수.
+     * <p>
+     * 요청 ID 목록의 각 건을 queued 상태로 선점하고 202 Accepted 와 배치 진행 상태를 반환한다.
+     * 선점할 수 없는 건(미존재, parsed 아닌 상태 등)은 rejected 로 집계되며 나머지 건의 실행에는 영향이 없다.
+     * Location 헤더는 배치 진행 상황 조회 경로를 가리킨다.
+     * </p>
+     *
+     * @param request 일괄 분석 요청 (reqIds, concurrency)
+     * @return 배치 진행 상태 (batch_id, status, total, queued, running, succeeded, failed, rejected …)
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> submitBatch(
+            @Valid @RequestBody BatchAnalysisRequestDto request) {
+
+        log.info("일괄 분석 접수 요청 — reqIds={}, concurrency={}",
+                request.getReqIds().size(), request.getConcurrency());
+
+        AnalysisBatch batch = analysisBatchService.submit(request.getReqIds(), request.getConcurrency());
+
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .location(URI.create("/api/v1/analyses/batch/" + batch.getBatchId()))
+                .body(ApiResponse.ok(batch.getProgress()));
+    }
+
+    /**
+     * 배치 진행 상황 조회.
+     *
+     * @param batchId 배치 ID
+     * @return 진행 상태와 실패·거부 건 목록 (failures)
+     */
+    @GetMapping("/batch/{batchId}")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> getBatch(@PathVariable String batchId) {
+        AnalysisBatch batch = analysisBatchService.getBatch(batchId);
+
+        Map<String, Object> progress = batch.getProgress();
+        progress.put("failures", batch.getFailures());
+        return ResponseEntity.ok(ApiResponse.ok(progress));
+    }
+
+    /**
+     * 요청별 결과 스트리밍.
+     * <p>
+     * 이미 끝난 건을 먼저 보낸 뒤, 이후 끝나는 건을 완료 순서대로 {@code result} 이벤트로 보낸다.
+     * 결과는 DB 에서 주기적으로 확인하므로, 배치를 접수한 노드가 아니어도 스트리밍할 수 있다.
+     * 배치가 끝나면 최종 진행 상태를 {@code complete} 이벤트로 보내고 스트림을 닫는다.
+     * </p>
+     *
+     * @param batchId 배치 ID
+     * @return SSE 스트림
+     */
+    @GetMapping(value = "/batch/{batchId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamBatch(@PathVariable String batchId) {
+        SseEmitter emitter = new SseEmitter(EVENT_STREAM_TIMEOUT_MS);
+        AnalysisBatch.Listener listener = new AnalysisBatch.Listener() {
+            @Override
+            public void onResult(Map<String, Object> result) throws Exception {
+                emitter.send(SseEmitter.event().name("result").data(result, MediaType.APPLICATION_JSON));
+            }
+
+            @Override
+            public void onComplete(Map<String, Object> progress) throws Exception {
+                emitter.send(SseEmitter.event().name("complete").data(progress, MediaType.APPLICATION_JSON));
+                emitter.complete();
+            }
+        };
+        emitter.onCompletion(() -> analysisBatchService.unsubscribe(batchId, listener));
+        emitter.onTimeout(() -> analysisBatchService.unsubscribe(batchId, listener));
+        emitter.onError(e -> analysisBatchService.unsubscribe(batchId, listener));
+
+        analysisBatchService.subscribe(batchId, listener);
+        return emitter;
+    }
+}
@@ -1,15 +1,22 @@
 package com.entec.tax.api.controller;
 
+import com.entec.tax.common.exception.ErrorCode;
+import com.entec.tax.common.exception.ValidationException;
 import com.entec.tax.domain.common.dto.ApiResponse;
+import com.entec.tax.engine.orchestrator.AnalysisStage;
 import com.entec.tax.engine.orchestrator.AnalysisOrchestratorService;
+import com.entec.tax.engine.orchestrator.AnalysisSubmissionService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.net.URI;
 import java.util.Map;
 
 /**
@@ -21,7 +28,9 @@ import java.util.Map;
  * </p>
  *
  * <ul>
- *   <li>API-02: POST /api/v1/requests/{reqId}/analyze — 점검 실행 (TX-2 트랜잭션, 300초 타임아웃)</li>
+ *   <li>API-02: POST /api/v1/requests/{reqId}/analyze — 점검 실행 (TX-2 단계별 트랜잭션, 단계당 300초 타임아웃)</li>
+ *   <li>API-02: POST /api/v1/requests/{reqId}/analyze?async=true — 비동기 점검 실행 (202, 진행은 API-03 으로 조회)</li>
+ *   <li>API-02: POST /api/v1/requests/{reqId}/analyze?resumeFrom=M6 — 체크포인트 이후 단계부터 재실행</li>
  * </ul>
  */
 @RestController
@@ -33,12 +42,15 @@ public class AnalysisController {
     /** 분석 오케스트레이터 서비스 */
     private final AnalysisOrchestratorService analysisOrchestratorService;
 
+    /** 분석 비동기 제출 서비스 */
+    private final AnalysisSubmissionService analysisSubmissionService;
+
     /**
      * API-02: 점검 실행 (M3~M6 파이프라인).
      * <p>
      * 요청 건에 대해 전체 분석 파이프라인을 실행한다.
-     * TX-2 트랜잭션 범위(300초 타임아웃) 내에서 M3→M4→M5→M6 단계를
-     * 순차적으로 실행하며, 각 단계의 결과를 다음 단계에 전달한다.
+     * M3→M4→M5→M6 단계를 순차적으로 실행하며, 각 단계는 독립 트랜잭션(TX-2, 단계당 300초)으로
+     * 커밋되어 결과와 체크포인트가 다음 단계에 전달된다.
      * </p>
      *
      * <pre>
@@ -51,20 +63,70 @@ public class AnalysisController {
      *   6. 상태 업데이트 (completed / failed)
      * </pre>
      *
-     * @param reqId 요청 ID (예: C-1234567890-20260216-001)
-     * @return 실행 결과 (req_id, status, trace_id, duration_ms)
+     * <p>
+     * {@code async=true} 이면 요청을 queued 상태로 선점하고 노드 간 공유 작업 대기열에 등록한 뒤
+     * 즉시 202 Accepted 와 추적 ID를 반환한다. Location 헤더는 API-03 상태 조회 경로를 가리킨다.
+     * 테넌트 또는 전체 대기 한도를 넘으면 429 와 Retry-After 헤더를 반환한다.
+     * </p>
+     *
+     * <p>
+     * {@code resumeFrom}(M3~M6)이 지정되면 체크포인트를 검증한 뒤 해당 단계부터 실행한다.
+     * 직전 단계까지 완료된 체크포인트가 없거나 이후 입력·기준정보가 바뀌었으면 409 를 반환한다.
+     * </p>
+     *
+     * @param reqId      요청 ID (예: C-1234567890-20260216-001)
+     * @param async      비동기 실행 여부 (기본값 false)
+     * @param resumeFrom 재개 단계 코드 (M3/M4/M5/M6, 생략 시 전체 실행)
+     * @return 동기: 실행 결과 (req_id, status, trace_id, duration_ms) /
+     *         비동기: 제출 결과 (req_id, status=queued, trace_id)
      */
     @PostMapping("/{reqId}/analyze")
     public ResponseEntity<ApiResponse<Map<String, Object>>> analyzeRequest(
-            @PathVariable String reqId) {
+            @PathVariable String reqId,
+            @RequestParam(value = "async", defaultValue = "false") boolean async,
+            @RequestParam(value = "resumeFrom", required = false) String resumeFrom) {
+
+        AnalysisStage resumeStage = parseStage(resumeFrom, reqId);
+
+        if (async) {
+            log.info("API-02 비동기 점검 제출 — reqId={}, resumeFrom={}", reqId, resumeStage);
 
-        log.info("API-02 점검 실행 시작 — reqId={}", reqId);
+            Map<String, Object> submitted = analysisSubmissionService.submit(reqId, resumeStage);
 
-        Map<String, Object> result = analysisOrchestratorService.executeAnalysis(reqId);
+            log.info("API-02 비동기 점검 제출 완료 — reqId={}, trace_id={}", reqId, submitted.get("trace_id"));
+
+            return ResponseEntity.status(HttpStatus.ACCEPTED)
+                    .location(URI.create("/api/v1/requests/" + reqId + "/status"))
+                    .body(ApiResponse.ok(submitted));
+        }
+
+        log.info("API-02 점검 실행 시작 — reqId={}, resumeFrom={}", reqId, resumeStage);
+
+        Map<String, Object> result = analysisOrchestratorService.executeAnalysis(reqId, resumeStage);
 
         log.info("API-02 점검 실행 완료 — reqId={}, status={}, duration_ms={}",
                 reqId, result.get("status"), result.get("duration_ms"));
 
         return ResponseEntity.ok(ApiResponse.ok(result));
     }
+
+    /**
+     * 재개 단계 코드를 변환한다.
+     *
+     * @param code  단계 코드 (null 허용)
+     * @param reqId 요청 ID
+     * @return 재개 단계 (미지정 시 null)
+     * @throws ValidationException 알 수 없는 단계 코드인 경우
+     */
+    private AnalysisStage parseStage(String code, String reqId) {
+        if (code == null || code.trim().isEmpty()) {
+            return null;
+        }
+        try {
+            return AnalysisStage.fromCode(code.trim());
+        } catch (IllegalArgumentException e) {
+            throw new ValidationException(ErrorCode.VALIDATION_FAILED,
+                    "재개 단계는 M3, M4, M5, M6 중 하나여야 합니다: " + code, reqId, null);
+        }
+    }
 }
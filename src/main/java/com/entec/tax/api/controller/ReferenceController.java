@@ -1,16 +1,26 @@
 package com.entec.tax.api.controller;
 
+import com.entec.tax.common.exception.ErrorCode;
+import com.entec.tax.common.exception.ValidationException;
 import com.entec.tax.domain.common.dto.ApiResponse;
-import com.entec.tax.domain.reference.entity.RefMutualExclusion;
-import com.entec.tax.domain.reference.repository.RefMutualExclusionRepository;
+import com.entec.tax.domain.reference.cache.ExclusionMatrixCache;
+import com.entec.tax.domain.reference.cache.ReferenceSnapshotManager;
+import com.entec.tax.domain.reference.cache.SystemParamRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
-import java.util.List;
+import java.util.Set;
 
 /**
  * 기준정보 조회 REST 컨트롤러.
@@ -20,8 +30,12 @@ import java.util.List;
  * </p>
  *
  * <ul>
- *   <li>API-07: GET /api/v1/reference/exclusion-matrix — 상호배제 기준정보 조회</li>
+ *   <li>API-07: GET /api/v1/reference/exclusion-matrix?year= — 상호배제 기준정보 조회 (ETag 지원)</li>
+ *   <li>POST /api/v1/reference/reload — 기준정보 스냅샷 재적재 (관리자)</li>
+ *   <li>POST /api/v1/reference/system-params/reload — 시스템 파라미터 즉시 재적재 (관리자)</li>
  * </ul>
+ *
+ * <p>관리자 엔드포인트는 {@code X-Admin-Key} 헤더의 관리자 키로만 호출할 수 있다 ({@code SecurityConfig}).</p>
  */
 @RestController
 @RequestMapping("/api/v1/reference")
@@ -29,29 +43,123 @@ import java.util.List;
 @Slf4j
 public class ReferenceController {
 
-    /** 상호배제 기준정보 리포지토리 */
-    private final RefMutualExclusionRepository refMutualExclusionRepository;
+    /** 상호배제 매트릭스 캐시 */
+    private final ExclusionMatrixCache exclusionMatrixCache;
+
+    /** 기준정보 스냅샷 관리자 */
+    private final ReferenceSnapshotManager referenceSnapshotManager;
+
+    /** 시스템 파라미터 레지스트리 */
+    private final SystemParamRegistry systemParamRegistry;
 
     /**
      * API-07: 상호배제 기준정보 조회.
      * <p>
-     * REF_MUTUAL_EXCLUSION 테이블의 전체 상호배제 규칙을 조회하여 반환한다.
+     * REF_MUTUAL_EXCLUSION 의 상호배제 규칙을 조항×조항 매트릭스로 반환한다.
      * 조항 A와 조항 B의 동시 적용 가능 여부, 조건 설명, 법적 근거 등을 포함한다.
      * 프론트엔드에서 상호배제 매트릭스를 시각화하거나,
      * 분석 결과의 조합 탐색 근거를 확인하는 데 활용된다.
      * </p>
      *
-     * @return 상호배제 규칙 전체 목록
+     * <p>
+     * 매트릭스는 기준정보 스냅샷 단위로 미리 직렬화되어 있으며, 요청의 If-None-Match 가
+     * 현재 ETag 와 일치하면 본문 없이 304 를 반환한다.
+     * </p>
+     *
+     * @param year        귀속 연도 (yyyy, 생략 시 전체 연도)
+     * @param ifNoneMatch 클라이언트 보유 ETag
+     * @return 직렬화된 상호배제 매트릭스 (또는 304)
      */
     @GetMapping("/exclusion-matrix")
-    public ResponseEntity<ApiResponse<List<RefMutualExclusion>>> getExclusionMatrix() {
+    public ResponseEntity<byte[]> getExclusionMatrix(
+            @RequestParam(value = "year", required = false) String year,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+
+        if (year != null && !year.matches("\\d{4}")) {
+            throw new ValidationException(ErrorCode.INVALID_FISCAL_YEAR,
+                    "귀속 연도는 4자리 숫자여야 합니다: " + year, null, null);
+        }
+
+        ExclusionMatrixCache.SerializedMatrix matrix = exclusionMatrixCache.getMatrix(year);
+
+        if (matchesEtag(ifNoneMatch, matrix.getEtag())) {
+            log.debug("API-07 상호배제 기준정보 미변경 — year={}, etag={}", year, matrix.getEtag());
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(matrix.getEtag())
+                    .cacheControl(CacheControl.noCache())
+                    .build();
+        }
 
-        log.info("API-07 상호배제 기준정보 조회 시작");
+        log.info("API-07 상호배제 기준정보 조회 완료 — year={}, 규칙 수={}", year, matrix.getRuleCount());
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .eTag(matrix.getEtag())
+                .cacheControl(CacheControl.noCache())
+                .body(matrix.getBody());
+    }
+
+    /**
+     * 기준정보 스냅샷 재적재.
+     * <p>
+     * 기준정보(REF_*)를 다시 적재하여 새 스냅샷을 만들고 파생 인덱스를 미리 생성한 뒤 교체한다.
+     * 원본 지문이 현재 스냅샷과 같으면 교체하지 않는다 ({@code force=true} 시 강제 교체).
+     * 진행 중인 분석은 시작 시점의 스냅샷으로 계속 계산된다.
+     * </p>
+     *
+     * @param force 지문이 같아도 교체할지 여부
+     * @return 재적재 결과 (이전/현재 버전, 교체 여부, 지문, 소요시간)
+     */
+    @PostMapping("/reload")
+    public ResponseEntity<ApiResponse<ReferenceSnapshotManager.ReloadResult>> reloadReferenceData(
+            @RequestParam(value = "force", defaultValue = "false") boolean force) {
 
-        List<RefMutualExclusion> matrix = refMutualExclusionRepository.findAll();
+        log.info("기준정보 재적재 요청 — force={}", force);
 
-        log.info("API-07 상호배제 기준정보 조회 완료 — 규칙 수={}", matrix.size());
+        ReferenceSnapshotManager.ReloadResult result = referenceSnapshotManager.reload(force);
 
-        return ResponseEntity.ok(ApiResponse.ok(matrix));
+        log.info("기준정보 재적재 완료 — version={}, swapped={}, duration={}ms",
+                result.getVersion(), result.isSwapped(), result.getDurationMs());
+
+        return ResponseEntity.ok(ApiResponse.ok(result));
+    }
+
+    /**
+     * 시스템 파라미터 즉시 재적재.
+     * <p>
+     * REF_SYSTEM_PARAM 변경 후 주기 갱신을 기다리지 않고 즉시 반영할 때 사용한다.
+     * </p>
+     *
+     * @return 추가·변경·삭제된 파라미터 키 목록
+     */
+    @PostMapping("/system-params/reload")
+    public ResponseEntity<ApiResponse<Set<String>>> reloadSystemParams() {
+
+        log.info("시스템 파라미터 재적재 요청");
+
+        Set<String> changedKeys = systemParamRegistry.reload();
+
+        log.info("시스템 파라미터 재적재 완료 — 변경 키 수={}", changedKeys.size());
+
+        return ResponseEntity.ok(ApiResponse.ok(changedKeys));
+    }
+
+    /**
+     * If-None-Match 헤더에 현재 ETag 가 포함되어 있는지 확인한다 (약한 비교, {@code *} 허용).
+     */
+    private static boolean matchesEtag(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if ("*".equals(tag) || etag.equals(tag)) {
+                return true;
+            }
+        }
+        return false;
     }
 }
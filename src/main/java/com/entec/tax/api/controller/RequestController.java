@@ -1,8 +1,12 @@
 package com.entec.tax.api.controller;
 
 import com.entec.tax.domain.common.dto.ApiResponse;
+import com.entec.tax.domain.common.dto.PageResponse;
+import com.entec.tax.domain.request.dto.DatasetDto;
 import com.entec.tax.domain.request.dto.RequestCreateDto;
+import com.entec.tax.domain.request.dto.RequestListItemDto;
 import com.entec.tax.domain.request.dto.RequestResponseDto;
+import com.entec.tax.domain.request.dto.RequestSearchDto;
 import com.entec.tax.domain.request.dto.RequestStatusDto;
 import com.entec.tax.domain.request.dto.RequestSummaryDto;
 import com.entec.tax.domain.request.service.RequestManagementService;
@@ -13,6 +17,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -25,7 +30,7 @@ import javax.validation.Valid;
  * 요청 관리 REST 컨트롤러.
  * <p>
  * API-01 (요청 접수), API-03 (상태 조회), API-06 (원시 데이터 조회),
- * API-08 (경량 요약 조회) 엔드포인트를 제공한다.
+ * API-08 (경량 요약 조회), API-09 (데이터셋 정정), API-10 (요청 목록 조회) 엔드포인트를 제공한다.
  * </p>
  *
  * <ul>
@@ -33,6 +38,8 @@ import javax.validation.Valid;
  *   <li>API-03: GET  /api/v1/requests/{reqId}/status — 요청 상태 조회</li>
  *   <li>API-06: GET  /api/v1/requests/{reqId}/raw-data — 원시 입력 JSON 조회</li>
  *   <li>API-08: GET  /api/v1/requests/{reqId}/summary — 경량 요약 조회 (v3.2 신규)</li>
+ *   <li>API-09: PUT  /api/v1/requests/{reqId}/datasets — 데이터셋 정정 (카테고리 단위 교체)</li>
+ *   <li>API-10: GET  /api/v1/requests — 요청 목록 조회 (상태·신청자·귀속연도·생성일 조건, 키셋 페이징)</li>
  * </ul>
  */
 @RestController
@@ -145,4 +152,54 @@ public class RequestController {
 
         return ResponseEntity.ok(ApiResponse.ok(summary));
     }
+
+    /**
+     * API-09: 데이터셋 정정.
+     * <p>
+     * 카테고리 1건의 원시 데이터를 교체하고 해당 카테고리의 요약만 다시 생성한다.
+     * 이후 분석 실행(API-02)은 정정한 카테고리를 읽는 단계·산출기만 다시 계산하고 나머지 결과는 재사용한다.
+     * 분석이 진행 중인 요청은 정정할 수 없다.
+     * </p>
+     *
+     * @param reqId   요청 ID
+     * @param dataset 정정 데이터셋 (category, subCategory, data)
+     * @return 정정 후 요청 상태 (req_id, status, progress)
+     */
+    @PutMapping("/{reqId}/datasets")
+    public ResponseEntity<ApiResponse<RequestStatusDto>> correctDataset(
+            @PathVariable String reqId,
+            @Valid @RequestBody DatasetDto dataset) {
+
+        log.info("API-09 데이터셋 정정 — reqId={}, category={}", reqId, dataset.getCategory());
+
+        RequestStatusDto status = requestManagementService.correctDataset(reqId, dataset);
+
+        log.info("API-09 데이터셋 정정 완료 — reqId={}, status={}", reqId, status.getStatus());
+
+        return ResponseEntity.ok(ApiResponse.ok(status));
+    }
+
+    /**
+     * API-10: 요청 목록 조회.
+     * <p>
+     * 상태·신청자·귀속연도·생성일(from_date~to_date) 조건으로 요청 목록을 최신순으로 조회한다.
+     * 전체 건수 없이 has_next, next_cursor 를 반환하며, 다음 페이지는 cursor 파라미터로 이어서 조회한다.
+     * </p>
+     *
+     * @param search 조회 조건 (status, applicantId, taxYear, fromDate, toDate, cursor, size)
+     * @return 요청 목록 페이지
+     */
+    @GetMapping
+    public ResponseEntity<ApiResponse<PageResponse<RequestListItemDto>>> searchRequests(
+            RequestSearchDto search) {
+
+        log.info("API-10 요청 목록 조회 — status={}, applicantId={}, taxYear={}, cursor={}",
+                search.getStatus(), search.getApplicantId(), search.getTaxYear(), search.getCursor() != null);
+
+        PageResponse<RequestListItemDto> page = requestManagementService.searchRequests(search);
+
+        log.info("API-10 요청 목록 조회 완료 — returned={}, hasNext={}", page.getContent().size(), page.isHasNext());
+
+        return ResponseEntity.ok(ApiResponse.ok(page));
+    }
 }
@@ -0,0 +1,55 @@
+package com.entec.tax.api.controller;
+
+import com.entec.tax.domain.common.dto.ApiResponse;
+import com.entec.tax.domain.request.dto.SimulationRequestDto;
+import com.entec.tax.engine.orchestrator.AnalysisSimulationService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import javax.validation.Valid;
+import java.util.Map;
+
+/**
+ * 모의 분석(quick quote) REST 컨트롤러.
+ * <p>
+ * 요청을 접수하지 않고 데이터셋만으로 예상 환급액을 즉시 산출한다. 결과는 저장되지 않는다.
+ * </p>
+ *
+ * <ul>
+ *   <li>POST /api/v1/simulate — 모의 분석 실행 (최적 조합 순위, 환급액 요약 반환)</li>
+ * </ul>
+ */
+@RestController
+@RequestMapping("/api/v1")
+@RequiredArgsConstructor
+@Slf4j
+public class SimulationController {
+
+    /** 모의 분석 서비스 */
+    private final AnalysisSimulationService analysisSimulationService;
+
+    /**
+     * 모의 분석 실행.
+     * <p>
+     * 데이터셋을 메모리에서 변환해 M3~M6 을 실행하고, 순위별 조합과 환급액 요약을 반환한다.
+     * 요청·입력·산출물·로그를 저장하지 않으므로 같은 입력으로 반복 호출해도 부작용이 없다.
+     * </p>
+     *
+     * @param request 모의 분석 요청 (요청 접수와 같은 데이터셋 형식)
+     * @return 모의 분석 결과 (sim_id, eligibility, combinations, refund, credit_details …)
+     */
+    @PostMapping("/simulate")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> simulate(
+            @Valid @RequestBody SimulationRequestDto request) {
+
+        log.info("모의 분석 요청 — taxType={}, taxYear={}, datasets={}",
+                request.getTaxType(), request.getTaxYear(), request.getDatasets().size());
+
+        return ResponseEntity.ok(ApiResponse.ok(analysisSimulationService.simulate(request)));
+    }
+}
@@ -0,0 +1,26 @@
+package com.entec.tax.common.annotation;
+
+import com.entec.tax.common.constants.ConnectionPoolType;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 커넥션 풀 지정 어노테이션.
+ * <p>
+ * 이 어노테이션이 선언된 메서드(또는 클래스의 모든 public 메서드) 실행 중 새로 얻는 DB 커넥션을
+ * 지정한 워크로드 풀에서 가져온다. 호출이 중첩되면 가장 바깥 호출의 지정이 유지된다.
+ * 읽기 전용 트랜잭션에 복제본이 구성되어 있으면 복제본이 우선한다.
+ * </p>
+ */
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ConnectionPool {
+
+    /**
+     * 사용할 커넥션 풀.
+     */
+    ConnectionPoolType value();
+}
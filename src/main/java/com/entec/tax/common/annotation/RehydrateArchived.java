@@ -0,0 +1,18 @@
+package com.entec.tax.common.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 보관 요청 복원 어노테이션.
+ * <p>
+ * 첫 번째 인자가 요청 ID 인 메서드에 선언하면, 요청이 보관(REQ_ARCHIVE) 상태일 때
+ * 메서드 실행 전에 입력·검증·산출 테이블 행을 복원한다. INP_*, CHK_*, OUT_* 를 읽는 조회·분석 진입점에 선언한다.
+ * </p>
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface RehydrateArchived {
+}
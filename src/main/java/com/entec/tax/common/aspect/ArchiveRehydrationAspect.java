@@ -0,0 +1,51 @@
+package com.entec.tax.common.aspect;
+
+import com.entec.tax.common.annotation.RehydrateArchived;
+import com.entec.tax.config.PoolRoutingDataSource;
+import com.entec.tax.domain.request.service.RequestArchiveService;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * 보관 요청 복원 Aspect.
+ * <p>
+ * {@link RehydrateArchived} 메서드 호출 전에 요청이 보관 상태이면 원 테이블로 복원한다.
+ * 복원은 별도 트랜잭션으로 커밋된 뒤 대상 메서드의 트랜잭션이 시작되도록 트랜잭션보다 먼저 적용되며,
+ * 복원 직후의 조회가 아직 복제되지 않은 복제본을 읽지 않도록 이번 호출은 원본 쪽 풀에 고정한다.
+ * </p>
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+@RequiredArgsConstructor
+public class ArchiveRehydrationAspect {
+
+    /** 요청 보관 서비스 */
+    private final RequestArchiveService requestArchiveService;
+
+    /**
+     * 보관된 요청을 복원한 뒤 대상 메서드를 실행한다.
+     *
+     * @param joinPoint 조인포인트
+     * @param reqId     요청 ID (첫 번째 인자)
+     * @return 대상 메서드의 반환값
+     * @throws Throwable 대상 메서드에서 발생한 예외
+     */
+    @Around("@annotation(com.entec.tax.common.annotation.RehydrateArchived) && args(reqId, ..)")
+    public Object rehydrate(ProceedingJoinPoint joinPoint, String reqId) throws Throwable {
+        if (!requestArchiveService.rehydrateIfArchived(reqId)) {
+            return joinPoint.proceed();
+        }
+        boolean previous = PoolRoutingDataSource.forcePrimary(true);
+        try {
+            return joinPoint.proceed();
+        } finally {
+            PoolRoutingDataSource.forcePrimary(previous);
+        }
+    }
+}
@@ -2,6 +2,8 @@ package com.entec.tax.common.aspect;
 
 import com.entec.tax.common.annotation.Auditable;
 import com.entec.tax.common.dto.RequestContext;
+import com.entec.tax.domain.log.entity.LogCalculation;
+import com.entec.tax.domain.log.service.CalculationLogWriter;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
@@ -11,12 +13,10 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.slf4j.MDC;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
 
 import java.lang.reflect.Method;
 import java.lang.reflect.Parameter;
-import java.sql.Timestamp;
 import java.time.LocalDateTime;
 
 /**
@@ -24,6 +24,7 @@ import java.time.LocalDateTime;
  * <p>
  * {@link Auditable} 어노테이션이 선언된 메서드의 실행 정보를
  * {@code LOG_CALCULATION} 테이블에 자동 기록한다.
+ * 기록은 {@link CalculationLogWriter}를 거쳐 비동기 배치로 처리된다.
  * </p>
  *
  * <p>기록 항목:</p>
@@ -44,16 +45,10 @@ public class AuditAspect {
 
     private static final Logger log = LoggerFactory.getLogger(AuditAspect.class);
 
-    private static final String INSERT_SQL =
-            "INSERT INTO LOG_CALCULATION " +
-            "(req_id, calc_step, function_name, input_data, output_data, " +
-            " log_level, executed_at, duration_ms, trace_id, executed_by) " +
-            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
-
     private static final int MAX_JSON_LENGTH = 65535;
 
     @Autowired
-    private JdbcTemplate jdbcTemplate;
+    private CalculationLogWriter calculationLogWriter;
 
     @Autowired
     private ObjectMapper objectMapper;
@@ -172,25 +167,26 @@ public class AuditAspect {
     }
 
     /**
-     * LOG_CALCULATION 테이블에 감사 로그를 저장한다.
-     * 저장 실패 시 예외를 로그로 기록하고, 비즈니스 로직에는 영향을 주지 않는다.
+     * LOG_CALCULATION 감사 로그 기록을 요청한다.
+     * 기록 실패 시 예외를 로그로 기록하고, 비즈니스 로직에는 영향을 주지 않는다.
      */
     private void saveLog(String reqId, String calcStep, String functionName,
                          String inputData, String outputData, String logLevel,
                          LocalDateTime executedAt, long durationMs,
                          String traceId, String executedBy) {
         try {
-            jdbcTemplate.update(INSERT_SQL,
-                    reqId,
-                    calcStep,
-                    functionName,
-                    inputData,
-                    outputData,
-                    logLevel,
-                    Timestamp.valueOf(executedAt),
-                    (int) durationMs,
-                    traceId,
-                    executedBy);
+            calculationLogWriter.write(LogCalculation.builder()
+                    .reqId(reqId)
+                    .calcStep(calcStep)
+                    .functionName(functionName)
+                    .inputData(inputData)
+                    .outputData(outputData)
+                    .logLevel(logLevel)
+                    .executedAt(executedAt)
+                    .durationMs((int) durationMs)
+                    .traceId(traceId)
+                    .executedBy(executedBy)
+                    .build());
         } catch (Exception e) {
             log.error("LOG_CALCULATION 저장 실패: reqId={}, step={}, error={}",
                     reqId, calcStep, e.getMessage(), e);
@@ -0,0 +1,68 @@
+package com.entec.tax.common.aspect;
+
+import com.entec.tax.common.annotation.ConnectionPool;
+import com.entec.tax.config.PoolRoutingDataSource;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+
+/**
+ * 커넥션 풀 지정 Aspect.
+ * <p>
+ * {@link ConnectionPool} 어노테이션이 선언된 메서드·클래스의 실행 동안 현재 스레드의 커넥션 풀을 지정한다.
+ * 트랜잭션보다 먼저 적용되도록 가장 높은 우선순위로 동작하며, 이미 바깥 호출에서 풀이 지정되어 있으면
+ * 그대로 둔다 (예: 일괄 분석 배경 작업이 호출한 분석 제출은 analysis 풀 사용).
+ * </p>
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class ConnectionPoolAspect {
+
+    /**
+     * 지정된 커넥션 풀로 대상 메서드를 실행한다.
+     *
+     * @param joinPoint 조인포인트
+     * @return 대상 메서드의 반환값
+     * @throws Throwable 대상 메서드에서 발생한 예외
+     */
+    @Around("@annotation(com.entec.tax.common.annotation.ConnectionPool)"
+            + " || @within(com.entec.tax.common.annotation.ConnectionPool)")
+    public Object usePool(ProceedingJoinPoint joinPoint) throws Throwable {
+        if (PoolRoutingDataSource.currentPool() != null) {
+            return joinPoint.proceed();
+        }
+        ConnectionPool connectionPool = resolve(joinPoint);
+        if (connectionPool == null) {
+            return joinPoint.proceed();
+        }
+        PoolRoutingDataSource.use(connectionPool.value());
+        try {
+            return joinPoint.proceed();
+        } finally {
+            PoolRoutingDataSource.use(null);
+        }
+    }
+
+    /**
+     * 메서드 선언을 우선하고, 없으면 클래스 선언을 사용한다.
+     */
+    private static ConnectionPool resolve(ProceedingJoinPoint joinPoint) {
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        Class<?> targetClass = AopUtils.getTargetClass(joinPoint.getTarget());
+        Method specificMethod = AopUtils.getMostSpecificMethod(method, targetClass);
+        ConnectionPool connectionPool = AnnotatedElementUtils.findMergedAnnotation(specificMethod, ConnectionPool.class);
+        if (connectionPool == null) {
+            connectionPool = AnnotatedElementUtils.findMergedAnnotation(targetClass, ConnectionPool.class);
+        }
+        return connectionPool;
+    }
+}
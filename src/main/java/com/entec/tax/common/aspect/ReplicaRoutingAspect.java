@@ -0,0 +1,123 @@
+package com.entec.tax.common.aspect;
+
+import com.entec.tax.config.PoolRoutingDataSource;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.lang.reflect.Method;
+import java.util.List;
+
+/**
+ * 읽기 복제본 일관성 Aspect (read-your-writes).
+ * <p>
+ * 요청 상태가 바뀐 뒤 아직 복제본에 반영되지 않은 요청의 읽기 전용 조회는 복제본 대신 원본 풀로 보낸다.
+ * 예를 들어 분석 완료 직후의 상태·보고서 조회가 복제본의 이전 상태(analyzing, 보고서 없음)를 보지 않도록 한다.
+ * </p>
+ *
+ * <ul>
+ *   <li>반영 여부 판정 — 요청의 모든 상태 변경은 REQ_REQUEST.version 을 1 증가시키므로,
+ *       원본과 복제본의 version 을 기본키로 조회해 복제본이 작으면(또는 행이 없으면) 아직 반영되지 않은 것으로 본다.
+ *       판정 기준이 DB 에 있으므로 상태를 바꾼 노드와 조회하는 노드가 달라도 동작한다.</li>
+ *   <li>조회 라우팅 — 서비스 계층의 {@code @Transactional(readOnly = true)} 메서드 중 첫 인자가 요청 ID 인 호출을 감싸,
+ *       반영되지 않았으면 {@link PoolRoutingDataSource#forcePrimary(boolean)}로 원본 쪽 풀에 고정한다.
+ *       읽기 전용이 아닌 트랜잭션은 원래 원본을 사용하므로 판정하지 않는다.</li>
+ *   <li>판정 실패(복제본 장애 등) 시에는 원본으로 보낸다.</li>
+ * </ul>
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@ConditionalOnProperty(prefix = "tax-service.datasource.replica", name = "enabled", havingValue = "true")
+public class ReplicaRoutingAspect {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicaRoutingAspect.class);
+
+    /** 요청 version 조회 (기본키) */
+    private static final String VERSION_SQL = "SELECT version FROM REQ_REQUEST WHERE req_id = ?";
+
+    /** 원본 조회 (query 풀) */
+    private final JdbcTemplate primaryJdbcTemplate;
+
+    /** 복제본 조회 */
+    private final JdbcTemplate replicaJdbcTemplate;
+
+    public ReplicaRoutingAspect(@Qualifier("queryDataSource") DataSource primaryDataSource,
+                                @Qualifier("replicaDataSource") DataSource replicaDataSource) {
+        this.primaryJdbcTemplate = new JdbcTemplate(primaryDataSource);
+        this.replicaJdbcTemplate = new JdbcTemplate(replicaDataSource);
+    }
+
+    /**
+     * 복제본에 아직 반영되지 않은 요청의 조회를 원본 풀로 보낸다.
+     *
+     * @param joinPoint 조인포인트
+     * @param reqId     요청 ID (첫 번째 인자)
+     * @return 대상 메서드의 반환값
+     * @throws Throwable 대상 메서드에서 발생한 예외
+     */
+    @Around("execution(public * com.entec.tax..service..*.*(..)) && args(reqId, ..)"
+            + " && (@within(org.springframework.transaction.annotation.Transactional)"
+            + " || @annotation(org.springframework.transaction.annotation.Transactional))")
+    public Object routeRecentlyWritten(ProceedingJoinPoint joinPoint, String reqId) throws Throwable {
+        if (reqId == null || !isReadOnly(joinPoint) || !isReplicaBehind(reqId)) {
+            return joinPoint.proceed();
+        }
+        log.debug("복제본 미반영 상태 변경 — 원본 조회, reqId={}", reqId);
+        boolean previous = PoolRoutingDataSource.forcePrimary(true);
+        try {
+            return joinPoint.proceed();
+        } finally {
+            PoolRoutingDataSource.forcePrimary(previous);
+        }
+    }
+
+    /**
+     * 복제본의 요청 version 이 원본보다 작은지(또는 행이 없는지) 확인한다.
+     *
+     * @param reqId 요청 ID
+     * @return 복제본에 아직 반영되지 않았으면 true (원본에 없는 요청은 false)
+     */
+    boolean isReplicaBehind(String reqId) {
+        try {
+            List<Integer> primary = primaryJdbcTemplate.queryForList(VERSION_SQL, Integer.class, reqId);
+            if (primary.isEmpty() || primary.get(0) == null) {
+                return false;
+            }
+            List<Integer> replica = replicaJdbcTemplate.queryForList(VERSION_SQL, Integer.class, reqId);
+            return replica.isEmpty() || replica.get(0) == null || replica.get(0) < primary.get(0);
+        } catch (RuntimeException e) {
+            log.warn("복제본 반영 여부 확인 실패 — 원본 조회, reqId={}, message={}", reqId, e.getMessage());
+            return true;
+        }
+    }
+
+    /**
+     * 대상 메서드(없으면 클래스)의 {@code @Transactional}이 읽기 전용인지 확인한다.
+     */
+    private static boolean isReadOnly(ProceedingJoinPoint joinPoint) {
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        Class<?> targetClass = joinPoint.getTarget() != null
+                ? AopUtils.getTargetClass(joinPoint.getTarget())
+                : method.getDeclaringClass();
+        Method specificMethod = AopUtils.getMostSpecificMethod(method, targetClass);
+        Transactional transactional = AnnotatedElementUtils.findMergedAnnotation(specificMethod, Transactional.class);
+        if (transactional == null) {
+            transactional = AnnotatedElementUtils.findMergedAnnotation(targetClass, Transactional.class);
+        }
+        return transactional != null && transactional.readOnly();
+    }
+}
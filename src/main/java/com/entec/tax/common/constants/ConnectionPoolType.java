@@ -0,0 +1,28 @@
+package com.entec.tax.common.constants;
+
+/**
+ * 커넥션 풀 구분 (워크로드별 격리 풀).
+ */
+public enum ConnectionPoolType {
+
+    INTAKE("intake", "요청 접수·데이터셋 정정·분석 제출"),
+    ANALYSIS("analysis", "분석 파이프라인·작업 대기열·배경 작업"),
+    QUERY("query", "상태·요약·원시 데이터·보고서 조회"),
+    AUDIT("audit", "감사추적 로그 배치 기록");
+
+    private final String code;
+    private final String description;
+
+    ConnectionPoolType(String code, String description) {
+        this.code = code;
+        this.description = description;
+    }
+
+    public String getCode() {
+        return code;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+}
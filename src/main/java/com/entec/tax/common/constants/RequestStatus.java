@@ -8,6 +8,7 @@ public enum RequestStatus {
     RECEIVED("RECEIVED", "접수완료"),
     PARSING("PARSING", "파싱중"),
     PARSED("PARSED", "파싱완료"),
+    QUEUED("QUEUED", "실행대기"),
     CHECKING("CHECKING", "요건검토중"),
     CALCULATING("CALCULATING", "세액계산중"),
     OPTIMIZING("OPTIMIZING", "최적화중"),
@@ -0,0 +1,32 @@
+package com.entec.tax.common.constants;
+
+/**
+ * REF_SYSTEM_PARAM 파라미터 키 상수
+ */
+public final class SystemParamKey {
+
+    private SystemParamKey() {
+        throw new UnsupportedOperationException("Utility class cannot be instantiated");
+    }
+
+    /** NPV 할인율 (소급공제 vs 이월공제 비교) */
+    public static final String DISCOUNT_RATE = "discount_rate";
+
+    /** 환급 결정 예상 소요일 */
+    public static final String REFUND_PROCESSING_DAYS = "refund_processing_days";
+
+    /** 절사 정책 */
+    public static final String TRUNCATION_POLICY = "truncation_policy";
+
+    /** 최저한세 순환 참조 최대 반복 횟수 */
+    public static final String MIN_TAX_RECALC_ITERATIONS = "min_tax_recalc_iterations";
+
+    /** 최저한세 순환참조 수렴 허용오차 (원) */
+    public static final String MIN_TAX_EPSILON = "min_tax_epsilon";
+
+    /** 조합 탐색 타임아웃 (초) */
+    public static final String COMBINATION_SEARCH_TIMEOUT = "combination_search_timeout";
+
+    /** M5-02 Greedy 전환 임계치 (항목 수) */
+    public static final String GREEDY_FALLBACK_THRESHOLD = "greedy_fallback_threshold";
+}
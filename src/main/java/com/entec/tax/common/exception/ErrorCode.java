@@ -44,6 +44,7 @@ public enum ErrorCode {
     INTERNAL_ERROR("ERR_SYS_001", "내부 서버 오류가 발생했습니다.", HttpStatus.INTERNAL_SERVER_ERROR),
     SERVICE_UNAVAILABLE("ERR_SYS_002", "서비스를 일시적으로 사용할 수 없습니다.", HttpStatus.SERVICE_UNAVAILABLE),
     TIMEOUT("ERR_SYS_003", "요청 처리 시간이 초과되었습니다.", HttpStatus.GATEWAY_TIMEOUT),
+    TOO_MANY_REQUESTS("ERR_SYS_004", "처리 대기 요청이 많습니다. 잠시 후 다시 시도하십시오.", HttpStatus.TOO_MANY_REQUESTS),
 
     // ── JSON/입력(Input) ──────────────────────────────────────────────
     INVALID_JSON("ERR_VAL_005", "유효하지 않은 JSON 형식입니다.", HttpStatus.BAD_REQUEST),
@@ -2,8 +2,11 @@ package com.entec.tax.common.exception;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.CannotCreateTransactionException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
@@ -130,6 +133,87 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<ErrorResponse>(response, ex.getErrorCode().getHttpStatus());
     }
 
+    // ─── TooManyRequestsException ─────────────────────────────────────
+
+    /**
+     * 처리 대기열 한도 초과 처리 (429 + Retry-After)
+     */
+    @ExceptionHandler(TooManyRequestsException.class)
+    public ResponseEntity<ErrorResponse> handleTooManyRequestsException(
+            TooManyRequestsException ex, HttpServletRequest request) {
+
+        String traceId = generateTraceId();
+
+        ErrorResponse response = ErrorResponse.builder()
+                .errorCode(ex.getErrorCode())
+                .message(ex.getDetailMessage())
+                .reqId(ex.getReqId())
+                .traceId(traceId)
+                .build();
+
+        log.warn("[traceId={}] 처리 대기열 한도 초과: reqId={}, retryAfter={}s",
+                traceId, ex.getReqId(), ex.getRetryAfterSeconds());
+
+        return ResponseEntity.status(ex.getErrorCode().getHttpStatus())
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(response);
+    }
+
+    // ─── ConcurrentConflictException ──────────────────────────────────
+
+    /**
+     * 요청 상태 전이 충돌 처리 (409).
+     * <p>
+     * 중복 실행·재시도에서 예상되는 거절이므로 스택 트레이스 없이 WARN 으로만 기록한다.
+     * </p>
+     */
+    @ExceptionHandler(ConcurrentConflictException.class)
+    public ResponseEntity<ErrorResponse> handleConcurrentConflictException(
+            ConcurrentConflictException ex, HttpServletRequest request) {
+
+        String traceId = generateTraceId();
+
+        ErrorResponse response = ErrorResponse.builder()
+                .errorCode(ex.getErrorCode())
+                .message(ex.getDetailMessage())
+                .reqId(ex.getReqId())
+                .traceId(traceId)
+                .build();
+
+        log.warn("[traceId={}, reqId={}, errorCode={}] {}",
+                traceId, ex.getReqId(), ex.getErrorCode().getCode(), ex.getDetailMessage());
+
+        return new ResponseEntity<ErrorResponse>(response, ex.getErrorCode().getHttpStatus());
+    }
+
+    // ─── Connection pool exhausted ────────────────────────────────────
+
+    /**
+     * 커넥션 풀 대기 시간 초과 처리 (503 + Retry-After).
+     * <p>
+     * 워크로드별 풀은 짧은 connection-timeout 으로 빨리 실패하므로, 오래 기다리게 하지 않고 재시도를 안내한다.
+     * </p>
+     */
+    @ExceptionHandler({DataAccessResourceFailureException.class, CannotCreateTransactionException.class})
+    public ResponseEntity<ErrorResponse> handleConnectionUnavailable(
+            Exception ex, HttpServletRequest request) {
+
+        String traceId = generateTraceId();
+
+        ErrorResponse response = ErrorResponse.builder()
+                .errorCode(ErrorCode.SERVICE_UNAVAILABLE)
+                .message(ErrorCode.SERVICE_UNAVAILABLE.getDefaultMessage())
+                .traceId(traceId)
+                .build();
+
+        log.warn("[traceId={}] DB 커넥션 획득 실패: uri={}, error={}",
+                traceId, request.getRequestURI(), ex.getMessage());
+
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(response);
+    }
+
     // ─── TaxServiceException (catch-all for domain exceptions) ────────
 
     /**
@@ -0,0 +1,27 @@
+package com.entec.tax.common.exception;
+
+/**
+ * 처리 대기열 한도를 초과한 경우의 예외
+ * <p>
+ * 응답에 {@code Retry-After} 헤더(초)로 재시도 권장 시간을 함께 전달한다.
+ */
+public class TooManyRequestsException extends TaxServiceException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final long retryAfterSeconds;
+
+    /**
+     * @param message           상세 메시지
+     * @param reqId             요청 추적 ID
+     * @param retryAfterSeconds 재시도 권장 시간 (초)
+     */
+    public TooManyRequestsException(String message, String reqId, long retryAfterSeconds) {
+        super(ErrorCode.TOO_MANY_REQUESTS, message, reqId);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -0,0 +1,148 @@
+package com.entec.tax.common.metrics;
+
+import com.entec.tax.domain.log.entity.LogCalculation;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * 분석 엔진 Micrometer 계측.
+ * <p>
+ * 파이프라인·단계·세부 단계(M1-01~M6-05)·M4 산출기 실행 시간과 M5 조합 탐색 카운터를 기록하며,
+ * Actuator {@code /actuator/prometheus} 로 노출된다. 지연 시간 히스토그램·SLO 버킷은
+ * {@code management.metrics.distribution.*} 설정으로 지정한다.
+ * </p>
+ *
+ * <ul>
+ *   <li>{@code tax.analysis.pipeline} — 분석 1건 전체 (outcome: completed/unchanged/reused/failed)</li>
+ *   <li>{@code tax.analysis.stage} — M3~M6 단계 트랜잭션 (stage, outcome)</li>
+ *   <li>{@code tax.analysis.step} — LOG_CALCULATION 에 기록되는 세부 단계 (step)</li>
+ *   <li>{@code tax.credit.calculator} — M4 산출기 (calculator, outcome)</li>
+ *   <li>{@code tax.combination.*} — M5 부분집합 열거·배제 규칙 탈락·후보 평가·타임아웃 건수</li>
+ * </ul>
+ *
+ * <p>
+ * taskExecutor·calculationExecutor·creditCalculatorExecutor 대기열({@code executor.*})과
+ * Hikari 커넥션 풀({@code hikaricp.*}) 게이지는 Spring Boot Actuator 자동 구성으로 등록된다.
+ * </p>
+ */
+@Component
+public class AnalysisMetrics {
+
+    /** 세부 단계 코드 (M1-01 ~ M6-05) — 단계 시작/종료(M3-START 등) 로그는 제외 */
+    private static final Pattern STEP_CODE = Pattern.compile("M[1-6]-\\d{2}");
+
+    private final MeterRegistry meterRegistry;
+
+    private final Counter subsetsEnumerated;
+    private final Counter subsetsPruned;
+    private final Counter candidatesScored;
+    private final Counter searchTimeouts;
+
+    public AnalysisMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.subsetsEnumerated = Counter.builder("tax.combination.subsets.enumerated")
+                .description("M5 조합 탐색에서 열거한 부분집합 수")
+                .register(meterRegistry);
+        this.subsetsPruned = Counter.builder("tax.combination.subsets.pruned")
+                .description("M5 상호배제 규칙 위반으로 제외한 부분집합 수")
+                .register(meterRegistry);
+        this.candidatesScored = Counter.builder("tax.combination.candidates.scored")
+                .description("M5 최저한세 적용·순환급액을 산출한 후보 조합 수")
+                .register(meterRegistry);
+        this.searchTimeouts = Counter.builder("tax.combination.timeouts")
+                .description("M5 조합 탐색 타임아웃 횟수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 분석 1건의 전체 실행 시간을 기록한다.
+     *
+     * @param outcome 결과 (completed/unchanged/reused/failed)
+     * @param nanos   실행 시간 (나노초)
+     */
+    public void recordPipeline(String outcome, long nanos) {
+        Timer.builder("tax.analysis.pipeline")
+                .description("분석 파이프라인 실행 시간")
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 단계 트랜잭션 실행 시간을 기록한다.
+     *
+     * @param stage   단계 코드 (M3~M6)
+     * @param success 성공 여부
+     * @param nanos   실행 시간 (나노초)
+     */
+    public void recordStage(String stage, boolean success, long nanos) {
+        Timer.builder("tax.analysis.stage")
+                .description("분석 단계 실행 시간")
+                .tag("stage", stage)
+                .tag("outcome", success ? "success" : "failure")
+                .register(meterRegistry)
+                .record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 감사추적 로그의 세부 단계 실행 시간을 기록한다 (실행 시간이 없는 로그와 단계 시작/종료 로그는 무시).
+     *
+     * @param logEntry 감사추적 로그
+     */
+    public void recordStep(LogCalculation logEntry) {
+        if (logEntry.getDurationMs() == null || logEntry.getCalcStep() == null
+                || !STEP_CODE.matcher(logEntry.getCalcStep()).matches()) {
+            return;
+        }
+        Timer.builder("tax.analysis.step")
+                .description("분석 세부 단계 실행 시간")
+                .tag("step", logEntry.getCalcStep())
+                .register(meterRegistry)
+                .record(logEntry.getDurationMs(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * M4 산출기 실행 시간을 기록한다.
+     *
+     * @param calcStep 산출 단계 코드 (M4-01 ~ M4-07)
+     * @param success  성공 여부
+     * @param nanos    실행 시간 (나노초)
+     */
+    public void recordCalculator(String calcStep, boolean success, long nanos) {
+        Timer.builder("tax.credit.calculator")
+                .description("M4 개별 공제·감면 산출기 실행 시간")
+                .tag("calculator", calcStep)
+                .tag("outcome", success ? "success" : "failure")
+                .register(meterRegistry)
+                .record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * M5 부분집합 탐색 결과를 기록한다.
+     *
+     * @param enumerated 열거한 부분집합 수
+     * @param pruned     상호배제 규칙 위반으로 제외한 부분집합 수
+     * @param timedOut   타임아웃으로 탐색을 중단했는지 여부
+     */
+    public void recordCombinationSearch(long enumerated, long pruned, boolean timedOut) {
+        subsetsEnumerated.increment(enumerated);
+        subsetsPruned.increment(pruned);
+        if (timedOut) {
+            searchTimeouts.increment();
+        }
+    }
+
+    /**
+     * M5 후보 조합 평가 건수를 기록한다.
+     *
+     * @param scored 최저한세 적용·순환급액을 산출한 후보 조합 수
+     */
+    public void recordCandidatesScored(int scored) {
+        candidatesScored.increment(scored);
+    }
+}
@@ -59,21 +59,54 @@ public class AsyncConfig {
      * {@code @Async("calculationExecutor")} 로 지정하여 사용한다.
      * </p>
      *
+     * <p>
+     * 분석 실행(API-02 async, 일괄 분석)은 AnalysisScheduler 를 거쳐 이 풀에 등록된다. 스케줄러가 실행 중
+     * 작업 수를 {@code tax-service.scheduler.max-running} 이하로 유지하므로, 코어 스레드 수를 그 값과 같게
+     * 고정하여 대기열을 거치지 않고 바로 실행되도록 한다. 거부 시 호출 스레드에서 실행하지 않는다.
+     * </p>
+     *
      * @return Executor
      */
     @Bean(name = "calculationExecutor")
     public Executor calculationExecutor() {
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
-        executor.setCorePoolSize(2);
+        executor.setCorePoolSize(8);
         executor.setMaxPoolSize(8);
         executor.setQueueCapacity(50);
         executor.setThreadNamePrefix("TaxCalc-");
-        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
         executor.setWaitForTasksToCompleteOnShutdown(true);
         executor.setAwaitTerminationSeconds(120);
         executor.initialize();
 
-        log.info("Calculation Executor initialized: corePoolSize=2, maxPoolSize=8, queueCapacity=50");
+        log.info("Calculation Executor initialized: corePoolSize=8, maxPoolSize=8, queueCapacity=50");
+
+        return executor;
+    }
+
+    /**
+     * M4 개별 공제·감면 산출기 전용 Executor.
+     * <p>
+     * 분석 1건의 M4-01 ~ M4-07 산출기를 동시에 실행한다. 풀 크기를 고정하여 동시 분석이 늘어도
+     * 산출기 스레드 수와 기준정보 조회 커넥션 수가 제한되도록 한다.
+     * 대기열이 가득 차면 거부하며, 호출 측은 분석 스레드에서 직접 실행한다.
+     * </p>
+     *
+     * @return Executor
+     */
+    @Bean(name = "creditCalculatorExecutor")
+    public Executor creditCalculatorExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(8);
+        executor.setMaxPoolSize(8);
+        executor.setQueueCapacity(56);
+        executor.setThreadNamePrefix("TaxCredit-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(60);
+        executor.initialize();
+
+        log.info("Credit Calculator Executor initialized: corePoolSize=8, maxPoolSize=8, queueCapacity=56");
 
         return executor;
     }
@@ -0,0 +1,159 @@
+package com.entec.tax.config;
+
+import com.entec.tax.common.constants.ConnectionPoolType;
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * DataSource 설정 (워크로드별 격리 커넥션 풀).
+ * <p>
+ * 장시간 분석 트랜잭션이 요청 접수·상태 조회 커넥션을 빼앗지 않도록 풀을 워크로드별로 나눈다.
+ * 접속 정보는 {@code spring.datasource.*}, 공통 풀 설정은 {@code spring.datasource.hikari.*}를 따르고,
+ * 풀별 크기·대기 시간은 {@code tax-service.datasource.pools.<풀>.*}로 덮어쓴다.
+ * </p>
+ *
+ * <ul>
+ *   <li>intake — 요청 접수·데이터셋 정정·분석 제출 (짧은 대기 후 즉시 실패)</li>
+ *   <li>analysis — 분석 파이프라인(M3~M6), 작업 대기열, 스케줄러 등 배경 작업</li>
+ *   <li>query — 상태·요약·원시 데이터·보고서 조회 등 읽기 전용 트랜잭션</li>
+ *   <li>audit — 감사추적 로그(LOG_CALCULATION) 배치 기록</li>
+ *   <li>replica — {@code tax-service.datasource.replica.enabled=true} 일 때 읽기 전용 트랜잭션용 복제본 풀</li>
+ * </ul>
+ *
+ * <p>
+ * 풀은 서비스 계층의 {@code @ConnectionPool}과 트랜잭션 읽기 전용 여부로 고른다({@link PoolRoutingDataSource}).
+ * 풀마다 Hikari 지표({@code hikaricp.connections.active/pending/timeout}, {@code pool} 태그)가 Actuator 로 노출된다.
+ * </p>
+ */
+@Slf4j
+@Configuration
+public class DataSourceConfig {
+
+    private static final String POOL_PREFIX = "tax-service.datasource.pools.";
+
+    /**
+     * 요청 접수 풀.
+     *
+     * @param properties  {@code spring.datasource.*} 접속 정보
+     * @param environment 풀 설정 조회용 환경
+     * @return 요청 접수 풀 DataSource
+     */
+    @Bean
+    public HikariDataSource intakeDataSource(DataSourceProperties properties, Environment environment) {
+        return createPool(ConnectionPoolType.INTAKE, properties, environment);
+    }
+
+    /**
+     * 분석 풀.
+     *
+     * @param properties  {@code spring.datasource.*} 접속 정보
+     * @param environment 풀 설정 조회용 환경
+     * @return 분석 풀 DataSource
+     */
+    @Bean
+    public HikariDataSource analysisDataSource(DataSourceProperties properties, Environment environment) {
+        return createPool(ConnectionPoolType.ANALYSIS, properties, environment);
+    }
+
+    /**
+     * 조회 풀.
+     *
+     * @param properties  {@code spring.datasource.*} 접속 정보
+     * @param environment 풀 설정 조회용 환경
+     * @return 조회 풀 DataSource
+     */
+    @Bean
+    public HikariDataSource queryDataSource(DataSourceProperties properties, Environment environment) {
+        return createPool(ConnectionPoolType.QUERY, properties, environment);
+    }
+
+    /**
+     * 감사추적 로그 풀.
+     *
+     * @param properties  {@code spring.datasource.*} 접속 정보
+     * @param environment 풀 설정 조회용 환경
+     * @return 감사추적 로그 풀 DataSource
+     */
+    @Bean
+    public HikariDataSource auditDataSource(DataSourceProperties properties, Environment environment) {
+        return createPool(ConnectionPoolType.AUDIT, properties, environment);
+    }
+
+    /**
+     * 읽기 복제본 Hikari 풀.
+     *
+     * @return 복제본 DataSource (커넥션 읽기 전용)
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "tax-service.datasource.replica", name = "enabled", havingValue = "true")
+    @ConfigurationProperties("tax-service.datasource.replica.hikari")
+    public HikariDataSource replicaDataSource() {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName(PoolRoutingDataSource.REPLICA);
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    /**
+     * 워크로드 라우팅 DataSource (기본 DataSource).
+     *
+     * @return 트랜잭션 읽기 전용 여부가 정해진 뒤 풀을 고르도록 지연 프록시로 감싼 라우팅 DataSource
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("intakeDataSource") HikariDataSource intakeDataSource,
+                                 @Qualifier("analysisDataSource") HikariDataSource analysisDataSource,
+                                 @Qualifier("queryDataSource") HikariDataSource queryDataSource,
+                                 @Qualifier("auditDataSource") HikariDataSource auditDataSource,
+                                 @Qualifier("replicaDataSource") ObjectProvider<HikariDataSource> replicaDataSource) {
+        Map<Object, Object> targets = new HashMap<Object, Object>();
+        targets.put(ConnectionPoolType.INTAKE.getCode(), intakeDataSource);
+        targets.put(ConnectionPoolType.ANALYSIS.getCode(), analysisDataSource);
+        targets.put(ConnectionPoolType.QUERY.getCode(), queryDataSource);
+        targets.put(ConnectionPoolType.AUDIT.getCode(), auditDataSource);
+        HikariDataSource replica = replicaDataSource.getIfAvailable();
+        if (replica != null) {
+            targets.put(PoolRoutingDataSource.REPLICA, replica);
+        }
+
+        PoolRoutingDataSource routingDataSource = new PoolRoutingDataSource(replica != null);
+        routingDataSource.setTargetDataSources(targets);
+        routingDataSource.setDefaultTargetDataSource(analysisDataSource);
+        routingDataSource.afterPropertiesSet();
+
+        log.info("Pool routing DataSource initialized: intake={}, analysis={}, query={}, audit={}, replica={}",
+                intakeDataSource.getMaximumPoolSize(), analysisDataSource.getMaximumPoolSize(),
+                queryDataSource.getMaximumPoolSize(), auditDataSource.getMaximumPoolSize(),
+                replica != null ? replica.getJdbcUrl() : "disabled");
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    /**
+     * 공통 설정에 풀별 설정을 덮어써 Hikari 풀을 만든다 (커넥션은 첫 사용 시 생성).
+     */
+    private static HikariDataSource createPool(ConnectionPoolType pool, DataSourceProperties properties,
+                                               Environment environment) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        Binder binder = Binder.get(environment);
+        binder.bind("spring.datasource.hikari", Bindable.ofInstance(dataSource));
+        binder.bind(POOL_PREFIX + pool.getCode(), Bindable.ofInstance(dataSource));
+        dataSource.setPoolName(pool.getCode());
+        return dataSource;
+    }
+}
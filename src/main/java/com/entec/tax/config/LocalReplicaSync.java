@@ -0,0 +1,61 @@
+package com.entec.tax.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+
+/**
+ * 로컬 복제본 동기화 (local 프로파일 전용).
+ * <p>
+ * 로컬에서는 원본과 별도의 인메모리 H2 DB 를 복제본으로 사용한다. 스키마는 Hibernate 가 원본에만 생성하므로,
+ * 주기({@code tax-service.datasource.replica.local-sync-interval}, 기본 3초)마다 원본 전체를
+ * H2 {@code SCRIPT DROP}으로 덤프하여 복제본에 다시 적재한다.
+ * 주기 사이에는 복제본이 원본보다 뒤처지므로 복제 지연 상황의 라우팅({@code ReplicaRoutingAspect})을 확인할 수 있다.
+ * </p>
+ */
+@Slf4j
+@Component
+@Profile("local")
+@ConditionalOnProperty(prefix = "tax-service.datasource.replica", name = "enabled", havingValue = "true")
+public class LocalReplicaSync {
+
+    /** 원본 (query 풀) */
+    private final JdbcTemplate primaryJdbcTemplate;
+
+    /** 복제본 */
+    private final DataSource replicaDataSource;
+
+    public LocalReplicaSync(@Qualifier("queryDataSource") DataSource primaryDataSource,
+                            @Qualifier("replicaDataSource") DataSource replicaDataSource) {
+        this.primaryJdbcTemplate = new JdbcTemplate(primaryDataSource);
+        this.replicaDataSource = replicaDataSource;
+    }
+
+    /**
+     * 원본 전체를 복제본에 다시 적재한다.
+     */
+    @Scheduled(fixedDelayString = "${tax-service.datasource.replica.local-sync-interval:3000}")
+    public void sync() {
+        List<String> statements = primaryJdbcTemplate.queryForList("SCRIPT DROP", String.class);
+        try (Connection connection = replicaDataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            for (String sql : statements) {
+                statement.execute(sql);
+            }
+        } catch (SQLException e) {
+            log.warn("로컬 복제본 동기화 실패 — message={}", e.getMessage());
+            return;
+        }
+        log.debug("로컬 복제본 동기화 — statements={}", statements.size());
+    }
+}
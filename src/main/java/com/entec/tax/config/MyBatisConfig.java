@@ -1,11 +1,15 @@
 package com.entec.tax.config;
 
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.session.ExecutorType;
 import org.apache.ibatis.session.SqlSessionFactory;
+import org.apache.ibatis.type.JdbcType;
 import org.mybatis.spring.SqlSessionFactoryBean;
 import org.mybatis.spring.SqlSessionTemplate;
 import org.mybatis.spring.annotation.MapperScan;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
 import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
 
 import javax.sql.DataSource;
@@ -15,9 +19,15 @@ import javax.sql.DataSource;
  * <p>
  * MyBatis 매퍼 스캔 및 SqlSessionFactory / SqlSessionTemplate 을 구성한다.
  * </p>
+ * <p>
+ * 리포지토리 패키지에는 JPA 리포지토리와 MyBatis 매퍼가 함께 있으므로 {@link Mapper} 가 붙은 인터페이스만 매퍼로 등록한다.
+ * 매퍼는 분석 산출물 다건 INSERT 용도이므로 BATCH 실행기 템플릿({@code batchSqlSessionTemplate})에 연결한다.
+ * </p>
  */
 @Configuration
-@MapperScan(basePackages = "com.entec.tax.domain.*.repository")
+@MapperScan(basePackages = "com.entec.tax.domain.*.repository",
+        annotationClass = Mapper.class,
+        sqlSessionTemplateRef = "batchSqlSessionTemplate")
 public class MyBatisConfig {
 
     /**
@@ -44,6 +54,7 @@ public class MyBatisConfig {
         configuration.setMapUnderscoreToCamelCase(true);
         configuration.setCallSettersOnNulls(true);
         configuration.setUseGeneratedKeys(true);
+        configuration.setJdbcTypeForNull(JdbcType.NULL);
         factoryBean.setConfiguration(configuration);
 
         // 엔티티 별칭 패키지
@@ -59,7 +70,23 @@ public class MyBatisConfig {
      * @return SqlSessionTemplate
      */
     @Bean
+    @Primary
     public SqlSessionTemplate sqlSessionTemplate(SqlSessionFactory sqlSessionFactory) {
         return new SqlSessionTemplate(sqlSessionFactory);
     }
+
+    /**
+     * BATCH 실행기 SqlSessionTemplate 빈 등록.
+     * <p>
+     * 같은 트랜잭션 안의 INSERT 문을 JDBC 배치로 모아 매퍼의 {@code @Flush} 메서드 호출 또는 커밋 시점에 전송한다.
+     * 한 트랜잭션에서 실행기 유형을 섞을 수 없으므로 기본 템플릿과 같은 트랜잭션에서 함께 사용하지 않는다.
+     * </p>
+     *
+     * @param sqlSessionFactory SqlSessionFactory
+     * @return BATCH 실행기 SqlSessionTemplate
+     */
+    @Bean
+    public SqlSessionTemplate batchSqlSessionTemplate(SqlSessionFactory sqlSessionFactory) {
+        return new SqlSessionTemplate(sqlSessionFactory, ExecutorType.BATCH);
+    }
 }
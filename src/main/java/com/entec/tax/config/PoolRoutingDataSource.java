@@ -0,0 +1,94 @@
+package com.entec.tax.config;
+
+import com.entec.tax.common.constants.ConnectionPoolType;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 워크로드별 커넥션 풀 라우팅 DataSource.
+ * <p>
+ * 실제 커넥션을 얻는 시점에 다음 순서로 풀을 고른다. 라우팅이 트랜잭션 속성 확정 뒤에 이뤄지도록
+ * {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}로 감싸서 사용한다.
+ * </p>
+ * <ol>
+ *   <li>읽기 전용 트랜잭션이고 복제본이 구성되어 있으며 원본 고정이 아니면 — 복제본</li>
+ *   <li>{@link #use(ConnectionPoolType)}로 지정된 풀 (서비스 계층 {@code @ConnectionPool})</li>
+ *   <li>읽기 전용 트랜잭션 — query 풀</li>
+ *   <li>그 밖 (스케줄러·작업 대기열 등 배경 작업) — analysis 풀</li>
+ * </ol>
+ *
+ * <p>
+ * 방금 상태가 바뀐 요청은 복제 지연 때문에 복제본에서 이전 상태가 보일 수 있으므로,
+ * {@link #forcePrimary(boolean)}로 현재 스레드의 조회를 원본 쪽 풀로 고정할 수 있다.
+ * </p>
+ */
+public class PoolRoutingDataSource extends AbstractRoutingDataSource {
+
+    /** 복제본 풀 조회 키 */
+    public static final String REPLICA = "replica";
+
+    private static final ThreadLocal<ConnectionPoolType> CURRENT_POOL = new ThreadLocal<ConnectionPoolType>();
+
+    private static final ThreadLocal<Boolean> FORCE_PRIMARY = new ThreadLocal<Boolean>();
+
+    /** 복제본 풀 구성 여부 */
+    private final boolean replicaEnabled;
+
+    public PoolRoutingDataSource(boolean replicaEnabled) {
+        this.replicaEnabled = replicaEnabled;
+    }
+
+    /**
+     * 현재 스레드가 사용할 커넥션 풀을 지정하거나 해제한다.
+     *
+     * @param pool 커넥션 풀 (null 이면 해제)
+     * @return 이전 지정 (복원용, 없으면 null)
+     */
+    public static ConnectionPoolType use(ConnectionPoolType pool) {
+        ConnectionPoolType previous = CURRENT_POOL.get();
+        if (pool != null) {
+            CURRENT_POOL.set(pool);
+        } else {
+            CURRENT_POOL.remove();
+        }
+        return previous;
+    }
+
+    /**
+     * 현재 스레드에 지정된 커넥션 풀.
+     *
+     * @return 커넥션 풀 (지정되지 않았으면 null)
+     */
+    public static ConnectionPoolType currentPool() {
+        return CURRENT_POOL.get();
+    }
+
+    /**
+     * 현재 스레드의 읽기 전용 조회를 원본 쪽 풀로 고정하거나 해제한다.
+     *
+     * @param force 원본 고정 여부
+     * @return 이전 설정 (복원용)
+     */
+    public static boolean forcePrimary(boolean force) {
+        boolean previous = Boolean.TRUE.equals(FORCE_PRIMARY.get());
+        if (force) {
+            FORCE_PRIMARY.set(Boolean.TRUE);
+        } else {
+            FORCE_PRIMARY.remove();
+        }
+        return previous;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        boolean readOnly = TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+        if (readOnly && replicaEnabled && !Boolean.TRUE.equals(FORCE_PRIMARY.get())) {
+            return REPLICA;
+        }
+        ConnectionPoolType pool = CURRENT_POOL.get();
+        if (pool != null) {
+            return pool.getCode();
+        }
+        return readOnly ? ConnectionPoolType.QUERY.getCode() : ConnectionPoolType.ANALYSIS.getCode();
+    }
+}
@@ -0,0 +1,15 @@
+package com.entec.tax.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 스케줄링 설정.
+ * <p>
+ * {@code @Scheduled} 작업(시스템 파라미터 주기 갱신 등)을 활성화한다.
+ * </p>
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
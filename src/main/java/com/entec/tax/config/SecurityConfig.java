@@ -19,6 +19,9 @@ import javax.servlet.ServletResponse;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import java.io.IOException;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
 
 /**
  * Spring Security 설정.
@@ -27,6 +30,10 @@ import java.io.IOException;
  * 유효한 API 키를 포함해야 보호 대상 엔드포인트에 접근할 수 있다.
  * 세션은 STATELESS 로 운영한다.
  * </p>
+ * <p>
+ * 기준정보·시스템 파라미터 재적재 같은 운영 엔드포인트({@link #ADMIN_PATHS})는 일반 API 키로는 호출할 수 없고,
+ * {@code X-Admin-Key} 헤더에 관리자 키({@code app.security.admin-api-key})를 포함해야 한다.
+ * </p>
  */
 @Configuration
 @EnableWebSecurity
@@ -34,9 +41,19 @@ public class SecurityConfig {
 
     private static final String API_KEY_HEADER = "X-API-Key";
 
+    private static final String ADMIN_KEY_HEADER = "X-Admin-Key";
+
+    /** 관리자 키가 필요한 운영 엔드포인트 */
+    private static final Set<String> ADMIN_PATHS = new HashSet<String>(Arrays.asList(
+            "/api/v1/reference/reload",
+            "/api/v1/reference/system-params/reload"));
+
     @Value("${app.security.api-key:#{null}}")
     private String apiKey;
 
+    @Value("${app.security.admin-api-key:#{null}}")
+    private String adminApiKey;
+
     /**
      * SecurityFilterChain 빈 등록.
      */
@@ -69,8 +86,8 @@ public class SecurityConfig {
                 ).permitAll()
                 // H2 Console 허용 (개발 환경)
                 .antMatchers("/h2-console/**").permitAll()
-                // Actuator health check 허용
-                .antMatchers("/actuator/health", "/actuator/info").permitAll()
+                // Actuator health check, Prometheus 수집 허용
+                .antMatchers("/actuator/health", "/actuator/info", "/actuator/prometheus").permitAll()
                 // API 엔드포인트 - 인증 필요
                 .antMatchers("/api/v1/**").authenticated()
                 // 그 외 모든 요청 허용
@@ -88,6 +105,8 @@ public class SecurityConfig {
      * <p>
      * {@code X-API-Key} 헤더 값을 검증한다. 키가 설정되지 않은 경우(개발 환경)
      * 모든 요청을 통과시킨다.
+     * 운영 엔드포인트는 {@code X-Admin-Key} 헤더 값을 관리자 키와 비교하며,
+     * API 키가 설정된 환경에서 관리자 키가 설정되지 않았으면 거부한다.
      * </p>
      */
     @Bean
@@ -107,8 +126,24 @@ public class SecurityConfig {
                     return;
                 }
 
+                // 운영 엔드포인트 - 관리자 키 필요 (끝의 '/' 는 같은 핸들러로 매핑되므로 제거 후 비교)
+                if (ADMIN_PATHS.contains(requestPath.replaceAll("/+$", ""))) {
+                    boolean devMode = isBlank(apiKey) && isBlank(adminApiKey);
+                    if (devMode || (!isBlank(adminApiKey)
+                            && adminApiKey.equals(httpRequest.getHeader(ADMIN_KEY_HEADER)))) {
+                        chain.doFilter(request, response);
+                    } else {
+                        httpResponse.setStatus(HttpServletResponse.SC_FORBIDDEN);
+                        httpResponse.setContentType("application/json;charset=UTF-8");
+                        httpResponse.getWriter().write(
+                            "{\"error\":\"Forbidden\",\"message\":\"Invalid or missing Admin Key\"}"
+                        );
+                    }
+                    return;
+                }
+
                 // API Key 가 설정되지 않은 경우 (개발 환경) 필터 통과
-                if (apiKey == null || apiKey.trim().isEmpty()) {
+                if (isBlank(apiKey)) {
                     chain.doFilter(request, response);
                     return;
                 }
@@ -127,4 +162,8 @@ public class SecurityConfig {
             }
         };
     }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.trim().isEmpty();
+    }
 }
@@ -0,0 +1,45 @@
+package com.entec.tax.domain.check.repository;
+
+import com.entec.tax.domain.check.entity.ChkEligibility;
+import com.entec.tax.domain.check.entity.ChkInspectionLog;
+import org.apache.ibatis.annotations.Flush;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.executor.BatchResult;
+
+import java.util.List;
+
+/**
+ * CHK_ELIGIBILITY, CHK_INSPECTION_LOG 다건 INSERT 매퍼 (mapper/check/CheckResultMapper.xml).
+ * <p>
+ * BATCH 실행기 세션에서 동작하므로 INSERT 문은 {@link #flush()} 또는 트랜잭션 커밋 시점에 전송된다.
+ * 조회·삭제는 JPA 리포지토리를 사용한다.
+ * </p>
+ */
+@Mapper
+public interface CheckResultMapper {
+
+    /**
+     * 종합 진단 결과 다건 INSERT.
+     *
+     * @param rows 종합 진단 결과 목록 (1건 이상)
+     * @return BATCH 실행기에서는 의미 없는 값 (건수는 {@link #flush()} 결과로 확인)
+     */
+    int insertEligibilities(@Param("rows") List<ChkEligibility> rows);
+
+    /**
+     * 점검 로그 다건 INSERT.
+     *
+     * @param rows 점검 로그 목록 (1건 이상)
+     * @return BATCH 실행기에서는 의미 없는 값 (건수는 {@link #flush()} 결과로 확인)
+     */
+    int insertInspectionLogs(@Param("rows") List<ChkInspectionLog> rows);
+
+    /**
+     * 대기 중인 배치 문장을 전송한다.
+     *
+     * @return 문장별 실행 결과
+     */
+    @Flush
+    List<BatchResult> flush();
+}
@@ -2,6 +2,9 @@ package com.entec.tax.domain.check.repository;
 
 import com.entec.tax.domain.check.entity.ChkEligibility;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.Optional;
 
@@ -22,9 +25,12 @@ public interface ChkEligibilityRepository extends JpaRepository<ChkEligibility,
     Optional<ChkEligibility> findByReqId(String reqId);
 
     /**
-     * 요청 ID로 자격 진단 결과 삭제 (TX-2 재시도 지원).
+     * 요청 ID로 자격 진단 결과 일괄 삭제 (TX-2 재시도 지원).
      *
      * @param reqId 요청 ID
+     * @return 삭제된 레코드 수
      */
-    void deleteByReqId(String reqId);
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM ChkEligibility e WHERE e.reqId = :reqId")
+    int deleteByReqId(@Param("reqId") String reqId);
 }
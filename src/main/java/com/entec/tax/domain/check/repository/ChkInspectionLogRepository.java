@@ -3,6 +3,9 @@ package com.entec.tax.domain.check.repository;
 import com.entec.tax.domain.check.entity.ChkInspectionLog;
 import com.entec.tax.domain.check.entity.ChkInspectionLogId;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 
@@ -23,9 +26,12 @@ public interface ChkInspectionLogRepository extends JpaRepository<ChkInspectionL
     List<ChkInspectionLog> findByReqIdOrderBySortOrder(String reqId);
 
     /**
-     * 요청 ID로 점검 로그 삭제 (TX-2 재시도 지원).
+     * 요청 ID로 점검 로그 일괄 삭제 (TX-2 재시도 지원).
      *
      * @param reqId 요청 ID
+     * @return 삭제된 레코드 수
      */
-    void deleteByReqId(String reqId);
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM ChkInspectionLog l WHERE l.reqId = :reqId")
+    int deleteByReqId(@Param("reqId") String reqId);
 }
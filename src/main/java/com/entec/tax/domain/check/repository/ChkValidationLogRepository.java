@@ -3,6 +3,9 @@ package com.entec.tax.domain.check.repository;
 import com.entec.tax.domain.check.entity.ChkValidationLog;
 import com.entec.tax.domain.check.entity.ChkValidationLogId;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 
@@ -32,9 +35,12 @@ public interface ChkValidationLogRepository extends JpaRepository<ChkValidationL
     List<ChkValidationLog> findByReqIdAndResult(String reqId, String result);
 
     /**
-     * 요청 ID로 검증 로그 삭제 (TX-2 재시도 지원).
+     * 요청 ID로 검증 로그 일괄 삭제 (TX-2 재시도 지원).
      *
      * @param reqId 요청 ID
+     * @return 삭제된 레코드 수
      */
-    void deleteByReqId(String reqId);
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM ChkValidationLog l WHERE l.reqId = :reqId")
+    int deleteByReqId(@Param("reqId") String reqId);
 }
@@ -1,5 +1,6 @@
 package com.entec.tax.domain.common.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.Getter;
 import lombok.Setter;
 
@@ -12,24 +13,54 @@ import java.util.List;
  * 콘텐츠 목록과 페이징 메타 정보를 포함한다.
  * </p>
  *
+ * <p>
+ * 키셋(커서) 페이징은 전체 건수를 세지 않으므로 {@code page}, {@code totalElements}, {@code totalPages}를
+ * 비워 두고 {@code hasNext}, {@code nextCursor}로 다음 페이지를 안내한다.
+ * </p>
+ *
  * @param <T> 콘텐츠 항목 타입
  */
 @Getter
 @Setter
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public class PageResponse<T> {
 
     /** 현재 페이지 콘텐츠 목록 */
     private List<T> content;
 
-    /** 현재 페이지 번호 (0-based) */
-    private int page;
+    /** 현재 페이지 번호 (0-based, 키셋 페이징 시 null) */
+    private Integer page;
 
     /** 페이지 크기 */
     private int pageSize;
 
-    /** 전체 항목 수 */
-    private long totalElements;
+    /** 전체 항목 수 (키셋 페이징 시 null) */
+    private Long totalElements;
+
+    /** 전체 페이지 수 (키셋 페이징 시 null) */
+    private Integer totalPages;
+
+    /** 다음 페이지 존재 여부 */
+    private boolean hasNext;
+
+    /** 다음 페이지 커서 (마지막 페이지이면 null) */
+    private String nextCursor;
 
-    /** 전체 페이지 수 */
-    private int totalPages;
+    /**
+     * 키셋 페이징 응답을 생성한다.
+     *
+     * @param content    현재 페이지 콘텐츠 목록
+     * @param pageSize   페이지 크기
+     * @param nextCursor 다음 페이지 커서 (마지막 페이지이면 null)
+     * @param <T>        콘텐츠 항목 타입
+     * @return 키셋 페이징 응답
+     */
+    public static <T> PageResponse<T> ofKeyset(List<T> content, int pageSize, String nextCursor) {
+        PageResponse<T> response = new PageResponse<>();
+        response.setContent(content);
+        response.setPageSize(pageSize);
+        response.setHasNext(nextCursor != null);
+        response.setNextCursor(nextCursor);
+        return response;
+    }
 }
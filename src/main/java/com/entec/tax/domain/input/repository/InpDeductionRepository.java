@@ -3,6 +3,9 @@ package com.entec.tax.domain.input.repository;
 import com.entec.tax.domain.input.entity.InpDeduction;
 import com.entec.tax.domain.input.entity.InpDeductionId;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 
@@ -40,4 +43,14 @@ public interface InpDeductionRepository extends JpaRepository<InpDeduction, InpD
      * @return 해당 조건의 공제/감면 목록
      */
     List<InpDeduction> findByReqIdAndItemCategoryAndProvision(String reqId, String itemCategory, String provision);
+
+    /**
+     * 요청 ID로 공제/감면 기초 데이터를 일괄 삭제 (재처리·데이터셋 정정 시 재생성).
+     *
+     * @param reqId 요청 ID
+     * @return 삭제된 레코드 수
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM InpDeduction d WHERE d.reqId = :reqId")
+    int deleteByReqId(@Param("reqId") String reqId);
 }
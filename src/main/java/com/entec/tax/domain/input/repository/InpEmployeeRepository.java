@@ -3,6 +3,9 @@ package com.entec.tax.domain.input.repository;
 import com.entec.tax.domain.input.entity.InpEmployee;
 import com.entec.tax.domain.input.entity.InpEmployeeId;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.Optional;
@@ -31,4 +34,14 @@ public interface InpEmployeeRepository extends JpaRepository<InpEmployee, InpEmp
      * @return 해당 조건의 고용 정보 (없으면 Optional.empty)
      */
     Optional<InpEmployee> findByReqIdAndYearType(String reqId, String yearType);
+
+    /**
+     * 요청 ID로 고용 정보를 일괄 삭제 (재처리·데이터셋 정정 시 재생성).
+     *
+     * @param reqId 요청 ID
+     * @return 삭제된 레코드 수
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM InpEmployee e WHERE e.reqId = :reqId")
+    int deleteByReqId(@Param("reqId") String reqId);
 }
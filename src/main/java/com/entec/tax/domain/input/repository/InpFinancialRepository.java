@@ -2,6 +2,9 @@ package com.entec.tax.domain.input.repository;
 
 import com.entec.tax.domain.input.entity.InpFinancial;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.Optional;
 
@@ -20,4 +23,14 @@ public interface InpFinancialRepository extends JpaRepository<InpFinancial, Stri
      * @return 해당 요청의 재무/세무 수치 요약 (없으면 Optional.empty)
      */
     Optional<InpFinancial> findByReqId(String reqId);
+
+    /**
+     * 요청 ID로 재무 정보를 일괄 삭제 (재처리·데이터셋 정정 시 재생성).
+     *
+     * @param reqId 요청 ID
+     * @return 삭제된 레코드 수
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM InpFinancial f WHERE f.reqId = :reqId")
+    int deleteByReqId(@Param("reqId") String reqId);
 }
@@ -2,6 +2,9 @@ package com.entec.tax.domain.input.repository;
 
 import com.entec.tax.domain.input.entity.InpRawData;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 
@@ -29,4 +32,15 @@ public interface InpRawDataRepository extends JpaRepository<InpRawData, Long> {
      * @return 해당 조건의 원본 데이터 목록
      */
     List<InpRawData> findByReqRequestReqIdAndCategory(String reqId, String category);
+
+    /**
+     * 요청 ID 및 카테고리로 원시 데이터를 일괄 삭제 (데이터셋 정정).
+     *
+     * @param reqId    요청 ID
+     * @param category 데이터 카테고리
+     * @return 삭제된 레코드 수
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM InpRawData r WHERE r.reqRequest.reqId = :reqId AND r.category = :category")
+    int deleteByReqIdAndCategory(@Param("reqId") String reqId, @Param("category") String category);
 }
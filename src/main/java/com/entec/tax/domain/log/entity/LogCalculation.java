@@ -17,6 +17,7 @@ import java.time.LocalDateTime;
  * LOG_CALCULATION 테이블 엔티티 (§25).
  * <p>
  * 계산 단계별 실행 로그를 관리한다.
+ * MySQL 에서는 executed_at 기준 월 파티션이며 PK 는 (log_id, executed_at) 이다 (schema.sql 참고).
  * </p>
  */
 @Entity
@@ -56,7 +57,7 @@ public class LogCalculation {
     private String legalBasis;
 
     /** 실행 일시 */
-    @Column(name = "executed_at")
+    @Column(name = "executed_at", nullable = false)
     private LocalDateTime executedAt;
 
     /** 로그 레벨 */
@@ -3,38 +3,52 @@ package com.entec.tax.domain.log.repository;
 import com.entec.tax.domain.log.entity.LogCalculation;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 /**
  * LOG_CALCULATION 테이블 리포지토리.
  * <p>
  * 감사추적 로그 CRUD 및 조회를 담당한다.
+ * 테이블은 executed_at 기준 월 파티션이므로, 조회는 실행 일시 구간을 함께 지정하여 해당 월 파티션만 읽는다.
+ * 실행 일시 조건이 없는 조회 메서드는 두지 않는다.
  * </p>
  */
 public interface LogCalculationRepository extends JpaRepository<LogCalculation, Long> {
 
     /**
      * 요청 ID로 감사추적 로그 조회 (실행일시 오름차순).
+     * <p>
+     * 요청의 로그는 접수 이후에만 기록되므로 {@code since} 에 요청 생성 일시를 넘기면 그 이후 파티션만 읽는다.
+     * </p>
      *
      * @param reqId 요청 ID
+     * @param since 실행 일시 하한 (포함, 보통 REQ_REQUEST.created_at)
      * @return 해당 요청의 감사추적 로그 목록 (시간순)
      */
-    List<LogCalculation> findByReqIdOrderByExecutedAtAsc(String reqId);
+    List<LogCalculation> findByReqIdAndExecutedAtGreaterThanEqualOrderByExecutedAtAsc(String reqId,
+                                                                                      LocalDateTime since);
 
     /**
-     * 요청 ID 및 계산 단계로 감사추적 로그 조회.
+     * 요청 ID 및 계산 단계로 감사추적 로그 조회 (실행 일시 하한 이후 파티션만).
      *
      * @param reqId    요청 ID
      * @param calcStep 계산 단계 (STEP0, STEP1, M1-03 등)
+     * @param since    실행 일시 하한 (포함, 보통 REQ_REQUEST.created_at)
      * @return 해당 조건의 감사추적 로그 목록
      */
-    List<LogCalculation> findByReqIdAndCalcStep(String reqId, String calcStep);
+    List<LogCalculation> findByReqIdAndCalcStepAndExecutedAtGreaterThanEqual(String reqId, String calcStep,
+                                                                            LocalDateTime since);
 
     /**
-     * 추적 ID로 감사추적 로그 조회.
+     * 추적 ID로 감사추적 로그 조회 (실행 일시 구간 내, 파티션 프루닝).
      *
      * @param traceId API 요청 단위 추적 ID
+     * @param from    실행 일시 하한 (포함)
+     * @param to      실행 일시 상한 (미포함)
      * @return 해당 추적 ID의 감사추적 로그 목록
      */
-    List<LogCalculation> findByTraceId(String traceId);
+    List<LogCalculation> findByTraceIdAndExecutedAtGreaterThanEqualAndExecutedAtLessThan(String traceId,
+                                                                                         LocalDateTime from,
+                                                                                         LocalDateTime to);
 }
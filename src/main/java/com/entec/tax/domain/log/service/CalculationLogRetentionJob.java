@@ -0,0 +1,255 @@
+package com.entec.tax.domain.log.service;
+
+import com.entec.tax.common.annotation.ConnectionPool;
+import com.entec.tax.common.constants.ConnectionPoolType;
+import com.entec.tax.common.util.JsonUtil;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 감사추적 로그(LOG_CALCULATION) 월 파티션 관리·보존 기간 경과분 반출 작업.
+ * <p>
+ * LOG_CALCULATION 은 {@code executed_at} 기준 월 단위 RANGE COLUMNS 파티션(p{yyyyMM}, 마지막은 pmax)으로 나뉜다.
+ * 이 작업은 기동 직후와 매일 한 번 다음 두 가지를 수행한다.
+ * </p>
+ *
+ * <ul>
+ *   <li>파티션 선생성: pmax 를 나눠 {@code precreate-months}개월 뒤까지의 월 파티션을 미리 만든다
+ *       (pmax 는 비어 있으므로 REORGANIZE 비용이 없다). 설치 직후처럼 pmax 만 있으면 이번 달 파티션부터 만든다.</li>
+ *   <li>보존 기간 경과분 반출: 이번 달 1일 기준 {@code retention-months}개월보다 오래된 파티션을
+ *       {@code export-dir}/LOG_CALCULATION_p{yyyyMM}.ndjson.gz (행당 JSON 1줄, gzip)로 내보낸 뒤 DROP PARTITION 한다.
+ *       내보낸 행 수와 파티션 행 수가 다르면 삭제하지 않고 다음 실행에서 다시 시도한다.</li>
+ * </ul>
+ *
+ * <p>
+ * 파티션 DDL 은 MySQL 전용이므로 파티션이 없는 테이블(H2 등)에서는 아무것도 하지 않는다.
+ * 반출 파일은 로컬 디스크에 쓰므로 여러 인스턴스 중 한 곳에서만
+ * {@code tax-service.audit-log.retention.enabled=true} 로 둔다.
+ * </p>
+ */
+@Component
+@Slf4j
+@ConditionalOnProperty(prefix = "tax-service.audit-log.retention", name = "enabled", havingValue = "true")
+public class CalculationLogRetentionJob {
+
+    private static final String TABLE = "LOG_CALCULATION";
+
+    private static final String MAX_PARTITION = "pmax";
+
+    private static final DateTimeFormatter PARTITION_NAME = DateTimeFormatter.ofPattern("'p'yyyyMM");
+
+    private static final String[] COLUMNS = {
+            "log_id", "req_id", "calc_step", "function_name", "input_data", "output_data", "legal_basis",
+            "executed_at", "log_level", "executed_by", "duration_ms", "trace_id", "prev_data_hash"
+    };
+
+    private static final String PARTITIONS_SQL =
+            "SELECT partition_name, partition_description FROM information_schema.PARTITIONS " +
+            "WHERE table_schema = DATABASE() AND table_name = ? AND partition_name IS NOT NULL " +
+            "ORDER BY partition_ordinal_position";
+
+    /** 파티션 조회·DDL·반출 (audit 풀) */
+    private final JdbcTemplate jdbcTemplate;
+
+    /** 보존 개월 수 (이번 달 제외) */
+    private final int retentionMonths;
+
+    /** 미리 만들어 둘 미래 월 파티션 수 */
+    private final int precreateMonths;
+
+    /** 반출 파일 디렉터리 */
+    private final Path exportDir;
+
+    /** 반출 시 한 번에 읽는 행 수 */
+    private final int exportBatchSize;
+
+    public CalculationLogRetentionJob(JdbcTemplate jdbcTemplate,
+                                      @Value("${tax-service.audit-log.retention.months:12}") int retentionMonths,
+                                      @Value("${tax-service.audit-log.retention.precreate-months:3}") int precreateMonths,
+                                      @Value("${tax-service.audit-log.retention.export-dir:./archive/log-calculation}") String exportDir,
+                                      @Value("${tax-service.audit-log.retention.export-batch-size:1000}") int exportBatchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.retentionMonths = Math.max(1, retentionMonths);
+        this.precreateMonths = Math.max(1, precreateMonths);
+        this.exportDir = Paths.get(exportDir);
+        this.exportBatchSize = Math.max(1, exportBatchSize);
+    }
+
+    /**
+     * 월 파티션을 선생성하고 보존 기간이 지난 파티션을 반출·삭제한다.
+     * 설치 직후 로그가 pmax 에 쌓이기 전에 월 파티션을 만들도록 기동 완료 시에도 한 번 수행한다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${tax-service.audit-log.retention.cron:0 30 3 * * *}")
+    @ConnectionPool(ConnectionPoolType.AUDIT)
+    public synchronized void run() {
+        try {
+            List<Partition> partitions = loadPartitions();
+            if (partitions.isEmpty()) {
+                log.warn("LOG_CALCULATION 파티션 없음 — 보존 작업 건너뜀");
+                return;
+            }
+            precreate(partitions);
+            expire(partitions, YearMonth.now().minusMonths(retentionMonths).atDay(1));
+        } catch (RuntimeException e) {
+            log.error("LOG_CALCULATION 보존 작업 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    // ──────────────────────────────────────────────
+    // 내부 처리
+    // ──────────────────────────────────────────────
+
+    private List<Partition> loadPartitions() {
+        return jdbcTemplate.query(PARTITIONS_SQL, (rs, rowNum) -> new Partition(
+                rs.getString("partition_name"), parseBound(rs.getString("partition_description"))), TABLE);
+    }
+
+    /**
+     * 마지막 월 파티션 다음 달부터 선생성 대상 월까지 pmax 를 나눈다 (월 파티션이 없으면 이번 달부터).
+     */
+    private void precreate(List<Partition> partitions) {
+        LocalDate last = null;
+        for (Partition partition : partitions) {
+            if (partition.upperBound != null) {
+                last = partition.upperBound;
+            }
+        }
+        if (!MAX_PARTITION.equals(partitions.get(partitions.size() - 1).name)) {
+            log.warn("LOG_CALCULATION 파티션 구성이 예상과 다름 — 선생성 건너뜀, partitions={}", partitions.size());
+            return;
+        }
+        if (last == null) {
+            // 설치 직후 (pmax 만 있음): 이번 달 파티션이 이전 행까지 담는다
+            last = YearMonth.now().atDay(1);
+        }
+        LocalDate target = YearMonth.now().plusMonths(precreateMonths + 1L).atDay(1);
+        while (last.isBefore(target)) {
+            String name = PARTITION_NAME.format(last);
+            LocalDate bound = last.plusMonths(1);
+            jdbcTemplate.execute("ALTER TABLE " + TABLE + " REORGANIZE PARTITION " + MAX_PARTITION + " INTO ("
+                    + "PARTITION " + name + " VALUES LESS THAN ('" + bound + "'), "
+                    + "PARTITION " + MAX_PARTITION + " VALUES LESS THAN (MAXVALUE))");
+            log.info("LOG_CALCULATION 파티션 생성: {} (< {})", name, bound);
+            last = bound;
+        }
+    }
+
+    /**
+     * 상한이 cutoff 이하인 파티션을 반출한 뒤 삭제한다 (한 파티션 실패 시 다음 파티션은 계속 처리).
+     */
+    private void expire(List<Partition> partitions, LocalDate cutoff) {
+        for (Partition partition : partitions) {
+            if (partition.upperBound == null || partition.upperBound.isAfter(cutoff)) {
+                continue;
+            }
+            try {
+                long stored = jdbcTemplate.queryForObject(
+                        "SELECT COUNT(*) FROM " + TABLE + " PARTITION (" + partition.name + ")", Long.class);
+                Path file = exportDir.resolve(TABLE + "_" + partition.name + ".ndjson.gz");
+                long exported = export(partition.name, file);
+                if (exported != stored) {
+                    log.error("LOG_CALCULATION 반출 건수 불일치 — 파티션 유지, partition={}, stored={}, exported={}",
+                            partition.name, stored, exported);
+                    continue;
+                }
+                jdbcTemplate.execute("ALTER TABLE " + TABLE + " DROP PARTITION " + partition.name);
+                log.info("LOG_CALCULATION 파티션 반출·삭제 완료: partition={}, rows={}, file={}",
+                        partition.name, exported, file);
+            } catch (RuntimeException e) {
+                log.error("LOG_CALCULATION 파티션 반출 실패: partition={}, error={}",
+                        partition.name, e.getMessage(), e);
+            }
+        }
+    }
+
+    /**
+     * 파티션 행을 log_id 순으로 나눠 읽어 임시 파일에 쓴 뒤 최종 파일명으로 옮긴다.
+     *
+     * @return 반출한 행 수
+     */
+    private long export(String partitionName, Path file) {
+        String sql = "SELECT " + String.join(", ", COLUMNS) + " FROM " + TABLE + " PARTITION (" + partitionName + ")"
+                + " WHERE log_id > ? ORDER BY log_id LIMIT " + exportBatchSize;
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        long exported = 0;
+        try {
+            Files.createDirectories(exportDir);
+            try (Writer writer = new BufferedWriter(new OutputStreamWriter(
+                    new GZIPOutputStream(Files.newOutputStream(temp)), StandardCharsets.UTF_8))) {
+                long lastLogId = 0;
+                while (true) {
+                    List<Map<String, Object>> rows = jdbcTemplate.query(sql, (rs, rowNum) -> {
+                        Map<String, Object> row = new LinkedHashMap<String, Object>();
+                        for (String column : COLUMNS) {
+                            Object value = rs.getObject(column);
+                            row.put(column, value instanceof Timestamp ? ((Timestamp) value).toLocalDateTime() : value);
+                        }
+                        return row;
+                    }, lastLogId);
+                    for (Map<String, Object> row : rows) {
+                        writer.write(JsonUtil.toJson(row));
+                        writer.write('\n');
+                    }
+                    exported += rows.size();
+                    if (rows.size() < exportBatchSize) {
+                        break;
+                    }
+                    lastLogId = ((Number) rows.get(rows.size() - 1).get("log_id")).longValue();
+                }
+            }
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            return exported;
+        } catch (IOException e) {
+            throw new UncheckedIOException("반출 파일 기록 실패: " + file, e);
+        }
+    }
+
+    /**
+     * partition_description 의 상한 값을 날짜로 해석한다 (MAXVALUE 는 null).
+     */
+    private static LocalDate parseBound(String description) {
+        if (description == null || "MAXVALUE".equalsIgnoreCase(description.trim())) {
+            return null;
+        }
+        return LocalDate.parse(description.replace("'", "").trim().substring(0, 10));
+    }
+
+    private static final class Partition {
+
+        private final String name;
+
+        /** 상한 (미포함, pmax 는 null) */
+        private final LocalDate upperBound;
+
+        private Partition(String name, LocalDate upperBound) {
+            this.name = name;
+            this.upperBound = upperBound;
+        }
+    }
+}
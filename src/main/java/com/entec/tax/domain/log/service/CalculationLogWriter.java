@@ -0,0 +1,255 @@
+package com.entec.tax.domain.log.service;
+
+import com.entec.tax.common.annotation.ConnectionPool;
+import com.entec.tax.common.constants.ConnectionPoolType;
+import com.entec.tax.common.constants.LogLevel;
+import com.entec.tax.common.metrics.AnalysisMetrics;
+import com.entec.tax.domain.log.entity.LogCalculation;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.annotation.PreDestroy;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 감사추적 로그(LOG_CALCULATION) 비동기 일괄 기록기.
+ * <p>
+ * 모듈별 감사추적 로그를 요청 스레드에서 바로 INSERT 하지 않고 버퍼에 넣은 뒤,
+ * 백그라운드 주기 작업이 JDBC 배치 INSERT 로 모아서 기록한다. 분석 단계 트랜잭션은 로그 INSERT 를 기다리지 않는다.
+ * </p>
+ *
+ * <ul>
+ *   <li>트랜잭션 연동: 트랜잭션 안에서 기록한 로그는 커밋 후에 버퍼에 넣고, 롤백되면 버린다
+ *       (동기 INSERT 가 트랜잭션과 함께 롤백되던 기존 동작과 같다).</li>
+ *   <li>버퍼: 잠금 없는 큐에 최대 {@code tax-service.audit-log.buffer-capacity}건까지 보관한다.
+ *       가득 차면 해당 로그는 호출 스레드에서 바로 INSERT 하고 {@code tax.audit.overflow} 로 집계한다.</li>
+ *   <li>기록 주기: {@code flush-interval}(기본 500ms)마다 {@code batch-size}건씩 배치 INSERT 한다.
+ *       따라서 로그 조회 API 에는 최대 기록 주기만큼 늦게 반영된다.</li>
+ *   <li>내구성: {@code sync-on-error}(기본 true)이면 ERROR 로그는 버퍼를 거치지 않고 호출 스레드에서 즉시 기록한다.</li>
+ *   <li>커넥션: 주기 배치 INSERT 는 audit 풀을 사용하여 분석·조회 풀과 경합하지 않는다.</li>
+ * </ul>
+ */
+@Component
+@Slf4j
+public class CalculationLogWriter {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO LOG_CALCULATION " +
+            "(req_id, calc_step, function_name, input_data, output_data, legal_basis, " +
+            " executed_at, log_level, executed_by, duration_ms, trace_id, prev_data_hash) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    /** 배치 INSERT */
+    private final JdbcTemplate jdbcTemplate;
+
+    /** 세부 단계 실행 시간 계측 */
+    private final AnalysisMetrics analysisMetrics;
+
+    /** 버퍼 최대 보관 건수 */
+    private final int bufferCapacity;
+
+    /** 배치 INSERT 1회 최대 건수 */
+    private final int batchSize;
+
+    /** ERROR 로그 즉시 기록 여부 */
+    private final boolean syncOnError;
+
+    /** 기록 대기 로그 */
+    private final Queue<LogCalculation> buffer = new ConcurrentLinkedQueue<LogCalculation>();
+
+    /** 기록 대기 로그 수 */
+    private final AtomicInteger bufferSize = new AtomicInteger();
+
+    private final Counter writtenCounter;
+    private final Counter overflowCounter;
+    private final Counter failedCounter;
+
+    public CalculationLogWriter(JdbcTemplate jdbcTemplate,
+                                AnalysisMetrics analysisMetrics,
+                                MeterRegistry meterRegistry,
+                                @Value("${tax-service.audit-log.buffer-capacity:10000}") int bufferCapacity,
+                                @Value("${tax-service.audit-log.batch-size:200}") int batchSize,
+                                @Value("${tax-service.audit-log.sync-on-error:true}") boolean syncOnError) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.analysisMetrics = analysisMetrics;
+        this.bufferCapacity = Math.max(1, bufferCapacity);
+        this.batchSize = Math.max(1, batchSize);
+        this.syncOnError = syncOnError;
+        this.writtenCounter = Counter.builder("tax.audit.written")
+                .description("배치로 기록한 감사추적 로그 수")
+                .register(meterRegistry);
+        this.overflowCounter = Counter.builder("tax.audit.overflow")
+                .description("버퍼 초과로 호출 스레드에서 기록한 감사추적 로그 수")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("tax.audit.failed")
+                .description("기록에 실패한 감사추적 로그 수")
+                .register(meterRegistry);
+        Gauge.builder("tax.audit.buffer.size", bufferSize, AtomicInteger::get)
+                .description("기록 대기 중인 감사추적 로그 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 감사추적 로그를 기록한다.
+     *
+     * @param logEntry 감사추적 로그
+     */
+    public void write(LogCalculation logEntry) {
+        analysisMetrics.recordStep(logEntry);
+        if (syncOnError && LogLevel.ERROR.getCode().equalsIgnoreCase(logEntry.getLogLevel())) {
+            insert(logEntry);
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            pendingInTransaction().add(logEntry);
+            return;
+        }
+        enqueue(logEntry);
+    }
+
+    /**
+     * 감사추적 로그 목록을 기록한다.
+     *
+     * @param logEntries 감사추적 로그 목록
+     */
+    public void writeAll(Collection<LogCalculation> logEntries) {
+        for (LogCalculation logEntry : logEntries) {
+            write(logEntry);
+        }
+    }
+
+    /**
+     * 버퍼에 쌓인 로그를 배치 INSERT 한다.
+     */
+    @Scheduled(fixedDelayString = "${tax-service.audit-log.flush-interval:500}")
+    @ConnectionPool(ConnectionPoolType.AUDIT)
+    public synchronized void flush() {
+        List<LogCalculation> batch = new ArrayList<LogCalculation>(batchSize);
+        while (true) {
+            batch.clear();
+            LogCalculation logEntry;
+            while (batch.size() < batchSize && (logEntry = buffer.poll()) != null) {
+                bufferSize.decrementAndGet();
+                batch.add(logEntry);
+            }
+            if (batch.isEmpty()) {
+                return;
+            }
+            writeBatch(batch);
+        }
+    }
+
+    /**
+     * 종료 시 남은 로그를 기록한다.
+     */
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    // ──────────────────────────────────────────────
+    // 내부 처리
+    // ──────────────────────────────────────────────
+
+    private void enqueue(LogCalculation logEntry) {
+        if (bufferSize.incrementAndGet() > bufferCapacity) {
+            bufferSize.decrementAndGet();
+            overflowCounter.increment();
+            insert(logEntry);
+            return;
+        }
+        buffer.offer(logEntry);
+    }
+
+    /**
+     * 현재 트랜잭션에서 기록한 로그 목록 (커밋 후 버퍼에 넣는다).
+     */
+    @SuppressWarnings("unchecked")
+    private List<LogCalculation> pendingInTransaction() {
+        List<LogCalculation> pending = (List<LogCalculation>) TransactionSynchronizationManager.getResource(this);
+        if (pending != null) {
+            return pending;
+        }
+        List<LogCalculation> created = new ArrayList<LogCalculation>();
+        TransactionSynchronizationManager.bindResource(this, created);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void suspend() {
+                TransactionSynchronizationManager.unbindResource(CalculationLogWriter.this);
+            }
+
+            @Override
+            public void resume() {
+                TransactionSynchronizationManager.bindResource(CalculationLogWriter.this, created);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(CalculationLogWriter.this);
+                if (status == STATUS_COMMITTED) {
+                    for (LogCalculation logEntry : created) {
+                        enqueue(logEntry);
+                    }
+                }
+            }
+        });
+        return created;
+    }
+
+    private void insert(LogCalculation logEntry) {
+        try {
+            jdbcTemplate.update(INSERT_SQL, toArgs(logEntry));
+        } catch (Exception e) {
+            failedCounter.increment();
+            log.error("LOG_CALCULATION 저장 실패: reqId={}, step={}, error={}",
+                    logEntry.getReqId(), logEntry.getCalcStep(), e.getMessage(), e);
+        }
+    }
+
+    private void writeBatch(List<LogCalculation> batch) {
+        List<Object[]> args = new ArrayList<Object[]>(batch.size());
+        for (LogCalculation logEntry : batch) {
+            args.add(toArgs(logEntry));
+        }
+        try {
+            jdbcTemplate.batchUpdate(INSERT_SQL, args);
+            writtenCounter.increment(batch.size());
+        } catch (Exception e) {
+            failedCounter.increment(batch.size());
+            log.error("LOG_CALCULATION 배치 저장 실패: count={}, firstReqId={}, error={}",
+                    batch.size(), batch.get(0).getReqId(), e.getMessage(), e);
+        }
+    }
+
+    private static Object[] toArgs(LogCalculation logEntry) {
+        return new Object[]{
+                logEntry.getReqId(),
+                logEntry.getCalcStep(),
+                logEntry.getFunctionName(),
+                logEntry.getInputData(),
+                logEntry.getOutputData(),
+                logEntry.getLegalBasis(),
+                Timestamp.valueOf(logEntry.getExecutedAt() != null ? logEntry.getExecutedAt() : LocalDateTime.now()),
+                logEntry.getLogLevel(),
+                logEntry.getExecutedBy(),
+                logEntry.getDurationMs(),
+                logEntry.getTraceId(),
+                logEntry.getPrevDataHash()
+        };
+    }
+}
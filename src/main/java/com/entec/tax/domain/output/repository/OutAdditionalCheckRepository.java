@@ -3,6 +3,9 @@ package com.entec.tax.domain.output.repository;
 import com.entec.tax.domain.output.entity.OutAdditionalCheck;
 import com.entec.tax.domain.output.entity.OutAdditionalCheckId;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 
@@ -23,9 +26,12 @@ public interface OutAdditionalCheckRepository extends JpaRepository<OutAdditiona
     List<OutAdditionalCheck> findByReqId(String reqId);
 
     /**
-     * 요청 ID로 추가 확인 필요 항목 삭제 (TX-2 재시도 지원).
+     * 요청 ID로 추가 확인 필요 항목 일괄 삭제 (TX-2 재시도 지원).
      *
      * @param reqId 요청 ID
+     * @return 삭제된 레코드 수
      */
-    void deleteByReqId(String reqId);
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM OutAdditionalCheck c WHERE c.reqId = :reqId")
+    int deleteByReqId(@Param("reqId") String reqId);
 }
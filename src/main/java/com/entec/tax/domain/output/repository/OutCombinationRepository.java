@@ -3,6 +3,9 @@ package com.entec.tax.domain.output.repository;
 import com.entec.tax.domain.output.entity.OutCombination;
 import com.entec.tax.domain.output.entity.OutCombinationId;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.Optional;
@@ -33,9 +36,12 @@ public interface OutCombinationRepository extends JpaRepository<OutCombination,
     Optional<OutCombination> findByReqIdAndComboRank(String reqId, Integer comboRank);
 
     /**
-     * 요청 ID로 조합 결과 삭제 (TX-2 재시도 지원).
+     * 요청 ID로 조합 결과 일괄 삭제 (TX-2 재시도 지원).
      *
      * @param reqId 요청 ID
+     * @return 삭제된 레코드 수
      */
-    void deleteByReqId(String reqId);
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM OutCombination c WHERE c.reqId = :reqId")
+    int deleteByReqId(@Param("reqId") String reqId);
 }
@@ -3,6 +3,9 @@ package com.entec.tax.domain.output.repository;
 import com.entec.tax.domain.output.entity.OutCreditDetail;
 import com.entec.tax.domain.output.entity.OutCreditDetailId;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 
@@ -41,9 +44,24 @@ public interface OutCreditDetailRepository extends JpaRepository<OutCreditDetail
     List<OutCreditDetail> findByReqIdAndProvision(String reqId, String provision);
 
     /**
-     * 요청 ID로 공제/감면 산출 결과 삭제 (TX-2 재시도 지원).
+     * 요청 ID로 공제/감면 산출 결과 일괄 삭제 (TX-2 재시도 지원).
      *
      * @param reqId 요청 ID
+     * @return 삭제된 레코드 수
      */
-    void deleteByReqId(String reqId);
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM OutCreditDetail d WHERE d.reqId = :reqId")
+    int deleteByReqId(@Param("reqId") String reqId);
+
+    /**
+     * 산출기 단위로 공제/감면 산출 결과 삭제 (M4 부분 재산출).
+     * 항목 ID 가 산출기 단계 코드로 시작하는 행을 삭제한다.
+     *
+     * @param reqId    요청 ID
+     * @param calcStep 산출기 단계 코드 (예: M4-06)
+     * @return 삭제된 레코드 수
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("DELETE FROM OutCreditDetail d WHERE d.reqId = :reqId AND d.itemId LIKE CONCAT(:calcStep, '-%')")
+    int deleteByReqIdAndCalcStep(@Param("reqId") String reqId, @Param("calcStep") String calcStep);
 }
@@ -3,6 +3,9 @@ package com.entec.tax.domain.output.repository;
 import com.entec.tax.domain.output.entity.OutEmployeeSummary;
 import com.entec.tax.domain.output.entity.OutEmployeeSummaryId;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.Optional;
@@ -33,9 +36,12 @@ public interface OutEmployeeSummaryRepository extends JpaRepository<OutEmployeeS
     Optional<OutEmployeeSummary> findByReqIdAndYearType(String reqId, String yearType);
 
     /**
-     * 요청 ID로 상시근로자 산정 결과 삭제 (TX-2 재시도 지원).
+     * 요청 ID로 상시근로자 산정 결과 일괄 삭제 (TX-2 재시도 지원).
      *
      * @param reqId 요청 ID
+     * @return 삭제된 레코드 수
      */
-    void deleteByReqId(String reqId);
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM OutEmployeeSummary s WHERE s.reqId = :reqId")
+    int deleteByReqId(@Param("reqId") String reqId);
 }
@@ -3,6 +3,9 @@ package com.entec.tax.domain.output.repository;
 import com.entec.tax.domain.output.entity.OutExclusionVerify;
 import com.entec.tax.domain.output.entity.OutExclusionVerifyId;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 
@@ -24,9 +27,12 @@ public interface OutExclusionVerifyRepository extends JpaRepository<OutExclusion
     List<OutExclusionVerify> findByReqIdAndComboId(String reqId, Integer comboId);
 
     /**
-     * 요청 ID로 상호배제 검증 결과 삭제 (TX-2 재시도 지원).
+     * 요청 ID로 상호배제 검증 결과 일괄 삭제 (TX-2 재시도 지원).
      *
      * @param reqId 요청 ID
+     * @return 삭제된 레코드 수
      */
-    void deleteByReqId(String reqId);
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM OutExclusionVerify v WHERE v.reqId = :reqId")
+    int deleteByReqId(@Param("reqId") String reqId);
 }
@@ -3,6 +3,9 @@ package com.entec.tax.domain.output.repository;
 import com.entec.tax.domain.output.entity.OutRisk;
 import com.entec.tax.domain.output.entity.OutRiskId;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 
@@ -23,9 +26,12 @@ public interface OutRiskRepository extends JpaRepository<OutRisk, OutRiskId> {
     List<OutRisk> findByReqId(String reqId);
 
     /**
-     * 요청 ID로 리스크 평가 결과 삭제 (TX-2 재시도 지원).
+     * 요청 ID로 리스크 평가 결과 일괄 삭제 (TX-2 재시도 지원).
      *
      * @param reqId 요청 ID
+     * @return 삭제된 레코드 수
      */
-    void deleteByReqId(String reqId);
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM OutRisk r WHERE r.reqId = :reqId")
+    int deleteByReqId(@Param("reqId") String reqId);
 }
@@ -0,0 +1,93 @@
+package com.entec.tax.domain.output.repository;
+
+import com.entec.tax.domain.output.entity.OutAdditionalCheck;
+import com.entec.tax.domain.output.entity.OutCombination;
+import com.entec.tax.domain.output.entity.OutCreditDetail;
+import com.entec.tax.domain.output.entity.OutEmployeeSummary;
+import com.entec.tax.domain.output.entity.OutExclusionVerify;
+import com.entec.tax.domain.output.entity.OutRefund;
+import com.entec.tax.domain.output.entity.OutRisk;
+import org.apache.ibatis.annotations.Flush;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.executor.BatchResult;
+
+import java.util.List;
+
+/**
+ * OUT_* 산출물 다건 INSERT 매퍼 (mapper/output/OutputResultMapper.xml).
+ * <p>
+ * BATCH 실행기 세션에서 동작하므로 INSERT 문은 {@link #flush()} 또는 트랜잭션 커밋 시점에 전송된다.
+ * 조회·삭제는 테이블별 JPA 리포지토리를 사용한다.
+ * </p>
+ */
+@Mapper
+public interface OutputResultMapper {
+
+    /**
+     * 상시근로자 산정 결과 다건 INSERT.
+     * <p>
+     * M3 가 저장한 행을 M4-02 가 같은 키(req_id, year_type)로 다시 저장하므로, 키가 이미 있으면 값을 갱신한다.
+     * </p>
+     *
+     * @param rows 상시근로자 산정 결과 목록 (1건 이상)
+     * @return BATCH 실행기에서는 의미 없는 값 (건수는 {@link #flush()} 결과로 확인)
+     */
+    int insertEmployeeSummaries(@Param("rows") List<OutEmployeeSummary> rows);
+
+    /**
+     * 공제/감면 산출 결과 다건 INSERT.
+     *
+     * @param rows 공제/감면 산출 결과 목록 (1건 이상)
+     * @return BATCH 실행기에서는 의미 없는 값 (건수는 {@link #flush()} 결과로 확인)
+     */
+    int insertCreditDetails(@Param("rows") List<OutCreditDetail> rows);
+
+    /**
+     * 조합 탐색 결과 다건 INSERT.
+     *
+     * @param rows 조합 탐색 결과 목록 (1건 이상)
+     * @return BATCH 실행기에서는 의미 없는 값 (건수는 {@link #flush()} 결과로 확인)
+     */
+    int insertCombinations(@Param("rows") List<OutCombination> rows);
+
+    /**
+     * 상호배제 검증 결과 다건 INSERT.
+     *
+     * @param rows 상호배제 검증 결과 목록 (1건 이상)
+     * @return BATCH 실행기에서는 의미 없는 값 (건수는 {@link #flush()} 결과로 확인)
+     */
+    int insertExclusionVerifies(@Param("rows") List<OutExclusionVerify> rows);
+
+    /**
+     * 환급액 산출 결과 다건 INSERT.
+     *
+     * @param rows 환급액 산출 결과 목록 (1건 이상)
+     * @return BATCH 실행기에서는 의미 없는 값 (건수는 {@link #flush()} 결과로 확인)
+     */
+    int insertRefunds(@Param("rows") List<OutRefund> rows);
+
+    /**
+     * 리스크 평가 결과 다건 INSERT.
+     *
+     * @param rows 리스크 평가 결과 목록 (1건 이상)
+     * @return BATCH 실행기에서는 의미 없는 값 (건수는 {@link #flush()} 결과로 확인)
+     */
+    int insertRisks(@Param("rows") List<OutRisk> rows);
+
+    /**
+     * 추가 확인 사항 다건 INSERT.
+     *
+     * @param rows 추가 확인 사항 목록 (1건 이상)
+     * @return BATCH 실행기에서는 의미 없는 값 (건수는 {@link #flush()} 결과로 확인)
+     */
+    int insertAdditionalChecks(@Param("rows") List<OutAdditionalCheck> rows);
+
+    /**
+     * 대기 중인 배치 문장을 전송한다.
+     *
+     * @return 문장별 실행 결과
+     */
+    @Flush
+    List<BatchResult> flush();
+}
@@ -0,0 +1,88 @@
+package com.entec.tax.domain.reference.cache;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * REF_EXCHANGE_RATE 통화별 시계열 캐시.
+ * <p>
+ * 기준정보 스냅샷에 미리 생성된 통화별 {@link ExchangeRateTimeSeries}를 조회한다.
+ * 외국납부세액 등 다건 환산 시 건별 DB 조회 없이 메모리에서 직전 영업일 환율을 적용한다.
+ * </p>
+ *
+ * <p>
+ * 분석 스레드는 시작 시 고정한 스냅샷의 환율을 사용하므로, 분석 도중 환율이 재적재되어도
+ * 한 분석 안에서는 같은 환율이 적용된다.
+ * </p>
+ */
+@Component
+@RequiredArgsConstructor
+public class ExchangeRateCache {
+
+    /** 기준정보 스냅샷 관리자 */
+    private final ReferenceSnapshotManager referenceSnapshotManager;
+
+    /**
+     * 통화별 환율 시계열을 조회한다.
+     *
+     * @param currency 통화 코드 (예: USD)
+     * @return 환율 시계열 (환율 미등록 통화는 빈 시계열)
+     */
+    public ExchangeRateTimeSeries getSeries(String currency) {
+        return referenceSnapshotManager.current().getExchangeRateSeries(currency.trim().toUpperCase());
+    }
+
+    /**
+     * 기준일 이전 가장 가까운 영업일의 환율을 조회한다.
+     *
+     * @param currency 통화 코드
+     * @param date     기준일
+     * @return 고정소수점 환율 (×10,000). 없으면 {@link ExchangeRateTimeSeries#NO_RATE}
+     */
+    public long rateOnOrBefore(String currency, LocalDate date) {
+        return getSeries(currency).rateOnOrBefore(date);
+    }
+
+    /**
+     * 기간 평균 환율을 조회한다.
+     *
+     * @param currency 통화 코드
+     * @param from     시작일 (포함)
+     * @param to       종료일 (포함)
+     * @return 고정소수점 평균 환율 (×10,000). 없으면 {@link ExchangeRateTimeSeries#NO_RATE}
+     */
+    public long averageRate(String currency, LocalDate from, LocalDate to) {
+        return getSeries(currency).averageRate(from, to);
+    }
+
+    /**
+     * 외화 금액 목록을 일괄 원화 환산한다.
+     * <p>
+     * 모든 건을 같은 스냅샷의 시계열로 환산하며, DB 조회는 발생하지 않는다.
+     * </p>
+     *
+     * @param amounts 외화 금액 목록
+     * @return 입력 순서와 동일한 원화 환산액 배열 (적용 환율이 없는 건은 {@link ExchangeRateTimeSeries#NO_RATE})
+     */
+    public long[] convertAll(List<ForeignAmount> amounts) {
+        long[] result = new long[amounts.size()];
+        ReferenceSnapshot snapshot = referenceSnapshotManager.current();
+        ExchangeRateTimeSeries series = null;
+        for (int i = 0; i < amounts.size(); i++) {
+            ForeignAmount amount = amounts.get(i);
+            if (amount.getCurrency() == null || amount.getAmount() == null || amount.getDate() == null) {
+                result[i] = ExchangeRateTimeSeries.NO_RATE;
+                continue;
+            }
+            // 동일 통화가 연속되는 일반적인 입력에서 맵 조회를 생략한다
+            if (series == null || !series.getCurrency().equalsIgnoreCase(amount.getCurrency().trim())) {
+                series = snapshot.getExchangeRateSeries(amount.getCurrency().trim().toUpperCase());
+            }
+            result[i] = series.convert(amount.getAmount(), amount.getDate());
+        }
+        return result;
+    }
+}
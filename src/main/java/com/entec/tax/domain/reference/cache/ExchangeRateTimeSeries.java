@@ -0,0 +1,237 @@
+package com.entec.tax.domain.reference.cache;
+
+import com.entec.tax.domain.reference.entity.RefExchangeRate;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 통화별 환율 시계열 (불변).
+ * <p>
+ * REF_EXCHANGE_RATE 의 한 통화에 대한 매매기준율을 정렬된 {@code int} epoch-day 키 배열과
+ * 병렬 {@code long} 고정소수점 환율 배열로 보관한다.
+ * 환율은 DECIMAL(10,4) 컬럼과 동일하게 소수점 4자리 고정소수점(×10,000)으로 저장한다.
+ * </p>
+ *
+ * <p>
+ * 고시일은 영업일 기준이므로, 임의 일자의 환율은 해당 일자 이전 가장 가까운 고시일의
+ * 환율을 적용한다 (주말·공휴일 → 직전 영업일).
+ * </p>
+ */
+public final class ExchangeRateTimeSeries {
+
+    /** 고정소수점 스케일 (DECIMAL(10,4)) */
+    public static final int RATE_SCALE = 4;
+
+    /** 고정소수점 배수 (10^4) */
+    public static final long RATE_FACTOR = 10_000L;
+
+    /** 적용 가능한 환율이 없음을 나타내는 값 */
+    public static final long NO_RATE = -1L;
+
+    /** 통화 코드 */
+    private final String currency;
+
+    /** 고시일 (epoch-day, 오름차순) */
+    private final int[] epochDays;
+
+    /** 매매기준율 (×10,000 고정소수점) */
+    private final long[] rates;
+
+    private ExchangeRateTimeSeries(String currency, int[] epochDays, long[] rates) {
+        this.currency = currency;
+        this.epochDays = epochDays;
+        this.rates = rates;
+    }
+
+    /**
+     * 엔티티 목록으로 시계열을 생성한다.
+     * <p>
+     * 기준환율(standard_rate)이 없는 행은 제외하며, 입력 순서와 무관하게 고시일 오름차순으로 정렬한다.
+     * </p>
+     *
+     * @param currency 통화 코드
+     * @param entities 해당 통화의 환율 엔티티 목록
+     * @return 환율 시계열
+     */
+    public static ExchangeRateTimeSeries of(String currency, List<RefExchangeRate> entities) {
+        List<RefExchangeRate> valid = new ArrayList<RefExchangeRate>(entities.size());
+        for (RefExchangeRate entity : entities) {
+            if (entity.getRateDate() != null && entity.getStandardRate() != null) {
+                valid.add(entity);
+            }
+        }
+        Collections.sort(valid, new Comparator<RefExchangeRate>() {
+            @Override
+            public int compare(RefExchangeRate a, RefExchangeRate b) {
+                return a.getRateDate().compareTo(b.getRateDate());
+            }
+        });
+
+        int[] days = new int[valid.size()];
+        long[] values = new long[valid.size()];
+        int size = 0;
+        for (RefExchangeRate entity : valid) {
+            int day = (int) toLocalDate(entity.getRateDate()).toEpochDay();
+            long rate = entity.getStandardRate()
+                    .setScale(RATE_SCALE, RoundingMode.DOWN)
+                    .unscaledValue()
+                    .longValue();
+            // 동일 고시일 중복 시 마지막 값으로 덮어쓴다
+            if (size > 0 && days[size - 1] == day) {
+                values[size - 1] = rate;
+                continue;
+            }
+            days[size] = day;
+            values[size] = rate;
+            size++;
+        }
+
+        int[] trimmedDays = new int[size];
+        long[] trimmedRates = new long[size];
+        System.arraycopy(days, 0, trimmedDays, 0, size);
+        System.arraycopy(values, 0, trimmedRates, 0, size);
+        return new ExchangeRateTimeSeries(currency, trimmedDays, trimmedRates);
+    }
+
+    /**
+     * 빈 시계열을 생성한다 (환율 미등록 통화의 반복 조회 방지용).
+     *
+     * @param currency 통화 코드
+     * @return 빈 환율 시계열
+     */
+    public static ExchangeRateTimeSeries empty(String currency) {
+        return new ExchangeRateTimeSeries(currency, new int[0], new long[0]);
+    }
+
+    /**
+     * 기준일 이전 가장 가까운 고시일의 환율을 조회한다.
+     *
+     * @param date 기준일
+     * @return 고정소수점 환율 (×10,000). 기준일 이전 고시 환율이 없으면 {@link #NO_RATE}
+     */
+    public long rateOnOrBefore(LocalDate date) {
+        int index = floorIndex((int) date.toEpochDay());
+        return index < 0 ? NO_RATE : rates[index];
+    }
+
+    /**
+     * 기간 내 고시 환율의 단순 평균을 산출한다 (소수점 4자리 절사).
+     *
+     * @param from 시작일 (포함)
+     * @param to   종료일 (포함)
+     * @return 고정소수점 평균 환율 (×10,000). 기간 내 고시 환율이 없으면 {@link #NO_RATE}
+     */
+    public long averageRate(LocalDate from, LocalDate to) {
+        int start = ceilIndex((int) from.toEpochDay());
+        int end = floorIndex((int) to.toEpochDay());
+        if (start < 0 || end < 0 || start > end) {
+            return NO_RATE;
+        }
+        long sum = 0L;
+        for (int i = start; i <= end; i++) {
+            sum += rates[i];
+        }
+        return sum / (end - start + 1);
+    }
+
+    /**
+     * 외화 금액을 기준일 환율로 원화 환산한다 (1원 미만 절사).
+     *
+     * @param amount 외화 금액
+     * @param date   기준일
+     * @return 원화 환산액. 적용 환율이 없으면 {@link #NO_RATE}
+     */
+    public long convert(BigDecimal amount, LocalDate date) {
+        long rate = rateOnOrBefore(date);
+        if (rate == NO_RATE) {
+            return NO_RATE;
+        }
+        return toKrw(amount, rate);
+    }
+
+    /**
+     * 외화 금액에 고정소수점 환율을 곱해 원화 금액으로 변환한다 (1원 미만 절사).
+     *
+     * @param amount 외화 금액
+     * @param rate   고정소수점 환율 (×10,000)
+     * @return 원화 금액
+     */
+    static long toKrw(BigDecimal amount, long rate) {
+        return amount.multiply(BigDecimal.valueOf(rate, RATE_SCALE))
+                .setScale(0, RoundingMode.DOWN)
+                .longValue();
+    }
+
+    public String getCurrency() {
+        return currency;
+    }
+
+    /**
+     * @return 고시일 수
+     */
+    public int size() {
+        return epochDays.length;
+    }
+
+    /**
+     * @return 시계열이 비어 있으면 true
+     */
+    public boolean isEmpty() {
+        return epochDays.length == 0;
+    }
+
+    /**
+     * key 이하인 가장 큰 원소의 인덱스를 반환한다.
+     */
+    private int floorIndex(int key) {
+        int low = 0;
+        int high = epochDays.length - 1;
+        int result = -1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (epochDays[mid] <= key) {
+                result = mid;
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * key 이상인 가장 작은 원소의 인덱스를 반환한다.
+     */
+    private int ceilIndex(int key) {
+        int low = 0;
+        int high = epochDays.length - 1;
+        int result = -1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (epochDays[mid] >= key) {
+                result = mid;
+                high = mid - 1;
+            } else {
+                low = mid + 1;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * java.util.Date(또는 java.sql.Date)를 LocalDate 로 변환한다.
+     */
+    private static LocalDate toLocalDate(java.util.Date date) {
+        if (date instanceof Date) {
+            return ((Date) date).toLocalDate();
+        }
+        return new Date(date.getTime()).toLocalDate();
+    }
+}
@@ -0,0 +1,176 @@
+package com.entec.tax.domain.reference.cache;
+
+import com.entec.tax.common.util.CryptoUtil;
+import com.entec.tax.common.util.JsonUtil;
+import com.entec.tax.domain.common.dto.ApiResponse;
+import com.entec.tax.domain.reference.dto.ExclusionMatrixDto;
+import com.entec.tax.domain.reference.dto.ExclusionRuleDto;
+import com.entec.tax.domain.reference.entity.RefMutualExclusion;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * API-07 상호배제 매트릭스 캐시.
+ * <p>
+ * 기준정보 스냅샷의 REF_MUTUAL_EXCLUSION 으로 귀속연도별 매트릭스를 생성하여
+ * 직렬화된 응답 바이트와 ETag 로 스냅샷에 보관한다. 동일 스냅샷에서는 ETag 가 변하지 않으므로
+ * 클라이언트는 If-None-Match 로 재검증만 수행한다.
+ * </p>
+ *
+ * <p>
+ * ETag 는 응답 바이트의 SHA-256 해시로 생성하므로 서버 재기동 후에도 내용이 같으면 동일하다.
+ * 규칙은 조회 순서와 무관하게 rule_id 순으로 정렬한 뒤 직렬화하므로, 노드·재적재마다 DB 가 다른 순서로
+ * 반환해도 같은 규칙이면 같은 ETag 가 된다. 스냅샷 교체 시 새 스냅샷의 매트릭스가 사용된다.
+ * </p>
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ExclusionMatrixCache {
+
+    /** 전체 연도 매트릭스 캐시 키 */
+    static final String ALL_YEARS = "ALL";
+
+    /** 스냅샷당 보관하는 연도별 매트릭스 최대 수 (초과 연도는 보관하지 않고 요청마다 생성) */
+    static final int MAX_CACHED_YEARS = 32;
+
+    /** 직렬화 순서 (rule_id, 없으면 뒤로) */
+    private static final Comparator<RefMutualExclusion> RULE_ORDER = Comparator.comparing(
+            RefMutualExclusion::getRuleId, Comparator.nullsLast(Comparator.<Integer>naturalOrder()));
+
+    /** 기준정보 스냅샷 관리자 */
+    private final ReferenceSnapshotManager referenceSnapshotManager;
+
+    /**
+     * 귀속연도의 직렬화된 매트릭스를 조회한다.
+     *
+     * @param year 귀속 연도 (null 이면 전체 연도)
+     * @return 직렬화된 매트릭스
+     */
+    public SerializedMatrix getMatrix(String year) {
+        return referenceSnapshotManager.current().getExclusionMatrix(year);
+    }
+
+    /**
+     * 매트릭스를 생성하고 API 응답 형태로 직렬화한다.
+     */
+    static SerializedMatrix compile(List<RefMutualExclusion> rules, String year) {
+        List<RefMutualExclusion> effective = new ArrayList<RefMutualExclusion>();
+        for (RefMutualExclusion rule : rules) {
+            if (rule.getProvisionA() != null && rule.getProvisionB() != null
+                    && (year == null || isEffective(rule, year))) {
+                effective.add(rule);
+            }
+        }
+        effective.sort(RULE_ORDER);
+
+        TreeSet<String> provisionSet = new TreeSet<String>();
+        for (RefMutualExclusion rule : effective) {
+            provisionSet.add(rule.getProvisionA());
+            provisionSet.add(rule.getProvisionB());
+        }
+        List<String> provisions = new ArrayList<String>(provisionSet);
+        Map<String, Integer> index = new HashMap<String, Integer>();
+        for (int i = 0; i < provisions.size(); i++) {
+            index.put(provisions.get(i), i);
+        }
+
+        char[][] cells = new char[provisions.size()][provisions.size()];
+        for (int i = 0; i < cells.length; i++) {
+            Arrays.fill(cells[i], '.');
+            cells[i][i] = '-';
+        }
+
+        List<ExclusionRuleDto> ruleDtos = new ArrayList<ExclusionRuleDto>(effective.size());
+        for (RefMutualExclusion rule : effective) {
+            int a = index.get(rule.getProvisionA());
+            int b = index.get(rule.getProvisionB());
+            boolean allowed = Boolean.TRUE.equals(rule.getIsAllowed());
+            // 연도별로 허용·불가가 엇갈리면 불가(X)를 우선 표시한다
+            if (a != b && cells[a][b] != 'X') {
+                cells[a][b] = allowed ? 'O' : 'X';
+                cells[b][a] = cells[a][b];
+            }
+
+            ExclusionRuleDto dto = new ExclusionRuleDto();
+            dto.setRuleId(rule.getRuleId());
+            dto.setA(a);
+            dto.setB(b);
+            dto.setAllowed(allowed);
+            dto.setYearFrom(rule.getYearFrom());
+            dto.setYearTo(rule.getYearTo());
+            dto.setConditionNote(rule.getConditionNote());
+            dto.setLegalBasis(rule.getLegalBasis());
+            ruleDtos.add(dto);
+        }
+
+        List<String> rows = new ArrayList<String>(cells.length);
+        for (char[] row : cells) {
+            rows.add(new String(row));
+        }
+
+        ExclusionMatrixDto matrix = new ExclusionMatrixDto();
+        matrix.setYear(year);
+        matrix.setProvisions(provisions);
+        matrix.setMatrix(rows);
+        matrix.setRules(ruleDtos);
+
+        byte[] body = JsonUtil.toJson(ApiResponse.ok(matrix)).getBytes(StandardCharsets.UTF_8);
+        String etag = "\"" + CryptoUtil.sha256(new String(body, StandardCharsets.UTF_8)).substring(0, 32) + "\"";
+
+        log.info("상호배제 매트릭스 생성 — year={}, 조항 수={}, 규칙 수={}, 크기={}B",
+                year != null ? year : ALL_YEARS, provisions.size(), ruleDtos.size(), body.length);
+        return new SerializedMatrix(body, etag, ruleDtos.size());
+    }
+
+    /**
+     * 규칙이 귀속연도에 유효한지 확인한다 (year_from ≤ year ≤ year_to, year_to null 은 무기한).
+     */
+    private static boolean isEffective(RefMutualExclusion rule, String year) {
+        return (rule.getYearFrom() == null || rule.getYearFrom().compareTo(year) <= 0)
+                && (rule.getYearTo() == null || rule.getYearTo().compareTo(year) >= 0);
+    }
+
+    /**
+     * 직렬화된 매트릭스 응답 (불변).
+     */
+    public static final class SerializedMatrix {
+
+        /** API 응답 JSON (UTF-8) */
+        private final byte[] body;
+
+        /** 강한 ETag (따옴표 포함) */
+        private final String etag;
+
+        /** 규칙 수 */
+        private final int ruleCount;
+
+        SerializedMatrix(byte[] body, String etag, int ruleCount) {
+            this.body = body;
+            this.etag = etag;
+            this.ruleCount = ruleCount;
+        }
+
+        public byte[] getBody() {
+            return body;
+        }
+
+        public String getEtag() {
+            return etag;
+        }
+
+        public int getRuleCount() {
+            return ruleCount;
+        }
+    }
+}
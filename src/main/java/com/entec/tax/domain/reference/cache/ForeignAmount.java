@@ -0,0 +1,40 @@
+package com.entec.tax.domain.reference.cache;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * 원화 환산 대상 외화 금액.
+ * <p>
+ * {@link ExchangeRateCache#convertAll(java.util.List)} 일괄 환산의 입력 단위로 사용한다.
+ * </p>
+ */
+public final class ForeignAmount {
+
+    /** 통화 코드 (ISO 4217, 예: USD) */
+    private final String currency;
+
+    /** 외화 금액 */
+    private final BigDecimal amount;
+
+    /** 환산 기준일 (납부일 등) */
+    private final LocalDate date;
+
+    public ForeignAmount(String currency, BigDecimal amount, LocalDate date) {
+        this.currency = currency;
+        this.amount = amount;
+        this.date = date;
+    }
+
+    public String getCurrency() {
+        return currency;
+    }
+
+    public BigDecimal getAmount() {
+        return amount;
+    }
+
+    public LocalDate getDate() {
+        return date;
+    }
+}
@@ -0,0 +1,41 @@
+package com.entec.tax.domain.reference.cache;
+
+import org.springframework.context.ApplicationEvent;
+
+import java.time.LocalDateTime;
+
+/**
+ * 기준정보(REF_*) 재적재 이벤트.
+ * <p>
+ * {@link ReferenceSnapshotManager}가 새 스냅샷으로 교체한 직후 발행된다.
+ * 스냅샷 밖에서 기준정보를 따로 보관하는 구성요소는 이 이벤트를 수신하여 다시 적재한다.
+ * </p>
+ */
+public class ReferenceDataReloadedEvent extends ApplicationEvent {
+
+    private static final long serialVersionUID = 1L;
+
+    /** 새 스냅샷 버전 */
+    private final long snapshotVersion;
+
+    /** 재적재 일시 */
+    private final LocalDateTime reloadedAt;
+
+    /**
+     * @param source          이벤트 발행 주체
+     * @param snapshotVersion 새 스냅샷 버전
+     */
+    public ReferenceDataReloadedEvent(Object source, long snapshotVersion) {
+        super(source);
+        this.snapshotVersion = snapshotVersion;
+        this.reloadedAt = LocalDateTime.now();
+    }
+
+    public long getSnapshotVersion() {
+        return snapshotVersion;
+    }
+
+    public LocalDateTime getReloadedAt() {
+        return reloadedAt;
+    }
+}
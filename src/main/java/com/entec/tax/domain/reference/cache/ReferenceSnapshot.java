@@ -0,0 +1,242 @@
+package com.entec.tax.domain.reference.cache;
+
+import com.entec.tax.domain.reference.entity.RefEmploymentCredit;
+import com.entec.tax.domain.reference.entity.RefExchangeRate;
+import com.entec.tax.domain.reference.entity.RefInvestmentCreditRate;
+import com.entec.tax.domain.reference.entity.RefLawVersion;
+import com.entec.tax.domain.reference.entity.RefMutualExclusion;
+import com.entec.tax.domain.reference.entity.RefStartupDeductionRate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 기준정보 스냅샷 (불변).
+ * <p>
+ * 특정 시점에 적재한 기준정보 원본 목록과, 이로부터 파생된 인덱스(환율 시계열, 규칙 실행 계획,
+ * 상호배제 매트릭스)를 한 단위로 보관한다. 파생 인덱스는 모두 이 스냅샷의 원본 목록에서만
+ * 생성하므로, 같은 스냅샷을 참조하는 분석은 DB 변경과 무관하게 일관된 기준정보로 계산된다.
+ * </p>
+ *
+ * <p>
+ * 스냅샷 교체는 {@link ReferenceSnapshotManager}가 담당한다.
+ * </p>
+ */
+public final class ReferenceSnapshot {
+
+    /** 스냅샷 버전 (기동 후 1부터 증가) */
+    private final long version;
+
+    /** 원본 기준정보 지문 (SHA-256) */
+    private final String fingerprint;
+
+    /** 적재 일시 */
+    private final LocalDateTime loadedAt;
+
+    private final List<RefLawVersion> lawVersions;
+    private final List<RefMutualExclusion> mutualExclusions;
+    private final List<RefEmploymentCredit> employmentCredits;
+    private final List<RefInvestmentCreditRate> investmentRates;
+    private final List<RefStartupDeductionRate> startupRates;
+
+    /** 통화 코드 → 환율 시계열 (전체 통화 사전 적재) */
+    private final Map<String, ExchangeRateTimeSeries> exchangeRates;
+
+    /** "세목|귀속연도" → 규칙 실행 계획 */
+    private final ConcurrentMap<String, TaxYearRulePlan> rulePlans =
+            new ConcurrentHashMap<String, TaxYearRulePlan>();
+
+    /** 귀속연도(또는 ALL) → 직렬화된 상호배제 매트릭스 (최대 {@link ExclusionMatrixCache#MAX_CACHED_YEARS}건) */
+    private final ConcurrentMap<String, ExclusionMatrixCache.SerializedMatrix> exclusionMatrices =
+            new ConcurrentHashMap<String, ExclusionMatrixCache.SerializedMatrix>();
+
+    ReferenceSnapshot(long version, String fingerprint,
+                      List<RefLawVersion> lawVersions,
+                      List<RefMutualExclusion> mutualExclusions,
+                      List<RefEmploymentCredit> employmentCredits,
+                      List<RefInvestmentCreditRate> investmentRates,
+                      List<RefStartupDeductionRate> startupRates,
+                      List<RefExchangeRate> exchangeRateRows) {
+        this.version = version;
+        this.fingerprint = fingerprint;
+        this.loadedAt = LocalDateTime.now();
+        this.lawVersions = Collections.unmodifiableList(lawVersions);
+        this.mutualExclusions = Collections.unmodifiableList(mutualExclusions);
+        this.employmentCredits = Collections.unmodifiableList(employmentCredits);
+        this.investmentRates = Collections.unmodifiableList(investmentRates);
+        this.startupRates = Collections.unmodifiableList(startupRates);
+        this.exchangeRates = buildExchangeRates(exchangeRateRows);
+    }
+
+    // ──────────────────────────────────────────────
+    // 파생 인덱스
+    // ──────────────────────────────────────────────
+
+    /**
+     * 통화별 환율 시계열을 조회한다.
+     *
+     * @param currency 통화 코드 (대문자)
+     * @return 환율 시계열 (미등록 통화는 빈 시계열)
+     */
+    public ExchangeRateTimeSeries getExchangeRateSeries(String currency) {
+        ExchangeRateTimeSeries series = exchangeRates.get(currency);
+        return series != null ? series : ExchangeRateTimeSeries.empty(currency);
+    }
+
+    /**
+     * (세목, 귀속연도)의 규칙 실행 계획을 조회한다. 미생성 시 이 스냅샷의 원본 목록으로 생성한다.
+     *
+     * @param taxType 세목 코드
+     * @param taxYear 귀속 연도
+     * @return 규칙 실행 계획
+     */
+    public TaxYearRulePlan getRulePlan(String taxType, String taxYear) {
+        String key = taxType + "|" + taxYear;
+        TaxYearRulePlan plan = rulePlans.get(key);
+        if (plan != null) {
+            return plan;
+        }
+        return rulePlans.computeIfAbsent(key, k -> compileRulePlan(taxType, taxYear));
+    }
+
+    /**
+     * @return 상호배제 규칙 전체 목록
+     */
+    public List<RefMutualExclusion> getMutualExclusions() {
+        return mutualExclusions;
+    }
+
+    /**
+     * 귀속연도의 직렬화된 상호배제 매트릭스를 조회한다. 미생성 시 이 스냅샷의 규칙으로 생성한다.
+     * <p>
+     * 보관 건수가 {@link ExclusionMatrixCache#MAX_CACHED_YEARS}에 도달한 뒤 요청된 연도는 보관하지 않는다
+     * (임의 연도 조회로 스냅샷 메모리가 늘어나지 않도록). 최근 연도는 스냅샷 교체 시 미리 생성된다.
+     * </p>
+     *
+     * @param year 귀속 연도 (null 이면 전체 연도)
+     * @return 직렬화된 매트릭스
+     */
+    public ExclusionMatrixCache.SerializedMatrix getExclusionMatrix(String year) {
+        String key = year != null ? year : ExclusionMatrixCache.ALL_YEARS;
+        ExclusionMatrixCache.SerializedMatrix matrix = exclusionMatrices.get(key);
+        if (matrix != null) {
+            return matrix;
+        }
+        if (exclusionMatrices.size() >= ExclusionMatrixCache.MAX_CACHED_YEARS) {
+            return ExclusionMatrixCache.compile(mutualExclusions, year);
+        }
+        return exclusionMatrices.computeIfAbsent(key, k -> ExclusionMatrixCache.compile(mutualExclusions, year));
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public String getFingerprint() {
+        return fingerprint;
+    }
+
+    public LocalDateTime getLoadedAt() {
+        return loadedAt;
+    }
+
+    /**
+     * @return 적재된 통화 수
+     */
+    public int getCurrencyCount() {
+        return exchangeRates.size();
+    }
+
+    /**
+     * @return 생성된 규칙 실행 계획 수
+     */
+    public int getRulePlanCount() {
+        return rulePlans.size();
+    }
+
+    // ──────────────────────────────────────────────
+    // 생성
+    // ──────────────────────────────────────────────
+
+    /**
+     * 원본 목록에서 귀속연도에 유효한 행만 골라 계획을 생성한다.
+     * <p>
+     * 조건은 각 리포지토리의 연도 조회 쿼리와 동일하다.
+     * </p>
+     */
+    private TaxYearRulePlan compileRulePlan(String taxType, String taxYear) {
+        List<RefLawVersion> laws = new ArrayList<RefLawVersion>();
+        for (RefLawVersion law : lawVersions) {
+            if (isWithin(law.getYearFrom(), law.getYearTo(), taxYear)) {
+                laws.add(law);
+            }
+        }
+        List<RefMutualExclusion> exclusions = new ArrayList<RefMutualExclusion>();
+        for (RefMutualExclusion rule : mutualExclusions) {
+            if (isWithin(rule.getYearFrom(), rule.getYearTo(), taxYear)) {
+                exclusions.add(rule);
+            }
+        }
+        List<RefEmploymentCredit> credits = new ArrayList<RefEmploymentCredit>();
+        for (RefEmploymentCredit credit : employmentCredits) {
+            if (taxYear.equals(credit.getTaxYear())) {
+                credits.add(credit);
+            }
+        }
+        List<RefInvestmentCreditRate> invest = new ArrayList<RefInvestmentCreditRate>();
+        for (RefInvestmentCreditRate rate : investmentRates) {
+            if (rate.getTaxYearFrom() != null && rate.getTaxYearFrom().compareTo(taxYear) <= 0) {
+                invest.add(rate);
+            }
+        }
+        List<RefStartupDeductionRate> startup = new ArrayList<RefStartupDeductionRate>();
+        for (RefStartupDeductionRate rate : startupRates) {
+            if (isWithin(rate.getYearFrom(), rate.getYearTo(), taxYear)) {
+                startup.add(rate);
+            }
+        }
+
+        return new TaxYearRulePlan.Builder(taxType, taxYear)
+                .lawVersions(TaxYearRulePlan.filterByTaxType(laws, taxType))
+                .exclusionRules(exclusions)
+                .employmentCredits(credits)
+                .investmentRates(invest)
+                .startupRates(startup)
+                .build();
+    }
+
+    /**
+     * year_from ≤ year AND (year_to ≥ year OR year_to IS NULL)
+     */
+    private static boolean isWithin(String yearFrom, String yearTo, String year) {
+        return yearFrom != null && yearFrom.compareTo(year) <= 0
+                && (yearTo == null || yearTo.compareTo(year) >= 0);
+    }
+
+    private static Map<String, ExchangeRateTimeSeries> buildExchangeRates(List<RefExchangeRate> rows) {
+        Map<String, List<RefExchangeRate>> byCurrency = new HashMap<String, List<RefExchangeRate>>();
+        for (RefExchangeRate row : rows) {
+            if (row.getCurrency() == null) {
+                continue;
+            }
+            String currency = row.getCurrency().trim().toUpperCase();
+            List<RefExchangeRate> list = byCurrency.get(currency);
+            if (list == null) {
+                list = new ArrayList<RefExchangeRate>();
+                byCurrency.put(currency, list);
+            }
+            list.add(row);
+        }
+        Map<String, ExchangeRateTimeSeries> result = new HashMap<String, ExchangeRateTimeSeries>();
+        for (Map.Entry<String, List<RefExchangeRate>> entry : byCurrency.entrySet()) {
+            result.put(entry.getKey(), ExchangeRateTimeSeries.of(entry.getKey(), entry.getValue()));
+        }
+        return Collections.unmodifiableMap(result);
+    }
+}
@@ -0,0 +1,322 @@
+package com.entec.tax.domain.reference.cache;
+
+import com.entec.tax.common.constants.TaxType;
+import com.entec.tax.common.util.CryptoUtil;
+import com.entec.tax.common.util.JsonUtil;
+import com.entec.tax.domain.reference.entity.RefEmploymentCredit;
+import com.entec.tax.domain.reference.entity.RefExchangeRate;
+import com.entec.tax.domain.reference.entity.RefInvestmentCreditRate;
+import com.entec.tax.domain.reference.entity.RefLawVersion;
+import com.entec.tax.domain.reference.entity.RefMutualExclusion;
+import com.entec.tax.domain.reference.entity.RefStartupDeductionRate;
+import com.entec.tax.domain.reference.repository.RefEmploymentCreditRepository;
+import com.entec.tax.domain.reference.repository.RefExchangeRateRepository;
+import com.entec.tax.domain.reference.repository.RefInvestmentCreditRateRepository;
+import com.entec.tax.domain.reference.repository.RefLawVersionRepository;
+import com.entec.tax.domain.reference.repository.RefMutualExclusionRepository;
+import com.entec.tax.domain.reference.repository.RefStartupDeductionRateRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Year;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 기준정보 스냅샷 관리자.
+ * <p>
+ * 기준정보(REF_*)를 적재하여 {@link ReferenceSnapshot}을 만들고, 파생 인덱스를 미리 생성(warm-up)한 뒤
+ * 현재 스냅샷 참조를 원자적으로 교체한다. 스냅샷 생성은 관리자 요청 또는 스케줄러 스레드에서만
+ * 수행되며, 분석 요청 경로에서는 이미 만들어진 스냅샷만 참조한다.
+ * </p>
+ *
+ * <h3>변경 감지</h3>
+ * <p>
+ * 주기적으로({@code tax-service.reference-reload-check-interval}) 테이블별 행 수와 최종 변경 일시(updated_at)로 된
+ * 변경 표식을 먼저 조회하여, 마지막 확인 때와 같으면 원본을 다시 적재하지 않는다.
+ * 표식이 달라지면 원본을 기본키 순으로 적재하여 지문(SHA-256)을 현재 스냅샷과 비교하고, 다를 때만 교체한다.
+ * 기본키 순으로 적재하므로 DB 가 반환하는 행 순서에 따라 지문이 달라지지 않는다.
+ * </p>
+ *
+ * <h3>분석 중 일관성</h3>
+ * <p>
+ * 분석 파이프라인은 시작 시 {@link #pin()}으로 스냅샷을 고정하고 종료 시 {@link #release()}한다.
+ * 고정된 스레드에서 {@link #current()}는 교체 여부와 무관하게 시작 시점의 스냅샷을 반환하므로,
+ * 한 분석 안에서 서로 다른 버전의 기준정보가 섞이지 않는다.
+ * </p>
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ReferenceSnapshotManager {
+
+    /** 사전 생성할 규칙 실행 계획 연도 범위 (경정청구 기한 5년 + 당해) */
+    private static final int WARM_UP_YEARS = 6;
+
+    private final RefLawVersionRepository refLawVersionRepository;
+    private final RefMutualExclusionRepository refMutualExclusionRepository;
+    private final RefEmploymentCreditRepository refEmploymentCreditRepository;
+    private final RefInvestmentCreditRateRepository refInvestmentCreditRateRepository;
+    private final RefStartupDeductionRateRepository refStartupDeductionRateRepository;
+    private final RefExchangeRateRepository refExchangeRateRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final JdbcTemplate jdbcTemplate;
+
+    /** 테이블별 변경 표식 조회 (행 수, 최종 변경 일시) */
+    private static final String CHANGE_MARKER_SQL =
+            "SELECT 'REF_LAW_VERSION', COUNT(*), MAX(updated_at) FROM REF_LAW_VERSION"
+                    + " UNION ALL SELECT 'REF_MUTUAL_EXCLUSION', COUNT(*), MAX(updated_at) FROM REF_MUTUAL_EXCLUSION"
+                    + " UNION ALL SELECT 'REF_EMPLOYMENT_CREDIT', COUNT(*), MAX(updated_at) FROM REF_EMPLOYMENT_CREDIT"
+                    + " UNION ALL SELECT 'REF_INVESTMENT_CREDIT_RATE', COUNT(*), MAX(updated_at) FROM REF_INVESTMENT_CREDIT_RATE"
+                    + " UNION ALL SELECT 'REF_STARTUP_DEDUCTION_RATE', COUNT(*), MAX(updated_at) FROM REF_STARTUP_DEDUCTION_RATE"
+                    + " UNION ALL SELECT 'REF_EXCHANGE_RATE', COUNT(*), MAX(updated_at) FROM REF_EXCHANGE_RATE";
+
+    /** 스냅샷 버전 발급기 */
+    private final AtomicLong versionSequence = new AtomicLong();
+
+    /** 현재 스냅샷 */
+    private volatile ReferenceSnapshot currentSnapshot;
+
+    /** 마지막으로 원본을 비교한 시점의 변경 표식 */
+    private volatile String lastChangeMarker;
+
+    /** 분석 스레드에 고정된 스냅샷 */
+    private final ThreadLocal<ReferenceSnapshot> pinnedSnapshot = new ThreadLocal<ReferenceSnapshot>();
+
+    // ──────────────────────────────────────────────
+    // 조회
+    // ──────────────────────────────────────────────
+
+    /**
+     * 현재 스레드가 참조할 스냅샷을 반환한다.
+     * <p>
+     * 고정된 스냅샷이 있으면 이를 반환하고, 없으면 최신 스냅샷을 반환한다.
+     * 기동 직후 아직 적재되지 않았으면 이 시점에 1회 적재한다.
+     * </p>
+     *
+     * @return 기준정보 스냅샷
+     */
+    public ReferenceSnapshot current() {
+        ReferenceSnapshot pinned = pinnedSnapshot.get();
+        if (pinned != null) {
+            return pinned;
+        }
+        ReferenceSnapshot snapshot = currentSnapshot;
+        if (snapshot != null) {
+            return snapshot;
+        }
+        synchronized (this) {
+            if (currentSnapshot == null) {
+                reload(true);
+            }
+            return currentSnapshot;
+        }
+    }
+
+    /**
+     * 현재 스냅샷을 호출 스레드에 고정한다.
+     *
+     * @return 고정된 스냅샷
+     */
+    public ReferenceSnapshot pin() {
+        ReferenceSnapshot snapshot = current();
+        pinnedSnapshot.set(snapshot);
+        return snapshot;
+    }
+
+    /**
+     * 지정한 스냅샷을 호출 스레드에 고정한다 (하위 작업 스레드로 전파 시 사용).
+     *
+     * @param snapshot 고정할 스냅샷
+     */
+    public void pin(ReferenceSnapshot snapshot) {
+        pinnedSnapshot.set(snapshot);
+    }
+
+    /**
+     * 호출 스레드의 스냅샷 고정을 해제한다.
+     */
+    public void release() {
+        pinnedSnapshot.remove();
+    }
+
+    // ──────────────────────────────────────────────
+    // 재적재
+    // ──────────────────────────────────────────────
+
+    /**
+     * 기준정보를 다시 적재하여 변경 시 스냅샷을 교체한다.
+     * <p>
+     * 변경 표식이 마지막 확인 때와 같으면 원본을 적재하지 않는다. 표식은 원본 적재 전에 조회하므로,
+     * 적재 도중의 변경은 다음 확인에서 감지된다.
+     * </p>
+     *
+     * @param force true 이면 변경 표식·지문이 같아도 교체
+     * @return 재적재 결과
+     */
+    public synchronized ReloadResult reload(boolean force) {
+        long startTime = System.currentTimeMillis();
+        ReferenceSnapshot previous = currentSnapshot;
+
+        // 1. 변경 표식 비교 (행 수·최종 변경 일시만 조회)
+        String changeMarker = readChangeMarker();
+        if (!force && previous != null && changeMarker.equals(lastChangeMarker)) {
+            log.debug("기준정보 변경 표식 동일 — version={}", previous.getVersion());
+            return new ReloadResult(previous.getVersion(), previous.getVersion(), false,
+                    previous.getFingerprint(), System.currentTimeMillis() - startTime);
+        }
+
+        // 2. 원본 적재(기본키 순) 및 지문 산출 (요청 경로 밖에서 수행)
+        List<RefLawVersion> lawVersions = refLawVersionRepository.findAll(Sort.by("versionId"));
+        List<RefMutualExclusion> mutualExclusions = refMutualExclusionRepository.findAll(Sort.by("ruleId"));
+        List<RefEmploymentCredit> employmentCredits = refEmploymentCreditRepository.findAll(Sort.by("creditId"));
+        List<RefInvestmentCreditRate> investmentRates = refInvestmentCreditRateRepository.findAll(Sort.by("rateId"));
+        List<RefStartupDeductionRate> startupRates = refStartupDeductionRateRepository.findAll(Sort.by("rateId"));
+        List<RefExchangeRate> exchangeRates = refExchangeRateRepository.findAll(Sort.by("rateDate", "currency"));
+
+        Map<String, Object> source = new LinkedHashMap<String, Object>();
+        source.put("REF_LAW_VERSION", lawVersions);
+        source.put("REF_MUTUAL_EXCLUSION", mutualExclusions);
+        source.put("REF_EMPLOYMENT_CREDIT", employmentCredits);
+        source.put("REF_INVESTMENT_CREDIT_RATE", investmentRates);
+        source.put("REF_STARTUP_DEDUCTION_RATE", startupRates);
+        source.put("REF_EXCHANGE_RATE", exchangeRates);
+        String fingerprint = CryptoUtil.sha256(JsonUtil.toJson(source));
+
+        lastChangeMarker = changeMarker;
+
+        if (!force && previous != null && previous.getFingerprint().equals(fingerprint)) {
+            log.debug("기준정보 변경 없음 — version={}", previous.getVersion());
+            return new ReloadResult(previous.getVersion(), previous.getVersion(), false,
+                    fingerprint, System.currentTimeMillis() - startTime);
+        }
+
+        // 3. 후보 스냅샷 생성 및 파생 인덱스 사전 생성
+        ReferenceSnapshot candidate = new ReferenceSnapshot(versionSequence.incrementAndGet(), fingerprint,
+                lawVersions, mutualExclusions, employmentCredits, investmentRates, startupRates, exchangeRates);
+        warmUp(candidate);
+
+        // 4. 원자적 교체 (이후 시작하는 분석부터 새 스냅샷 사용)
+        currentSnapshot = candidate;
+        long durationMs = System.currentTimeMillis() - startTime;
+
+        log.info("기준정보 스냅샷 교체 — version {} → {}, 통화 수={}, 규칙 계획 수={}, 소요={}ms",
+                previous != null ? previous.getVersion() : 0L, candidate.getVersion(),
+                candidate.getCurrencyCount(), candidate.getRulePlanCount(), durationMs);
+
+        if (previous != null) {
+            eventPublisher.publishEvent(new ReferenceDataReloadedEvent(this, candidate.getVersion()));
+        }
+        return new ReloadResult(previous != null ? previous.getVersion() : 0L, candidate.getVersion(), true,
+                fingerprint, durationMs);
+    }
+
+    /**
+     * 주기적으로 기준정보 변경 여부를 확인한다. 실패 시 기존 스냅샷을 유지한다.
+     */
+    @Scheduled(fixedDelayString = "${tax-service.reference-reload-check-interval:600000}",
+            initialDelayString = "${tax-service.reference-reload-check-interval:600000}")
+    public void checkForChanges() {
+        try {
+            reload(false);
+        } catch (RuntimeException e) {
+            log.warn("기준정보 변경 확인 실패, 기존 스냅샷 유지: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 기동 완료 시 첫 스냅샷을 적재한다. 실패 시 첫 조회 시점에 다시 시도한다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        try {
+            if (currentSnapshot == null) {
+                reload(true);
+            }
+        } catch (RuntimeException e) {
+            log.warn("기동 시 기준정보 스냅샷 적재 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 기준정보 테이블별 행 수와 최종 변경 일시를 이어 붙인 변경 표식을 조회한다.
+     * 행 삭제는 행 수로, 추가·수정은 updated_at(DB 기본값·ON UPDATE)으로 감지한다.
+     */
+    private String readChangeMarker() {
+        Map<String, String> markers = new TreeMap<String, String>();
+        jdbcTemplate.query(CHANGE_MARKER_SQL, rs -> {
+            markers.put(rs.getString(1), rs.getLong(2) + "@" + rs.getTimestamp(3));
+        });
+        return markers.toString();
+    }
+
+    /**
+     * 최근 귀속연도의 규칙 실행 계획(상호배제 비트마스크 포함)과 상호배제 매트릭스를 미리 생성한다.
+     * 환율 시계열은 스냅샷 생성 시 전체 통화가 생성된다.
+     */
+    private void warmUp(ReferenceSnapshot snapshot) {
+        snapshot.getExclusionMatrix(null);
+        int thisYear = Year.now().getValue();
+        List<String> taxTypes = new ArrayList<String>();
+        for (TaxType taxType : TaxType.values()) {
+            taxTypes.add(taxType.getCode());
+        }
+        for (int year = thisYear - WARM_UP_YEARS + 1; year <= thisYear; year++) {
+            for (String taxType : taxTypes) {
+                snapshot.getRulePlan(taxType, String.valueOf(year));
+            }
+            snapshot.getExclusionMatrix(String.valueOf(year));
+        }
+    }
+
+    /**
+     * 재적재 결과.
+     */
+    public static final class ReloadResult {
+
+        private final long previousVersion;
+        private final long version;
+        private final boolean swapped;
+        private final String fingerprint;
+        private final long durationMs;
+
+        ReloadResult(long previousVersion, long version, boolean swapped, String fingerprint, long durationMs) {
+            this.previousVersion = previousVersion;
+            this.version = version;
+            this.swapped = swapped;
+            this.fingerprint = fingerprint;
+            this.durationMs = durationMs;
+        }
+
+        public long getPreviousVersion() {
+            return previousVersion;
+        }
+
+        public long getVersion() {
+            return version;
+        }
+
+        public boolean isSwapped() {
+            return swapped;
+        }
+
+        public String getFingerprint() {
+            return fingerprint;
+        }
+
+        public long getDurationMs() {
+            return durationMs;
+        }
+    }
+}
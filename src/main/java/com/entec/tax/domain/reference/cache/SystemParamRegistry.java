@@ -0,0 +1,240 @@
+package com.entec.tax.domain.reference.cache;
+
+import com.entec.tax.domain.reference.entity.RefSystemParam;
+import com.entec.tax.domain.reference.repository.RefSystemParamRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * 시스템 파라미터(REF_SYSTEM_PARAM) 레지스트리.
+ * <p>
+ * REF_SYSTEM_PARAM 전체를 메모리에 보관하고 타입별 조회 메서드를 제공한다.
+ * 엔진 모듈은 요청마다 DB를 조회하지 않고 이 레지스트리에서 파라미터를 읽는다.
+ * </p>
+ *
+ * <h3>갱신 방식</h3>
+ * <ul>
+ *   <li>주기 폴링: {@code tax-service.system-param-refresh-interval} (밀리초, 기본 60초)</li>
+ *   <li>관리자 요청: {@link #reload()} 직접 호출 (POST /api/v1/reference/system-params/reload)</li>
+ *   <li>기준정보 재적재: {@link ReferenceDataReloadedEvent} 수신 시</li>
+ * </ul>
+ *
+ * <p>
+ * 재적재는 새 스냅샷을 만든 뒤 참조를 교체하므로, 조회 중인 스레드는 항상 일관된 스냅샷을 본다.
+ * 엔진 모듈은 파라미터 값을 필드에 보관하지 않고 사용 시점마다 조회하므로 교체 즉시 새 값이 적용된다.
+ * </p>
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SystemParamRegistry {
+
+    /** 시스템 파라미터 리포지토리 */
+    private final RefSystemParamRepository refSystemParamRepository;
+
+    /** 파라미터 키 → 값 스냅샷 (불변, 재적재 시 교체) */
+    private volatile Map<String, String> snapshot;
+
+    // ──────────────────────────────────────────────
+    // 타입별 조회
+    // ──────────────────────────────────────────────
+
+    /**
+     * 문자열 파라미터를 조회한다.
+     *
+     * @param paramKey     파라미터 키
+     * @param defaultValue 미등록 시 기본값
+     * @return 파라미터 값
+     */
+    public String getString(String paramKey, String defaultValue) {
+        String value = getSnapshot().get(paramKey);
+        return value != null ? value : defaultValue;
+    }
+
+    /**
+     * 정수형 파라미터를 조회한다.
+     *
+     * @param paramKey     파라미터 키
+     * @param defaultValue 미등록 또는 변환 실패 시 기본값
+     * @return 파라미터 값
+     */
+    public int getInt(String paramKey, int defaultValue) {
+        String value = getSnapshot().get(paramKey);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            log.warn("시스템 파라미터 '{}' 정수 변환 실패 (value={}), 기본값 {} 사용", paramKey, value, defaultValue);
+            return defaultValue;
+        }
+    }
+
+    /**
+     * 정수형(long) 파라미터를 조회한다.
+     *
+     * @param paramKey     파라미터 키
+     * @param defaultValue 미등록 또는 변환 실패 시 기본값
+     * @return 파라미터 값
+     */
+    public long getLong(String paramKey, long defaultValue) {
+        String value = getSnapshot().get(paramKey);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            log.warn("시스템 파라미터 '{}' 정수 변환 실패 (value={}), 기본값 {} 사용", paramKey, value, defaultValue);
+            return defaultValue;
+        }
+    }
+
+    /**
+     * 소수형 파라미터를 조회한다.
+     *
+     * @param paramKey     파라미터 키
+     * @param defaultValue 미등록 또는 변환 실패 시 기본값
+     * @return 파라미터 값
+     */
+    public BigDecimal getDecimal(String paramKey, BigDecimal defaultValue) {
+        String value = getSnapshot().get(paramKey);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return new BigDecimal(value);
+        } catch (NumberFormatException e) {
+            log.warn("시스템 파라미터 '{}' 소수 변환 실패 (value={}), 기본값 {} 사용", paramKey, value, defaultValue);
+            return defaultValue;
+        }
+    }
+
+    /**
+     * 논리형 파라미터를 조회한다 ("true"/"Y"/"1" → true).
+     *
+     * @param paramKey     파라미터 키
+     * @param defaultValue 미등록 시 기본값
+     * @return 파라미터 값
+     */
+    public boolean getBoolean(String paramKey, boolean defaultValue) {
+        String value = getSnapshot().get(paramKey);
+        if (value == null) {
+            return defaultValue;
+        }
+        return "true".equalsIgnoreCase(value) || "Y".equalsIgnoreCase(value) || "1".equals(value);
+    }
+
+    /**
+     * 현재 보관 중인 전체 파라미터를 조회한다.
+     *
+     * @return 파라미터 키 → 값 (읽기 전용)
+     */
+    public Map<String, String> getAll() {
+        return getSnapshot();
+    }
+
+    // ──────────────────────────────────────────────
+    // 갱신
+    // ──────────────────────────────────────────────
+
+    /**
+     * REF_SYSTEM_PARAM 을 다시 읽어 스냅샷을 교체한다.
+     *
+     * @return 추가·변경·삭제된 파라미터 키
+     */
+    public synchronized Set<String> reload() {
+        Map<String, String> loaded = new HashMap<String, String>();
+        for (RefSystemParam param : refSystemParamRepository.findAll()) {
+            if (param.getParamKey() != null && param.getParamValue() != null) {
+                loaded.put(param.getParamKey(), param.getParamValue().trim());
+            }
+        }
+
+        Map<String, String> previous = snapshot;
+        Set<String> changedKeys = diff(previous, loaded);
+        snapshot = Collections.unmodifiableMap(loaded);
+
+        if (previous == null) {
+            log.info("시스템 파라미터 적재 완료 — 파라미터 수={}", loaded.size());
+        } else if (!changedKeys.isEmpty()) {
+            log.info("시스템 파라미터 변경 감지 — 변경 키={}", changedKeys);
+        }
+        return changedKeys;
+    }
+
+    /**
+     * 주기적으로 REF_SYSTEM_PARAM 변경 여부를 확인한다.
+     * <p>
+     * DB 조회 실패 시 기존 스냅샷을 유지한다.
+     * </p>
+     */
+    @Scheduled(fixedDelayString = "${tax-service.system-param-refresh-interval:60000}",
+            initialDelayString = "${tax-service.system-param-refresh-interval:60000}")
+    public void refresh() {
+        try {
+            reload();
+        } catch (RuntimeException e) {
+            log.warn("시스템 파라미터 주기 갱신 실패, 기존 값 유지: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 기준정보 재적재 이벤트 수신 시 파라미터를 다시 적재한다.
+     *
+     * @param event 기준정보 재적재 이벤트
+     */
+    @EventListener
+    public void onReferenceDataReloaded(ReferenceDataReloadedEvent event) {
+        reload();
+    }
+
+    /**
+     * 스냅샷을 반환한다. 최초 조회 시 적재한다.
+     */
+    private Map<String, String> getSnapshot() {
+        Map<String, String> current = snapshot;
+        if (current != null) {
+            return current;
+        }
+        synchronized (this) {
+            if (snapshot == null) {
+                reload();
+            }
+            return snapshot;
+        }
+    }
+
+    /**
+     * 두 스냅샷 간 추가·변경·삭제된 키를 산출한다.
+     */
+    private static Set<String> diff(Map<String, String> previous, Map<String, String> loaded) {
+        Set<String> changed = new TreeSet<String>();
+        if (previous == null) {
+            changed.addAll(loaded.keySet());
+            return changed;
+        }
+        for (Map.Entry<String, String> entry : loaded.entrySet()) {
+            if (!entry.getValue().equals(previous.get(entry.getKey()))) {
+                changed.add(entry.getKey());
+            }
+        }
+        for (String key : previous.keySet()) {
+            if (!loaded.containsKey(key)) {
+                changed.add(key);
+            }
+        }
+        return changed;
+    }
+}
@@ -0,0 +1,386 @@
+package com.entec.tax.domain.reference.cache;
+
+import com.entec.tax.common.constants.TaxType;
+import com.entec.tax.domain.reference.entity.RefEmploymentCredit;
+import com.entec.tax.domain.reference.entity.RefInvestmentCreditRate;
+import com.entec.tax.domain.reference.entity.RefLawVersion;
+import com.entec.tax.domain.reference.entity.RefMutualExclusion;
+import com.entec.tax.domain.reference.entity.RefStartupDeductionRate;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * (세목, 귀속연도)별 규칙 실행 계획 (불변).
+ * <p>
+ * REF_LAW_VERSION, REF_MUTUAL_EXCLUSION 및 연도별 공제율 테이블에서 해당 귀속연도에 유효한 항목만
+ * 미리 추려 보관한다. M3~M6 은 요청마다 적용 여부·공제율·배제 규칙을 다시 조회하지 않고 이 계획을 참조한다.
+ * </p>
+ *
+ * <ul>
+ *   <li>적용 조항 목록: 귀속연도에 유효한 REF_LAW_VERSION 조항</li>
+ *   <li>상호배제 비트마스크: 조항 인덱스별 동시 적용 불가 조항 집합</li>
+ *   <li>공제율: 고용(§29의8)·투자(§24)·창업감면(§6) 공제율을 조회 키별로 사전 결정</li>
+ * </ul>
+ */
+public final class TaxYearRulePlan {
+
+    /** 청년 기준 변경 경계 연도 (2025년부터 근로계약체결일 기준) */
+    public static final int YOUTH_CRITERIA_CHANGE_YEAR = 2025;
+
+    /** 세목 코드 */
+    private final String taxType;
+
+    /** 귀속 연도 */
+    private final String taxYear;
+
+    /** 귀속연도에 유효한 조항 (정렬) */
+    private final Set<String> provisions;
+
+    /** 조항 → 비트 인덱스 */
+    private final Map<String, Integer> provisionIndex;
+
+    /** 조항 인덱스별 동시 적용 불가 조항 비트마스크 */
+    private final BitSet[] exclusionMasks;
+
+    /** 귀속연도에 유효한 동시 적용 불가 규칙 */
+    private final List<RefMutualExclusion> exclusionRules;
+
+    /** corpSize|region|workerType → 고용증대 1인당 공제액 */
+    private final Map<String, RefEmploymentCredit> employmentCredits;
+
+    /** investType|corpSize → 투자 세액공제율 (귀속연도 이전 최신 개정분) */
+    private final Map<String, RefInvestmentCreditRate> investmentRates;
+
+    /** founderType|locationType → 창업감면율 */
+    private final Map<String, RefStartupDeductionRate> startupRates;
+
+    /** 귀속연도에 유효한 창업감면율 (유형 불일치 시 대체용) */
+    private final List<RefStartupDeductionRate> startupRateList;
+
+    private TaxYearRulePlan(Builder builder) {
+        this.taxType = builder.taxType;
+        this.taxYear = builder.taxYear;
+        this.provisions = Collections.unmodifiableSet(builder.provisions);
+        this.exclusionRules = Collections.unmodifiableList(builder.exclusionRules);
+        this.employmentCredits = builder.employmentCredits;
+        this.investmentRates = builder.investmentRates;
+        this.startupRates = builder.startupRates;
+        this.startupRateList = Collections.unmodifiableList(builder.startupRateList);
+
+        // 조항 인덱스: 법령 조항 + 배제 규칙에만 등장하는 조항
+        Map<String, Integer> index = new LinkedHashMap<String, Integer>();
+        for (String provision : builder.provisions) {
+            index.put(provision, index.size());
+        }
+        for (RefMutualExclusion rule : builder.exclusionRules) {
+            if (!index.containsKey(rule.getProvisionA())) {
+                index.put(rule.getProvisionA(), index.size());
+            }
+            if (!index.containsKey(rule.getProvisionB())) {
+                index.put(rule.getProvisionB(), index.size());
+            }
+        }
+        this.provisionIndex = Collections.unmodifiableMap(index);
+
+        this.exclusionMasks = new BitSet[index.size()];
+        for (int i = 0; i < exclusionMasks.length; i++) {
+            exclusionMasks[i] = new BitSet(index.size());
+        }
+        for (RefMutualExclusion rule : builder.exclusionRules) {
+            int a = index.get(rule.getProvisionA());
+            int b = index.get(rule.getProvisionB());
+            exclusionMasks[a].set(b);
+            exclusionMasks[b].set(a);
+        }
+    }
+
+    // ──────────────────────────────────────────────
+    // 조항 적용 여부
+    // ──────────────────────────────────────────────
+
+    /**
+     * 조항이 귀속연도에 유효한지 확인한다.
+     * <p>
+     * 해당 연도의 법령 버전이 하나도 등록되지 않은 경우 적용 여부를 제한하지 않는다.
+     * </p>
+     *
+     * @param provision 조항 코드
+     * @return 유효하면 true
+     */
+    public boolean isProvisionEffective(String provision) {
+        return provisions.isEmpty() || provisions.contains(provision);
+    }
+
+    /**
+     * 청년 판단을 근로계약체결일 기준으로 하는 연도인지 확인한다.
+     *
+     * @return 2025년 이후 귀속이면 true (이전은 연말 나이 기준)
+     */
+    public boolean isYouthCriteriaByContractDate() {
+        try {
+            return Integer.parseInt(taxYear) >= YOUTH_CRITERIA_CHANGE_YEAR;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    // ──────────────────────────────────────────────
+    // 상호배제
+    // ──────────────────────────────────────────────
+
+    /**
+     * 두 조항이 동시 적용 불가인지 확인한다.
+     *
+     * @param provisionA 조항 A
+     * @param provisionB 조항 B
+     * @return 동시 적용 불가이면 true
+     */
+    public boolean isExcluded(String provisionA, String provisionB) {
+        Integer a = provisionIndex.get(provisionA);
+        Integer b = provisionIndex.get(provisionB);
+        return a != null && b != null && exclusionMasks[a].get(b);
+    }
+
+    /**
+     * 주어진 조항 집합 내에서 성립하는 동시 적용 불가 규칙을 조회한다.
+     *
+     * @param itemProvisions 적용 대상 조항 집합
+     * @return 양쪽 조항이 모두 포함된 배제 규칙 목록
+     */
+    public List<RefMutualExclusion> getExclusionRulesAmong(Collection<String> itemProvisions) {
+        BitSet present = toMask(itemProvisions);
+        List<RefMutualExclusion> result = new ArrayList<RefMutualExclusion>();
+        if (present.isEmpty()) {
+            return result;
+        }
+        for (RefMutualExclusion rule : exclusionRules) {
+            if (present.get(provisionIndex.get(rule.getProvisionA()))
+                    && present.get(provisionIndex.get(rule.getProvisionB()))) {
+                result.add(rule);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 조항 집합을 비트마스크로 변환한다 (계획에 없는 조항은 무시).
+     *
+     * @param itemProvisions 조항 집합
+     * @return 조항 비트마스크
+     */
+    public BitSet toMask(Collection<String> itemProvisions) {
+        BitSet mask = new BitSet(provisionIndex.size());
+        for (String provision : itemProvisions) {
+            Integer i = provisionIndex.get(provision);
+            if (i != null) {
+                mask.set(i);
+            }
+        }
+        return mask;
+    }
+
+    /**
+     * 조항 비트마스크가 상호배제 규칙을 위반하지 않는지 확인한다.
+     *
+     * @param mask 조항 비트마스크
+     * @return 위반이 없으면 true
+     */
+    public boolean isCompatible(BitSet mask) {
+        for (int i = mask.nextSetBit(0); i >= 0; i = mask.nextSetBit(i + 1)) {
+            if (exclusionMasks[i].intersects(mask)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // ──────────────────────────────────────────────
+    // 공제율
+    // ──────────────────────────────────────────────
+
+    /**
+     * 고용증대 1인당 공제액 기준을 조회한다.
+     *
+     * @param corpSize   기업 규모
+     * @param region     지역 구분
+     * @param workerType 근로자 유형 (청년등/일반)
+     * @return 공제액 기준 (없으면 null)
+     */
+    public RefEmploymentCredit getEmploymentCredit(String corpSize, String region, String workerType) {
+        return employmentCredits.get(key(corpSize, region, workerType));
+    }
+
+    /**
+     * 투자 세액공제율을 조회한다 (귀속연도 이전 최신 개정분).
+     *
+     * @param investType 투자 유형
+     * @param corpSize   기업 규모
+     * @return 투자 세액공제율 (없으면 null)
+     */
+    public RefInvestmentCreditRate getInvestmentRate(String investType, String corpSize) {
+        return investmentRates.get(key(investType, corpSize));
+    }
+
+    /**
+     * 창업감면율을 조회한다. 창업자·소재지 유형이 일치하는 감면율이 없으면
+     * 귀속연도에 유효한 첫 번째 감면율을 반환한다.
+     *
+     * @param founderType  창업자 유형
+     * @param locationType 소재지 유형
+     * @return 창업감면율 (귀속연도 감면율이 없으면 null)
+     */
+    public RefStartupDeductionRate getStartupRate(String founderType, String locationType) {
+        RefStartupDeductionRate rate = startupRates.get(key(founderType, locationType));
+        if (rate != null) {
+            return rate;
+        }
+        return startupRateList.isEmpty() ? null : startupRateList.get(0);
+    }
+
+    public String getTaxType() {
+        return taxType;
+    }
+
+    public String getTaxYear() {
+        return taxYear;
+    }
+
+    public Set<String> getProvisions() {
+        return provisions;
+    }
+
+    public List<RefMutualExclusion> getExclusionRules() {
+        return exclusionRules;
+    }
+
+    /**
+     * 다른 세목 전용 법령(법인세법/소득세법)의 조항을 제외한다.
+     *
+     * @param versions 법령 버전 목록
+     * @param taxType  세목 코드
+     * @return 세목에 해당하는 법령 버전 목록
+     */
+    static List<RefLawVersion> filterByTaxType(List<RefLawVersion> versions, String taxType) {
+        String otherLaw;
+        if (TaxType.CORP.getCode().equals(taxType)) {
+            otherLaw = "소득세법";
+        } else if (TaxType.INC.getCode().equals(taxType)) {
+            otherLaw = "법인세법";
+        } else {
+            return versions;
+        }
+        List<RefLawVersion> result = new ArrayList<RefLawVersion>(versions.size());
+        for (RefLawVersion version : versions) {
+            if (version.getLawName() == null || !version.getLawName().startsWith(otherLaw)) {
+                result.add(version);
+            }
+        }
+        return result;
+    }
+
+    private static String key(String... parts) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < parts.length; i++) {
+            if (i > 0) {
+                sb.append('|');
+            }
+            sb.append(parts[i]);
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 계획 생성기. 기준정보 엔티티 목록을 받아 귀속연도 기준으로 정리한다.
+     */
+    static final class Builder {
+
+        private final String taxType;
+        private final String taxYear;
+        private final Set<String> provisions = new TreeSet<String>();
+        private final List<RefMutualExclusion> exclusionRules = new ArrayList<RefMutualExclusion>();
+        private final Map<String, RefEmploymentCredit> employmentCredits =
+                new HashMap<String, RefEmploymentCredit>();
+        private final Map<String, RefInvestmentCreditRate> investmentRates =
+                new HashMap<String, RefInvestmentCreditRate>();
+        private final Map<String, RefStartupDeductionRate> startupRates =
+                new HashMap<String, RefStartupDeductionRate>();
+        private final List<RefStartupDeductionRate> startupRateList = new ArrayList<RefStartupDeductionRate>();
+
+        Builder(String taxType, String taxYear) {
+            this.taxType = taxType;
+            this.taxYear = taxYear;
+        }
+
+        Builder lawVersions(List<RefLawVersion> lawVersions) {
+            for (RefLawVersion version : lawVersions) {
+                if (version.getProvision() != null) {
+                    provisions.add(version.getProvision());
+                }
+            }
+            return this;
+        }
+
+        Builder exclusionRules(List<RefMutualExclusion> rules) {
+            for (RefMutualExclusion rule : rules) {
+                if (!Boolean.TRUE.equals(rule.getIsAllowed())
+                        && rule.getProvisionA() != null && rule.getProvisionB() != null) {
+                    exclusionRules.add(rule);
+                }
+            }
+            return this;
+        }
+
+        Builder employmentCredits(List<RefEmploymentCredit> credits) {
+            for (RefEmploymentCredit credit : credits) {
+                String k = key(credit.getCorpSize(), credit.getRegion(), credit.getWorkerType());
+                if (!employmentCredits.containsKey(k)) {
+                    employmentCredits.put(k, credit);
+                }
+            }
+            return this;
+        }
+
+        Builder investmentRates(List<RefInvestmentCreditRate> rates) {
+            for (RefInvestmentCreditRate rate : rates) {
+                String k = key(rate.getInvestType(), rate.getCorpSize());
+                RefInvestmentCreditRate current = investmentRates.get(k);
+                // 동일 유형은 귀속연도 이전 가장 최근 개정분을 적용한다
+                if (current == null || compareYear(rate.getTaxYearFrom(), current.getTaxYearFrom()) > 0) {
+                    investmentRates.put(k, rate);
+                }
+            }
+            return this;
+        }
+
+        Builder startupRates(List<RefStartupDeductionRate> rates) {
+            for (RefStartupDeductionRate rate : rates) {
+                startupRateList.add(rate);
+                String k = key(rate.getFounderType(), rate.getLocationType());
+                if (!startupRates.containsKey(k)) {
+                    startupRates.put(k, rate);
+                }
+            }
+            return this;
+        }
+
+        TaxYearRulePlan build() {
+            return new TaxYearRulePlan(this);
+        }
+
+        private static int compareYear(String a, String b) {
+            if (a == null) {
+                return b == null ? 0 : -1;
+            }
+            return b == null ? 1 : a.compareTo(b);
+        }
+    }
+}
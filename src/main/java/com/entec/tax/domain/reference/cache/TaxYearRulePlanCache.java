@@ -0,0 +1,30 @@
+package com.entec.tax.domain.reference.cache;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * (세목, 귀속연도)별 {@link TaxYearRulePlan} 캐시.
+ * <p>
+ * 계획은 기준정보 스냅샷 단위로 생성·보관되며, 최근 귀속연도분은 스냅샷 교체 전에 미리 생성된다.
+ * 같은 (세목, 귀속연도)의 요청은 보관된 계획을 공유한다.
+ * </p>
+ */
+@Component
+@RequiredArgsConstructor
+public class TaxYearRulePlanCache {
+
+    /** 기준정보 스냅샷 관리자 */
+    private final ReferenceSnapshotManager referenceSnapshotManager;
+
+    /**
+     * (세목, 귀속연도)의 규칙 실행 계획을 조회한다.
+     *
+     * @param taxType 세목 코드 (CORP/INC)
+     * @param taxYear 귀속 연도
+     * @return 규칙 실행 계획
+     */
+    public TaxYearRulePlan getPlan(String taxType, String taxYear) {
+        return referenceSnapshotManager.current().getRulePlan(taxType, taxYear);
+    }
+}
@@ -0,0 +1,37 @@
+package com.entec.tax.domain.reference.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * API-07 상호배제 매트릭스 DTO.
+ * <p>
+ * 조항 목록과 조항×조항 인접 행렬을 압축 문자열 형태로 반환한다.
+ * {@code matrix.get(i).charAt(j)}는 {@code provisions[i]}와 {@code provisions[j]}의 관계를 나타낸다.
+ * </p>
+ *
+ * <ul>
+ *   <li>{@code X}: 동시 적용 불가</li>
+ *   <li>{@code O}: 동시 적용 허용 (조건부 포함)</li>
+ *   <li>{@code .}: 규칙 없음</li>
+ *   <li>{@code -}: 자기 자신</li>
+ * </ul>
+ */
+@Getter
+@Setter
+public class ExclusionMatrixDto {
+
+    /** 귀속 연도 (전체 연도 조회 시 null) */
+    private String year;
+
+    /** 조항 목록 (정렬) */
+    private List<String> provisions;
+
+    /** 인접 행렬 (행별 문자열) */
+    private List<String> matrix;
+
+    /** 규칙 상세 */
+    private List<ExclusionRuleDto> rules;
+}
@@ -0,0 +1,39 @@
+package com.entec.tax.domain.reference.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 상호배제 규칙 상세 DTO.
+ * <p>
+ * 조항은 {@link ExclusionMatrixDto#getProvisions()}의 인덱스로 표현한다.
+ * </p>
+ */
+@Getter
+@Setter
+public class ExclusionRuleDto {
+
+    /** 규칙 ID */
+    private Integer ruleId;
+
+    /** 조항 A 인덱스 */
+    private int a;
+
+    /** 조항 B 인덱스 */
+    private int b;
+
+    /** 동시 적용 허용 여부 */
+    private boolean allowed;
+
+    /** 적용 시작 연도 */
+    private String yearFrom;
+
+    /** 적용 종료 연도 */
+    private String yearTo;
+
+    /** 조건 설명 */
+    private String conditionNote;
+
+    /** 법적 근거 */
+    private String legalBasis;
+}
@@ -10,6 +10,7 @@ import javax.persistence.Column;
 import javax.persistence.Entity;
 import javax.persistence.Id;
 import javax.persistence.Table;
+import java.time.LocalDateTime;
 
 /**
  * REF_EMPLOYMENT_CREDIT 테이블 엔티티.
@@ -51,4 +52,8 @@ public class RefEmploymentCredit {
     /** 1인당 공제 금액 */
     @Column(name = "credit_per_person")
     private Long creditPerPerson;
+
+    /** 최종 변경 일시 (DB 기본값·ON UPDATE 로 갱신, 기준정보 변경 감지용) */
+    @Column(name = "updated_at", insertable = false, updatable = false)
+    private LocalDateTime updatedAt;
 }
@@ -12,6 +12,7 @@ import javax.persistence.Id;
 import javax.persistence.IdClass;
 import javax.persistence.Table;
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.Date;
 
 /**
@@ -52,4 +53,8 @@ public class RefExchangeRate {
     /** 매도환율 */
     @Column(name = "sell_rate", precision = 10, scale = 4)
     private BigDecimal sellRate;
+
+    /** 최종 변경 일시 (DB 기본값·ON UPDATE 로 갱신, 기준정보 변경 감지용) */
+    @Column(name = "updated_at", insertable = false, updatable = false)
+    private LocalDateTime updatedAt;
 }
@@ -11,6 +11,7 @@ import javax.persistence.Entity;
 import javax.persistence.Id;
 import javax.persistence.Table;
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 
 /**
  * REF_INVESTMENT_CREDIT_RATE 테이블 엔티티.
@@ -52,4 +53,8 @@ public class RefInvestmentCreditRate {
     /** 추가 공제율 (%) */
     @Column(name = "additional_rate", precision = 5, scale = 2)
     private BigDecimal additionalRate;
+
+    /** 최종 변경 일시 (DB 기본값·ON UPDATE 로 갱신, 기준정보 변경 감지용) */
+    @Column(name = "updated_at", insertable = false, updatable = false)
+    private LocalDateTime updatedAt;
 }
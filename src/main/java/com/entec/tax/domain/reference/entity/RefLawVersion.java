@@ -10,6 +10,7 @@ import javax.persistence.Column;
 import javax.persistence.Entity;
 import javax.persistence.Id;
 import javax.persistence.Table;
+import java.time.LocalDateTime;
 
 /**
  * REF_LAW_VERSION 테이블 엔티티.
@@ -51,4 +52,8 @@ public class RefLawVersion {
     /** 버전 설명 */
     @Column(name = "version_note", columnDefinition = "TEXT")
     private String versionNote;
+
+    /** 최종 변경 일시 (DB 기본값·ON UPDATE 로 갱신, 기준정보 변경 감지용) */
+    @Column(name = "updated_at", insertable = false, updatable = false)
+    private LocalDateTime updatedAt;
 }
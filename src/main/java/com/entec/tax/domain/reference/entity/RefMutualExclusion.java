@@ -10,6 +10,7 @@ import javax.persistence.Column;
 import javax.persistence.Entity;
 import javax.persistence.Id;
 import javax.persistence.Table;
+import java.time.LocalDateTime;
 
 /**
  * REF_MUTUAL_EXCLUSION 테이블 엔티티.
@@ -59,4 +60,8 @@ public class RefMutualExclusion {
     /** 법적 근거 */
     @Column(name = "legal_basis", length = 100)
     private String legalBasis;
+
+    /** 최종 변경 일시 (DB 기본값·ON UPDATE 로 갱신, 기준정보 변경 감지용) */
+    @Column(name = "updated_at", insertable = false, updatable = false)
+    private LocalDateTime updatedAt;
 }
@@ -11,6 +11,7 @@ import javax.persistence.Entity;
 import javax.persistence.Id;
 import javax.persistence.Table;
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 
 /**
  * REF_STARTUP_DEDUCTION_RATE 테이블 엔티티.
@@ -60,4 +61,8 @@ public class RefStartupDeductionRate {
     /** 비고 */
     @Column(name = "remark", length = 200)
     private String remark;
+
+    /** 최종 변경 일시 (DB 기본값·ON UPDATE 로 갱신, 기준정보 변경 감지용) */
+    @Column(name = "updated_at", insertable = false, updatable = false)
+    private LocalDateTime updatedAt;
 }
@@ -0,0 +1,36 @@
+package com.entec.tax.domain.report.repository;
+
+import com.entec.tax.domain.report.entity.OutReportJson;
+import org.apache.ibatis.annotations.Flush;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.executor.BatchResult;
+
+import java.util.List;
+
+/**
+ * OUT_REPORT_JSON INSERT 매퍼 (mapper/report/OutReportJsonMapper.xml).
+ * <p>
+ * BATCH 실행기 세션에서 동작하므로 INSERT 문은 {@link #flush()} 또는 트랜잭션 커밋 시점에 전송된다.
+ * 조회·삭제는 {@link OutReportJsonRepository}를 사용한다.
+ * </p>
+ */
+@Mapper
+public interface OutReportJsonMapper {
+
+    /**
+     * 보고서 JSON 다건 INSERT.
+     *
+     * @param rows 보고서 JSON 목록 (1건 이상)
+     * @return BATCH 실행기에서는 의미 없는 값 (건수는 {@link #flush()} 결과로 확인)
+     */
+    int insertReports(@Param("rows") List<OutReportJson> rows);
+
+    /**
+     * 대기 중인 배치 문장을 전송한다.
+     *
+     * @return 문장별 실행 결과
+     */
+    @Flush
+    List<BatchResult> flush();
+}
@@ -2,6 +2,9 @@ package com.entec.tax.domain.report.repository;
 
 import com.entec.tax.domain.report.entity.OutReportJson;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.Optional;
 
@@ -22,9 +25,12 @@ public interface OutReportJsonRepository extends JpaRepository<OutReportJson, St
     Optional<OutReportJson> findByReqId(String reqId);
 
     /**
-     * 요청 ID로 보고서 JSON 삭제 (TX-2 재시도 지원).
+     * 요청 ID로 보고서 JSON 일괄 삭제 (TX-2 재시도 지원).
      *
      * @param reqId 요청 ID
+     * @return 삭제된 레코드 수
      */
-    void deleteByReqId(String reqId);
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM OutReportJson j WHERE j.reqId = :reqId")
+    int deleteByReqId(@Param("reqId") String reqId);
 }
@@ -1,5 +1,6 @@
 package com.entec.tax.domain.report.service;
 
+import com.entec.tax.common.annotation.RehydrateArchived;
 import com.entec.tax.common.exception.ErrorCode;
 import com.entec.tax.common.exception.RequestNotFoundException;
 import com.entec.tax.common.exception.TaxServiceException;
@@ -57,6 +58,7 @@ public class ReportService {
      * @return 전체 보고서 DTO
      * @throws RequestNotFoundException 보고서가 존재하지 않을 경우
      */
+    @RehydrateArchived
     public ReportResponseDto getFullReport(String reqId) {
         log.info("전체 보고서 조회 — reqId={}", reqId);
 
@@ -97,6 +99,7 @@ public class ReportService {
      * @throws RequestNotFoundException 보고서가 존재하지 않을 경우
      * @throws TaxServiceException 유효하지 않은 섹션 코드일 경우
      */
+    @RehydrateArchived
     public Object getReportSection(String reqId, String section) {
         log.info("섹션별 보고서 조회 — reqId={}, section={}", reqId, section);
 
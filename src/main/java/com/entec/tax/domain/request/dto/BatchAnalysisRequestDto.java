@@ -0,0 +1,29 @@
+package com.entec.tax.domain.request.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotEmpty;
+import javax.validation.constraints.Size;
+import java.util.List;
+
+/**
+ * 일괄 분석 요청 DTO.
+ * <p>
+ * 여러 요청 건을 한 번에 분석 실행할 때 클라이언트가 전달하는 요청 본문이다.
+ * </p>
+ */
+@Getter
+@Setter
+public class BatchAnalysisRequestDto {
+
+    /** 분석할 요청 ID 목록 (parsed 상태, 최대 1000건) */
+    @NotEmpty(message = "요청 ID는 1건 이상 필수입니다")
+    @Size(max = 1000, message = "요청 ID는 최대 1000건까지 지정할 수 있습니다")
+    private List<String> reqIds;
+
+    /** 배치 동시 실행 한도 (생략 시 서버 설정값, 서버 설정값을 넘을 수 없음) */
+    @Min(value = 1, message = "동시 실행 한도는 1 이상이어야 합니다")
+    private Integer concurrency;
+}
@@ -0,0 +1,69 @@
+package com.entec.tax.domain.request.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 요청 목록 조회 항목 DTO.
+ * <p>
+ * 목록 화면에 필요한 REQ_REQUEST 컬럼만 담는 경량 프로젝션이다.
+ * 오류 메시지(TEXT) 등 큰 컬럼은 포함하지 않으며, 상세는 API-03/API-08 로 조회한다.
+ * </p>
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class RequestListItemDto {
+
+    /** 요청 ID */
+    private String reqId;
+
+    /** 신청자 유형 (C: 법인, P: 개인) */
+    private String applicantType;
+
+    /** 신청자 식별번호 */
+    private String applicantId;
+
+    /** 신청자명 */
+    private String applicantName;
+
+    /** 세금 유형 코드 */
+    private String taxType;
+
+    /** 귀속 연도 */
+    private String taxYear;
+
+    /** 요청 접수일 */
+    private LocalDate requestDate;
+
+    /** 요청 처리 상태 */
+    private String status;
+
+    /** 요청 생성 일시 */
+    private LocalDateTime createdAt;
+
+    /** 처리 완료 일시 */
+    private LocalDateTime completedAt;
+
+    /**
+     * JPQL 생성자 표현식용 생성자.
+     */
+    public RequestListItemDto(String reqId, String applicantType, String applicantId, String applicantName,
+                              String taxType, String taxYear, LocalDate requestDate, String status,
+                              LocalDateTime createdAt, LocalDateTime completedAt) {
+        this.reqId = reqId;
+        this.applicantType = applicantType;
+        this.applicantId = applicantId;
+        this.applicantName = applicantName;
+        this.taxType = taxType;
+        this.taxYear = taxYear;
+        this.requestDate = requestDate;
+        this.status = status;
+        this.createdAt = createdAt;
+        this.completedAt = completedAt;
+    }
+}
@@ -0,0 +1,42 @@
+package com.entec.tax.domain.request.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDate;
+
+/**
+ * 요청 목록 조회 조건 DTO (GET /api/v1/requests 쿼리 파라미터).
+ * <p>
+ * 모든 조건은 선택이며, 지정한 조건만 AND 로 적용된다.
+ * 결과는 생성 일시 내림차순(같으면 요청 ID 내림차순)이며 다음 페이지는 {@code cursor} 로 이어서 조회한다.
+ * </p>
+ */
+@Getter
+@Setter
+public class RequestSearchDto {
+
+    /** 요청 처리 상태 (예: failed) */
+    private String status;
+
+    /** 신청자 식별번호 */
+    private String applicantId;
+
+    /** 귀속 연도 (YYYY) */
+    private String taxYear;
+
+    /** 생성일 시작 (포함, yyyy-MM-dd) */
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate fromDate;
+
+    /** 생성일 종료 (포함, yyyy-MM-dd) */
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate toDate;
+
+    /** 이전 응답의 next_cursor (첫 페이지는 생략) */
+    private String cursor;
+
+    /** 페이지 크기 (기본 50, 최대 200) */
+    private Integer size;
+}
@@ -0,0 +1,41 @@
+package com.entec.tax.domain.request.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import javax.validation.Valid;
+import javax.validation.constraints.NotBlank;
+import javax.validation.constraints.NotEmpty;
+import java.util.List;
+
+/**
+ * 모의 분석(quick quote) 요청 DTO.
+ * <p>
+ * 요청 접수 DTO와 같은 형식의 데이터셋을 전달하지만, 요청을 저장하지 않고 예상 환급액만 산출한다.
+ * 신청자 식별번호는 저장되지 않으므로 선택 항목이다.
+ * </p>
+ */
+@Getter
+@Setter
+public class SimulationRequestDto {
+
+    /** 신청자 유형 (C: 법인, P: 개인) */
+    @NotBlank(message = "신청자 유형은 필수입니다")
+    private String applicantType;
+
+    /** 신청자 식별번호 (선택) */
+    private String applicantId;
+
+    /** 세금 유형 코드 (CORP: 법인세, INC: 종합소득세) */
+    @NotBlank(message = "세금 유형은 필수입니다")
+    private String taxType;
+
+    /** 귀속 연도 */
+    @NotBlank(message = "귀속 연도는 필수입니다")
+    private String taxYear;
+
+    /** 데이터셋 목록 (기본 정보 데이터셋 필수) */
+    @NotEmpty(message = "데이터셋은 1건 이상 필수입니다")
+    @Valid
+    private List<DatasetDto> datasets;
+}
@@ -0,0 +1,57 @@
+package com.entec.tax.domain.request.entity;
+
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import java.time.LocalDateTime;
+
+/**
+ * REQ_ANALYSIS_BATCH 테이블 엔티티.
+ * <p>
+ * 일괄 분석 1건의 접수 정보이다. 구성 요청은 REQ_ANALYSIS_JOB 에 batch_id 를 가진 일괄(BATCH) 등급 작업으로
+ * 등록되며, 진행 상태는 해당 작업 행을 집계하여 산출하므로 어느 노드에서나 조회할 수 있다.
+ * </p>
+ */
+@Entity
+@Table(name = "REQ_ANALYSIS_BATCH")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ReqAnalysisBatch {
+
+    /** 배치 ID (PK, UUID) */
+    @Id
+    @Column(name = "batch_id", length = 36, nullable = false)
+    private String batchId;
+
+    /** 스케줄러 테넌트 키 (배치 접수자, 없으면 배치 ID 기반) */
+    @Column(name = "tenant", length = 100, nullable = false)
+    private String tenant;
+
+    /** 배치 동시 실행 한도 */
+    @Column(name = "concurrency", nullable = false)
+    private Integer concurrency;
+
+    /** 구성 요청 수 (중복 제거 후) */
+    @Column(name = "total", nullable = false)
+    private Integer total;
+
+    /** 접수 일시 */
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Builder
+    public ReqAnalysisBatch(String batchId, String tenant, Integer concurrency,
+                            Integer total, LocalDateTime createdAt) {
+        this.batchId = batchId;
+        this.tenant = tenant;
+        this.concurrency = concurrency;
+        this.total = total;
+        this.createdAt = createdAt;
+    }
+}
@@ -0,0 +1,63 @@
+package com.entec.tax.domain.request.entity;
+
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import java.time.LocalDateTime;
+
+/**
+ * REQ_ANALYSIS_CHECKPOINT 테이블 엔티티.
+ * <p>
+ * 분석 파이프라인(M3~M6)의 요청별 체크포인트를 관리한다.
+ * 단계가 커밋될 때마다 같은 트랜잭션에서 마지막 완료 단계와 입력 해시를 기록하며,
+ * 재실행 시 입력 해시가 같으면 다음 단계부터 이어서 실행할 수 있다.
+ * </p>
+ */
+@Entity
+@Table(name = "REQ_ANALYSIS_CHECKPOINT")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ReqAnalysisCheckpoint {
+
+    /** 요청 ID (PK) */
+    @Id
+    @Column(name = "req_id", length = 30, nullable = false)
+    private String reqId;
+
+    /** 마지막 완료 단계 (M3/M4/M5/M6) */
+    @Column(name = "last_stage", length = 4, nullable = false)
+    private String lastStage;
+
+    /** 단계 실행 시점의 입력 해시 (원시 입력 체크섬 + 기준정보 지문, SHA-256) */
+    @Column(name = "input_hash", length = 64, nullable = false)
+    private String inputHash;
+
+    /** 기준정보 스냅샷 버전 */
+    @Column(name = "snapshot_version")
+    private Long snapshotVersion;
+
+    /** 추적 ID */
+    @Column(name = "trace_id", length = 50)
+    private String traceId;
+
+    /** 단계 완료 일시 */
+    @Column(name = "completed_at", nullable = false)
+    private LocalDateTime completedAt;
+
+    @Builder
+    public ReqAnalysisCheckpoint(String reqId, String lastStage, String inputHash,
+                                 Long snapshotVersion, String traceId, LocalDateTime completedAt) {
+        this.reqId = reqId;
+        this.lastStage = lastStage;
+        this.inputHash = inputHash;
+        this.snapshotVersion = snapshotVersion;
+        this.traceId = traceId;
+        this.completedAt = completedAt;
+    }
+}
@@ -0,0 +1,61 @@
+package com.entec.tax.domain.request.entity;
+
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.IdClass;
+import javax.persistence.Table;
+import java.time.LocalDateTime;
+
+/**
+ * REQ_ANALYSIS_FINGERPRINT 테이블 엔티티.
+ * <p>
+ * 분석 노드(M3, M4 산출기, M5, M6)별로 마지막으로 커밋된 산출물의 입력 지문을 기록한다.
+ * 단계 산출물과 같은 트랜잭션에서 저장되며, 재분석 시 지문이 같은 노드는 다시 계산하지 않고
+ * 저장된 산출물을 재사용한다.
+ * </p>
+ */
+@Entity
+@Table(name = "REQ_ANALYSIS_FINGERPRINT")
+@IdClass(ReqAnalysisFingerprintId.class)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ReqAnalysisFingerprint {
+
+    /** 요청 ID (PK) */
+    @Id
+    @Column(name = "req_id", length = 30, nullable = false)
+    private String reqId;
+
+    /** 분석 노드 (PK) */
+    @Id
+    @Column(name = "node", length = 10, nullable = false)
+    private String node;
+
+    /** 입력 지문 (SHA-256) */
+    @Column(name = "fingerprint", length = 64, nullable = false)
+    private String fingerprint;
+
+    /** 추적 ID */
+    @Column(name = "trace_id", length = 50)
+    private String traceId;
+
+    /** 산출 일시 */
+    @Column(name = "computed_at", nullable = false)
+    private LocalDateTime computedAt;
+
+    @Builder
+    public ReqAnalysisFingerprint(String reqId, String node, String fingerprint,
+                                  String traceId, LocalDateTime computedAt) {
+        this.reqId = reqId;
+        this.node = node;
+        this.fingerprint = fingerprint;
+        this.traceId = traceId;
+        this.computedAt = computedAt;
+    }
+}
@@ -0,0 +1,59 @@
+package com.entec.tax.domain.request.entity;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+/**
+ * REQ_ANALYSIS_FINGERPRINT 복합 기본키 클래스.
+ * <p>
+ * reqId (요청 ID) + node (분석 노드) 로 구성된다.
+ * </p>
+ */
+public class ReqAnalysisFingerprintId implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    /** 요청 ID */
+    private String reqId;
+
+    /** 분석 노드 (M3, M4-01 ~ M4-07, M5, M6) */
+    private String node;
+
+    public ReqAnalysisFingerprintId() {
+    }
+
+    public ReqAnalysisFingerprintId(String reqId, String node) {
+        this.reqId = reqId;
+        this.node = node;
+    }
+
+    public String getReqId() {
+        return reqId;
+    }
+
+    public void setReqId(String reqId) {
+        this.reqId = reqId;
+    }
+
+    public String getNode() {
+        return node;
+    }
+
+    public void setNode(String node) {
+        this.node = node;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        ReqAnalysisFingerprintId that = (ReqAnalysisFingerprintId) o;
+        return Objects.equals(reqId, that.reqId)
+                && Objects.equals(node, that.node);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(reqId, node);
+    }
+}
@@ -0,0 +1,136 @@
+package com.entec.tax.domain.request.entity;
+
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.Table;
+import java.time.LocalDateTime;
+
+/**
+ * REQ_ANALYSIS_JOB 테이블 엔티티.
+ * <p>
+ * 여러 노드가 공유하는 분석 작업 대기열이다. 비동기 제출 시 pending 으로 등록되고,
+ * 각 노드가 {@code SELECT … FOR UPDATE SKIP LOCKED} 로 리스(lease)를 획득해 실행한다.
+ * 실행 중인 노드는 주기적으로 리스 만료 시각을 연장(heartbeat)하며,
+ * 노드가 중단되어 리스가 만료된 작업은 다른 노드가 다시 가져간다.
+ * 일괄 분석의 구성 요청은 batch_id 를 가진 일괄(BATCH) 등급 작업으로 등록되며,
+ * 선점할 수 없었던 요청도 결과 집계를 위해 rejected 상태로 기록된다.
+ * </p>
+ *
+ * <pre>
+ * 작업 상태:
+ *   pending ─(리스 획득)→ leased ─(실행 종료)→ done / failed
+ *                           └─(리스 만료)→ 다른 노드가 재획득 (attempts 증가)
+ *   rejected (일괄 분석 접수 시 선점 거부, 실행하지 않음)
+ * </pre>
+ */
+@Entity
+@Table(name = "REQ_ANALYSIS_JOB", indexes = {
+        @Index(name = "idx_req_analysis_job_poll", columnList = "job_status, lease_expires_at, priority, created_at"),
+        @Index(name = "idx_req_analysis_job_tenant", columnList = "tenant, job_status"),
+        @Index(name = "idx_req_analysis_job_batch", columnList = "batch_id, job_status")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ReqAnalysisJob {
+
+    /** 작업 ID (PK, UUID) */
+    @Id
+    @Column(name = "job_id", length = 36, nullable = false)
+    private String jobId;
+
+    /** 요청 ID */
+    @Column(name = "req_id", length = 30, nullable = false)
+    private String reqId;
+
+    /** 추적 ID (제출 시 발급) */
+    @Column(name = "trace_id", length = 50, nullable = false)
+    private String traceId;
+
+    /** 스케줄러 테넌트 키 (요청 접수자, 없으면 신청자 식별번호) */
+    @Column(name = "tenant", length = 100, nullable = false)
+    private String tenant;
+
+    /** 우선순위 (0: 대화형, 1: 일괄 — 작을수록 먼저 실행) */
+    @Column(name = "priority", nullable = false)
+    private Integer priority;
+
+    /** 일괄 분석 배치 ID (단건 제출이면 null) */
+    @Column(name = "batch_id", length = 36)
+    private String batchId;
+
+    /** 재개 단계 (M3~M6, 전체 실행이면 null) */
+    @Column(name = "resume_from", length = 4)
+    private String resumeFrom;
+
+    /** 작업 상태 (pending/leased/done/failed/rejected) */
+    @Column(name = "job_status", length = 10, nullable = false)
+    private String jobStatus;
+
+    /** 리스 보유 노드 ID */
+    @Column(name = "lease_owner", length = 100)
+    private String leaseOwner;
+
+    /** 리스 만료 일시 */
+    @Column(name = "lease_expires_at")
+    private LocalDateTime leaseExpiresAt;
+
+    /** 마지막 heartbeat 일시 */
+    @Column(name = "heartbeat_at")
+    private LocalDateTime heartbeatAt;
+
+    /** 리스 획득 횟수 */
+    @Column(name = "attempts", nullable = false)
+    private Integer attempts;
+
+    /** 오류 코드 (ErrorCode) */
+    @Column(name = "error_code", length = 20)
+    private String errorCode;
+
+    /** 오류 메시지 */
+    @Column(name = "error_message", length = 1000)
+    private String errorMessage;
+
+    /** 등록 일시 */
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    /** 최초 리스 획득 일시 */
+    @Column(name = "started_at")
+    private LocalDateTime startedAt;
+
+    /** 종료 일시 */
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+
+    @Builder
+    public ReqAnalysisJob(String jobId, String reqId, String traceId, String tenant,
+                          Integer priority, String batchId, String resumeFrom, String jobStatus,
+                          String leaseOwner, LocalDateTime leaseExpiresAt, LocalDateTime heartbeatAt,
+                          Integer attempts, String errorCode, String errorMessage, LocalDateTime createdAt,
+                          LocalDateTime startedAt, LocalDateTime finishedAt) {
+        this.jobId = jobId;
+        this.reqId = reqId;
+        this.traceId = traceId;
+        this.tenant = tenant;
+        this.priority = priority;
+        this.batchId = batchId;
+        this.resumeFrom = resumeFrom;
+        this.jobStatus = jobStatus;
+        this.leaseOwner = leaseOwner;
+        this.leaseExpiresAt = leaseExpiresAt;
+        this.heartbeatAt = heartbeatAt;
+        this.attempts = attempts == null ? 0 : attempts;
+        this.errorCode = errorCode;
+        this.errorMessage = errorMessage;
+        this.createdAt = createdAt;
+        this.startedAt = startedAt;
+        this.finishedAt = finishedAt;
+    }
+}
@@ -0,0 +1,80 @@
+package com.entec.tax.domain.request.entity;
+
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Lob;
+import javax.persistence.Table;
+import java.time.LocalDateTime;
+
+/**
+ * REQ_ARCHIVE 테이블 엔티티.
+ * <p>
+ * 분석 완료 후 보관 기간이 지난 요청의 입력·검증·산출 테이블(INP_*, CHK_*, OUT_*) 행을
+ * 요청 1건당 하나의 압축 묶음으로 보관한다. 묶음은 테이블별 컬럼 목록과 행 값 배열로 구성한 JSON 을 gzip 한 것이며,
+ * 조회 시 원래 테이블로 복원(archive_status = rehydrated)된다.
+ * </p>
+ */
+@Entity
+@Table(name = "REQ_ARCHIVE")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ReqArchive {
+
+    /** 요청 ID (PK) */
+    @Id
+    @Column(name = "req_id", length = 30, nullable = false)
+    private String reqId;
+
+    /** 보관 상태 (archived: 원 테이블 행 삭제됨, rehydrated: 복원됨) */
+    @Column(name = "archive_status", length = 10, nullable = false)
+    private String archiveStatus;
+
+    /** 보관 묶음 (gzip JSON, 복원 후 null) */
+    @Lob
+    @Column(name = "bundle", columnDefinition = "LONGBLOB")
+    private byte[] bundle;
+
+    /** 보관한 행 수 */
+    @Column(name = "row_count", nullable = false)
+    private Integer rowCount;
+
+    /** 압축 전 JSON 크기 (bytes) */
+    @Column(name = "raw_byte_size", nullable = false)
+    private Long rawByteSize;
+
+    /** 압축 후 묶음 크기 (bytes) */
+    @Column(name = "bundle_byte_size", nullable = false)
+    private Long bundleByteSize;
+
+    /** 압축 전 JSON 체크섬 (SHA-256) */
+    @Column(name = "checksum", length = 64, nullable = false)
+    private String checksum;
+
+    /** 보관 일시 */
+    @Column(name = "archived_at", nullable = false)
+    private LocalDateTime archivedAt;
+
+    /** 복원 일시 */
+    @Column(name = "rehydrated_at")
+    private LocalDateTime rehydratedAt;
+
+    @Builder
+    public ReqArchive(String reqId, String archiveStatus, byte[] bundle, Integer rowCount, Long rawByteSize,
+                      Long bundleByteSize, String checksum, LocalDateTime archivedAt, LocalDateTime rehydratedAt) {
+        this.reqId = reqId;
+        this.archiveStatus = archiveStatus;
+        this.bundle = bundle;
+        this.rowCount = rowCount;
+        this.rawByteSize = rawByteSize;
+        this.bundleByteSize = bundleByteSize;
+        this.checksum = checksum;
+        this.archivedAt = archivedAt;
+        this.rehydratedAt = rehydratedAt;
+    }
+}
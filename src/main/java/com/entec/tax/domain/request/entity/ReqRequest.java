@@ -12,6 +12,7 @@ import javax.persistence.Column;
 import javax.persistence.Entity;
 import javax.persistence.EntityListeners;
 import javax.persistence.Id;
+import javax.persistence.Index;
 import javax.persistence.Table;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -20,10 +21,16 @@ import java.time.LocalDateTime;
  * REQ_REQUEST 테이블 엔티티.
  * <p>
  * 세액공제 환급 요청 건의 메타 정보를 관리한다.
+ * 목록 조회(API-10)의 조건 컬럼별로 (조건, created_at, req_id) 복합 인덱스를 두어 키셋 페이징이 정렬 없이 인덱스 순서로 읽도록 한다.
  * </p>
  */
 @Entity
-@Table(name = "REQ_REQUEST")
+@Table(name = "REQ_REQUEST", indexes = {
+        @Index(name = "idx_req_request_status", columnList = "request_status, created_at, req_id"),
+        @Index(name = "idx_req_request_applicant", columnList = "applicant_id, created_at, req_id"),
+        @Index(name = "idx_req_request_tax_year", columnList = "tax_year, created_at, req_id"),
+        @Index(name = "idx_req_request_created", columnList = "created_at, req_id")
+})
 @EntityListeners(AuditingEntityListener.class)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -0,0 +1,63 @@
+package com.entec.tax.domain.request.entity;
+
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import java.time.LocalDateTime;
+
+/**
+ * REQ_RESULT_CACHE 테이블 엔티티.
+ * <p>
+ * 분석 결과 재사용 캐시이다. 캐시 키(원시 입력 체크섬 + 기준정보 지문 + 엔진 버전 + 요청 조건)별로
+ * 마지막으로 분석을 완료한 요청을 기록하며, 같은 키로 분석을 요청하면 계산하지 않고
+ * 이 요청의 산출물(CHK_*, OUT_*)을 복제한다.
+ * </p>
+ */
+@Entity
+@Table(name = "REQ_RESULT_CACHE")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ReqResultCache {
+
+    /** 캐시 키 (PK, SHA-256) */
+    @Id
+    @Column(name = "cache_key", length = 64, nullable = false)
+    private String cacheKey;
+
+    /** 산출물 원본 요청 ID */
+    @Column(name = "source_req_id", length = 30, nullable = false)
+    private String sourceReqId;
+
+    /** 원본 요청의 입력 해시 (원시 입력 체크섬 + 기준정보 지문, SHA-256) */
+    @Column(name = "input_hash", length = 64, nullable = false)
+    private String inputHash;
+
+    /** 분석 엔진 버전 */
+    @Column(name = "engine_version", length = 20, nullable = false)
+    private String engineVersion;
+
+    /** 기준정보 스냅샷 버전 */
+    @Column(name = "snapshot_version")
+    private Long snapshotVersion;
+
+    /** 등록 일시 */
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Builder
+    public ReqResultCache(String cacheKey, String sourceReqId, String inputHash, String engineVersion,
+                          Long snapshotVersion, LocalDateTime createdAt) {
+        this.cacheKey = cacheKey;
+        this.sourceReqId = sourceReqId;
+        this.inputHash = inputHash;
+        this.engineVersion = engineVersion;
+        this.snapshotVersion = snapshotVersion;
+        this.createdAt = createdAt;
+    }
+}
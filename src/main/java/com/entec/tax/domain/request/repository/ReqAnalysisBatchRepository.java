@@ -0,0 +1,13 @@
+package com.entec.tax.domain.request.repository;
+
+import com.entec.tax.domain.request.entity.ReqAnalysisBatch;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+/**
+ * REQ_ANALYSIS_BATCH 테이블 리포지토리.
+ * <p>
+ * 일괄 분석 접수 정보를 관리한다. 구성 요청의 진행 상태는 {@link ReqAnalysisJobRepository}에서 조회한다.
+ * </p>
+ */
+public interface ReqAnalysisBatchRepository extends JpaRepository<ReqAnalysisBatch, String> {
+}
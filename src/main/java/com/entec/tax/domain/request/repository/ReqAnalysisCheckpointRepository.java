@@ -0,0 +1,13 @@
+package com.entec.tax.domain.request.repository;
+
+import com.entec.tax.domain.request.entity.ReqAnalysisCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+/**
+ * REQ_ANALYSIS_CHECKPOINT 테이블 리포지토리.
+ * <p>
+ * 분석 파이프라인 단계별 체크포인트의 저장 및 조회를 담당한다.
+ * </p>
+ */
+public interface ReqAnalysisCheckpointRepository extends JpaRepository<ReqAnalysisCheckpoint, String> {
+}
@@ -0,0 +1,25 @@
+package com.entec.tax.domain.request.repository;
+
+import com.entec.tax.domain.request.entity.ReqAnalysisFingerprint;
+import com.entec.tax.domain.request.entity.ReqAnalysisFingerprintId;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+/**
+ * REQ_ANALYSIS_FINGERPRINT 테이블 리포지토리.
+ * <p>
+ * 분석 노드별 입력 지문을 저장·조회한다.
+ * </p>
+ */
+public interface ReqAnalysisFingerprintRepository
+        extends JpaRepository<ReqAnalysisFingerprint, ReqAnalysisFingerprintId> {
+
+    /**
+     * 요청의 노드별 입력 지문을 조회한다.
+     *
+     * @param reqId 요청 ID
+     * @return 노드별 입력 지문 목록
+     */
+    List<ReqAnalysisFingerprint> findByReqId(String reqId);
+}
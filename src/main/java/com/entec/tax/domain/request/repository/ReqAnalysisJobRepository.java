@@ -0,0 +1,168 @@
+package com.entec.tax.domain.request.repository;
+
+import com.entec.tax.domain.request.entity.ReqAnalysisJob;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.LockModeType;
+import javax.persistence.QueryHint;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * REQ_ANALYSIS_JOB 테이블 리포지토리.
+ * <p>
+ * 노드 간 공유 분석 작업 대기열의 등록, 리스 획득·연장, 종료 기록을 담당한다.
+ * 리스 갱신·종료는 리스 보유 노드 조건을 포함하므로, 리스를 잃은 노드의 갱신은 반영되지 않는다.
+ * </p>
+ */
+public interface ReqAnalysisJobRepository extends JpaRepository<ReqAnalysisJob, String> {
+
+    /**
+     * 리스 획득 대상 작업을 잠금 조회한다 (SELECT … FOR UPDATE SKIP LOCKED).
+     * <p>
+     * 대기(pending) 작업과 리스가 만료된 작업을 우선순위·등록 순으로 조회한다.
+     * 다른 노드가 잠근 행은 건너뛰므로 노드마다 서로 다른 작업을 가져간다.
+     * 잠금 타임아웃 힌트 -2 는 Hibernate 의 SKIP LOCKED 이며, MySQL 8 에서는 {@code FOR UPDATE SKIP LOCKED},
+     * SKIP LOCKED 를 지원하지 않는 H2 에서는 {@code FOR UPDATE} 로 실행된다.
+     * 호출 측 트랜잭션 안에서 호출해야 한다.
+     * </p>
+     *
+     * @param now      기준 일시 (리스 만료 판정)
+     * @param pageable 최대 조회 건수
+     * @return 리스 획득 대상 작업 목록
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "javax.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT j FROM ReqAnalysisJob j "
+            + "WHERE j.jobStatus = 'pending' OR (j.jobStatus = 'leased' AND j.leaseExpiresAt < :now) "
+            + "ORDER BY j.priority, j.createdAt")
+    List<ReqAnalysisJob> findLeasableForUpdate(@Param("now") LocalDateTime now, Pageable pageable);
+
+    /**
+     * 잠금 조회한 작업의 리스를 획득한다.
+     *
+     * @param jobIds    작업 ID 목록
+     * @param owner     리스 보유 노드 ID
+     * @param expiresAt 리스 만료 일시
+     * @param now       현재 일시
+     * @return 갱신된 레코드 수
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE ReqAnalysisJob j SET j.jobStatus = 'leased', j.leaseOwner = :owner, "
+            + "j.leaseExpiresAt = :expiresAt, j.heartbeatAt = :now, j.attempts = j.attempts + 1, "
+            + "j.startedAt = COALESCE(j.startedAt, :now) "
+            + "WHERE j.jobId IN :jobIds")
+    int lease(@Param("jobIds") Collection<String> jobIds,
+              @Param("owner") String owner,
+              @Param("expiresAt") LocalDateTime expiresAt,
+              @Param("now") LocalDateTime now);
+
+    /**
+     * 보유 중인 리스의 만료 일시를 연장한다 (heartbeat).
+     *
+     * @param jobIds    작업 ID 목록
+     * @param owner     리스 보유 노드 ID
+     * @param expiresAt 새 리스 만료 일시
+     * @param now       현재 일시
+     * @return 연장된 레코드 수 (리스를 잃은 작업은 제외)
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE ReqAnalysisJob j SET j.leaseExpiresAt = :expiresAt, j.heartbeatAt = :now "
+            + "WHERE j.jobId IN :jobIds AND j.leaseOwner = :owner AND j.jobStatus = 'leased'")
+    int renewLeases(@Param("jobIds") Collection<String> jobIds,
+                    @Param("owner") String owner,
+                    @Param("expiresAt") LocalDateTime expiresAt,
+                    @Param("now") LocalDateTime now);
+
+    /**
+     * 리스 보유 작업의 종료 상태를 기록한다.
+     *
+     * @param jobId        작업 ID
+     * @param owner        리스 보유 노드 ID
+     * @param jobStatus    종료 상태 (done/failed)
+     * @param errorCode    오류 코드
+     * @param errorMessage 오류 메시지
+     * @param finishedAt   종료 일시
+     * @return 갱신된 레코드 수 (0 이면 리스를 잃은 것)
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE ReqAnalysisJob j SET j.jobStatus = :jobStatus, j.errorCode = :errorCode, "
+            + "j.errorMessage = :errorMessage, j.finishedAt = :finishedAt, j.leaseExpiresAt = NULL "
+            + "WHERE j.jobId = :jobId AND j.leaseOwner = :owner AND j.jobStatus = 'leased'")
+    int finish(@Param("jobId") String jobId,
+               @Param("owner") String owner,
+               @Param("jobStatus") String jobStatus,
+               @Param("errorCode") String errorCode,
+               @Param("errorMessage") String errorMessage,
+               @Param("finishedAt") LocalDateTime finishedAt);
+
+    /**
+     * 실행하지 못한 작업의 리스를 반납하여 다른 노드가 가져갈 수 있게 한다.
+     *
+     * @param jobId 작업 ID
+     * @param owner 리스 보유 노드 ID
+     * @return 갱신된 레코드 수
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE ReqAnalysisJob j SET j.jobStatus = 'pending', j.leaseOwner = NULL, j.leaseExpiresAt = NULL, "
+            + "j.attempts = j.attempts - 1 "
+            + "WHERE j.jobId = :jobId AND j.leaseOwner = :owner AND j.jobStatus = 'leased'")
+    int release(@Param("jobId") String jobId, @Param("owner") String owner);
+
+    /**
+     * 단건 제출 작업의 상태별 수를 조회한다 (일괄 분석 작업 제외).
+     *
+     * @param jobStatus 작업 상태
+     * @return 작업 수
+     */
+    long countByJobStatusAndBatchIdIsNull(String jobStatus);
+
+    /**
+     * 단건 제출 작업의 테넌트·상태별 수를 조회한다 (일괄 분석 작업 제외).
+     *
+     * @param tenant    테넌트 키
+     * @param jobStatus 작업 상태
+     * @return 작업 수
+     */
+    long countByTenantAndJobStatusAndBatchIdIsNull(String tenant, String jobStatus);
+
+    /**
+     * 리스가 유효한(실행 중인) 일괄 분석 작업 수를 조회한다 (전체 배치 합계).
+     *
+     * @param now 기준 일시 (리스 만료 판정)
+     * @return 작업 수
+     */
+    @Query("SELECT COUNT(j) FROM ReqAnalysisJob j "
+            + "WHERE j.batchId IS NOT NULL AND j.jobStatus = 'leased' AND j.leaseExpiresAt >= :now")
+    long countRunningBatchJobs(@Param("now") LocalDateTime now);
+
+    /**
+     * 배치별 리스가 유효한(실행 중인) 작업 수를 조회한다.
+     *
+     * @param batchId 배치 ID
+     * @param now     기준 일시 (리스 만료 판정)
+     * @return 작업 수
+     */
+    @Query("SELECT COUNT(j) FROM ReqAnalysisJob j "
+            + "WHERE j.batchId = :batchId AND j.jobStatus = 'leased' AND j.leaseExpiresAt >= :now")
+    long countRunningByBatchId(@Param("batchId") String batchId, @Param("now") LocalDateTime now);
+
+    /**
+     * 배치의 구성 요청 작업을 종료 순으로 조회한다.
+     *
+     * @param batchId 배치 ID
+     * @return 작업 목록 (미종료 작업 포함)
+     */
+    List<ReqAnalysisJob> findByBatchIdOrderByFinishedAtAsc(String batchId);
+}
@@ -0,0 +1,62 @@
+package com.entec.tax.domain.request.repository;
+
+import com.entec.tax.domain.request.entity.ReqArchive;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * REQ_ARCHIVE 테이블 리포지토리.
+ * <p>
+ * 요청 단위 보관 묶음의 등록, 보관 여부 확인, 보관 대상 선정을 담당한다.
+ * </p>
+ */
+public interface ReqArchiveRepository extends JpaRepository<ReqArchive, String> {
+
+    /**
+     * 요청이 지정 보관 상태인지 확인한다 (묶음은 읽지 않는다).
+     *
+     * @param reqId         요청 ID
+     * @param archiveStatus 보관 상태
+     * @return 해당 상태이면 true
+     */
+    boolean existsByReqIdAndArchiveStatus(String reqId, String archiveStatus);
+
+    /**
+     * 보관 대상 요청 ID 를 완료 일시 오름차순으로 조회한다.
+     * <p>
+     * 완료 일시가 기준 이전인 요청 중 아직 보관되지 않았거나, 복원된 뒤 기준 기간 동안 다시 조회되지 않은 요청이 대상이다.
+     * </p>
+     *
+     * @param statuses 보관 가능한 요청 상태 (completed)
+     * @param cutoff   완료·복원 일시 기준 (미만)
+     * @param pageable 조회 건수
+     * @return 보관 대상 요청 ID 목록
+     */
+    @Query("SELECT r.reqId FROM ReqRequest r"
+            + " WHERE r.requestStatus IN :statuses AND r.completedAt < :cutoff"
+            + " AND NOT EXISTS (SELECT a.reqId FROM ReqArchive a WHERE a.reqId = r.reqId"
+            + "     AND (a.archiveStatus = 'archived' OR a.rehydratedAt >= :cutoff))"
+            + " ORDER BY r.completedAt ASC")
+    List<String> findArchiveCandidates(@Param("statuses") Collection<String> statuses,
+                                       @Param("cutoff") LocalDateTime cutoff,
+                                       Pageable pageable);
+
+    /**
+     * 보관 중인 요청을 복원 상태로 바꾸고 묶음을 비운다.
+     *
+     * @param reqId        요청 ID
+     * @param rehydratedAt 복원 일시
+     * @return 변경된 행 수 (이미 복원되었으면 0)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE ReqArchive a SET a.archiveStatus = 'rehydrated', a.rehydratedAt = :rehydratedAt, a.bundle = NULL"
+            + " WHERE a.reqId = :reqId AND a.archiveStatus = 'archived'")
+    int markRehydrated(@Param("reqId") String reqId, @Param("rehydratedAt") LocalDateTime rehydratedAt);
+}
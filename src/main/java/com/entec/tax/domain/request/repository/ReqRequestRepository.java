@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import javax.persistence.LockModeType;
 import java.time.LocalDate;
@@ -16,10 +17,10 @@ import java.util.Optional;
 /**
  * REQ_REQUEST 테이블 리포지토리.
  * <p>
- * 세액공제 환급 요청 건의 CRUD 및 조회를 담당한다.
+ * 세액공제 환급 요청 건의 CRUD 및 조회를 담당한다. 목록 조회는 {@link ReqRequestRepositoryCustom}에서 조건별 쿼리로 수행한다.
  * </p>
  */
-public interface ReqRequestRepository extends JpaRepository<ReqRequest, String> {
+public interface ReqRequestRepository extends JpaRepository<ReqRequest, String>, ReqRequestRepositoryCustom {
 
     /**
      * seq_no 발급을 위한 SELECT FOR UPDATE.
@@ -34,14 +35,6 @@ public interface ReqRequestRepository extends JpaRepository<ReqRequest, String>
     Optional<Integer> findMaxSeqNoForUpdate(@Param("applicantId") String applicantId,
                                             @Param("requestDate") LocalDate requestDate);
 
-    /**
-     * 상태별 요청 목록 조회 (최신순).
-     *
-     * @param status 요청 처리 상태
-     * @return 해당 상태의 요청 목록
-     */
-    List<ReqRequest> findByRequestStatusOrderByCreatedAtDesc(String status);
-
     /**
      * 신청인별 요청 이력 조회 (최신순).
      *
@@ -51,32 +44,50 @@ public interface ReqRequestRepository extends JpaRepository<ReqRequest, String>
     List<ReqRequest> findByApplicantIdOrderByCreatedAtDesc(String applicantId);
 
     /**
-     * 요청 상태를 갱신한다.
+     * 현재 상태와 version 이 모두 기대값일 때만 요청 상태를 갱신한다 (낙관적 잠금 전이).
+     * <p>
+     * 요청을 읽은 뒤 다른 실행이 상태를 한 번이라도 바꿨으면(같은 상태로 되돌린 경우 포함) 0을 반환한다.
+     * 전이표 검증은 {@link com.entec.tax.domain.request.service.RequestStateMachine} 이 담당한다.
+     * 영속성 컨텍스트를 비우기 전에 먼저 반영하므로, 같은 트랜잭션에서 전이 전에 저장한 엔티티는 유실되지 않는다.
+     * </p>
      *
-     * @param reqId         요청 ID
-     * @param requestStatus 변경할 상태
-     * @param modifiedAt    수정 일시
-     * @return 갱신된 레코드 수
+     * @param reqId           요청 ID
+     * @param expectedStatus  기대 상태
+     * @param expectedVersion 기대 version
+     * @param requestStatus   변경할 상태
+     * @param modifiedAt      수정 일시
+     * @return 갱신된 레코드 수 (0 또는 1)
      */
-    @Modifying(clearAutomatically = true)
-    @Query("UPDATE ReqRequest r SET r.requestStatus = :requestStatus, r.modifiedAt = :modifiedAt WHERE r.reqId = :reqId")
-    int updateStatus(@Param("reqId") String reqId,
-                     @Param("requestStatus") String requestStatus,
-                     @Param("modifiedAt") LocalDateTime modifiedAt);
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE ReqRequest r SET r.requestStatus = :requestStatus, r.modifiedAt = :modifiedAt, r.version = r.version + 1 "
+            + "WHERE r.reqId = :reqId AND r.requestStatus = :expectedStatus AND r.version = :expectedVersion")
+    int updateStatusIfVersion(@Param("reqId") String reqId,
+                              @Param("expectedStatus") String expectedStatus,
+                              @Param("expectedVersion") Integer expectedVersion,
+                              @Param("requestStatus") String requestStatus,
+                              @Param("modifiedAt") LocalDateTime modifiedAt);
 
     /**
-     * 요청 상태와 오류 메시지를 동시에 갱신한다.
+     * 현재 상태와 version 이 모두 기대값일 때만 요청 상태와 오류 메시지를 갱신한다.
      *
-     * @param reqId        요청 ID
-     * @param status       변경할 상태
-     * @param errorMessage 오류 메시지
-     * @param modifiedAt   수정 일시
-     * @return 갱신된 레코드 수
+     * @param reqId           요청 ID
+     * @param expectedStatus  기대 상태
+     * @param expectedVersion 기대 version
+     * @param status          변경할 상태
+     * @param errorMessage    오류 메시지
+     * @param modifiedAt      수정 일시
+     * @return 갱신된 레코드 수 (0 또는 1)
      */
-    @Modifying(clearAutomatically = true)
-    @Query("UPDATE ReqRequest r SET r.requestStatus = :status, r.errorMessage = :errorMessage, r.modifiedAt = :modifiedAt WHERE r.reqId = :reqId")
-    int updateStatusWithError(@Param("reqId") String reqId,
-                              @Param("status") String status,
-                              @Param("errorMessage") String errorMessage,
-                              @Param("modifiedAt") LocalDateTime modifiedAt);
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE ReqRequest r SET r.requestStatus = :status, r.errorMessage = :errorMessage, r.modifiedAt = :modifiedAt, "
+            + "r.version = r.version + 1 "
+            + "WHERE r.reqId = :reqId AND r.requestStatus = :expectedStatus AND r.version = :expectedVersion")
+    int updateStatusWithErrorIfVersion(@Param("reqId") String reqId,
+                                       @Param("expectedStatus") String expectedStatus,
+                                       @Param("expectedVersion") Integer expectedVersion,
+                                       @Param("status") String status,
+                                       @Param("errorMessage") String errorMessage,
+                                       @Param("modifiedAt") LocalDateTime modifiedAt);
 }
@@ -0,0 +1,40 @@
+package com.entec.tax.domain.request.repository;
+
+import com.entec.tax.domain.request.dto.RequestListItemDto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * REQ_REQUEST 동적 조회 리포지토리 (구현: {@link ReqRequestRepositoryCustomImpl}).
+ * <p>
+ * 조건 조합에 따라 쿼리 형태가 달라지는 조회를 담당한다.
+ * </p>
+ */
+public interface ReqRequestRepositoryCustom {
+
+    /**
+     * 요청 목록을 키셋 페이징으로 조회한다 (생성 일시·요청 ID 내림차순, 경량 프로젝션).
+     * <p>
+     * null 인 조건은 쿼리에 넣지 않으므로 조건 조합마다 별도 쿼리가 만들어지고, 각 쿼리는 해당 조건 컬럼의
+     * (조건 컬럼, created_at, req_id) 복합 인덱스를 따라 읽는다. 커서가 주어지면 행 값 비교
+     * {@code (created_at, req_id) < (커서)}로 그 행 다음부터 OFFSET 없이 조회한다.
+     * 다음 페이지 존재 여부 판단을 위해 {@code limit}을 페이지 크기 + 1 로 지정한다.
+     * </p>
+     *
+     * @param status          요청 처리 상태
+     * @param applicantId     신청자 식별번호
+     * @param taxYear         귀속 연도
+     * @param createdFrom     생성 일시 하한 (포함)
+     * @param createdTo       생성 일시 상한 (미포함)
+     * @param cursorCreatedAt 직전 페이지 마지막 행의 생성 일시 (cursorReqId 와 함께 지정)
+     * @param cursorReqId     직전 페이지 마지막 행의 요청 ID
+     * @param limit           조회 건수
+     * @return 요청 목록 항목
+     * @throws IllegalArgumentException 커서 값 중 하나만 지정된 경우
+     */
+    List<RequestListItemDto> searchPage(String status, String applicantId, String taxYear,
+                                        LocalDateTime createdFrom, LocalDateTime createdTo,
+                                        LocalDateTime cursorCreatedAt, String cursorReqId,
+                                        int limit);
+}
@@ -0,0 +1,75 @@
+package com.entec.tax.domain.request.repository;
+
+import com.entec.tax.domain.request.dto.RequestListItemDto;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import javax.persistence.TypedQuery;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@link ReqRequestRepositoryCustom} 구현.
+ * <p>
+ * 지정된 조건만으로 JPQL 을 조립한다. {@code (:x IS NULL OR ...)} 형태의 만능 조건은 옵티마이저가
+ * 조건 컬럼 인덱스를 고르지 못하게 하므로 사용하지 않는다.
+ * </p>
+ */
+public class ReqRequestRepositoryCustomImpl implements ReqRequestRepositoryCustom {
+
+    private static final String SELECT_LIST_ITEM = "SELECT new com.entec.tax.domain.request.dto.RequestListItemDto("
+            + " r.reqId, r.applicantType, r.applicantId, r.applicantName, r.taxType, r.taxYear,"
+            + " r.requestDate, r.requestStatus, r.createdAt, r.completedAt)"
+            + " FROM ReqRequest r";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<RequestListItemDto> searchPage(String status, String applicantId, String taxYear,
+                                               LocalDateTime createdFrom, LocalDateTime createdTo,
+                                               LocalDateTime cursorCreatedAt, String cursorReqId,
+                                               int limit) {
+        if ((cursorCreatedAt == null) != (cursorReqId == null)) {
+            throw new IllegalArgumentException("Cursor requires both createdAt and reqId");
+        }
+
+        StringBuilder jpql = new StringBuilder(SELECT_LIST_ITEM);
+        Map<String, Object> params = new LinkedHashMap<String, Object>();
+        if (status != null) {
+            where(jpql, params, "r.requestStatus = :status", "status", status);
+        }
+        if (applicantId != null) {
+            where(jpql, params, "r.applicantId = :applicantId", "applicantId", applicantId);
+        }
+        if (taxYear != null) {
+            where(jpql, params, "r.taxYear = :taxYear", "taxYear", taxYear);
+        }
+        if (createdFrom != null) {
+            where(jpql, params, "r.createdAt >= :createdFrom", "createdFrom", createdFrom);
+        }
+        if (createdTo != null) {
+            where(jpql, params, "r.createdAt < :createdTo", "createdTo", createdTo);
+        }
+        if (cursorCreatedAt != null) {
+            where(jpql, params, "(r.createdAt, r.reqId) < (:cursorCreatedAt, :cursorReqId)",
+                    "cursorCreatedAt", cursorCreatedAt);
+            params.put("cursorReqId", cursorReqId);
+        }
+        jpql.append(" ORDER BY r.createdAt DESC, r.reqId DESC");
+
+        TypedQuery<RequestListItemDto> query = entityManager.createQuery(jpql.toString(), RequestListItemDto.class);
+        for (Map.Entry<String, Object> param : params.entrySet()) {
+            query.setParameter(param.getKey(), param.getValue());
+        }
+        return query.setMaxResults(limit).getResultList();
+    }
+
+    private static void where(StringBuilder jpql, Map<String, Object> params,
+                              String condition, String name, Object value) {
+        jpql.append(params.isEmpty() ? " WHERE " : " AND ").append(condition);
+        params.put(name, value);
+    }
+}
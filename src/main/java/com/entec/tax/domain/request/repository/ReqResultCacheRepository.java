@@ -0,0 +1,13 @@
+package com.entec.tax.domain.request.repository;
+
+import com.entec.tax.domain.request.entity.ReqResultCache;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+/**
+ * REQ_RESULT_CACHE 테이블 리포지토리.
+ * <p>
+ * 분석 결과 재사용 캐시의 등록 및 조회를 담당한다.
+ * </p>
+ */
+public interface ReqResultCacheRepository extends JpaRepository<ReqResultCache, String> {
+}
@@ -0,0 +1,341 @@
+package com.entec.tax.domain.request.service;
+
+import com.entec.tax.common.util.DateUtil;
+import com.entec.tax.common.util.JsonUtil;
+import com.entec.tax.domain.input.entity.InpBasic;
+import com.entec.tax.domain.input.entity.InpDeduction;
+import com.entec.tax.domain.input.entity.InpEmployee;
+import com.entec.tax.domain.input.entity.InpFinancial;
+import lombok.extern.slf4j.Slf4j;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 데이터셋 → 요약 입력 엔티티(INP_BASIC, INP_EMPLOYEE, INP_DEDUCTION, INP_FINANCIAL) 변환기.
+ * <p>
+ * M1-03 요약 테이블 생성과 모의 분석(API-SIM)이 같은 규칙으로 입력을 해석하도록
+ * 데이터셋 Map 의 필드 추출 규칙을 한 곳에 모은다. 저장은 호출 측이 담당한다.
+ * </p>
+ */
+@Slf4j
+public final class InputSummaryMapper {
+
+    private InputSummaryMapper() {
+    }
+
+    /**
+     * 기본 정보를 변환한다.
+     *
+     * @param reqId       요청 ID
+     * @param data        기본 정보 데이터 (basic / corp_basic / inc_basic)
+     * @param requestDate 요청 접수일
+     * @param taxType     세금 유형 코드
+     * @param taxYear     귀속 연도
+     * @return INP_BASIC 엔티티
+     */
+    public static InpBasic toBasic(String reqId, Map<String, Object> data,
+                                   LocalDate requestDate, String taxType, String taxYear) {
+        return InpBasic.builder()
+                .reqId(reqId)
+                .requestDate(requestDate)
+                .taxType(taxType)
+                .applicantName(getStringValue(data, "applicant_name"))
+                .bizRegNo(getStringValue(data, "biz_reg_no"))
+                .corpSize(getStringValue(data, "corp_size"))
+                .industryCode(getStringValue(data, "industry_code"))
+                .hqLocation(getStringValue(data, "hq_location"))
+                .capitalZone(getStringValue(data, "capital_zone"))
+                .depopulationArea(getBooleanValue(data, "depopulation_area"))
+                .taxYear(taxYear)
+                .fiscalStart(getLocalDateValue(data, "fiscal_start"))
+                .fiscalEnd(getLocalDateValue(data, "fiscal_end"))
+                .revenue(getLongValue(data, "revenue"))
+                .taxableIncome(getLongValue(data, "taxable_income"))
+                .computedTax(getLongValue(data, "computed_tax"))
+                .paidTax(getLongValue(data, "paid_tax"))
+                .foundingDate(getLocalDateValue(data, "founding_date"))
+                .ventureYn(getBooleanValue(data, "venture_yn"))
+                .rdDeptYn(getBooleanValue(data, "rd_dept_yn"))
+                .claimReason(getStringValue(data, "claim_reason"))
+                .sincerityTarget(getBooleanValue(data, "sincerity_target"))
+                .bookkeepingType(getStringValue(data, "bookkeeping_type"))
+                .consolidatedTax(getBooleanValue(data, "consolidated_tax"))
+                .summaryGeneratedAt(LocalDateTime.now())
+                .build();
+    }
+
+    /**
+     * 고용 정보 1건을 변환한다. 연도 구분(year_type)이 없으면 CURRENT 로 본다.
+     *
+     * @param reqId   요청 ID
+     * @param empData 고용 정보 데이터
+     * @return INP_EMPLOYEE 엔티티
+     */
+    public static InpEmployee toEmployee(String reqId, Map<String, Object> empData) {
+        String yearType = getStringValue(empData, "year_type");
+        if (yearType == null || yearType.isEmpty()) {
+            yearType = "CURRENT";
+        }
+
+        return InpEmployee.builder()
+                .reqId(reqId)
+                .yearType(yearType)
+                .totalRegular(getBigDecimalValue(empData, "total_regular"))
+                .youthCount(getIntegerValue(empData, "youth_count"))
+                .disabledCount(getIntegerValue(empData, "disabled_count"))
+                .agedCount(getIntegerValue(empData, "aged_count"))
+                .careerBreakCount(getIntegerValue(empData, "career_break_count"))
+                .northDefectorCount(getIntegerValue(empData, "north_defector_count"))
+                .generalCount(getIntegerValue(empData, "general_count"))
+                .excludedCount(getIntegerValue(empData, "excluded_count"))
+                .totalSalary(getLongValue(empData, "total_salary"))
+                .socialInsurancePaid(getLongValue(empData, "social_insurance_paid"))
+                .build();
+    }
+
+    /**
+     * 공제/감면 정보를 변환한다.
+     * <p>
+     * item_seq 가 없으면 순번을 자동 부여하고, tax_year 가 없으면 요청의 귀속 연도를 사용한다.
+     * </p>
+     *
+     * @param reqId         요청 ID
+     * @param deductionList 공제/감면 데이터 목록
+     * @param taxYear       귀속 연도
+     * @return INP_DEDUCTION 엔티티 목록
+     */
+    public static List<InpDeduction> toDeductions(String reqId, List<Map<String, Object>> deductionList,
+                                                  String taxYear) {
+        List<InpDeduction> deductions = new ArrayList<InpDeduction>();
+        int autoSeq = 1;
+        for (Map<String, Object> dedData : deductionList) {
+            String itemCategory = getStringValue(dedData, "item_category");
+            String provision = getStringValue(dedData, "provision");
+            String dedTaxYear = getStringValue(dedData, "tax_year");
+            if (dedTaxYear == null || dedTaxYear.isEmpty()) {
+                dedTaxYear = taxYear;
+            }
+            Integer itemSeq = getIntegerValue(dedData, "item_seq");
+            if (itemSeq == null) {
+                itemSeq = autoSeq++;
+            } else {
+                autoSeq = itemSeq + 1;
+            }
+
+            deductions.add(InpDeduction.builder()
+                    .reqId(reqId)
+                    .itemCategory(itemCategory != null ? itemCategory : "UNKNOWN")
+                    .provision(provision != null ? provision : "N/A")
+                    .taxYear(dedTaxYear)
+                    .itemSeq(itemSeq)
+                    .baseAmount(getLongValue(dedData, "base_amount"))
+                    .zoneType(getStringValue(dedData, "zone_type"))
+                    .assetType(getStringValue(dedData, "asset_type"))
+                    .rdType(getStringValue(dedData, "rd_type"))
+                    .method(getStringValue(dedData, "method"))
+                    .subDetail(getStringValue(dedData, "sub_detail"))
+                    .existingApplied(getBooleanValue(dedData, "existing_applied"))
+                    .existingAmount(getLongValue(dedData, "existing_amount"))
+                    .carryforwardBalance(getLongValue(dedData, "carryforward_balance"))
+                    .build());
+        }
+        return deductions;
+    }
+
+    /**
+     * 재무/세무 정보를 변환한다.
+     *
+     * @param reqId 요청 ID
+     * @param data  재무/세무 데이터
+     * @return INP_FINANCIAL 엔티티
+     */
+    public static InpFinancial toFinancial(String reqId, Map<String, Object> data) {
+        return InpFinancial.builder()
+                .reqId(reqId)
+                .bizIncome(getLongValue(data, "biz_income"))
+                .nonTaxableIncome(getLongValue(data, "non_taxable_income"))
+                .lossCarryforwardTotal(getLongValue(data, "loss_carryforward_total"))
+                .lossCarryforwardDetail(getStringValue(data, "loss_carryforward_detail"))
+                .interimPrepaidTax(getLongValue(data, "interim_prepaid_tax"))
+                .withholdingTax(getLongValue(data, "withholding_tax"))
+                .determinedTax(getLongValue(data, "determined_tax"))
+                .dividendIncomeTotal(getLongValue(data, "dividend_income_total"))
+                .dividendExclusionDetail(getStringValue(data, "dividend_exclusion_detail"))
+                .foreignTaxTotal(getLongValue(data, "foreign_tax_total"))
+                .foreignIncomeTotal(getLongValue(data, "foreign_income_total"))
+                .taxAdjustmentDetail(getStringValue(data, "tax_adjustment_detail"))
+                .incDeductionTotal(getLongValue(data, "inc_deduction_total"))
+                .incDeductionDetail(getStringValue(data, "inc_deduction_detail"))
+                .incComprehensiveIncome(getLongValue(data, "inc_comprehensive_income"))
+                .currentYearLoss(getLongValue(data, "current_year_loss"))
+                .priorYearTaxPaid(getLongValue(data, "prior_year_tax_paid"))
+                .amendmentHistory(getStringValue(data, "amendment_history"))
+                .vehicleExpenseDetail(getStringValue(data, "vehicle_expense_detail"))
+                .build();
+    }
+
+    /**
+     * 단건(Map) 또는 다건(List&lt;Map&gt;) 데이터를 레코드 목록으로 변환한다.
+     *
+     * @param data 데이터셋 data
+     * @return 레코드 목록 (Map 이면 1건, 그 외 형식이면 빈 목록)
+     */
+    @SuppressWarnings("unchecked")
+    public static List<Map<String, Object>> toRecords(Object data) {
+        if (data instanceof List) {
+            return (List<Map<String, Object>>) data;
+        }
+        if (data instanceof Map) {
+            return Collections.singletonList((Map<String, Object>) data);
+        }
+        return Collections.emptyList();
+    }
+
+    // ──────────────────────────────────────────────────────────────────
+    // 값 추출
+    // ──────────────────────────────────────────────────────────────────
+
+    /**
+     * Map에서 문자열 값을 안전하게 추출한다.
+     *
+     * @param data Map 데이터
+     * @param key  키
+     * @return 문자열 값 (없으면 null)
+     */
+    private static String getStringValue(Map<String, Object> data, String key) {
+        Object value = data.get(key);
+        if (value == null) {
+            return null;
+        }
+        if (value instanceof String) {
+            return (String) value;
+        }
+        // JSON 객체/배열인 경우 JSON 문자열로 변환
+        if (value instanceof Map || value instanceof List) {
+            return JsonUtil.toJson(value);
+        }
+        return String.valueOf(value);
+    }
+
+    /**
+     * Map에서 Long 값을 안전하게 추출한다.
+     *
+     * @param data Map 데이터
+     * @param key  키
+     * @return Long 값 (없거나 변환 불가하면 null)
+     */
+    private static Long getLongValue(Map<String, Object> data, String key) {
+        Object value = data.get(key);
+        if (value == null) {
+            return null;
+        }
+        if (value instanceof Number) {
+            return ((Number) value).longValue();
+        }
+        try {
+            return Long.parseLong(String.valueOf(value));
+        } catch (NumberFormatException e) {
+            log.debug("Long 변환 실패. key={}, value={}", key, value);
+            return null;
+        }
+    }
+
+    /**
+     * Map에서 Integer 값을 안전하게 추출한다.
+     *
+     * @param data Map 데이터
+     * @param key  키
+     * @return Integer 값 (없거나 변환 불가하면 null)
+     */
+    private static Integer getIntegerValue(Map<String, Object> data, String key) {
+        Object value = data.get(key);
+        if (value == null) {
+            return null;
+        }
+        if (value instanceof Number) {
+            return ((Number) value).intValue();
+        }
+        try {
+            return Integer.parseInt(String.valueOf(value));
+        } catch (NumberFormatException e) {
+            log.debug("Integer 변환 실패. key={}, value={}", key, value);
+            return null;
+        }
+    }
+
+    /**
+     * Map에서 Boolean 값을 안전하게 추출한다.
+     *
+     * @param data Map 데이터
+     * @param key  키
+     * @return Boolean 값 (없으면 null)
+     */
+    private static Boolean getBooleanValue(Map<String, Object> data, String key) {
+        Object value = data.get(key);
+        if (value == null) {
+            return null;
+        }
+        if (value instanceof Boolean) {
+            return (Boolean) value;
+        }
+        return Boolean.parseBoolean(String.valueOf(value));
+    }
+
+    /**
+     * Map에서 BigDecimal 값을 안전하게 추출한다.
+     *
+     * @param data Map 데이터
+     * @param key  키
+     * @return BigDecimal 값 (없거나 변환 불가하면 null)
+     */
+    private static BigDecimal getBigDecimalValue(Map<String, Object> data, String key) {
+        Object value = data.get(key);
+        if (value == null) {
+            return null;
+        }
+        if (value instanceof BigDecimal) {
+            return (BigDecimal) value;
+        }
+        if (value instanceof Number) {
+            return new BigDecimal(String.valueOf(value));
+        }
+        try {
+            return new BigDecimal(String.valueOf(value));
+        } catch (NumberFormatException e) {
+            log.debug("BigDecimal 변환 실패. key={}, value={}", key, value);
+            return null;
+        }
+    }
+
+    /**
+     * Map에서 LocalDate 값을 안전하게 추출한다.
+     *
+     * <p>ISO 8601(YYYY-MM-DD) 또는 YYYYMMDD 형식을 지원한다.</p>
+     *
+     * @param data Map 데이터
+     * @param key  키
+     * @return LocalDate 값 (없거나 파싱 불가하면 null)
+     */
+    private static LocalDate getLocalDateValue(Map<String, Object> data, String key) {
+        Object value = data.get(key);
+        if (value == null) {
+            return null;
+        }
+        String dateStr = String.valueOf(value);
+        if (dateStr.isEmpty()) {
+            return null;
+        }
+        try {
+            return DateUtil.parseDate(dateStr);
+        } catch (Exception e) {
+            log.debug("LocalDate 변환 실패. key={}, value={}", key, value);
+            return null;
+        }
+    }
+}
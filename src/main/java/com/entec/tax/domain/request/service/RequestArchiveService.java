@@ -0,0 +1,401 @@
+package com.entec.tax.domain.request.service;
+
+import com.entec.tax.common.annotation.ConnectionPool;
+import com.entec.tax.common.constants.ConnectionPoolType;
+import com.entec.tax.common.exception.ErrorCode;
+import com.entec.tax.common.exception.TaxServiceException;
+import com.entec.tax.common.util.CryptoUtil;
+import com.entec.tax.common.util.JsonUtil;
+import com.entec.tax.domain.request.entity.ReqArchive;
+import com.entec.tax.domain.request.repository.ReqArchiveRepository;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectReader;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.Clob;
+import java.sql.ResultSetMetaData;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 요청 단위 보관(아카이브) 서비스 (REQ_ARCHIVE).
+ * <p>
+ * 분석을 완료한 지 {@code tax-service.archive.after-days}일이 지난 요청의 INP_*, CHK_*, OUT_* 행을
+ * 요청 1건당 압축 묶음 1개로 옮기고 원 테이블에서 삭제하여, 버퍼 풀에 올라가는 작업 집합을 최근 요청으로 한정한다.
+ * </p>
+ *
+ * <ul>
+ *   <li>보관: 매일 {@code tax-service.archive.cron}에 대상 요청을 최대 {@code batch-size}건 골라
+ *       요청마다 짧은 트랜잭션으로 묶음 저장 + 원 테이블 삭제를 수행한다.
+ *       묶음은 테이블별 {@code columns}(컬럼명 목록)와 {@code rows}(행 값 배열)로 구성한 JSON 을 gzip 한 것이다.</li>
+ *   <li>복원: {@code @RehydrateArchived} 가 선언된 조회·분석 메서드가 보관된 요청에 접근하면
+ *       호출 전에 묶음을 원 테이블로 되돌린다(체크섬 검증). 복원된 요청은 그 뒤 보관 기간이 다시 지나야 재보관된다.</li>
+ *   <li>동시성: 보관·복원 모두 REQ_REQUEST 행을 잠그고 상태를 다시 확인한 뒤 처리한다.</li>
+ * </ul>
+ *
+ * <p>
+ * REQ_REQUEST·REQ_ANALYSIS_CHECKPOINT 는 원 테이블에 남으므로 상태·목록 조회는 복원 없이 동작한다.
+ * LOG_CALCULATION 은 월 파티션 보존 작업이 따로 관리한다.
+ * </p>
+ */
+@Service
+@Slf4j
+public class RequestArchiveService {
+
+    private static final String STATUS_ARCHIVED = "archived";
+
+    /** 보관 가능한 요청 상태 (대소문자 혼용 데이터 포함) */
+    private static final List<String> ARCHIVABLE_STATUSES = Arrays.asList("completed", "COMPLETED");
+
+    /** 묶음 형식 버전 */
+    private static final int BUNDLE_FORMAT = 1;
+
+    /**
+     * 보관 대상 테이블 (복원 순서, 삭제는 역순).
+     */
+    private static final String[] HOT_TABLES = {
+            "INP_RAW_DATA", "INP_BASIC", "INP_EMPLOYEE", "INP_DEDUCTION", "INP_FINANCIAL",
+            "CHK_ELIGIBILITY", "CHK_INSPECTION_LOG", "CHK_VALIDATION_LOG",
+            "OUT_EMPLOYEE_SUMMARY", "OUT_CREDIT_DETAIL", "OUT_COMBINATION", "OUT_EXCLUSION_VERIFY",
+            "OUT_REFUND", "OUT_RISK", "OUT_ADDITIONAL_CHECK", "OUT_REPORT_JSON"
+    };
+
+    /** 묶음 역직렬화 (소수는 BigDecimal 로 읽어 DECIMAL 컬럼 정밀도 유지) */
+    private static final ObjectReader BUNDLE_READER = JsonUtil.getObjectMapper()
+            .readerFor(Map.class)
+            .with(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS);
+
+    /** 보관 리포지토리 */
+    private final ReqArchiveRepository reqArchiveRepository;
+
+    /** 원 테이블 행 읽기·삭제·복원 (호출 측 트랜잭션 참여) */
+    private final JdbcTemplate jdbcTemplate;
+
+    /** 요청 단위 트랜잭션 */
+    private final TransactionTemplate transactionTemplate;
+
+    /** 보관 작업 실행 여부 (복원은 항상 동작) */
+    private final boolean enabled;
+
+    /** 완료 후 보관까지의 일수 */
+    private final int afterDays;
+
+    /** 1회 실행 최대 보관 건수 */
+    private final int batchSize;
+
+    /** 테이블 → (컬럼명 → java.sql.Types) */
+    private final Map<String, Map<String, Integer>> columnTypes = new ConcurrentHashMap<String, Map<String, Integer>>();
+
+    public RequestArchiveService(ReqArchiveRepository reqArchiveRepository,
+                                 JdbcTemplate jdbcTemplate,
+                                 PlatformTransactionManager transactionManager,
+                                 @Value("${tax-service.archive.enabled:true}") boolean enabled,
+                                 @Value("${tax-service.archive.after-days:180}") int afterDays,
+                                 @Value("${tax-service.archive.batch-size:100}") int batchSize) {
+        this.reqArchiveRepository = reqArchiveRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.afterDays = Math.max(1, afterDays);
+        this.batchSize = Math.max(1, batchSize);
+    }
+
+    /**
+     * 보관 기간이 지난 완료 요청을 보관한다.
+     */
+    @Scheduled(cron = "${tax-service.archive.cron:0 0 4 * * *}")
+    @ConnectionPool(ConnectionPoolType.ANALYSIS)
+    public void archiveCompleted() {
+        if (!enabled) {
+            return;
+        }
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(afterDays);
+        List<String> candidates = reqArchiveRepository.findArchiveCandidates(
+                ARCHIVABLE_STATUSES, cutoff, PageRequest.of(0, batchSize));
+        int archived = 0;
+        for (String reqId : candidates) {
+            try {
+                if (Boolean.TRUE.equals(transactionTemplate.execute(status -> archive(reqId, cutoff)))) {
+                    archived++;
+                }
+            } catch (RuntimeException e) {
+                log.error("요청 보관 실패: reqId={}, error={}", reqId, e.getMessage(), e);
+            }
+        }
+        if (!candidates.isEmpty()) {
+            log.info("요청 보관 완료: candidates={}, archived={}, cutoff={}", candidates.size(), archived, cutoff);
+        }
+    }
+
+    /**
+     * 보관된 요청이면 원 테이블로 복원한다.
+     *
+     * @param reqId 요청 ID
+     * @return 이번 호출에서 복원했으면 true
+     * @throws TaxServiceException 묶음 체크섬이 맞지 않을 때
+     */
+    @ConnectionPool(ConnectionPoolType.INTAKE)
+    public boolean rehydrateIfArchived(String reqId) {
+        if (reqId == null || !isArchived(reqId)) {
+            return false;
+        }
+        return Boolean.TRUE.equals(transactionTemplate.execute(status -> rehydrate(reqId)));
+    }
+
+    /**
+     * 요청이 보관 상태(원 테이블 행 없음)인지 확인한다.
+     *
+     * @param reqId 요청 ID
+     * @return 보관 상태이면 true
+     */
+    public boolean isArchived(String reqId) {
+        return reqArchiveRepository.existsByReqIdAndArchiveStatus(reqId, STATUS_ARCHIVED);
+    }
+
+    // ──────────────────────────────────────────────
+    // 내부 처리
+    // ──────────────────────────────────────────────
+
+    /**
+     * 요청 1건의 원 테이블 행을 묶음으로 저장하고 삭제한다 (트랜잭션 안에서 호출).
+     */
+    private boolean archive(String reqId, LocalDateTime cutoff) {
+        Map<String, Object> request = lockRequest(reqId);
+        LocalDateTime completedAt = request != null ? toLocalDateTime(request.get("completed_at")) : null;
+        if (completedAt == null || !ARCHIVABLE_STATUSES.contains((String) request.get("request_status"))
+                || !completedAt.isBefore(cutoff) || isArchived(reqId)) {
+            return false;
+        }
+
+        Map<String, Object> tables = new LinkedHashMap<String, Object>();
+        int rowCount = 0;
+        for (String table : HOT_TABLES) {
+            Map<String, Object> rows = readRows(table, reqId);
+            int size = ((List<?>) rows.get("rows")).size();
+            if (size > 0) {
+                tables.put(table, rows);
+                rowCount += size;
+            }
+        }
+        Map<String, Object> bundle = new LinkedHashMap<String, Object>();
+        bundle.put("format", BUNDLE_FORMAT);
+        bundle.put("req_id", reqId);
+        bundle.put("tables", tables);
+        String json = JsonUtil.toJson(bundle);
+        byte[] compressed = gzip(json);
+
+        reqArchiveRepository.save(ReqArchive.builder()
+                .reqId(reqId)
+                .archiveStatus(STATUS_ARCHIVED)
+                .bundle(compressed)
+                .rowCount(rowCount)
+                .rawByteSize((long) json.getBytes(StandardCharsets.UTF_8).length)
+                .bundleByteSize((long) compressed.length)
+                .checksum(CryptoUtil.sha256(json))
+                .archivedAt(LocalDateTime.now())
+                .build());
+        for (int i = HOT_TABLES.length - 1; i >= 0; i--) {
+            jdbcTemplate.update("DELETE FROM " + HOT_TABLES[i] + " WHERE req_id = ?", reqId);
+        }
+        log.debug("요청 보관: reqId={}, rows={}, bytes={}→{}", reqId, rowCount, json.length(), compressed.length);
+        return true;
+    }
+
+    /**
+     * 묶음을 원 테이블로 되돌린다 (트랜잭션 안에서 호출).
+     */
+    @SuppressWarnings("unchecked")
+    private boolean rehydrate(String reqId) {
+        lockRequest(reqId);
+        ReqArchive archive = reqArchiveRepository.findById(reqId).orElse(null);
+        if (archive == null || !STATUS_ARCHIVED.equals(archive.getArchiveStatus())) {
+            return false;
+        }
+        String json = gunzip(archive.getBundle());
+        if (!CryptoUtil.sha256(json).equals(archive.getChecksum())) {
+            throw new TaxServiceException(ErrorCode.INTERNAL_ERROR, "보관 묶음 체크섬이 일치하지 않습니다.", reqId);
+        }
+        Map<String, Object> tables;
+        try {
+            tables = (Map<String, Object>) ((Map<String, Object>) BUNDLE_READER.readValue(json)).get("tables");
+        } catch (IOException e) {
+            throw new TaxServiceException(ErrorCode.INTERNAL_ERROR, "보관 묶음을 해석할 수 없습니다.", reqId, e);
+        }
+
+        for (String table : HOT_TABLES) {
+            Map<String, Object> rows = (Map<String, Object>) tables.get(table);
+            if (rows != null) {
+                insertRows(table, (List<String>) rows.get("columns"), (List<List<Object>>) rows.get("rows"));
+            }
+        }
+        reqArchiveRepository.markRehydrated(reqId, LocalDateTime.now());
+        log.info("보관 요청 복원: reqId={}, rows={}, archivedAt={}", reqId, archive.getRowCount(), archive.getArchivedAt());
+        return true;
+    }
+
+    /**
+     * REQ_REQUEST 행을 잠그고 상태·완료 일시를 읽는다 (요청이 없으면 null).
+     */
+    private Map<String, Object> lockRequest(String reqId) {
+        List<Map<String, Object>> rows = jdbcTemplate.queryForList(
+                "SELECT request_status, completed_at FROM REQ_REQUEST WHERE req_id = ? FOR UPDATE", reqId);
+        if (rows.isEmpty()) {
+            return null;
+        }
+        Map<String, Object> row = new LinkedHashMap<String, Object>();
+        for (Map.Entry<String, Object> entry : rows.get(0).entrySet()) {
+            row.put(entry.getKey().toLowerCase(Locale.ROOT), entry.getValue());
+        }
+        return row;
+    }
+
+    /**
+     * 테이블의 요청 행을 컬럼 목록 + 행 값 배열로 읽는다 (날짜·시각은 ISO 문자열로 직렬화되는 타입으로 변환).
+     */
+    private Map<String, Object> readRows(String table, String reqId) {
+        return jdbcTemplate.query("SELECT * FROM " + table + " WHERE req_id = ?",
+                (ResultSetExtractor<Map<String, Object>>) rs -> {
+                    ResultSetMetaData meta = rs.getMetaData();
+                    List<String> columns = new ArrayList<String>(meta.getColumnCount());
+                    for (int i = 1; i <= meta.getColumnCount(); i++) {
+                        columns.add(meta.getColumnLabel(i).toLowerCase(Locale.ROOT));
+                    }
+                    List<List<Object>> rows = new ArrayList<List<Object>>();
+                    while (rs.next()) {
+                        List<Object> row = new ArrayList<Object>(columns.size());
+                        for (int i = 1; i <= columns.size(); i++) {
+                            Object value = rs.getObject(i);
+                            if (value instanceof Clob) {
+                                value = rs.getString(i);
+                            } else if (value instanceof Timestamp) {
+                                value = ((Timestamp) value).toLocalDateTime();
+                            } else if (value instanceof java.sql.Date) {
+                                value = ((java.sql.Date) value).toLocalDate();
+                            } else if (value instanceof java.sql.Time) {
+                                value = ((java.sql.Time) value).toLocalTime();
+                            }
+                            row.add(value);
+                        }
+                        rows.add(row);
+                    }
+                    Map<String, Object> result = new LinkedHashMap<String, Object>();
+                    result.put("columns", columns);
+                    result.put("rows", rows);
+                    return result;
+                }, reqId);
+    }
+
+    private void insertRows(String table, List<String> columns, List<List<Object>> rows) {
+        Map<String, Integer> types = columnTypes(table);
+        StringBuilder sql = new StringBuilder("INSERT INTO ").append(table).append(" (")
+                .append(String.join(", ", columns)).append(") VALUES (");
+        for (int i = 0; i < columns.size(); i++) {
+            sql.append(i == 0 ? "?" : ", ?");
+        }
+        sql.append(')');
+
+        List<Object[]> args = new ArrayList<Object[]>(rows.size());
+        for (List<Object> row : rows) {
+            Object[] values = new Object[columns.size()];
+            for (int i = 0; i < values.length; i++) {
+                values[i] = toColumnValue(row.get(i), types.get(columns.get(i)));
+            }
+            args.add(values);
+        }
+        jdbcTemplate.batchUpdate(sql.toString(), args);
+    }
+
+    /**
+     * 테이블 컬럼의 JDBC 타입을 조회한다 (테이블별 1회).
+     */
+    private Map<String, Integer> columnTypes(String table) {
+        return columnTypes.computeIfAbsent(table, key -> jdbcTemplate.query("SELECT * FROM " + key + " WHERE 1 = 0",
+                (ResultSetExtractor<Map<String, Integer>>) rs -> {
+                    ResultSetMetaData meta = rs.getMetaData();
+                    Map<String, Integer> types = new ConcurrentHashMap<String, Integer>();
+                    for (int i = 1; i <= meta.getColumnCount(); i++) {
+                        types.put(meta.getColumnLabel(i).toLowerCase(Locale.ROOT), meta.getColumnType(i));
+                    }
+                    return Collections.unmodifiableMap(types);
+                }));
+    }
+
+    /**
+     * 묶음의 ISO 문자열 값을 날짜·시각 컬럼 타입으로 되돌린다.
+     */
+    private static Object toColumnValue(Object value, Integer sqlType) {
+        if (!(value instanceof String) || sqlType == null) {
+            return value;
+        }
+        switch (sqlType) {
+            case Types.TIMESTAMP:
+            case Types.TIMESTAMP_WITH_TIMEZONE:
+                return Timestamp.valueOf(LocalDateTime.parse((String) value));
+            case Types.DATE:
+                return java.sql.Date.valueOf(LocalDate.parse((String) value));
+            case Types.TIME:
+                return java.sql.Time.valueOf(LocalTime.parse((String) value));
+            default:
+                return value;
+        }
+    }
+
+    private static LocalDateTime toLocalDateTime(Object value) {
+        if (value instanceof Timestamp) {
+            return ((Timestamp) value).toLocalDateTime();
+        }
+        return value instanceof LocalDateTime ? (LocalDateTime) value : null;
+    }
+
+    private static byte[] gzip(String json) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        try (OutputStream out = new GZIPOutputStream(buffer)) {
+            out.write(json.getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return buffer.toByteArray();
+    }
+
+    private static String gunzip(byte[] compressed) {
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream(compressed.length * 4);
+            byte[] chunk = new byte[8192];
+            int read;
+            while ((read = in.read(chunk)) != -1) {
+                out.write(chunk, 0, read);
+            }
+            return new String(out.toByteArray(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -1,7 +1,11 @@
 package com.entec.tax.domain.request.service;
 
+import com.entec.tax.domain.common.dto.PageResponse;
+import com.entec.tax.domain.request.dto.DatasetDto;
 import com.entec.tax.domain.request.dto.RequestCreateDto;
+import com.entec.tax.domain.request.dto.RequestListItemDto;
 import com.entec.tax.domain.request.dto.RequestResponseDto;
+import com.entec.tax.domain.request.dto.RequestSearchDto;
 import com.entec.tax.domain.request.dto.RequestStatusDto;
 import com.entec.tax.domain.request.dto.RequestSummaryDto;
 
@@ -9,7 +13,7 @@ import com.entec.tax.domain.request.dto.RequestSummaryDto;
  * 요청 관리 서비스 인터페이스.
  * <p>
  * API-01 (요청 접수), API-03 (상태 조회), API-06 (원시 데이터 조회),
- * API-08 (경량 요약 조회) 엔드포인트에서 호출되는 비즈니스 로직을 정의한다.
+ * API-08 (경량 요약 조회), API-09 (데이터셋 정정), API-10 (요청 목록 조회) 엔드포인트에서 호출되는 비즈니스 로직을 정의한다.
  * </p>
  */
 public interface RequestManagementService {
@@ -63,4 +67,29 @@ public interface RequestManagementService {
      * @return 경량 요약 정보
      */
     RequestSummaryDto getRequestSummary(String reqId);
+
+    /**
+     * API-10: 요청 목록 조회 (키셋 페이징).
+     * <p>
+     * 상태·신청자·귀속연도·생성일 조건으로 요청 목록을 최신순으로 조회한다.
+     * 전체 건수는 세지 않으며, 다음 페이지는 응답의 next_cursor 로 이어서 조회한다.
+     * </p>
+     *
+     * @param search 조회 조건
+     * @return 요청 목록 페이지
+     */
+    PageResponse<RequestListItemDto> searchRequests(RequestSearchDto search);
+
+    /**
+     * API-09: 데이터셋 정정.
+     * <p>
+     * 카테고리 1건의 원시 데이터를 교체하고 해당 카테고리의 요약만 다시 생성한 뒤 parsed 상태로 되돌린다.
+     * 이후 분석은 정정한 카테고리를 읽는 단계·산출기만 다시 계산한다.
+     * </p>
+     *
+     * @param reqId   요청 ID
+     * @param dataset 정정 데이터셋
+     * @return 정정 후 요청 상태
+     */
+    RequestStatusDto correctDataset(String reqId, DatasetDto dataset);
 }
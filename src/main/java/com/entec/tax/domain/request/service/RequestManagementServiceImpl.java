@@ -1,5 +1,8 @@
 package com.entec.tax.domain.request.service;
 
+import com.entec.tax.common.annotation.ConnectionPool;
+import com.entec.tax.common.annotation.RehydrateArchived;
+import com.entec.tax.common.constants.ConnectionPoolType;
 import com.entec.tax.common.constants.LogLevel;
 import com.entec.tax.common.constants.RequestStatus;
 import com.entec.tax.common.constants.SystemConstants;
@@ -11,9 +14,9 @@ import com.entec.tax.common.exception.TaxServiceException;
 import com.entec.tax.common.exception.ValidationException;
 import com.entec.tax.common.exception.ErrorCode;
 import com.entec.tax.common.util.CryptoUtil;
-import com.entec.tax.common.util.DateUtil;
 import com.entec.tax.common.util.JsonUtil;
 import com.entec.tax.common.util.ValidationUtil;
+import com.entec.tax.domain.common.dto.PageResponse;
 import com.entec.tax.domain.input.entity.InpBasic;
 import com.entec.tax.domain.input.entity.InpDeduction;
 import com.entec.tax.domain.input.entity.InpEmployee;
@@ -25,12 +28,14 @@ import com.entec.tax.domain.input.repository.InpEmployeeRepository;
 import com.entec.tax.domain.input.repository.InpFinancialRepository;
 import com.entec.tax.domain.input.repository.InpRawDataRepository;
 import com.entec.tax.domain.log.entity.LogCalculation;
-import com.entec.tax.domain.log.repository.LogCalculationRepository;
+import com.entec.tax.domain.log.service.CalculationLogWriter;
 import com.entec.tax.domain.output.entity.OutRefund;
 import com.entec.tax.domain.output.repository.OutRefundRepository;
 import com.entec.tax.domain.request.dto.DatasetDto;
 import com.entec.tax.domain.request.dto.RequestCreateDto;
+import com.entec.tax.domain.request.dto.RequestListItemDto;
 import com.entec.tax.domain.request.dto.RequestResponseDto;
+import com.entec.tax.domain.request.dto.RequestSearchDto;
 import com.entec.tax.domain.request.dto.RequestStatusDto;
 import com.entec.tax.domain.request.dto.RequestSummaryDto;
 import com.entec.tax.domain.request.entity.ReqRequest;
@@ -41,12 +46,14 @@ import org.springframework.dao.PessimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.math.BigDecimal;
 import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -88,6 +95,12 @@ public class RequestManagementServiceImpl implements RequestManagementService {
     /** 데드락 재시도 최대 횟수 */
     private static final int MAX_DEADLOCK_RETRY = 3;
 
+    /** 요청 목록 조회 기본 페이지 크기 */
+    private static final int DEFAULT_LIST_PAGE_SIZE = 50;
+
+    /** 요청 목록 조회 최대 페이지 크기 */
+    private static final int MAX_LIST_PAGE_SIZE = 200;
+
     /** 데드락 재시도 기본 대기 시간 (밀리초) */
     private static final long DEADLOCK_BASE_BACKOFF_MS = 100L;
 
@@ -109,18 +122,22 @@ public class RequestManagementServiceImpl implements RequestManagementService {
     /** 계산 단계명: M1-03 (요약 테이블 생성) */
     private static final String CALC_STEP_M1_03 = "M1-03";
 
+    /** 데이터셋을 정정할 수 있는 요청 상태 (분석 진행 중이 아닌 상태) */
+    private static final List<String> CORRECTABLE_STATUSES = Arrays.asList("parsed", "completed", "failed");
+
     // ──────────────────────────────────────────────────────────────────
     // 의존성 주입 (생성자 주입 via @RequiredArgsConstructor)
     // ──────────────────────────────────────────────────────────────────
 
     private final ReqRequestRepository reqRequestRepository;
+    private final RequestStateMachine requestStateMachine;
     private final InpRawDataRepository inpRawDataRepository;
     private final InpBasicRepository inpBasicRepository;
     private final InpEmployeeRepository inpEmployeeRepository;
     private final InpDeductionRepository inpDeductionRepository;
     private final InpFinancialRepository inpFinancialRepository;
     private final OutRefundRepository outRefundRepository;
-    private final LogCalculationRepository logCalculationRepository;
+    private final CalculationLogWriter calculationLogWriter;
 
     // ══════════════════════════════════════════════════════════════════
     // M1-01: 요청 접수 및 req_id 발급
@@ -149,6 +166,7 @@ public class RequestManagementServiceImpl implements RequestManagementService {
      * @throws TaxServiceException          기타 처리 오류 시
      */
     @Override
+    @ConnectionPool(ConnectionPoolType.INTAKE)
     public RequestResponseDto createRequest(RequestCreateDto requestCreateDto, String idempotencyKey) {
         long startTime = System.currentTimeMillis();
 
@@ -257,8 +275,11 @@ public class RequestManagementServiceImpl implements RequestManagementService {
         // ── M1-02: 원시 JSON 수신 및 보관 ──
         int datasetsReceived = storeRawData(reqId, request, dto.getDatasets(), dto.getTaxType());
 
+        // ── 상태 갱신: RECEIVED → PARSING ──
+        int parsingVersion = requestStateMachine.transition(request, RequestStatus.PARSING.getCode());
+
         // ── M1-03: 요약 테이블 생성 ──
-        generateSummaries(reqId, request);
+        generateSummaries(reqId, request, parsingVersion);
 
         // ── 응답 DTO 구성 ──
         RequestResponseDto responseDto = new RequestResponseDto();
@@ -387,9 +408,6 @@ public class RequestManagementServiceImpl implements RequestManagementService {
                     reqId, dataset.getCategory(), byteSize, recordCount, checksum);
         }
 
-        // ── 상태 갱신: RECEIVED → PARSING ──
-        reqRequestRepository.updateStatus(reqId, RequestStatus.PARSING.getCode(), LocalDateTime.now());
-
         // ── 감사추적 로그 기록 (M1-02) ──
         saveLog(reqId, CALC_STEP_M1_02, "storeRawData",
                 "datasetsCount=" + datasets.size() + ", totalByteSize=" + totalByteSize,
@@ -413,27 +431,26 @@ public class RequestManagementServiceImpl implements RequestManagementService {
      * <ol>
      *   <li>INP_RAW_DATA에서 해당 reqId의 원시 데이터 전체를 조회한다.</li>
      *   <li>카테고리별로 분류하여 각 요약 테이블에 데이터를 삽입한다.</li>
-     *   <li>재처리(version &gt; 1) 시: 기존 요약 데이터를 삭제하고, prev_data_hash를 감사추적 로그에 기록한다.</li>
-     *   <li>상태를 PARSING → PARSED로 갱신한다.</li>
+     *   <li>재처리(기존 요약 데이터 존재) 시: 기존 요약 데이터를 삭제하고, prev_data_hash를 감사추적 로그에 기록한다.
+     *       version 은 상태 전이마다 증가하는 낙관적 잠금 값이므로 재처리 판단에 사용하지 않는다.</li>
+     *   <li>상태를 PARSING → PARSED로 갱신한다 (PARSING 전이가 반환한 version 일 때만).</li>
      * </ol>
      *
-     * @param reqId   요청 ID
-     * @param request ReqRequest 엔티티 (version 확인용)
+     * @param reqId          요청 ID
+     * @param request        ReqRequest 엔티티 (FK 참조용)
+     * @param parsingVersion PARSING 전이 후 version
      */
-    private void generateSummaries(String reqId, ReqRequest request) {
+    private void generateSummaries(String reqId, ReqRequest request, int parsingVersion) {
         long startTime = System.currentTimeMillis();
         LocalDateTime now = LocalDateTime.now();
 
-        // ── 재처리 여부 확인 (version > 1) ──
-        boolean isReprocessing = request.getVersion() != null && request.getVersion() > 1;
-        String prevDataHash = null;
+        // ── 재처리 여부 확인 (기존 요약 데이터 존재) ──
+        String prevDataHash = calculatePreviousSummaryHash(reqId);
+        boolean isReprocessing = prevDataHash != null;
 
         if (isReprocessing) {
-            log.info("[M1-03] 재처리 감지. 기존 요약 데이터 삭제 시작. reqId={}, version={}",
-                    reqId, request.getVersion());
-
-            // 기존 요약 데이터의 해시 기록
-            prevDataHash = calculatePreviousSummaryHash(reqId);
+            log.info("[M1-03] 재처리 감지. 기존 요약 데이터 삭제 시작. reqId={}, prevDataHash={}",
+                    reqId, prevDataHash);
 
             // 기존 요약 데이터 삭제
             deleteExistingSummaries(reqId);
@@ -446,7 +463,8 @@ public class RequestManagementServiceImpl implements RequestManagementService {
 
         if (rawDataList.isEmpty()) {
             log.warn("[M1-03] 원시 데이터가 없습니다. reqId={}", reqId);
-            reqRequestRepository.updateStatus(reqId, RequestStatus.PARSED.getCode(), now);
+            requestStateMachine.transition(reqId, RequestStatus.PARSING.getCode(), parsingVersion,
+                    RequestStatus.PARSED.getCode());
             return;
         }
 
@@ -456,25 +474,7 @@ public class RequestManagementServiceImpl implements RequestManagementService {
             String rawJson = rawData.getRawJson();
 
             try {
-                switch (category.toLowerCase()) {
-                    case "basic":
-                    case "corp_basic":
-                    case "inc_basic":
-                        extractAndSaveBasic(reqId, rawJson, request);
-                        break;
-                    case "employee":
-                        extractAndSaveEmployee(reqId, rawJson);
-                        break;
-                    case "deduction":
-                        extractAndSaveDeduction(reqId, rawJson, request.getTaxYear());
-                        break;
-                    case "financial":
-                        extractAndSaveFinancial(reqId, rawJson);
-                        break;
-                    default:
-                        log.debug("[M1-03] 요약 미대상 카테고리. reqId={}, category={}", reqId, category);
-                        break;
-                }
+                extractSummary(reqId, category, rawJson, request);
             } catch (Exception e) {
                 log.error("[M1-03] 요약 데이터 추출 실패. reqId={}, category={}, error={}",
                         reqId, category, e.getMessage(), e);
@@ -483,7 +483,8 @@ public class RequestManagementServiceImpl implements RequestManagementService {
         }
 
         // ── 상태 갱신: PARSING → PARSED ──
-        reqRequestRepository.updateStatus(reqId, RequestStatus.PARSED.getCode(), now);
+        requestStateMachine.transition(reqId, RequestStatus.PARSING.getCode(), parsingVersion,
+                RequestStatus.PARSED.getCode());
 
         // ── 감사추적 로그 기록 (M1-03) ──
         LogCalculation logEntry = LogCalculation.builder()
@@ -499,7 +500,7 @@ public class RequestManagementServiceImpl implements RequestManagementService {
                 .traceId(resolveTraceId())
                 .prevDataHash(prevDataHash)
                 .build();
-        logCalculationRepository.save(logEntry);
+        calculationLogWriter.write(logEntry);
 
         log.info("[M1-03] 요약 테이블 생성 완료. reqId={}, rawDataCount={}, 소요시간={}ms",
                 reqId, rawDataList.size(), System.currentTimeMillis() - startTime);
@@ -533,6 +534,122 @@ public class RequestManagementServiceImpl implements RequestManagementService {
         return statusDto;
     }
 
+    // ══════════════════════════════════════════════════════════════════
+    // 데이터셋 정정 (API-09)
+    // ══════════════════════════════════════════════════════════════════
+
+    /**
+     * 카테고리 1건의 원시 데이터를 교체하고 해당 카테고리의 요약만 다시 생성한다.
+     *
+     * <p>처리 흐름:</p>
+     * <ol>
+     *   <li>요청 상태 검증 (parsed / completed / failed) 후 조회 시점의 상태·version 조건으로 PARSING 선점</li>
+     *   <li>같은 카테고리의 INP_RAW_DATA 를 새 데이터로 교체 (체크섬 재계산)</li>
+     *   <li>해당 카테고리의 요약 테이블만 삭제 후 재생성 (다른 카테고리 요약은 유지)</li>
+     *   <li>상태를 PARSED 로 갱신하고 이전 체크섬을 감사추적 로그(prev_data_hash)에 기록</li>
+     * </ol>
+     *
+     * <p>이후 분석 실행 시 오케스트레이터가 노드별 입력 지문을 비교하여
+     * 정정한 카테고리를 읽는 단계·산출기만 다시 계산한다.</p>
+     *
+     * @param reqId   요청 ID
+     * @param dataset 정정 데이터셋 (category, subCategory, data)
+     * @return RequestStatusDto 정정 후 요청 상태
+     * @throws RequestNotFoundException 해당 요청 ID가 존재하지 않을 때
+     * @throws ValidationException      데이터 크기가 허용 범위를 초과한 경우
+     * @throws TaxServiceException      정정할 수 없는 상태이거나 다른 처리가 먼저 상태를 변경한 경우
+     */
+    @Override
+    @Transactional
+    @ConnectionPool(ConnectionPoolType.INTAKE)
+    @RehydrateArchived
+    public RequestStatusDto correctDataset(String reqId, DatasetDto dataset) {
+        long startTime = System.currentTimeMillis();
+        LocalDateTime now = LocalDateTime.now();
+        String category = dataset.getCategory();
+
+        ReqRequest request = findRequestOrThrow(reqId);
+        String currentStatus = request.getRequestStatus();
+        if (!isCorrectable(currentStatus)) {
+            throw new TaxServiceException(
+                    ErrorCode.INVALID_STATUS,
+                    "현재 상태(" + currentStatus + ")에서는 데이터셋을 정정할 수 없습니다. "
+                            + CORRECTABLE_STATUSES + " 상태에서만 정정할 수 있습니다.",
+                    reqId);
+        }
+
+        String rawJson = dataset.getData() instanceof String
+                ? (String) dataset.getData()
+                : JsonUtil.toJson(dataset.getData());
+        long byteSize = rawJson.getBytes(StandardCharsets.UTF_8).length;
+        if (byteSize > SystemConstants.MAX_JSON_SIZE_PER_CATEGORY) {
+            throw new ValidationException(
+                    "카테고리별 JSON 크기가 최대 허용 크기를 초과합니다. category=" + category,
+                    reqId,
+                    createFieldErrors("dataset.data", "카테고리별 크기 초과",
+                            SystemConstants.MAX_JSON_SIZE_PER_CATEGORY + " bytes",
+                            byteSize + " bytes"));
+        }
+
+        int parsingVersion = requestStateMachine.transition(request, RequestStatus.PARSING.getCode());
+
+        // ── 원시 데이터 교체 ──
+        List<InpRawData> previous = inpRawDataRepository.findByReqRequestReqIdAndCategory(reqId, category);
+        String prevDataHash = previous.isEmpty() ? null : previous.get(0).getChecksum();
+        inpRawDataRepository.deleteByReqIdAndCategory(reqId, category);
+        deleteSummary(reqId, category);
+
+        String checksum = CryptoUtil.generateChecksum(rawJson);
+        inpRawDataRepository.save(InpRawData.builder()
+                .reqRequest(request)
+                .category(category)
+                .subCategory(dataset.getSubCategory())
+                .rawJson(rawJson)
+                .recordCount(calculateRecordCount(dataset.getData()))
+                .byteSize(byteSize)
+                .checksum(checksum)
+                .receivedAt(now)
+                .build());
+
+        // ── 해당 카테고리 요약만 재생성 ──
+        extractSummary(reqId, category, rawJson, request);
+        requestStateMachine.transition(reqId, RequestStatus.PARSING.getCode(), parsingVersion,
+                RequestStatus.PARSED.getCode());
+
+        LogCalculation logEntry = LogCalculation.builder()
+                .reqId(reqId)
+                .calcStep(CALC_STEP_M1_03)
+                .functionName("correctDataset")
+                .inputData("category=" + category + ", byteSize=" + byteSize)
+                .outputData("checksum=" + checksum + ", status=PARSED")
+                .logLevel(LogLevel.INFO.getCode())
+                .executedAt(now)
+                .executedBy(resolveRequestedBy())
+                .durationMs((int) (System.currentTimeMillis() - startTime))
+                .traceId(resolveTraceId())
+                .prevDataHash(prevDataHash)
+                .build();
+        calculationLogWriter.write(logEntry);
+
+        log.info("[API-09] 데이터셋 정정 완료. reqId={}, category={}, prevChecksum={}, checksum={}",
+                reqId, category, prevDataHash, checksum);
+
+        RequestStatusDto statusDto = new RequestStatusDto();
+        statusDto.setReqId(reqId);
+        statusDto.setStatus(RequestStatus.PARSED.getCode());
+        statusDto.setProgress(resolveProgressDescription(RequestStatus.PARSED.getCode()));
+        return statusDto;
+    }
+
+    private static boolean isCorrectable(String status) {
+        for (String correctable : CORRECTABLE_STATUSES) {
+            if (correctable.equalsIgnoreCase(status)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     // ══════════════════════════════════════════════════════════════════
     // 원시 데이터 조회 (API-06)
     // ══════════════════════════════════════════════════════════════════
@@ -550,6 +667,7 @@ public class RequestManagementServiceImpl implements RequestManagementService {
      */
     @Override
     @Transactional(readOnly = true)
+    @RehydrateArchived
     public Object getRawData(String reqId, String category) {
         // 요청 존재 여부 확인
         findRequestOrThrow(reqId);
@@ -617,6 +735,7 @@ public class RequestManagementServiceImpl implements RequestManagementService {
      */
     @Override
     @Transactional(readOnly = true)
+    @RehydrateArchived
     public RequestSummaryDto getRequestSummary(String reqId) {
         ReqRequest request = findRequestOrThrow(reqId);
 
@@ -654,6 +773,64 @@ public class RequestManagementServiceImpl implements RequestManagementService {
         return summaryDto;
     }
 
+    /**
+     * 요청 목록을 키셋 페이징으로 조회한다.
+     *
+     * <p>페이지 크기 + 1 건을 읽어 다음 페이지 존재 여부를 판단하고, 마지막 행의 (생성 일시, 요청 ID)를
+     * 다음 페이지 커서로 돌려준다. 엔티티 대신 목록 항목 프로젝션으로 조회하므로 원시 데이터·연관 엔티티를 읽지 않는다.</p>
+     *
+     * @param search 조회 조건
+     * @return 요청 목록 페이지 (next_cursor 는 마지막 페이지이면 생략)
+     * @throws ValidationException 페이지 크기, 생성일 구간 또는 커서가 유효하지 않을 때
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public PageResponse<RequestListItemDto> searchRequests(RequestSearchDto search) {
+        int size = search.getSize() != null ? search.getSize() : DEFAULT_LIST_PAGE_SIZE;
+        if (size < 1 || size > MAX_LIST_PAGE_SIZE) {
+            throw new ValidationException(
+                    "페이지 크기가 허용 범위를 벗어났습니다.",
+                    null,
+                    createFieldErrors("size", "허용 범위 초과", "1~" + MAX_LIST_PAGE_SIZE, String.valueOf(size)));
+        }
+        if (search.getFromDate() != null && search.getToDate() != null
+                && search.getFromDate().isAfter(search.getToDate())) {
+            throw new ValidationException(
+                    "생성일 시작이 종료보다 늦습니다.",
+                    null,
+                    createFieldErrors("fromDate", "구간 역전", "toDate 이전", search.getFromDate().toString()));
+        }
+
+        LocalDateTime cursorCreatedAt = null;
+        String cursorReqId = null;
+        if (ValidationUtil.isNotEmpty(search.getCursor())) {
+            String[] cursor = decodeListCursor(search.getCursor());
+            cursorCreatedAt = LocalDateTime.parse(cursor[0]);
+            cursorReqId = cursor[1];
+        }
+
+        List<RequestListItemDto> rows = reqRequestRepository.searchPage(
+                emptyToNull(search.getStatus()),
+                emptyToNull(search.getApplicantId()),
+                emptyToNull(search.getTaxYear()),
+                search.getFromDate() != null ? search.getFromDate().atStartOfDay() : null,
+                search.getToDate() != null ? search.getToDate().plusDays(1).atStartOfDay() : null,
+                cursorCreatedAt,
+                cursorReqId,
+                size + 1);
+
+        String nextCursor = null;
+        if (rows.size() > size) {
+            rows = new ArrayList<RequestListItemDto>(rows.subList(0, size));
+            RequestListItemDto last = rows.get(size - 1);
+            nextCursor = encodeListCursor(last.getCreatedAt(), last.getReqId());
+        }
+
+        log.debug("[API-10] 요청 목록 조회. status={}, applicantId={}, taxYear={}, size={}, returned={}, hasNext={}",
+                search.getStatus(), search.getApplicantId(), search.getTaxYear(), size, rows.size(), nextCursor != null);
+        return PageResponse.ofKeyset(rows, size, nextCursor);
+    }
+
     // ══════════════════════════════════════════════════════════════════
     // Private 헬퍼 메서드
     // ══════════════════════════════════════════════════════════════════
@@ -877,33 +1054,42 @@ public class RequestManagementServiceImpl implements RequestManagementService {
      * 기존 요약 테이블 데이터를 삭제한다 (재처리 시 사용).
      *
      * <p>INP_BASIC, INP_EMPLOYEE, INP_DEDUCTION, INP_FINANCIAL 테이블에서
-     * 해당 reqId의 데이터를 모두 삭제한다.</p>
+     * 해당 reqId의 데이터를 테이블당 DELETE 한 문장으로 모두 삭제한다
+     * (엔티티를 조회하지 않으므로 행 수와 관계없이 왕복 4회).</p>
      *
      * @param reqId 요청 ID
      */
     private void deleteExistingSummaries(String reqId) {
-        // INP_BASIC 삭제
-        Optional<InpBasic> basicOpt = inpBasicRepository.findByReqId(reqId);
-        if (basicOpt.isPresent()) {
-            inpBasicRepository.delete(basicOpt.get());
-        }
-
-        // INP_EMPLOYEE 삭제
-        List<InpEmployee> employees = inpEmployeeRepository.findByReqId(reqId);
-        if (!employees.isEmpty()) {
-            inpEmployeeRepository.deleteAll(employees);
-        }
-
-        // INP_DEDUCTION 삭제
-        List<InpDeduction> deductions = inpDeductionRepository.findByReqId(reqId);
-        if (!deductions.isEmpty()) {
-            inpDeductionRepository.deleteAll(deductions);
-        }
+        inpBasicRepository.deleteByReqId(reqId);
+        inpEmployeeRepository.deleteByReqId(reqId);
+        inpDeductionRepository.deleteByReqId(reqId);
+        inpFinancialRepository.deleteByReqId(reqId);
+    }
 
-        // INP_FINANCIAL 삭제
-        Optional<InpFinancial> financialOpt = inpFinancialRepository.findByReqId(reqId);
-        if (financialOpt.isPresent()) {
-            inpFinancialRepository.delete(financialOpt.get());
+    /**
+     * 카테고리 1건에 해당하는 요약 테이블 데이터를 삭제한다 (데이터셋 정정 시 사용).
+     *
+     * @param reqId    요청 ID
+     * @param category 데이터 카테고리
+     */
+    private void deleteSummary(String reqId, String category) {
+        switch (category.toLowerCase()) {
+            case "basic":
+            case "corp_basic":
+            case "inc_basic":
+                inpBasicRepository.deleteByReqId(reqId);
+                break;
+            case "employee":
+                inpEmployeeRepository.deleteByReqId(reqId);
+                break;
+            case "deduction":
+                inpDeductionRepository.deleteByReqId(reqId);
+                break;
+            case "financial":
+                inpFinancialRepository.deleteByReqId(reqId);
+                break;
+            default:
+                break;
         }
     }
 
@@ -911,6 +1097,36 @@ public class RequestManagementServiceImpl implements RequestManagementService {
     // 요약 추출 메서드 (M1-03 내부)
     // ──────────────────────────────────────────────────────────────────
 
+    /**
+     * 카테고리별 요약 추출 메서드로 분기한다.
+     *
+     * @param reqId    요청 ID
+     * @param category 데이터 카테고리
+     * @param rawJson  원시 JSON 문자열
+     * @param request  ReqRequest 엔티티 (메타정보 참조용)
+     */
+    private void extractSummary(String reqId, String category, String rawJson, ReqRequest request) {
+        switch (category.toLowerCase()) {
+            case "basic":
+            case "corp_basic":
+            case "inc_basic":
+                extractAndSaveBasic(reqId, rawJson, request);
+                break;
+            case "employee":
+                extractAndSaveEmployee(reqId, rawJson);
+                break;
+            case "deduction":
+                extractAndSaveDeduction(reqId, rawJson, request.getTaxYear());
+                break;
+            case "financial":
+                extractAndSaveFinancial(reqId, rawJson);
+                break;
+            default:
+                log.debug("[M1-03] 요약 미대상 카테고리. reqId={}, category={}", reqId, category);
+                break;
+        }
+    }
+
     /**
      * 원시 JSON에서 기본 정보를 추출하여 INP_BASIC에 저장한다.
      *
@@ -930,33 +1146,8 @@ public class RequestManagementServiceImpl implements RequestManagementService {
 
         Map<String, Object> data = JsonUtil.fromJson(rawJson, Map.class);
 
-        InpBasic basic = InpBasic.builder()
-                .reqId(reqId)
-                .requestDate(request.getRequestDate())
-                .taxType(request.getTaxType())
-                .applicantName(getStringValue(data, "applicant_name"))
-                .bizRegNo(getStringValue(data, "biz_reg_no"))
-                .corpSize(getStringValue(data, "corp_size"))
-                .industryCode(getStringValue(data, "industry_code"))
-                .hqLocation(getStringValue(data, "hq_location"))
-                .capitalZone(getStringValue(data, "capital_zone"))
-                .depopulationArea(getBooleanValue(data, "depopulation_area"))
-                .taxYear(request.getTaxYear())
-                .fiscalStart(getLocalDateValue(data, "fiscal_start"))
-                .fiscalEnd(getLocalDateValue(data, "fiscal_end"))
-                .revenue(getLongValue(data, "revenue"))
-                .taxableIncome(getLongValue(data, "taxable_income"))
-                .computedTax(getLongValue(data, "computed_tax"))
-                .paidTax(getLongValue(data, "paid_tax"))
-                .foundingDate(getLocalDateValue(data, "founding_date"))
-                .ventureYn(getBooleanValue(data, "venture_yn"))
-                .rdDeptYn(getBooleanValue(data, "rd_dept_yn"))
-                .claimReason(getStringValue(data, "claim_reason"))
-                .sincerityTarget(getBooleanValue(data, "sincerity_target"))
-                .bookkeepingType(getStringValue(data, "bookkeeping_type"))
-                .consolidatedTax(getBooleanValue(data, "consolidated_tax"))
-                .summaryGeneratedAt(LocalDateTime.now())
-                .build();
+        InpBasic basic = InputSummaryMapper.toBasic(reqId, data,
+                request.getRequestDate(), request.getTaxType(), request.getTaxYear());
 
         inpBasicRepository.save(basic);
         log.debug("[M1-03] INP_BASIC 저장 완료. reqId={}", reqId);
@@ -1001,32 +1192,14 @@ public class RequestManagementServiceImpl implements RequestManagementService {
      * @param empData 고용 정보 데이터 Map
      */
     private void saveEmployeeRecord(String reqId, Map<String, Object> empData) {
-        String yearType = getStringValue(empData, "year_type");
-        if (yearType == null || yearType.isEmpty()) {
-            yearType = "CURRENT";
-        }
+        InpEmployee employee = InputSummaryMapper.toEmployee(reqId, empData);
 
         // 이미 존재하면 건너뜀
-        if (inpEmployeeRepository.findByReqIdAndYearType(reqId, yearType).isPresent()) {
-            log.debug("[M1-03] INP_EMPLOYEE 이미 존재. 건너뜀. reqId={}, yearType={}", reqId, yearType);
+        if (inpEmployeeRepository.findByReqIdAndYearType(reqId, employee.getYearType()).isPresent()) {
+            log.debug("[M1-03] INP_EMPLOYEE 이미 존재. 건너뜀. reqId={}, yearType={}", reqId, employee.getYearType());
             return;
         }
 
-        InpEmployee employee = InpEmployee.builder()
-                .reqId(reqId)
-                .yearType(yearType)
-                .totalRegular(getBigDecimalValue(empData, "total_regular"))
-                .youthCount(getIntegerValue(empData, "youth_count"))
-                .disabledCount(getIntegerValue(empData, "disabled_count"))
-                .agedCount(getIntegerValue(empData, "aged_count"))
-                .careerBreakCount(getIntegerValue(empData, "career_break_count"))
-                .northDefectorCount(getIntegerValue(empData, "north_defector_count"))
-                .generalCount(getIntegerValue(empData, "general_count"))
-                .excludedCount(getIntegerValue(empData, "excluded_count"))
-                .totalSalary(getLongValue(empData, "total_salary"))
-                .socialInsurancePaid(getLongValue(empData, "social_insurance_paid"))
-                .build();
-
         inpEmployeeRepository.save(employee);
     }
 
@@ -1057,38 +1230,7 @@ public class RequestManagementServiceImpl implements RequestManagementService {
             deductionList.add((Map<String, Object>) parsed);
         }
 
-        int autoSeq = 1;
-        for (Map<String, Object> dedData : deductionList) {
-            String itemCategory = getStringValue(dedData, "item_category");
-            String provision = getStringValue(dedData, "provision");
-            String dedTaxYear = getStringValue(dedData, "tax_year");
-            if (dedTaxYear == null || dedTaxYear.isEmpty()) {
-                dedTaxYear = taxYear;
-            }
-            Integer itemSeq = getIntegerValue(dedData, "item_seq");
-            if (itemSeq == null) {
-                itemSeq = autoSeq++;
-            } else {
-                autoSeq = itemSeq + 1;
-            }
-
-            InpDeduction deduction = InpDeduction.builder()
-                    .reqId(reqId)
-                    .itemCategory(itemCategory != null ? itemCategory : "UNKNOWN")
-                    .provision(provision != null ? provision : "N/A")
-                    .taxYear(dedTaxYear)
-                    .itemSeq(itemSeq)
-                    .baseAmount(getLongValue(dedData, "base_amount"))
-                    .zoneType(getStringValue(dedData, "zone_type"))
-                    .assetType(getStringValue(dedData, "asset_type"))
-                    .rdType(getStringValue(dedData, "rd_type"))
-                    .method(getStringValue(dedData, "method"))
-                    .subDetail(getStringValue(dedData, "sub_detail"))
-                    .existingApplied(getBooleanValue(dedData, "existing_applied"))
-                    .existingAmount(getLongValue(dedData, "existing_amount"))
-                    .carryforwardBalance(getLongValue(dedData, "carryforward_balance"))
-                    .build();
-
+        for (InpDeduction deduction : InputSummaryMapper.toDeductions(reqId, deductionList, taxYear)) {
             inpDeductionRepository.save(deduction);
         }
 
@@ -1113,28 +1255,7 @@ public class RequestManagementServiceImpl implements RequestManagementService {
 
         Map<String, Object> data = JsonUtil.fromJson(rawJson, Map.class);
 
-        InpFinancial financial = InpFinancial.builder()
-                .reqId(reqId)
-                .bizIncome(getLongValue(data, "biz_income"))
-                .nonTaxableIncome(getLongValue(data, "non_taxable_income"))
-                .lossCarryforwardTotal(getLongValue(data, "loss_carryforward_total"))
-                .lossCarryforwardDetail(getStringValue(data, "loss_carryforward_detail"))
-                .interimPrepaidTax(getLongValue(data, "interim_prepaid_tax"))
-                .withholdingTax(getLongValue(data, "withholding_tax"))
-                .determinedTax(getLongValue(data, "determined_tax"))
-                .dividendIncomeTotal(getLongValue(data, "dividend_income_total"))
-                .dividendExclusionDetail(getStringValue(data, "dividend_exclusion_detail"))
-                .foreignTaxTotal(getLongValue(data, "foreign_tax_total"))
-                .foreignIncomeTotal(getLongValue(data, "foreign_income_total"))
-                .taxAdjustmentDetail(getStringValue(data, "tax_adjustment_detail"))
-                .incDeductionTotal(getLongValue(data, "inc_deduction_total"))
-                .incDeductionDetail(getStringValue(data, "inc_deduction_detail"))
-                .incComprehensiveIncome(getLongValue(data, "inc_comprehensive_income"))
-                .currentYearLoss(getLongValue(data, "current_year_loss"))
-                .priorYearTaxPaid(getLongValue(data, "prior_year_tax_paid"))
-                .amendmentHistory(getStringValue(data, "amendment_history"))
-                .vehicleExpenseDetail(getStringValue(data, "vehicle_expense_detail"))
-                .build();
+        InpFinancial financial = InputSummaryMapper.toFinancial(reqId, data);
 
         inpFinancialRepository.save(financial);
         log.debug("[M1-03] INP_FINANCIAL 저장 완료. reqId={}", reqId);
@@ -1174,7 +1295,7 @@ public class RequestManagementServiceImpl implements RequestManagementService {
                 .traceId(resolveTraceId())
                 .build();
 
-        logCalculationRepository.save(logEntry);
+        calculationLogWriter.write(logEntry);
     }
 
     // ──────────────────────────────────────────────────────────────────
@@ -1249,156 +1370,58 @@ public class RequestManagementServiceImpl implements RequestManagementService {
     // ──────────────────────────────────────────────────────────────────
 
     /**
-     * Map에서 문자열 값을 안전하게 추출한다.
-     *
-     * @param data Map 데이터
-     * @param key  키
-     * @return 문자열 값 (없으면 null)
-     */
-    private String getStringValue(Map<String, Object> data, String key) {
-        Object value = data.get(key);
-        if (value == null) {
-            return null;
-        }
-        if (value instanceof String) {
-            return (String) value;
-        }
-        // JSON 객체/배열인 경우 JSON 문자열로 변환
-        if (value instanceof Map || value instanceof List) {
-            return JsonUtil.toJson(value);
-        }
-        return String.valueOf(value);
-    }
-
-    /**
-     * Map에서 Long 값을 안전하게 추출한다.
-     *
-     * @param data Map 데이터
-     * @param key  키
-     * @return Long 값 (없거나 변환 불가하면 null)
-     */
-    private Long getLongValue(Map<String, Object> data, String key) {
-        Object value = data.get(key);
-        if (value == null) {
-            return null;
-        }
-        if (value instanceof Number) {
-            return ((Number) value).longValue();
-        }
-        try {
-            return Long.parseLong(String.valueOf(value));
-        } catch (NumberFormatException e) {
-            log.debug("Long 변환 실패. key={}, value={}", key, value);
-            return null;
-        }
-    }
-
-    /**
-     * Map에서 Integer 값을 안전하게 추출한다.
-     *
-     * @param data Map 데이터
-     * @param key  키
-     * @return Integer 값 (없거나 변환 불가하면 null)
-     */
-    private Integer getIntegerValue(Map<String, Object> data, String key) {
-        Object value = data.get(key);
-        if (value == null) {
-            return null;
-        }
-        if (value instanceof Number) {
-            return ((Number) value).intValue();
-        }
-        try {
-            return Integer.parseInt(String.valueOf(value));
-        } catch (NumberFormatException e) {
-            log.debug("Integer 변환 실패. key={}, value={}", key, value);
-            return null;
-        }
-    }
-
-    /**
-     * Map에서 Boolean 값을 안전하게 추출한다.
+     * ValidationException용 단일 FieldError 목록을 생성하는 헬퍼 메서드.
      *
-     * @param data Map 데이터
-     * @param key  키
-     * @return Boolean 값 (없으면 null)
+     * @param field    오류 필드명
+     * @param issue    오류 설명
+     * @param expected 기대 값
+     * @param received 실제 수신 값
+     * @return FieldError 단일 항목 목록
      */
-    private Boolean getBooleanValue(Map<String, Object> data, String key) {
-        Object value = data.get(key);
-        if (value == null) {
-            return null;
-        }
-        if (value instanceof Boolean) {
-            return (Boolean) value;
-        }
-        return Boolean.parseBoolean(String.valueOf(value));
+    private List<ValidationException.FieldError> createFieldErrors(
+            String field, String issue, String expected, String received) {
+        List<ValidationException.FieldError> errors = new ArrayList<ValidationException.FieldError>();
+        errors.add(new ValidationException.FieldError(field, issue, expected, received));
+        return errors;
     }
 
     /**
-     * Map에서 BigDecimal 값을 안전하게 추출한다.
+     * 목록 조회 커서를 만든다 ("생성일시|요청ID" 의 URL-safe Base64).
      *
-     * @param data Map 데이터
-     * @param key  키
-     * @return BigDecimal 값 (없거나 변환 불가하면 null)
+     * @throws IllegalStateException 생성 일시가 없는 행인 경우 (created_at 은 NOT NULL 이므로 데이터 오류)
      */
-    private BigDecimal getBigDecimalValue(Map<String, Object> data, String key) {
-        Object value = data.get(key);
-        if (value == null) {
-            return null;
-        }
-        if (value instanceof BigDecimal) {
-            return (BigDecimal) value;
-        }
-        if (value instanceof Number) {
-            return new BigDecimal(String.valueOf(value));
-        }
-        try {
-            return new BigDecimal(String.valueOf(value));
-        } catch (NumberFormatException e) {
-            log.debug("BigDecimal 변환 실패. key={}, value={}", key, value);
-            return null;
+    private static String encodeListCursor(LocalDateTime createdAt, String reqId) {
+        if (createdAt == null) {
+            throw new IllegalStateException("Request without created_at cannot be paged: " + reqId);
         }
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((createdAt + "|" + reqId).getBytes(StandardCharsets.UTF_8));
     }
 
     /**
-     * Map에서 LocalDate 값을 안전하게 추출한다.
-     *
-     * <p>ISO 8601(YYYY-MM-DD) 또는 YYYYMMDD 형식을 지원한다.</p>
+     * 목록 조회 커서를 [생성일시, 요청ID] 로 푼다.
      *
-     * @param data Map 데이터
-     * @param key  키
-     * @return LocalDate 값 (없거나 파싱 불가하면 null)
+     * @throws ValidationException 커서 형식이 유효하지 않을 때
      */
-    private LocalDate getLocalDateValue(Map<String, Object> data, String key) {
-        Object value = data.get(key);
-        if (value == null) {
-            return null;
-        }
-        String dateStr = String.valueOf(value);
-        if (dateStr.isEmpty()) {
-            return null;
-        }
+    private String[] decodeListCursor(String cursor) {
         try {
-            return DateUtil.parseDate(dateStr);
-        } catch (Exception e) {
-            log.debug("LocalDate 변환 실패. key={}, value={}", key, value);
-            return null;
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = decoded.indexOf('|');
+            if (separator > 0 && separator < decoded.length() - 1) {
+                String createdAt = decoded.substring(0, separator);
+                LocalDateTime.parse(createdAt);
+                return new String[]{createdAt, decoded.substring(separator + 1)};
+            }
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            log.debug("[API-10] 커서 해석 실패. cursor={}, error={}", cursor, e.getMessage());
         }
+        throw new ValidationException(
+                "커서가 유효하지 않습니다.",
+                null,
+                createFieldErrors("cursor", "형식 오류", "이전 응답의 next_cursor", cursor));
     }
 
-    /**
-     * ValidationException용 단일 FieldError 목록을 생성하는 헬퍼 메서드.
-     *
-     * @param field    오류 필드명
-     * @param issue    오류 설명
-     * @param expected 기대 값
-     * @param received 실제 수신 값
-     * @return FieldError 단일 항목 목록
-     */
-    private List<ValidationException.FieldError> createFieldErrors(
-            String field, String issue, String expected, String received) {
-        List<ValidationException.FieldError> errors = new ArrayList<ValidationException.FieldError>();
-        errors.add(new ValidationException.FieldError(field, issue, expected, received));
-        return errors;
+    private static String emptyToNull(String value) {
+        return ValidationUtil.isNotEmpty(value) ? value : null;
     }
 }
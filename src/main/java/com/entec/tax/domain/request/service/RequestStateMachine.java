@@ -0,0 +1,187 @@
+package com.entec.tax.domain.request.service;
+
+import com.entec.tax.common.exception.ConcurrentConflictException;
+import com.entec.tax.common.exception.ErrorCode;
+import com.entec.tax.config.PoolRoutingDataSource;
+import com.entec.tax.domain.request.entity.ReqRequest;
+import com.entec.tax.domain.request.repository.ReqRequestRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * REQ_REQUEST 요청 상태 전이기 (낙관적 상태 머신).
+ * <p>
+ * 요청을 선점하는 전이(분석 시작, 대기열 선점, 데이터셋 정정 등)는 읽은 시점의 상태와 version 이
+ * 그대로일 때만 성공하는 조건부 UPDATE({@code WHERE req_id = ? AND request_status = ? AND version = ?})로 수행한다.
+ * 같은 요청을 동시에 전이하려는 호출 중 한 건만 1행을 갱신하고, 나머지는 잠금 대기 없이 0행으로 끝나
+ * {@link ConcurrentConflictException}(409)으로 거절된다.
+ * </p>
+ *
+ * <ul>
+ *   <li>버전 전달: 전이에 성공하면 새 version 을 반환한다. 이어지는 전이(단계 진행, 실패 기록 등)는 직전 전이가 반환한
+ *       상태·version 을 기대값으로 사용하므로, 다른 실행이 요청을 가져간 뒤 같은 상태에 도달해도 덮어쓰지 않는다.</li>
+ *   <li>허용 전이: 아래 전이표에 없는 전이는 UPDATE 전에 {@link ErrorCode#INVALID_STATUS}(409)로 거절한다.
+ *       상태 코드는 대소문자를 구분하지 않는다 (접수 단계는 대문자, 분석 단계는 소문자를 사용한다).</li>
+ *   <li>version: 모든 상태 UPDATE 가 1 증가시키므로, 상태가 같은 값으로 되돌아온 경우(ABA)에도 이전에 읽은 요청은 충돌로 판정된다.</li>
+ *   <li>기대값 조회: {@link #findCurrent(String)}는 복제본이 아닌 원본에서 읽는다 (복제 지연으로 이전 version 을 읽으면 전이가 항상 실패한다).</li>
+ * </ul>
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RequestStateMachine {
+
+    /** 분석 단계 실행 중 상태 (M3~M6) */
+    private static final Set<String> STAGE_STATUSES = set("checking", "calculating", "optimizing", "reporting");
+
+    /** 현재 상태별 전이 가능한 상태 (소문자) */
+    private static final Map<String, Set<String>> TRANSITIONS = new HashMap<String, Set<String>>();
+
+    static {
+        // 분석 시작·재개: 대기열 선점, 시작 단계 선점, 변경 없음·결과 재사용 완료, 데이터셋 정정
+        Set<String> startable = union(set("parsing", "queued", "completed"), STAGE_STATUSES);
+
+        TRANSITIONS.put("received", set("parsing"));
+        TRANSITIONS.put("parsing", set("parsed"));
+        TRANSITIONS.put("parsed", startable);
+        TRANSITIONS.put("completed", startable);
+        TRANSITIONS.put("failed", startable);
+        TRANSITIONS.put("queued", union(set("completed", "failed", "hard_fail"), STAGE_STATUSES));
+        TRANSITIONS.put("checking", set("checking", "calculating", "queued", "failed", "hard_fail"));
+        TRANSITIONS.put("calculating", set("calculating", "optimizing", "queued", "failed", "hard_fail"));
+        TRANSITIONS.put("optimizing", set("optimizing", "reporting", "queued", "failed", "hard_fail"));
+        TRANSITIONS.put("reporting", set("reporting", "completed", "queued", "failed", "hard_fail"));
+    }
+
+    /** 요청 리포지토리 */
+    private final ReqRequestRepository reqRequestRepository;
+
+    /**
+     * 현재 상태에서 대상 상태로 전이할 수 있는지 확인한다.
+     *
+     * @param fromStatus 현재 상태
+     * @param toStatus   대상 상태
+     * @return 전이표에 있으면 true
+     */
+    public static boolean canTransition(String fromStatus, String toStatus) {
+        if (fromStatus == null || toStatus == null) {
+            return false;
+        }
+        Set<String> targets = TRANSITIONS.get(fromStatus.toLowerCase());
+        return targets != null && targets.contains(toStatus.toLowerCase());
+    }
+
+    /**
+     * 전이 기대값으로 사용할 요청을 원본에서 조회한다.
+     *
+     * @param reqId 요청 ID
+     * @return 요청 (없으면 빈 값)
+     */
+    public Optional<ReqRequest> findCurrent(String reqId) {
+        boolean previous = PoolRoutingDataSource.forcePrimary(true);
+        try {
+            return reqRequestRepository.findById(reqId);
+        } finally {
+            PoolRoutingDataSource.forcePrimary(previous);
+        }
+    }
+
+    /**
+     * 읽은 요청의 상태·version 이 그대로일 때만 대상 상태로 전이한다.
+     * <p>
+     * 호출 측 트랜잭션이 없으면 단독 트랜잭션으로 즉시 커밋된다.
+     * </p>
+     *
+     * @param request  전이 직전에 읽은 요청 (상태와 version 을 기대값으로 사용)
+     * @param toStatus 대상 상태
+     * @return 전이 후 version
+     * @throws com.entec.tax.common.exception.TaxServiceException 전이표에 없는 전이인 경우(INVALID_STATUS, 409)
+     * @throws ConcurrentConflictException 읽은 뒤 다른 실행이 먼저 상태를 변경한 경우(409)
+     */
+    public int transition(ReqRequest request, String toStatus) {
+        return transition(request.getReqId(), request.getRequestStatus(), request.getVersion(), toStatus);
+    }
+
+    /**
+     * 요청이 기대 상태·version 일 때만 대상 상태로 전이한다.
+     *
+     * @param reqId      요청 ID
+     * @param fromStatus 기대 상태 (직전 전이의 대상 상태)
+     * @param version    기대 version (직전 전이가 반환한 값)
+     * @param toStatus   대상 상태
+     * @return 전이 후 version
+     * @throws com.entec.tax.common.exception.TaxServiceException 전이표에 없는 전이인 경우(INVALID_STATUS, 409)
+     * @throws ConcurrentConflictException 다른 실행이 먼저 상태를 변경한 경우(409)
+     */
+    public int transition(String reqId, String fromStatus, int version, String toStatus) {
+        verify(reqId, fromStatus, toStatus);
+        int updated = reqRequestRepository.updateStatusIfVersion(
+                reqId, fromStatus, version, toStatus, LocalDateTime.now());
+        if (updated == 0) {
+            log.warn("요청 상태 전이 충돌 — reqId={}, from={}, to={}, version={}",
+                    reqId, fromStatus, toStatus, version);
+            throw new ConcurrentConflictException(
+                    "다른 실행이 먼저 요청 상태를 변경했습니다. (조회 시점 상태: " + fromStatus
+                            + ", version: " + version + ") 최신 상태를 조회한 후 다시 시도하십시오.",
+                    reqId);
+        }
+        return version + 1;
+    }
+
+    /**
+     * 요청이 기대 상태·version 일 때만 실패 상태와 오류 메시지를 기록한다.
+     * <p>
+     * 실패 기록은 원래 예외를 가리지 않도록 충돌하거나 허용되지 않는 전이이면 예외 없이 false 를 반환한다.
+     * </p>
+     *
+     * @param reqId        요청 ID
+     * @param fromStatus   기대 상태
+     * @param version      기대 version
+     * @param failStatus   실패 상태 (failed, hard_fail)
+     * @param errorMessage 오류 메시지
+     * @return 기록했으면 true, 다른 실행이 먼저 상태를 변경했으면 false
+     */
+    public boolean fail(String reqId, String fromStatus, int version, String failStatus, String errorMessage) {
+        if (!canTransition(fromStatus, failStatus)) {
+            log.warn("요청 실패 상태 기록 생략 (허용되지 않는 전이) — reqId={}, from={}, to={}", reqId, fromStatus, failStatus);
+            return false;
+        }
+        int updated = reqRequestRepository.updateStatusWithErrorIfVersion(
+                reqId, fromStatus, version, failStatus, errorMessage, LocalDateTime.now());
+        if (updated == 0) {
+            log.warn("요청 실패 상태 기록 생략 (다른 실행이 상태 변경) — reqId={}, from={}, to={}, version={}",
+                    reqId, fromStatus, failStatus, version);
+            return false;
+        }
+        return true;
+    }
+
+    private static void verify(String reqId, String fromStatus, String toStatus) {
+        if (!canTransition(fromStatus, toStatus)) {
+            throw new ConcurrentConflictException(
+                    ErrorCode.INVALID_STATUS,
+                    "요청 상태를 " + fromStatus + " 에서 " + toStatus + " (으)로 변경할 수 없습니다.",
+                    reqId);
+        }
+    }
+
+    private static Set<String> set(String... statuses) {
+        return Collections.unmodifiableSet(new HashSet<String>(Arrays.asList(statuses)));
+    }
+
+    private static Set<String> union(Set<String> first, Set<String> second) {
+        Set<String> merged = new HashSet<String>(first);
+        merged.addAll(second);
+        return Collections.unmodifiableSet(merged);
+    }
+}
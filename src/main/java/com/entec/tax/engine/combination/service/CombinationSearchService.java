@@ -2,34 +2,32 @@ package com.entec.tax.engine.combination.service;
 
 import com.entec.tax.common.constants.CreditType;
 import com.entec.tax.common.constants.SystemConstants;
+import com.entec.tax.common.constants.SystemParamKey;
 import com.entec.tax.common.exception.CalculationException;
 import com.entec.tax.common.exception.ErrorCode;
+import com.entec.tax.common.metrics.AnalysisMetrics;
 import com.entec.tax.common.util.JsonUtil;
 import com.entec.tax.common.util.TruncationUtil;
 import com.entec.tax.domain.check.entity.ChkEligibility;
-import com.entec.tax.domain.check.repository.ChkEligibilityRepository;
 import com.entec.tax.domain.input.entity.InpBasic;
 import com.entec.tax.domain.input.entity.InpFinancial;
-import com.entec.tax.domain.input.repository.InpBasicRepository;
-import com.entec.tax.domain.input.repository.InpFinancialRepository;
 import com.entec.tax.domain.log.entity.LogCalculation;
-import com.entec.tax.domain.log.repository.LogCalculationRepository;
 import com.entec.tax.domain.output.entity.OutCombination;
 import com.entec.tax.domain.output.entity.OutCreditDetail;
 import com.entec.tax.domain.output.entity.OutExclusionVerify;
 import com.entec.tax.domain.output.repository.OutCombinationRepository;
-import com.entec.tax.domain.output.repository.OutCreditDetailRepository;
 import com.entec.tax.domain.output.repository.OutExclusionVerifyRepository;
+import com.entec.tax.domain.reference.cache.SystemParamRegistry;
+import com.entec.tax.domain.reference.cache.TaxYearRulePlan;
+import com.entec.tax.domain.reference.cache.TaxYearRulePlanCache;
 import com.entec.tax.domain.reference.entity.RefMinTaxRate;
 import com.entec.tax.domain.reference.entity.RefMutualExclusion;
 import com.entec.tax.domain.reference.entity.RefNongteukse;
 import com.entec.tax.domain.reference.entity.RefRdMinTaxExempt;
-import com.entec.tax.domain.reference.entity.RefSystemParam;
 import com.entec.tax.domain.reference.repository.RefMinTaxRateRepository;
-import com.entec.tax.domain.reference.repository.RefMutualExclusionRepository;
 import com.entec.tax.domain.reference.repository.RefNongteukseRepository;
 import com.entec.tax.domain.reference.repository.RefRdMinTaxExemptRepository;
-import com.entec.tax.domain.reference.repository.RefSystemParamRepository;
+import com.entec.tax.engine.context.AnalysisContext;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -90,27 +88,23 @@ public class CombinationSearchService {
     // 의존성 주입 (생성자 주입 via @RequiredArgsConstructor)
     // ──────────────────────────────────────────────
 
-    private final OutCreditDetailRepository outCreditDetailRepository;
     private final OutCombinationRepository outCombinationRepository;
     private final OutExclusionVerifyRepository outExclusionVerifyRepository;
-    private final InpBasicRepository inpBasicRepository;
-    private final InpFinancialRepository inpFinancialRepository;
-    private final ChkEligibilityRepository chkEligibilityRepository;
-    private final LogCalculationRepository logCalculationRepository;
-    private final RefMutualExclusionRepository refMutualExclusionRepository;
     private final RefMinTaxRateRepository refMinTaxRateRepository;
     private final RefNongteukseRepository refNongteukseRepository;
     private final RefRdMinTaxExemptRepository refRdMinTaxExemptRepository;
-    private final RefSystemParamRepository refSystemParamRepository;
+    private final SystemParamRegistry systemParamRegistry;
+    private final TaxYearRulePlanCache taxYearRulePlanCache;
+    private final AnalysisMetrics analysisMetrics;
 
     // ──────────────────────────────────────────────
     // 상수
     // ──────────────────────────────────────────────
 
-    /** 기본 Greedy 전환 임계값 (항목 수) */
+    /** 기본 Greedy 전환 임계값 (항목 수, REF_SYSTEM_PARAM 미등록 시) */
     private static final int DEFAULT_GREEDY_THRESHOLD = 15;
 
-    /** 기본 조합 탐색 타임아웃 (초) */
+    /** 기본 조합 탐색 타임아웃 (초, REF_SYSTEM_PARAM 미등록 시) */
     private static final int DEFAULT_COMBO_TIMEOUT_SEC = 120;
 
     /** 이월공제 최대 연수 */
@@ -137,60 +131,67 @@ public class CombinationSearchService {
      *
      * <p>
      * M5-01(상호배제 그룹 분리) → M5-02(조합 탐색) → M5-03(최저한세 적용)
-     * 순서로 처리하며, 결과를 OUT_COMBINATION 및 OUT_EXCLUSION_VERIFY 테이블에 저장한다.
+     * 순서로 처리하며, 결과(OUT_COMBINATION, OUT_EXCLUSION_VERIFY)는 컨텍스트에 기록되어 단계 종료 시 저장된다.
      * </p>
      *
-     * @param reqId 요청 ID (INP_BASIC.req_id)
+     * @param context 분석 컨텍스트 (M3 종합 진단·M4 산출 결과 포함)
      * @throws CalculationException 필수 데이터 누락 또는 계산 오류 시
      */
-    public void findOptimalCombination(String reqId) {
+    public void findOptimalCombination(AnalysisContext context) {
+        String reqId = context.getReqId();
         long startTime = System.currentTimeMillis();
         log.info("[M5] 최적 조합 탐색 시작 - reqId: {}", reqId);
 
         try {
             // ── 1. 기초 데이터 로딩 ──
-            InpBasic basic = inpBasicRepository.findByReqId(reqId)
-                    .orElseThrow(() -> new CalculationException(
-                            ErrorCode.RESOURCE_NOT_FOUND,
-                            "INP_BASIC 데이터를 찾을 수 없습니다. reqId=" + reqId,
-                            reqId, CALC_STEP));
+            InpBasic basic = context.getBasic();
+            if (basic == null) {
+                throw new CalculationException(
+                        ErrorCode.RESOURCE_NOT_FOUND,
+                        "INP_BASIC 데이터를 찾을 수 없습니다. reqId=" + reqId,
+                        reqId, CALC_STEP);
+            }
 
-            InpFinancial financial = inpFinancialRepository.findByReqId(reqId)
+            InpFinancial financial = context.getFinancial()
                     .orElseThrow(() -> new CalculationException(
                             ErrorCode.RESOURCE_NOT_FOUND,
                             "INP_FINANCIAL 데이터를 찾을 수 없습니다. reqId=" + reqId,
                             reqId, CALC_STEP));
 
-            ChkEligibility eligibility = chkEligibilityRepository.findByReqId(reqId)
+            ChkEligibility eligibility = context.getEligibility()
                     .orElseThrow(() -> new CalculationException(
                             ErrorCode.RESOURCE_NOT_FOUND,
                             "CHK_ELIGIBILITY 데이터를 찾을 수 없습니다. reqId=" + reqId,
                             reqId, CALC_STEP));
 
+            // ── 2. 기존 결과 삭제 (재시도 지원) ──
+            if (!context.isDryRun()) {
+                outCombinationRepository.deleteByReqId(reqId);
+                outExclusionVerifyRepository.deleteByReqId(reqId);
+            }
+            context.resetCombinations();
+
             // 적용 가능(applicable) 상태의 공제·감면 항목만 추출
-            List<OutCreditDetail> applicableItems =
-                    outCreditDetailRepository.findByReqIdAndItemStatus(reqId, "applicable");
+            List<OutCreditDetail> applicableItems = context.getCreditDetails("applicable");
 
             if (applicableItems.isEmpty()) {
                 log.warn("[M5] 적용 가능한 공제·감면 항목이 없습니다. reqId: {}", reqId);
-                saveEmptyCombination(reqId);
-                saveCalcLog(reqId, "M5", "findOptimalCombination",
+                saveEmptyCombination(context);
+                saveCalcLog(context, "M5", "findOptimalCombination",
                         "적용 가능 항목 0건", "빈 조합 저장", startTime);
                 return;
             }
 
-            // ── 2. 기존 결과 삭제 (재시도 지원) ──
-            outCombinationRepository.deleteByReqId(reqId);
-            outExclusionVerifyRepository.deleteByReqId(reqId);
-
             // ── 3. 시스템 파라미터 로딩 ──
-            int greedyThreshold = getIntSystemParam("greedy_fallback_threshold", DEFAULT_GREEDY_THRESHOLD);
-            int comboTimeoutSec = getIntSystemParam("combination_search_timeout", DEFAULT_COMBO_TIMEOUT_SEC);
+            int greedyThreshold = systemParamRegistry.getInt(
+                    SystemParamKey.GREEDY_FALLBACK_THRESHOLD, DEFAULT_GREEDY_THRESHOLD);
+            int comboTimeoutSec = systemParamRegistry.getInt(
+                    SystemParamKey.COMBINATION_SEARCH_TIMEOUT, DEFAULT_COMBO_TIMEOUT_SEC);
             long comboDeadline = System.currentTimeMillis() + (comboTimeoutSec * 1000L);
 
             // ── 4. M5-01: 상호배제 그룹 분리 ──
-            String taxYear = basic.getTaxYear();
-            MutualExclusionResult exclusionResult = separateMutualExclusionGroups(reqId, applicableItems, taxYear);
+            TaxYearRulePlan rulePlan = taxYearRulePlanCache.getPlan(basic.getTaxType(), basic.getTaxYear());
+            MutualExclusionResult exclusionResult = separateMutualExclusionGroups(reqId, applicableItems, rulePlan);
 
             // ── 5. M5-02: 조합 탐색 ──
             List<List<OutCreditDetail>> candidateCombinations;
@@ -217,6 +218,7 @@ public class CombinationSearchService {
                         reqId, combo, corpSize, taxType, taxableIncome, computedTax, comboSeq.getAndIncrement());
                 rankedCandidates.add(candidate);
             }
+            analysisMetrics.recordCandidatesScored(rankedCandidates.size());
 
             // 순 환급액(netRefund) 기준 내림차순 정렬
             rankedCandidates.sort(Comparator.comparingLong(CombinationCandidate::getNetRefund).reversed());
@@ -224,18 +226,18 @@ public class CombinationSearchService {
             // ── 7. 결과 저장 ──
             int rank = 1;
             for (CombinationCandidate candidate : rankedCandidates) {
-                saveOutCombination(reqId, candidate, rank);
+                saveOutCombination(context, candidate, rank);
                 rank++;
             }
 
             // 배제 검증 결과 저장
-            saveExclusionVerifyResults(reqId, exclusionResult);
+            saveExclusionVerifyResults(context, exclusionResult);
 
             long elapsed = System.currentTimeMillis() - startTime;
             log.info("[M5] 최적 조합 탐색 완료 - reqId: {}, 후보 수: {}, 소요: {}ms",
                     reqId, rankedCandidates.size(), elapsed);
 
-            saveCalcLog(reqId, "M5", "findOptimalCombination",
+            saveCalcLog(context, "M5", "findOptimalCombination",
                     "적용 가능 항목 " + applicableItems.size() + "건",
                     "후보 조합 " + rankedCandidates.size() + "건, 최적 순환급액="
                             + (rankedCandidates.isEmpty() ? 0 : rankedCandidates.get(0).getNetRefund()),
@@ -260,45 +262,36 @@ public class CombinationSearchService {
      * 상호배제 그룹을 분리한다 (M5-01).
      *
      * <p>
-     * REF_MUTUAL_EXCLUSION 테이블을 참조하여 동시 적용 불가 항목 쌍을 식별하고,
+     * 귀속연도 규칙 실행 계획의 상호배제 규칙(REF_MUTUAL_EXCLUSION)으로 동시 적용 불가 항목 쌍을 식별하고,
      * Group A(독립 항목)과 Group B(상호배제 그룹) 로 분리한다.
      * </p>
      *
      * @param reqId           요청 ID
      * @param applicableItems 적용 가능한 공제·감면 항목 목록
-     * @param taxYear         귀속 연도
+     * @param rulePlan        귀속연도 규칙 실행 계획
      * @return 상호배제 분리 결과 (독립 항목 + 배제 그룹 쌍 목록)
      */
     private MutualExclusionResult separateMutualExclusionGroups(
-            String reqId, List<OutCreditDetail> applicableItems, String taxYear) {
+            String reqId, List<OutCreditDetail> applicableItems, TaxYearRulePlan rulePlan) {
 
         log.debug("[M5-01] 상호배제 그룹 분리 시작 - reqId: {}, 항목 수: {}", reqId, applicableItems.size());
 
-        // 귀속 연도에 유효한 배제 규칙 조회
-        List<RefMutualExclusion> exclusionRules = refMutualExclusionRepository.findByYear(taxYear);
-
         // 항목의 조항 코드 집합
         Set<String> itemProvisions = applicableItems.stream()
                 .map(OutCreditDetail::getProvision)
                 .collect(Collectors.toSet());
 
-        // 실제 적용 가능한 배제 쌍 필터링
+        // 양쪽 조항이 모두 적용 가능 항목에 존재하는 동시 적용 불가 규칙 (계획의 비트마스크로 선별)
         List<ExclusionPair> exclusionPairs = new ArrayList<>();
         Set<String> involvedProvisions = new HashSet<>();
 
-        for (RefMutualExclusion rule : exclusionRules) {
-            // 배제 규칙의 양쪽 조항이 모두 적용 가능 항목에 존재하고, 동시 적용 불가인 경우
-            if (!Boolean.TRUE.equals(rule.getIsAllowed())
-                    && itemProvisions.contains(rule.getProvisionA())
-                    && itemProvisions.contains(rule.getProvisionB())) {
-
-                exclusionPairs.add(new ExclusionPair(
-                        rule.getProvisionA(), rule.getProvisionB(),
-                        rule.getConditionNote(), rule.getLegalBasis()));
+        for (RefMutualExclusion rule : rulePlan.getExclusionRulesAmong(itemProvisions)) {
+            exclusionPairs.add(new ExclusionPair(
+                    rule.getProvisionA(), rule.getProvisionB(),
+                    rule.getConditionNote(), rule.getLegalBasis()));
 
-                involvedProvisions.add(rule.getProvisionA());
-                involvedProvisions.add(rule.getProvisionB());
-            }
+            involvedProvisions.add(rule.getProvisionA());
+            involvedProvisions.add(rule.getProvisionB());
         }
 
         // Group A: 상호배제에 관여하지 않는 독립 항목
@@ -359,13 +352,17 @@ public class CombinationSearchService {
         List<List<OutCreditDetail>> validExclusionCombos = new ArrayList<>();
         int n = exclusionItems.size();
         int totalSubsets = 1 << n;
+        long enumerated = 0;
+        boolean timedOut = false;
 
         for (int mask = 0; mask < totalSubsets; mask++) {
             // 타임아웃 체크
             if (System.currentTimeMillis() > deadline) {
                 log.warn("[M5-02] Branch & Bound 탐색 타임아웃 - 현재까지 {}건 확보", validExclusionCombos.size());
+                timedOut = true;
                 break;
             }
+            enumerated++;
 
             List<OutCreditDetail> subset = new ArrayList<>();
             for (int i = 0; i < n; i++) {
@@ -379,6 +376,7 @@ public class CombinationSearchService {
                 validExclusionCombos.add(subset);
             }
         }
+        analysisMetrics.recordCombinationSearch(enumerated, enumerated - validExclusionCombos.size(), timedOut);
 
         // 각 유효 배제 조합에 독립 항목을 결합
         List<List<OutCreditDetail>> result = new ArrayList<>();
@@ -535,7 +533,11 @@ public class CombinationSearchService {
             }
         }
 
-        // ── 순환참조 해결 루프 (최대 5회, 1원 수렴) ──
+        // ── 순환참조 해결 루프 (기본 최대 5회, 1원 수렴) ──
+        int maxIterations = systemParamRegistry.getInt(
+                SystemParamKey.MIN_TAX_RECALC_ITERATIONS, SystemConstants.MAX_COMBO_ITERATIONS);
+        long convergenceEpsilon = systemParamRegistry.getLong(
+                SystemParamKey.MIN_TAX_EPSILON, SystemConstants.CONVERGENCE_EPSILON);
         long prevNetRefund = Long.MIN_VALUE;
         long totalExemption = 0L;
         long totalCredit = 0L;
@@ -545,7 +547,7 @@ public class CombinationSearchService {
         List<Map<String, Object>> applicationOrder = new ArrayList<>();
         List<Map<String, Object>> carryforwardItems = new ArrayList<>();
 
-        for (int iteration = 0; iteration < SystemConstants.MAX_COMBO_ITERATIONS; iteration++) {
+        for (int iteration = 0; iteration < maxIterations; iteration++) {
             long remainingDeductible = maxDeductible;
 
             totalExemption = 0L;
@@ -648,8 +650,8 @@ public class CombinationSearchService {
             // 순 환급액 = 총 적용액 - 농특세
             long netRefund = TruncationUtil.truncateAmount(totalApplied - totalNongteuk);
 
-            // 수렴 판정: 이전 반복과의 차이가 1원 이하이면 수렴
-            if (Math.abs(netRefund - prevNetRefund) <= SystemConstants.CONVERGENCE_EPSILON) {
+            // 수렴 판정: 이전 반복과의 차이가 허용오차(기본 1원) 이하이면 수렴
+            if (Math.abs(netRefund - prevNetRefund) <= convergenceEpsilon) {
                 log.debug("[M5-03] 수렴 달성 - 반복 횟수: {}, 순환급액: {}", iteration + 1, netRefund);
                 break;
             }
@@ -844,13 +846,14 @@ public class CombinationSearchService {
     // ══════════════════════════════════════════════
 
     /**
-     * 조합 탐색 결과를 OUT_COMBINATION 테이블에 저장한다.
+     * 조합 탐색 결과를 컨텍스트에 기록한다 (OUT_COMBINATION 저장 대기).
      *
-     * @param reqId     요청 ID
+     * @param context   분석 컨텍스트
      * @param candidate 조합 후보 결과
      * @param rank      조합 순위 (1 = 최적)
      */
-    private void saveOutCombination(String reqId, CombinationCandidate candidate, int rank) {
+    private void saveOutCombination(AnalysisContext context, CombinationCandidate candidate, int rank) {
+        String reqId = context.getReqId();
         String comboId = "COMBO-" + String.format("%03d", rank);
 
         // 포함 항목 ID 목록을 JSON으로 직렬화
@@ -886,15 +889,16 @@ public class CombinationSearchService {
                 .carryforwardItems(carryforwardItemsJson)
                 .build();
 
-        outCombinationRepository.save(combination);
+        context.addCombination(combination);
     }
 
     /**
      * 적용 가능 항목이 없을 때 빈 조합 결과를 저장한다.
      *
-     * @param reqId 요청 ID
+     * @param context 분석 컨텍스트
      */
-    private void saveEmptyCombination(String reqId) {
+    private void saveEmptyCombination(AnalysisContext context) {
+        String reqId = context.getReqId();
         OutCombination emptyCombination = OutCombination.builder()
                 .reqId(reqId)
                 .comboId("COMBO-001")
@@ -911,16 +915,17 @@ public class CombinationSearchService {
                 .applicationOrder("[]")
                 .carryforwardItems(null)
                 .build();
-        outCombinationRepository.save(emptyCombination);
+        context.addCombination(emptyCombination);
     }
 
     /**
-     * 상호배제 검증 결과를 OUT_EXCLUSION_VERIFY 테이블에 저장한다.
+     * 상호배제 검증 결과를 컨텍스트 저장 대기열에 등록한다 (OUT_EXCLUSION_VERIFY).
      *
-     * @param reqId           요청 ID
+     * @param context         분석 컨텍스트
      * @param exclusionResult 상호배제 분리 결과
      */
-    private void saveExclusionVerifyResults(String reqId, MutualExclusionResult exclusionResult) {
+    private void saveExclusionVerifyResults(AnalysisContext context, MutualExclusionResult exclusionResult) {
+        String reqId = context.getReqId();
         int verifySeq = 1;
         for (ExclusionPair pair : exclusionResult.exclusionPairs) {
             String verifyId = "EXCL-" + String.format("%03d", verifySeq++);
@@ -937,7 +942,7 @@ public class CombinationSearchService {
                     .legalBasis(pair.legalBasis)
                     .build();
 
-            outExclusionVerifyRepository.save(verify);
+            context.stage(verify);
         }
     }
 
@@ -946,39 +951,20 @@ public class CombinationSearchService {
     // ══════════════════════════════════════════════
 
     /**
-     * REF_SYSTEM_PARAM에서 정수형 시스템 파라미터를 조회한다.
+     * 계산 로그(LOG_CALCULATION)를 저장 대기열에 등록한다 (단계 종료 시 일괄 저장).
      *
-     * @param paramKey     파라미터 키
-     * @param defaultValue 기본값 (조회 실패 시)
-     * @return 파라미터 값 (정수)
-     */
-    private int getIntSystemParam(String paramKey, int defaultValue) {
-        try {
-            Optional<RefSystemParam> paramOpt = refSystemParamRepository.findById(paramKey);
-            if (paramOpt.isPresent() && paramOpt.get().getParamValue() != null) {
-                return Integer.parseInt(paramOpt.get().getParamValue().trim());
-            }
-        } catch (NumberFormatException e) {
-            log.warn("[M5] 시스템 파라미터 '{}' 정수 변환 실패, 기본값 {} 사용", paramKey, defaultValue);
-        }
-        return defaultValue;
-    }
-
-    /**
-     * 계산 로그를 LOG_CALCULATION 테이블에 저장한다.
-     *
-     * @param reqId        요청 ID
+     * @param context      분석 컨텍스트
      * @param calcStep     계산 단계
      * @param functionName 함수명
      * @param inputData    입력 데이터 요약
      * @param outputData   출력 데이터 요약
      * @param startTime    시작 시각 (밀리초)
      */
-    private void saveCalcLog(String reqId, String calcStep, String functionName,
+    private void saveCalcLog(AnalysisContext context, String calcStep, String functionName,
                              String inputData, String outputData, long startTime) {
         int durationMs = (int) (System.currentTimeMillis() - startTime);
         LogCalculation logEntry = LogCalculation.builder()
-                .reqId(reqId)
+                .reqId(context.getReqId())
                 .calcStep(calcStep)
                 .functionName(functionName)
                 .inputData(inputData)
@@ -989,7 +975,7 @@ public class CombinationSearchService {
                 .executedBy("CombinationSearchService")
                 .durationMs(durationMs)
                 .build();
-        logCalculationRepository.save(logEntry);
+        context.stage(logEntry);
     }
 
     // ══════════════════════════════════════════════
@@ -0,0 +1,440 @@
+package com.entec.tax.engine.context;
+
+import com.entec.tax.domain.check.entity.ChkEligibility;
+import com.entec.tax.domain.check.entity.ChkInspectionLog;
+import com.entec.tax.domain.input.entity.InpBasic;
+import com.entec.tax.domain.input.entity.InpDeduction;
+import com.entec.tax.domain.input.entity.InpEmployee;
+import com.entec.tax.domain.input.entity.InpFinancial;
+import com.entec.tax.domain.output.entity.OutAdditionalCheck;
+import com.entec.tax.domain.output.entity.OutCombination;
+import com.entec.tax.domain.output.entity.OutCreditDetail;
+import com.entec.tax.domain.output.entity.OutRisk;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 분석 파이프라인 컨텍스트.
+ * <p>
+ * {@code AnalysisOrchestratorService}가 분석 1건마다 생성하여 M3→M4→M5→M6 단계에 전달한다.
+ * 입력(INP_*)은 시작 시 한 번 적재하고, 각 단계의 산출물은 메모리에 보관하여 다음 단계가
+ * DB 재조회 없이 사용한다. 산출물 저장은 단계 종료 시 {@link AnalysisContextStore#flush(AnalysisContext)}로
+ * 일괄 수행한다 (write-behind).
+ * </p>
+ *
+ * <p>
+ * DB 와 무관한 일반 객체이므로, 엔진 단위 테스트에서는 setter 로 입력을 채워 직접 생성할 수 있다.
+ * 분석 1건을 처리하는 스레드에서만 사용하며 스레드 안전하지 않다.
+ * </p>
+ *
+ * <p>
+ * 모의 분석(dry-run) 컨텍스트는 저장 대기열을 flush 하지 않고 결과 싱크로만 사용한다.
+ * 엔진 서비스는 {@link #isDryRun()}이면 기존 산출물 삭제를 건너뛰므로 DB 에 아무것도 쓰지 않는다.
+ * </p>
+ */
+public class AnalysisContext {
+
+    /** 요청 ID */
+    private final String reqId;
+
+    /** 모의 분석 여부 (true 면 DB 에 쓰지 않음) */
+    private final boolean dryRun;
+
+    // ──────────────────────────────────────────────
+    // 입력
+    // ──────────────────────────────────────────────
+
+    private InpBasic basic;
+    private InpFinancial financial;
+    private List<InpEmployee> employees = new ArrayList<InpEmployee>();
+    private List<InpDeduction> deductions = new ArrayList<InpDeduction>();
+
+    // ──────────────────────────────────────────────
+    // 단계별 산출물
+    // ──────────────────────────────────────────────
+
+    /** M3 종합 진단 결과 */
+    private ChkEligibility eligibility;
+
+    /** M3 점검 로그 */
+    private final List<ChkInspectionLog> inspectionLogs = new ArrayList<ChkInspectionLog>();
+
+    /** M4 개별 공제·감면 산출 결과 */
+    private final List<OutCreditDetail> creditDetails = new ArrayList<OutCreditDetail>();
+
+    /** M4 재산출 대상 산출기 단계 코드 (null 이면 전체) */
+    private Set<String> creditCalcSteps;
+
+    /** M5 조합 탐색 결과 */
+    private final List<OutCombination> combinations = new ArrayList<OutCombination>();
+
+    /** M6 리스크 평가 결과 */
+    private final List<OutRisk> risks = new ArrayList<OutRisk>();
+
+    /** M6 추가 확인 사항 */
+    private final List<OutAdditionalCheck> additionalChecks = new ArrayList<OutAdditionalCheck>();
+
+    /** 저장 대기 엔티티 (엔티티 타입 → 등록 순서) */
+    private final Map<Class<?>, List<Object>> pendingWrites = new LinkedHashMap<Class<?>, List<Object>>();
+
+    public AnalysisContext(String reqId) {
+        this(reqId, false);
+    }
+
+    public AnalysisContext(String reqId, boolean dryRun) {
+        this.reqId = reqId;
+        this.dryRun = dryRun;
+    }
+
+    public String getReqId() {
+        return reqId;
+    }
+
+    public boolean isDryRun() {
+        return dryRun;
+    }
+
+    // ──────────────────────────────────────────────
+    // 입력 조회
+    // ──────────────────────────────────────────────
+
+    public InpBasic getBasic() {
+        return basic;
+    }
+
+    public void setBasic(InpBasic basic) {
+        this.basic = basic;
+    }
+
+    /**
+     * @return 재무/세무 수치 요약 (없으면 Optional.empty)
+     */
+    public Optional<InpFinancial> getFinancial() {
+        return Optional.ofNullable(financial);
+    }
+
+    public void setFinancial(InpFinancial financial) {
+        this.financial = financial;
+    }
+
+    public List<InpEmployee> getEmployees() {
+        return Collections.unmodifiableList(employees);
+    }
+
+    public void setEmployees(List<InpEmployee> employees) {
+        this.employees = new ArrayList<InpEmployee>(employees);
+    }
+
+    /**
+     * 연도 구분별 고용 정보를 조회한다.
+     *
+     * @param yearType 연도 구분 (CURRENT, PREV1 등)
+     * @return 고용 정보 (없으면 Optional.empty)
+     */
+    public Optional<InpEmployee> findEmployee(String yearType) {
+        for (InpEmployee employee : employees) {
+            if (yearType.equals(employee.getYearType())) {
+                return Optional.of(employee);
+            }
+        }
+        return Optional.empty();
+    }
+
+    public List<InpDeduction> getDeductions() {
+        return Collections.unmodifiableList(deductions);
+    }
+
+    public void setDeductions(List<InpDeduction> deductions) {
+        this.deductions = new ArrayList<InpDeduction>(deductions);
+    }
+
+    /**
+     * 항목 분류·조항별 공제/감면 입력을 조회한다.
+     *
+     * @param itemCategory 항목 분류
+     * @param provision    조항
+     * @return 해당 조건의 공제/감면 입력 목록
+     */
+    public List<InpDeduction> getDeductions(String itemCategory, String provision) {
+        List<InpDeduction> result = new ArrayList<InpDeduction>();
+        for (InpDeduction deduction : deductions) {
+            if (itemCategory.equals(deduction.getItemCategory()) && provision.equals(deduction.getProvision())) {
+                result.add(deduction);
+            }
+        }
+        return result;
+    }
+
+    // ──────────────────────────────────────────────
+    // M3 산출물
+    // ──────────────────────────────────────────────
+
+    /**
+     * @return M3 종합 진단 결과 (M3 미실행 시 Optional.empty)
+     */
+    public Optional<ChkEligibility> getEligibility() {
+        return Optional.ofNullable(eligibility);
+    }
+
+    /**
+     * M3 종합 진단 결과를 기록하고 저장 대기열에 등록한다.
+     */
+    public void recordEligibility(ChkEligibility eligibility) {
+        this.eligibility = eligibility;
+        stage(eligibility);
+    }
+
+    public List<ChkInspectionLog> getInspectionLogs() {
+        return Collections.unmodifiableList(inspectionLogs);
+    }
+
+    /**
+     * M3 점검 로그를 기록하고 저장 대기열에 등록한다.
+     */
+    public void addInspectionLogs(List<ChkInspectionLog> logs) {
+        for (ChkInspectionLog inspectionLog : logs) {
+            inspectionLogs.add(inspectionLog);
+            stage(inspectionLog);
+        }
+    }
+
+    /**
+     * M3 산출물을 초기화한다 (재실행 대비).
+     */
+    public void resetPreCheck() {
+        eligibility = null;
+        inspectionLogs.clear();
+    }
+
+    // ──────────────────────────────────────────────
+    // M4 산출물
+    // ──────────────────────────────────────────────
+
+    public List<OutCreditDetail> getCreditDetails() {
+        return Collections.unmodifiableList(creditDetails);
+    }
+
+    /**
+     * 항목 상태별 공제·감면 산출 결과를 조회한다.
+     *
+     * @param itemStatus 항목 상태 (applicable 등)
+     * @return 해당 상태의 산출 결과 목록
+     */
+    public List<OutCreditDetail> getCreditDetails(String itemStatus) {
+        List<OutCreditDetail> result = new ArrayList<OutCreditDetail>();
+        for (OutCreditDetail detail : creditDetails) {
+            if (itemStatus.equals(detail.getItemStatus())) {
+                result.add(detail);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 공제·감면 산출 결과를 기록하고 저장 대기열에 등록한다.
+     */
+    public void addCreditDetail(OutCreditDetail creditDetail) {
+        creditDetails.add(creditDetail);
+        stage(creditDetail);
+    }
+
+    /**
+     * M4 산출물을 초기화한다 (재실행 대비).
+     */
+    public void resetCredits() {
+        creditDetails.clear();
+    }
+
+    /**
+     * 산출기 단위로 M4 산출물을 제거한다 (부분 재산출 대비). 항목 ID 는 산출기 단계 코드로 시작한다.
+     *
+     * @param calcStep 산출기 단계 코드 (예: M4-06)
+     */
+    public void removeCreditDetails(String calcStep) {
+        String prefix = calcStep + "-";
+        for (int i = creditDetails.size() - 1; i >= 0; i--) {
+            String itemId = creditDetails.get(i).getItemId();
+            if (itemId != null && itemId.startsWith(prefix)) {
+                creditDetails.remove(i);
+            }
+        }
+    }
+
+    /**
+     * @return M4 재산출 대상 산출기 단계 코드 (null 이면 전체 산출)
+     */
+    public Set<String> getCreditCalcSteps() {
+        return creditCalcSteps;
+    }
+
+    /**
+     * M4 재산출 대상을 일부 산출기로 제한한다.
+     * 나머지 산출기의 결과는 이전 실행에서 복원한 산출물을 그대로 사용한다.
+     *
+     * @param creditCalcSteps 재산출 대상 산출기 단계 코드 (null 이면 전체)
+     */
+    public void limitCreditCalcSteps(Set<String> creditCalcSteps) {
+        this.creditCalcSteps = creditCalcSteps;
+    }
+
+    // ──────────────────────────────────────────────
+    // M5 산출물
+    // ──────────────────────────────────────────────
+
+    /**
+     * @return 조합 탐색 결과 (순위 오름차순)
+     */
+    public List<OutCombination> getCombinations() {
+        List<OutCombination> sorted = new ArrayList<OutCombination>(combinations);
+        Collections.sort(sorted, new Comparator<OutCombination>() {
+            @Override
+            public int compare(OutCombination a, OutCombination b) {
+                int rankA = a.getComboRank() != null ? a.getComboRank() : Integer.MAX_VALUE;
+                int rankB = b.getComboRank() != null ? b.getComboRank() : Integer.MAX_VALUE;
+                return Integer.compare(rankA, rankB);
+            }
+        });
+        return sorted;
+    }
+
+    /**
+     * 순위별 조합 탐색 결과를 조회한다.
+     *
+     * @param comboRank 조합 순위 (1 = 최적)
+     * @return 해당 순위의 조합 (없으면 Optional.empty)
+     */
+    public Optional<OutCombination> findCombination(int comboRank) {
+        for (OutCombination combination : combinations) {
+            if (combination.getComboRank() != null && combination.getComboRank() == comboRank) {
+                return Optional.of(combination);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * 조합 탐색 결과를 기록하고 저장 대기열에 등록한다.
+     */
+    public void addCombination(OutCombination combination) {
+        combinations.add(combination);
+        stage(combination);
+    }
+
+    /**
+     * M5 산출물을 초기화한다 (재실행 대비).
+     */
+    public void resetCombinations() {
+        combinations.clear();
+    }
+
+    // ──────────────────────────────────────────────
+    // M6 산출물
+    // ──────────────────────────────────────────────
+
+    public List<OutRisk> getRisks() {
+        return Collections.unmodifiableList(risks);
+    }
+
+    /**
+     * 리스크 평가 결과를 기록하고 저장 대기열에 등록한다.
+     */
+    public void addRisk(OutRisk risk) {
+        risks.add(risk);
+        stage(risk);
+    }
+
+    public List<OutAdditionalCheck> getAdditionalChecks() {
+        return Collections.unmodifiableList(additionalChecks);
+    }
+
+    /**
+     * 추가 확인 사항을 기록하고 저장 대기열에 등록한다.
+     */
+    public void addAdditionalCheck(OutAdditionalCheck additionalCheck) {
+        additionalChecks.add(additionalCheck);
+        stage(additionalCheck);
+    }
+
+    /**
+     * M6 산출물을 초기화한다 (재실행 대비).
+     */
+    public void resetRefund() {
+        risks.clear();
+        additionalChecks.clear();
+    }
+
+    // ──────────────────────────────────────────────
+    // 저장 대기열 (write-behind)
+    // ──────────────────────────────────────────────
+
+    /**
+     * 엔티티를 저장 대기열에 등록한다. 단계 종료 시 일괄 저장된다.
+     *
+     * @param entity 저장할 엔티티
+     */
+    public void stage(Object entity) {
+        List<Object> pending = pendingWrites.get(entity.getClass());
+        if (pending == null) {
+            pending = new ArrayList<Object>();
+            pendingWrites.put(entity.getClass(), pending);
+        }
+        pending.add(entity);
+    }
+
+    /**
+     * 저장 대기 중인 엔티티 타입 목록 (최초 등록 순서).
+     */
+    public List<Class<?>> getPendingTypes() {
+        return new ArrayList<Class<?>>(pendingWrites.keySet());
+    }
+
+    /**
+     * 해당 타입의 저장 대기 엔티티를 조회한다 (대기열 유지; 모의 분석 결과 조회용).
+     *
+     * @param type 엔티티 타입
+     * @return 저장 대기 엔티티 목록 (등록 순서)
+     */
+    public <T> List<T> getPending(Class<T> type) {
+        List<Object> pending = pendingWrites.get(type);
+        List<T> result = new ArrayList<T>();
+        if (pending != null) {
+            for (Object entity : pending) {
+                result.add(type.cast(entity));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 해당 타입의 저장 대기 엔티티를 꺼내고 대기열에서 제거한다.
+     *
+     * @param type 엔티티 타입
+     * @return 저장 대기 엔티티 목록 (등록 순서)
+     */
+    public <T> List<T> drainPending(Class<T> type) {
+        List<T> result = getPending(type);
+        pendingWrites.remove(type);
+        return result;
+    }
+
+    /**
+     * @return 저장 대기 엔티티가 있으면 true
+     */
+    public boolean hasPendingWrites() {
+        return !pendingWrites.isEmpty();
+    }
+
+    /**
+     * 저장 대기열을 비운다 (단계 롤백 시 사용).
+     */
+    public void discardPendingWrites() {
+        pendingWrites.clear();
+    }
+}
@@ -0,0 +1,183 @@
+package com.entec.tax.engine.context;
+
+import com.entec.tax.common.exception.ErrorCode;
+import com.entec.tax.common.exception.TaxServiceException;
+import com.entec.tax.domain.check.entity.ChkEligibility;
+import com.entec.tax.domain.check.entity.ChkInspectionLog;
+import com.entec.tax.domain.check.repository.CheckResultMapper;
+import com.entec.tax.domain.check.repository.ChkEligibilityRepository;
+import com.entec.tax.domain.check.repository.ChkInspectionLogRepository;
+import com.entec.tax.domain.input.repository.InpBasicRepository;
+import com.entec.tax.domain.input.repository.InpDeductionRepository;
+import com.entec.tax.domain.input.repository.InpEmployeeRepository;
+import com.entec.tax.domain.input.repository.InpFinancialRepository;
+import com.entec.tax.domain.log.entity.LogCalculation;
+import com.entec.tax.domain.log.service.CalculationLogWriter;
+import com.entec.tax.domain.output.entity.OutAdditionalCheck;
+import com.entec.tax.domain.output.entity.OutCombination;
+import com.entec.tax.domain.output.entity.OutCreditDetail;
+import com.entec.tax.domain.output.entity.OutEmployeeSummary;
+import com.entec.tax.domain.output.entity.OutExclusionVerify;
+import com.entec.tax.domain.output.entity.OutRefund;
+import com.entec.tax.domain.output.entity.OutRisk;
+import com.entec.tax.domain.output.repository.OutCombinationRepository;
+import com.entec.tax.domain.output.repository.OutCreditDetailRepository;
+import com.entec.tax.domain.output.repository.OutputResultMapper;
+import com.entec.tax.domain.report.entity.OutReportJson;
+import com.entec.tax.domain.report.repository.OutReportJsonMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * {@link AnalysisContext} 적재·저장 컴포넌트.
+ * <p>
+ * 분석 시작 시 입력(INP_BASIC, INP_FINANCIAL, INP_EMPLOYEE, INP_DEDUCTION)을 한 번씩 조회하여
+ * 컨텍스트를 만들고, 단계 종료 시 컨텍스트에 쌓인 산출물을 타입별 MyBatis 다건 INSERT 로 일괄 저장한다.
+ * 단계 재개 시에는 이전 실행에서 커밋된 선행 단계 산출물을 복원한다.
+ * </p>
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class AnalysisContextStore {
+
+    /** 다건 INSERT 1문장당 최대 행 수 (max_allowed_packet 이내로 유지) */
+    private static final int INSERT_CHUNK_SIZE = 200;
+
+    private final InpBasicRepository inpBasicRepository;
+    private final InpFinancialRepository inpFinancialRepository;
+    private final InpEmployeeRepository inpEmployeeRepository;
+    private final InpDeductionRepository inpDeductionRepository;
+    private final ChkEligibilityRepository chkEligibilityRepository;
+    private final ChkInspectionLogRepository chkInspectionLogRepository;
+    private final OutCreditDetailRepository outCreditDetailRepository;
+    private final OutCombinationRepository outCombinationRepository;
+    private final CheckResultMapper checkResultMapper;
+    private final OutputResultMapper outputResultMapper;
+    private final OutReportJsonMapper outReportJsonMapper;
+    private final CalculationLogWriter calculationLogWriter;
+
+    /**
+     * 요청의 입력 데이터를 적재하여 컨텍스트를 생성한다.
+     *
+     * @param reqId 요청 ID
+     * @return 입력이 채워진 컨텍스트
+     * @throws TaxServiceException 기본 정보(INP_BASIC)가 없는 경우
+     */
+    public AnalysisContext load(String reqId) {
+        AnalysisContext context = new AnalysisContext(reqId);
+        context.setBasic(inpBasicRepository.findByReqId(reqId)
+                .orElseThrow(() -> new TaxServiceException(
+                        ErrorCode.REQUEST_NOT_FOUND,
+                        "기본 정보(INP_BASIC)를 찾을 수 없습니다: " + reqId,
+                        reqId)));
+        context.setFinancial(inpFinancialRepository.findByReqId(reqId).orElse(null));
+        context.setEmployees(inpEmployeeRepository.findByReqId(reqId));
+        context.setDeductions(inpDeductionRepository.findByReqId(reqId));
+
+        log.debug("분석 컨텍스트 적재 — reqId={}, employees={}, deductions={}",
+                reqId, context.getEmployees().size(), context.getDeductions().size());
+        return context;
+    }
+
+    /**
+     * 이전 실행에서 커밋된 M3 산출물(종합 진단, 점검 로그)을 복원한다.
+     */
+    public void restorePreCheck(AnalysisContext context) {
+        String reqId = context.getReqId();
+        context.resetPreCheck();
+        ChkEligibility eligibility = chkEligibilityRepository.findByReqId(reqId).orElse(null);
+        if (eligibility != null) {
+            context.recordEligibility(eligibility);
+        }
+        context.addInspectionLogs(chkInspectionLogRepository.findByReqIdOrderBySortOrder(reqId));
+        // 복원한 행은 이미 저장되어 있으므로 저장 대기열에서 제외한다
+        context.discardPendingWrites();
+    }
+
+    /**
+     * 이전 실행에서 커밋된 M4 산출물(개별 공제·감면)을 복원한다.
+     */
+    public void restoreCredits(AnalysisContext context) {
+        context.resetCredits();
+        for (OutCreditDetail detail : outCreditDetailRepository.findByReqId(context.getReqId())) {
+            context.addCreditDetail(detail);
+        }
+        context.discardPendingWrites();
+    }
+
+    /**
+     * 이전 실행에서 커밋된 M5 산출물(조합 탐색 결과)을 복원한다.
+     */
+    public void restoreCombinations(AnalysisContext context) {
+        context.resetCombinations();
+        for (OutCombination combination : outCombinationRepository.findByReqIdOrderByComboRankAsc(context.getReqId())) {
+            context.addCombination(combination);
+        }
+        context.discardPendingWrites();
+    }
+
+    /**
+     * 저장 대기 중인 산출물을 타입별로 일괄 저장한다.
+     * <p>
+     * 단계 트랜잭션 안에서 호출하여 단계 산출물과 체크포인트가 함께 커밋되도록 한다.
+     * 산출물은 테이블별 다건 INSERT({@value #INSERT_CHUNK_SIZE}행 단위)를 BATCH 실행기로 모아 한 번에 전송하며,
+     * JPA {@code saveAll} 처럼 행마다 존재 여부를 조회하지 않는다. 따라서 각 엔진은 산출 전에
+     * 대상 범위의 기존 행을 삭제해 두어야 한다 (TX-2 재시도 지원 삭제).
+     * 단, OUT_EMPLOYEE_SUMMARY 는 M3 와 M4-02 가 같은 행을 나누어 쓰므로 키가 겹치면 갱신한다.
+     * 엔진 서비스의 감사추적 로그(LOG_CALCULATION)는 {@link CalculationLogWriter}로 넘겨 커밋 후 일괄 기록된다.
+     * </p>
+     *
+     * @param context 분석 컨텍스트
+     * @throws IllegalStateException 모의 분석 컨텍스트이거나, 저장 리포지토리가 없는 엔티티 타입이 대기열에 있는 경우
+     */
+    public void flush(AnalysisContext context) {
+        if (context.isDryRun()) {
+            throw new IllegalStateException("Dry-run context must not be flushed: " + context.getReqId());
+        }
+        int count = 0;
+        for (Class<?> type : context.getPendingTypes()) {
+            if (type == ChkEligibility.class) {
+                count += insert(context.drainPending(ChkEligibility.class), checkResultMapper::insertEligibilities);
+            } else if (type == ChkInspectionLog.class) {
+                count += insert(context.drainPending(ChkInspectionLog.class), checkResultMapper::insertInspectionLogs);
+            } else if (type == OutEmployeeSummary.class) {
+                count += insert(context.drainPending(OutEmployeeSummary.class), outputResultMapper::insertEmployeeSummaries);
+            } else if (type == OutCreditDetail.class) {
+                count += insert(context.drainPending(OutCreditDetail.class), outputResultMapper::insertCreditDetails);
+            } else if (type == OutCombination.class) {
+                count += insert(context.drainPending(OutCombination.class), outputResultMapper::insertCombinations);
+            } else if (type == OutExclusionVerify.class) {
+                count += insert(context.drainPending(OutExclusionVerify.class), outputResultMapper::insertExclusionVerifies);
+            } else if (type == OutRefund.class) {
+                count += insert(context.drainPending(OutRefund.class), outputResultMapper::insertRefunds);
+            } else if (type == OutRisk.class) {
+                count += insert(context.drainPending(OutRisk.class), outputResultMapper::insertRisks);
+            } else if (type == OutAdditionalCheck.class) {
+                count += insert(context.drainPending(OutAdditionalCheck.class), outputResultMapper::insertAdditionalChecks);
+            } else if (type == OutReportJson.class) {
+                count += insert(context.drainPending(OutReportJson.class), outReportJsonMapper::insertReports);
+            } else if (type == LogCalculation.class) {
+                List<LogCalculation> logs = context.drainPending(LogCalculation.class);
+                calculationLogWriter.writeAll(logs);
+                count += logs.size();
+            } else {
+                throw new IllegalStateException("No repository for pending entity type: " + type.getName());
+            }
+        }
+        // 매퍼는 트랜잭션의 BATCH 세션을 공유하므로 한 번의 flush 로 모든 INSERT 문이 전송된다
+        outputResultMapper.flush();
+        log.debug("분석 컨텍스트 저장 — reqId={}, rows={}", context.getReqId(), count);
+    }
+
+    private static <T> int insert(List<T> rows, Consumer<List<T>> inserter) {
+        for (int from = 0; from < rows.size(); from += INSERT_CHUNK_SIZE) {
+            inserter.accept(rows.subList(from, Math.min(rows.size(), from + INSERT_CHUNK_SIZE)));
+        }
+        return rows.size();
+    }
+}
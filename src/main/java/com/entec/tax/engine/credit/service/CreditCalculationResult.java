@@ -0,0 +1,61 @@
+package com.entec.tax.engine.credit.service;
+
+import com.entec.tax.domain.log.entity.LogCalculation;
+import com.entec.tax.domain.output.entity.OutCreditDetail;
+import com.entec.tax.domain.output.entity.OutEmployeeSummary;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 산출기 1개의 결과 수집 버퍼.
+ * <p>
+ * 산출기별로 하나씩 생성되어 해당 산출기 스레드에서만 기록된다.
+ * 모든 산출기가 끝나면 {@link CreditCalculationServiceImpl}이 항목 순서대로 컨텍스트에 병합한다.
+ * </p>
+ */
+public class CreditCalculationResult {
+
+    /** 산출 단계 코드 (M4-01 등) */
+    private final String calcStep;
+
+    private final List<OutCreditDetail> creditDetails = new ArrayList<OutCreditDetail>();
+    private final List<OutEmployeeSummary> employeeSummaries = new ArrayList<OutEmployeeSummary>();
+    private final List<LogCalculation> calculationLogs = new ArrayList<LogCalculation>();
+
+    public CreditCalculationResult(String calcStep) {
+        this.calcStep = calcStep;
+    }
+
+    public String getCalcStep() {
+        return calcStep;
+    }
+
+    public void addCreditDetail(OutCreditDetail creditDetail) {
+        creditDetails.add(creditDetail);
+    }
+
+    public void addEmployeeSummary(OutEmployeeSummary employeeSummary) {
+        employeeSummaries.add(employeeSummary);
+    }
+
+    public void addCalculationLog(LogCalculation calculationLog) {
+        calculationLogs.add(calculationLog);
+    }
+
+    /**
+     * @return 공제·감면 산출 결과 (산출 순서)
+     */
+    public List<OutCreditDetail> getCreditDetails() {
+        return Collections.unmodifiableList(creditDetails);
+    }
+
+    public List<OutEmployeeSummary> getEmployeeSummaries() {
+        return Collections.unmodifiableList(employeeSummaries);
+    }
+
+    public List<LogCalculation> getCalculationLogs() {
+        return Collections.unmodifiableList(calculationLogs);
+    }
+}
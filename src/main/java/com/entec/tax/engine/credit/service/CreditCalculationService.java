@@ -1,5 +1,7 @@
 package com.entec.tax.engine.credit.service;
 
+import com.entec.tax.engine.context.AnalysisContext;
+
 /**
  * M4 개별 공제·감면 산출 서비스 인터페이스.
  * <p>
@@ -13,7 +15,7 @@ public interface CreditCalculationService {
     /**
      * 개별 공제·감면액을 산출한다.
      *
-     * @param reqId 요청 ID
+     * @param context 분석 컨텍스트 (입력 및 M3 결과 포함)
      */
-    void calculateCredits(String reqId);
+    void calculateCredits(AnalysisContext context);
 }
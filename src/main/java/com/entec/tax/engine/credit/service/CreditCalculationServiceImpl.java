@@ -7,37 +7,37 @@ import com.entec.tax.common.constants.ProvisionCode;
 import com.entec.tax.common.constants.SystemConstants;
 import com.entec.tax.common.exception.CalculationException;
 import com.entec.tax.common.exception.ErrorCode;
+import com.entec.tax.common.util.DateUtil;
+import com.entec.tax.common.util.JsonUtil;
 import com.entec.tax.common.util.TruncationUtil;
 import com.entec.tax.domain.check.entity.ChkEligibility;
 import com.entec.tax.domain.check.entity.ChkInspectionLog;
-import com.entec.tax.domain.check.repository.ChkEligibilityRepository;
 import com.entec.tax.domain.check.repository.ChkInspectionLogRepository;
 import com.entec.tax.domain.input.entity.InpBasic;
 import com.entec.tax.domain.input.entity.InpDeduction;
 import com.entec.tax.domain.input.entity.InpEmployee;
 import com.entec.tax.domain.input.entity.InpFinancial;
-import com.entec.tax.domain.input.repository.InpBasicRepository;
-import com.entec.tax.domain.input.repository.InpDeductionRepository;
-import com.entec.tax.domain.input.repository.InpEmployeeRepository;
-import com.entec.tax.domain.input.repository.InpFinancialRepository;
+import com.entec.tax.domain.input.entity.InpRawData;
+import com.entec.tax.domain.input.repository.InpRawDataRepository;
 import com.entec.tax.domain.log.entity.LogCalculation;
-import com.entec.tax.domain.log.repository.LogCalculationRepository;
 import com.entec.tax.domain.output.entity.OutCreditDetail;
 import com.entec.tax.domain.output.entity.OutEmployeeSummary;
 import com.entec.tax.domain.output.repository.OutCreditDetailRepository;
-import com.entec.tax.domain.output.repository.OutEmployeeSummaryRepository;
+import com.entec.tax.domain.reference.cache.ExchangeRateCache;
+import com.entec.tax.domain.reference.cache.ExchangeRateTimeSeries;
+import com.entec.tax.domain.reference.cache.ForeignAmount;
+import com.entec.tax.domain.reference.cache.TaxYearRulePlan;
+import com.entec.tax.domain.reference.cache.TaxYearRulePlanCache;
 import com.entec.tax.domain.reference.entity.RefEmploymentCredit;
 import com.entec.tax.domain.reference.entity.RefInvestmentCreditRate;
 import com.entec.tax.domain.reference.entity.RefNongteukse;
 import com.entec.tax.domain.reference.entity.RefRdCreditRate;
 import com.entec.tax.domain.reference.entity.RefSmeDeductionRate;
 import com.entec.tax.domain.reference.entity.RefStartupDeductionRate;
-import com.entec.tax.domain.reference.repository.RefEmploymentCreditRepository;
-import com.entec.tax.domain.reference.repository.RefInvestmentCreditRateRepository;
 import com.entec.tax.domain.reference.repository.RefNongteukseRepository;
 import com.entec.tax.domain.reference.repository.RefRdCreditRateRepository;
 import com.entec.tax.domain.reference.repository.RefSmeDeductionRateRepository;
-import com.entec.tax.domain.reference.repository.RefStartupDeductionRateRepository;
+import com.entec.tax.engine.context.AnalysisContext;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -47,12 +47,16 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.time.DateTimeException;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.Period;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * M4 개별 공제·감면 산출 서비스 구현체.
@@ -78,105 +82,130 @@ import java.util.Optional;
 public class CreditCalculationServiceImpl implements CreditCalculationService {
 
     private static final String CALC_STEP = "M4";
+    private static final String CALC_STEP_EMPLOYMENT = "M4-02";
     private static final String ITEM_STATUS_APPLICABLE = "applicable";
     private static final String ITEM_STATUS_NOT_APPLICABLE = "not_applicable";
     private static final String YEAR_TYPE_CURRENT = "CURRENT";
     private static final String YEAR_TYPE_PREV1 = "PREV1";
+    private static final String CATEGORY_FOREIGN_TAX = "foreign_tax";
 
     // ──────────────────────────────────────────────
     // 입력 리포지토리
     // ──────────────────────────────────────────────
-    private final InpBasicRepository inpBasicRepository;
-    private final InpDeductionRepository inpDeductionRepository;
-    private final InpFinancialRepository inpFinancialRepository;
-    private final InpEmployeeRepository inpEmployeeRepository;
+    private final InpRawDataRepository inpRawDataRepository;
 
     // ──────────────────────────────────────────────
     // 검증 리포지토리
     // ──────────────────────────────────────────────
-    private final ChkEligibilityRepository chkEligibilityRepository;
     private final ChkInspectionLogRepository chkInspectionLogRepository;
 
     // ──────────────────────────────────────────────
     // 출력 리포지토리
     // ──────────────────────────────────────────────
     private final OutCreditDetailRepository outCreditDetailRepository;
-    private final OutEmployeeSummaryRepository outEmployeeSummaryRepository;
-
-    // ──────────────────────────────────────────────
-    // 로그 리포지토리
-    // ──────────────────────────────────────────────
-    private final LogCalculationRepository logCalculationRepository;
 
     // ──────────────────────────────────────────────
     // 기준정보 리포지토리
     // ──────────────────────────────────────────────
     private final RefSmeDeductionRateRepository refSmeDeductionRateRepository;
-    private final RefEmploymentCreditRepository refEmploymentCreditRepository;
-    private final RefInvestmentCreditRateRepository refInvestmentCreditRateRepository;
-    private final RefStartupDeductionRateRepository refStartupDeductionRateRepository;
     private final RefRdCreditRateRepository refRdCreditRateRepository;
     private final RefNongteukseRepository refNongteukseRepository;
 
+    // ──────────────────────────────────────────────
+    // 기준정보 캐시
+    // ──────────────────────────────────────────────
+    private final ExchangeRateCache exchangeRateCache;
+    private final TaxYearRulePlanCache taxYearRulePlanCache;
+
+    // ──────────────────────────────────────────────
+    // 산출기 병렬 실행
+    // ──────────────────────────────────────────────
+    private final CreditCalculatorRunner creditCalculatorRunner;
+
     /**
      * {@inheritDoc}
      *
      * <p>
      * 개별 공제·감면액을 산출한다.
-     * M4-01 ~ M4-10까지의 서브 메서드를 순차적으로 호출하여
-     * 각 조항별 공제/감면액을 계산하고 결과를 {@code OUT_CREDIT_DETAIL}에 저장한다.
+     * M4-01 ~ M4-07 산출기는 입력·기준정보만 읽고 자기 항목만 산출하므로
+     * {@link CreditCalculatorRunner}로 병렬 실행하며, M4 소요 시간은 가장 느린 산출기 수준이 된다.
+     * 산출 결과는 항목 순서대로 컨텍스트에 병합하므로 item_id 순서는 순차 실행과 같다.
+     * {@code OUT_CREDIT_DETAIL} 저장은 단계 종료 시 일괄 수행된다.
      * </p>
      *
-     * @param reqId 요청 ID
+     * <p>
+     * 컨텍스트에 재산출 대상 산출기가 지정되면({@link AnalysisContext#getCreditCalcSteps()})
+     * 해당 산출기의 기존 항목만 삭제하고 다시 산출하며, 나머지 항목은 복원된 산출물을 그대로 둔다.
+     * </p>
+     *
+     * @param context 분석 컨텍스트 (입력 및 M3 결과 포함)
      * @throws CalculationException 계산 중 오류가 발생한 경우
      */
     @Override
-    public void calculateCredits(String reqId) {
+    public void calculateCredits(AnalysisContext context) {
+        String reqId = context.getReqId();
         log.info("[{}] M4 개별 공제·감면 산출 시작", reqId);
         long startTime = System.currentTimeMillis();
 
         try {
             // 기존 산출 결과 초기화 (TX-2 재시도 지원)
-            outCreditDetailRepository.deleteByReqId(reqId);
+            Set<String> calcSteps = context.getCreditCalcSteps();
+            if (calcSteps == null) {
+                if (!context.isDryRun()) {
+                    outCreditDetailRepository.deleteByReqId(reqId);
+                }
+                context.resetCredits();
+            } else {
+                // M4-02 의 OUT_EMPLOYEE_SUMMARY(CURRENT, PREV1)는 M3 가 저장한 행과 같은 키로 다시 저장되어
+                // 제자리 갱신되므로 삭제하지 않는다 (삭제하면 M3 산출 행까지 사라진다)
+                for (String calcStep : calcSteps) {
+                    if (!context.isDryRun()) {
+                        outCreditDetailRepository.deleteByReqIdAndCalcStep(reqId, calcStep);
+                    }
+                    context.removeCreditDetails(calcStep);
+                }
+                log.info("[{}] M4 부분 재산출 — 대상 산출기={}", reqId, calcSteps);
+            }
 
-            InpBasic basic = inpBasicRepository.findByReqId(reqId)
-                    .orElseThrow(() -> new CalculationException(
-                            ErrorCode.RESOURCE_NOT_FOUND,
-                            "INP_BASIC 데이터를 찾을 수 없습니다. reqId=" + reqId,
-                            reqId, CALC_STEP));
+            InpBasic basic = context.getBasic();
+            if (basic == null) {
+                throw new CalculationException(
+                        ErrorCode.RESOURCE_NOT_FOUND,
+                        "INP_BASIC 데이터를 찾을 수 없습니다. reqId=" + reqId,
+                        reqId, CALC_STEP);
+            }
 
-            ChkEligibility eligibility = chkEligibilityRepository.findByReqId(reqId)
+            ChkEligibility eligibility = context.getEligibility()
                     .orElseThrow(() -> new CalculationException(
                             ErrorCode.RESOURCE_NOT_FOUND,
                             "CHK_ELIGIBILITY 데이터를 찾을 수 없습니다. reqId=" + reqId,
                             reqId, CALC_STEP));
 
-            // M4-01: §7 중소기업 특별세액감면
-            calculateSmeSpecialDeduction(reqId, basic, eligibility);
-
-            // M4-02: §29의8 통합고용세액공제
-            calculateEmploymentCredit(reqId, basic, eligibility);
-
-            // M4-03: §24 통합투자세액공제
-            calculateInvestmentCredit(reqId, basic, eligibility);
-
-            // M4-04: §6 창업중소기업감면
-            calculateStartupDeduction(reqId, basic, eligibility);
-
-            // M4-05: §10 R&D 세액공제
-            calculateRdCredit(reqId, basic, eligibility);
-
-            // M4-06: §57 외국납부세액공제
-            calculateForeignTaxCredit(reqId, basic);
-
-            // M4-07: §30의4 사회보험료세액공제
-            calculateSocialInsuranceCredit(reqId, basic, eligibility);
+            // M4-01 ~ M4-07 산출기는 서로 독립적이므로 병렬 실행하고, 결과는 항목 순서대로 병합한다
+            Map<String, CreditCalculator> calculators = calculators();
+            if (calcSteps != null) {
+                calculators.keySet().retainAll(calcSteps);
+            }
+            List<CreditCalculationResult> results =
+                    creditCalculatorRunner.runAll(context, basic, eligibility, calculators);
+
+            for (CreditCalculationResult result : results) {
+                for (OutCreditDetail creditDetail : result.getCreditDetails()) {
+                    context.addCreditDetail(creditDetail);
+                }
+                for (OutEmployeeSummary employeeSummary : result.getEmployeeSummaries()) {
+                    context.stage(employeeSummary);
+                }
+                for (LogCalculation calculationLog : result.getCalculationLogs()) {
+                    context.stage(calculationLog);
+                }
+            }
 
             long duration = System.currentTimeMillis() - startTime;
-            saveCalculationLog(reqId, CALC_STEP, "calculateCredits",
+            context.stage(buildCalculationLog(reqId, CALC_STEP, "calculateCredits",
                     "reqId=" + reqId,
                     "M4 개별 공제·감면 산출 완료",
-                    LogLevel.INFO.getCode(), (int) duration);
+                    LogLevel.INFO.getCode(), (int) duration));
 
             log.info("[{}] M4 개별 공제·감면 산출 완료 ({}ms)", reqId, duration);
 
@@ -191,6 +220,31 @@ public class CreditCalculationServiceImpl implements CreditCalculationService {
         }
     }
 
+    /**
+     * M4 산출기 목록을 항목 순서(M4-01 → M4-07)대로 반환한다.
+     * 이 순서가 OUT_CREDIT_DETAIL 병합·저장 순서가 된다.
+     *
+     * @return 산출 단계 코드 → 산출기
+     */
+    private Map<String, CreditCalculator> calculators() {
+        Map<String, CreditCalculator> calculators = new LinkedHashMap<String, CreditCalculator>();
+        // M4-01: §7 중소기업 특별세액감면
+        calculators.put("M4-01", this::calculateSmeSpecialDeduction);
+        // M4-02: §29의8 통합고용세액공제
+        calculators.put(CALC_STEP_EMPLOYMENT, this::calculateEmploymentCredit);
+        // M4-03: §24 통합투자세액공제
+        calculators.put("M4-03", this::calculateInvestmentCredit);
+        // M4-04: §6 창업중소기업감면
+        calculators.put("M4-04", this::calculateStartupDeduction);
+        // M4-05: §10 R&D 세액공제
+        calculators.put("M4-05", this::calculateRdCredit);
+        // M4-06: §57 외국납부세액공제
+        calculators.put("M4-06", (ctx, basic, eligibility, result) -> calculateForeignTaxCredit(ctx, basic, result));
+        // M4-07: §30의4 사회보험료세액공제
+        calculators.put("M4-07", this::calculateSocialInsuranceCredit);
+        return calculators;
+    }
+
     // ================================================================
     // M4-01: §7 중소기업 특별세액감면
     // ================================================================
@@ -206,12 +260,14 @@ public class CreditCalculationServiceImpl implements CreditCalculationService {
      *
      * <p>농어촌특별세: §7은 비과세(면제) 대상이다.</p>
      *
-     * @param reqId       요청 ID
+     * @param context     분석 컨텍스트
      * @param basic       기본 정보
      * @param eligibility 적격 진단 결과
+     * @param result      산출 결과 수집 버퍼
      */
-    private void calculateSmeSpecialDeduction(String reqId, InpBasic basic,
-                                               ChkEligibility eligibility) {
+    private void calculateSmeSpecialDeduction(AnalysisContext context, InpBasic basic,
+                                               ChkEligibility eligibility, CreditCalculationResult result) {
+        String reqId = context.getReqId();
         log.debug("[{}] M4-01 §7 중소기업 특별세액감면 산출 시작", reqId);
 
         // 중소기업 적격 여부 확인
@@ -220,9 +276,7 @@ public class CreditCalculationServiceImpl implements CreditCalculationService {
             return;
         }
 
-        List<InpDeduction> deductions = inpDeductionRepository
-                .findByReqIdAndItemCategoryAndProvision(reqId,
-                        ItemCategory.SME_SPECIAL.getCode(), ProvisionCode.ART_7);
+        List<InpDeduction> deductions = context.getDeductions(ItemCategory.SME_SPECIAL.getCode(), ProvisionCode.ART_7);
 
         if (deductions.isEmpty()) {
             log.debug("[{}] M4-01 §7 입력 데이터 없음", reqId);
@@ -298,12 +352,12 @@ public class CreditCalculationServiceImpl implements CreditCalculationService {
                     .legalBasis("조세특례제한법 제7조")
                     .build();
 
-            outCreditDetailRepository.save(creditDetail);
+            result.addCreditDetail(creditDetail);
 
-            saveCalculationLog(reqId, "M4-01", "calculateSmeSpecialDeduction",
+            result.addCalculationLog(buildCalculationLog(reqId, "M4-01", "calculateSmeSpecialDeduction",
                     String.format("baseAmount=%d, rate=%s%%", baseAmount, deductionRate.toPlainString()),
                     String.format("grossAmount=%d, netAmount=%d", grossAmount, netAmount),
-                    LogLevel.INFO.getCode(), null);
+                    LogLevel.INFO.getCode(), null));
         }
 
         log.debug("[{}] M4-01 §7 중소기업 특별세액감면 산출 완료", reqId);
@@ -324,17 +378,17 @@ public class CreditCalculationServiceImpl implements CreditCalculationService {
      *
      * <p>농어촌특별세: §29의8은 과세 대상(20%)이다.</p>
      *
-     * @param reqId       요청 ID
+     * @param context     분석 컨텍스트
      * @param basic       기본 정보
      * @param eligibility 적격 진단 결과
+     * @param result      산출 결과 수집 버퍼
      */
-    private void calculateEmploymentCredit(String reqId, InpBasic basic,
-                                            ChkEligibility eligibility) {
+    private void calculateEmploymentCredit(AnalysisContext context, InpBasic basic,
+                                            ChkEligibility eligibility, CreditCalculationResult result) {
+        String reqId = context.getReqId();
         log.debug("[{}] M4-02 §29의8 통합고용세액공제 산출 시작", reqId);
 
-        List<InpDeduction> deductions = inpDeductionRepository
-                .findByReqIdAndItemCategoryAndProvision(reqId,
-                        ItemCategory.EMPLOYMENT.getCode(), ProvisionCode.ART_29_8);
+        List<InpDeduction> deductions = context.getDeductions(ItemCategory.EMPLOYMENT.getCode(), ProvisionCode.ART_29_8);
 
         if (deductions.isEmpty()) {
             log.debug("[{}] M4-02 §29의8 입력 데이터 없음", reqId);
@@ -342,10 +396,8 @@ public class CreditCalculationServiceImpl implements CreditCalculationService {
         }
 
         // 당기/전기 고용 정보 조회
-        Optional<InpEmployee> currentEmpOpt = inpEmployeeRepository
-                .findByReqIdAndYearType(reqId, YEAR_TYPE_CURRENT);
-        Optional<InpEmployee> prevEmpOpt = inpEmployeeRepository
-                .findByReqIdAndYearType(reqId, YEAR_TYPE_PREV1);
+        Optional<InpEmployee> currentEmpOpt = context.findEmployee(YEAR_TYPE_CURRENT);
+        Optional<InpEmployee> prevEmpOpt = context.findEmployee(YEAR_TYPE_PREV1);
 
         if (!currentEmpOpt.isPresent() || !prevEmpOpt.isPresent()) {
             log.warn("[{}] M4-02 고용 정보 불완전 (당기 또는 전기 누락)", reqId);
@@ -364,7 +416,7 @@ public class CreditCalculationServiceImpl implements CreditCalculationService {
             log.debug("[{}] M4-02 고용 증가 인원 없음", reqId);
 
             // 상시근로자 산정 결과 저장
-            saveEmployeeSummary(reqId, currentEmp, prevEmp, 0, 0);
+            saveEmployeeSummary(context, result, currentEmp, prevEmp, 0, 0);
             return;
         }
 
@@ -373,24 +425,23 @@ public class CreditCalculationServiceImpl implements CreditCalculationService {
         generalIncrease = Math.max(generalIncrease, 0);
 
         // 상시근로자 산정 결과 저장
-        saveEmployeeSummary(reqId, currentEmp, prevEmp, youthIncrease, generalIncrease);
+        saveEmployeeSummary(context, result, currentEmp, prevEmp, youthIncrease, generalIncrease);
 
         String corpSize = basic.getCorpSize();
         String region = basic.getCapitalZone();
         String taxYear = basic.getTaxYear();
+        TaxYearRulePlan rulePlan = taxYearRulePlanCache.getPlan(basic.getTaxType(), taxYear);
 
         long totalGrossAmount = 0L;
         List<String> calcDetails = new ArrayList<String>();
 
         // 청년등 공제액 산출
         if (youthIncrease > 0) {
-            List<RefEmploymentCredit> youthRates = refEmploymentCreditRepository
-                    .findByTaxYearAndCorpSizeAndRegionAndWorkerType(
-                            taxYear, corpSize, region, "청년등");
+            RefEmploymentCredit youthRate = rulePlan.getEmploymentCredit(corpSize, region, "청년등");
 
-            if (!youthRates.isEmpty()) {
-                long creditPerPerson = youthRates.get(0).getCreditPerPerson() != null
-                        ? youthRates.get(0).getCreditPerPerson() : 0L;
+            if (youthRate != null) {
+                long creditPerPerson = youthRate.getCreditPerPerson() != null
+                        ? youthRate.getCreditPerPerson() : 0L;
                 long youthCredit = TruncationUtil.truncateAmount(
                         (long) youthIncrease * creditPerPerson);
                 totalGrossAmount += youthCredit;
@@ -401,13 +452,11 @@ public class CreditCalculationServiceImpl implements CreditCalculationService {
 
         // 일반 공제액 산출
         if (generalIncrease > 0) {
-            List<RefEmploymentCredit> generalRates = refEmploymentCreditRepository
-                    .findByTaxYearAndCorpSizeAndRegionAndWorkerType(
-                            taxYear, corpSize, region, "일반");
+            RefEmploymentCredit generalRate = rulePlan.getEmploymentCredit(corpSize, region, "일반");
 
-            if (!generalRates.isEmpty()) {
-                long creditPerPerson = generalRates.get(0).getCreditPerPerson() != null
-                        ? generalRates.get(0).getCreditPerPerson() : 0L;
+            if (generalRate != null) {
+                long creditPerPerson = generalRate.getCreditPerPerson() != null
+                        ? generalRate.getCreditPerPerson() : 0L;
                 long generalCredit = TruncationUtil.truncateAmount(
                         (long) generalIncrease * creditPerPerson);
                 totalGrossAmount += generalCredit;
@@ -454,13 +503,13 @@ public class CreditCalculationServiceImpl implements CreditCalculationService {
                 .conditions("상시근로자 수 증가 필요")
                 .build();
 
-        outCreditDetailRepository.save(creditDetail);
+        result.addCreditDetail(creditDetail);
 
-        saveCalculationLog(reqId, "M4-02", "calculateEmploymentCredit",
+        result.addCalculationLog(buildCalculationLog(reqId, "M4-02", "calculateEmploymentCredit",
                 String.format("청년증가=%d, 일반증가=%d", youthIncrease, generalIncrease),
                 String.format("grossAmount=%d, nongteuk=%d, netAmount=%d",
                         totalGrossAmount, nongteukAmount, netAmount),
-                LogLevel.INFO.getCode(), null);
+                LogLevel.INFO.getCode(), null));
 
         log.debug("[{}] M4-02 §29의8 통합고용세액공제 산출 완료: netAmount={}", reqId, netAmount);
     }
@@ -481,17 +530,17 @@ public class CreditCalculationServiceImpl implements CreditCalculationService {
      *
      * <p>농어촌특별세: §24는 과세 대상(20%)이다.</p>
      *
-     * @param reqId       요청 ID
+     * @param context     분석 컨텍스트
      * @param basic       기본 정보
      * @param eligibility 적격 진단 결과
+     * @param result      산출 결과 수집 버퍼
      */
-    private void calculateInvestmentCredit(String reqId, InpBasic basic,
-                                            ChkEligibility eligibility) {
+    private void calculateInvestmentCredit(AnalysisContext context, InpBasic basic,
+                                            ChkEligibility eligibility, CreditCalculationResult result) {
+        String reqId = context.getReqId();
         log.debug("[{}] M4-03 §24 통합투자세액공제 산출 시작", reqId);
 
-        List<InpDeduction> deductions = inpDeductionRepository
-                .findByReqIdAndItemCategoryAndProvision(reqId,
-                        ItemCategory.INVEST.getCode(), ProvisionCode.ART_24);
+        List<InpDeduction> deductions = context.getDeductions(ItemCategory.INVEST.getCode(), ProvisionCode.ART_24);
 
         if (deductions.isEmpty()) {
             log.debug("[{}] M4-03 §24 입력 데이터 없음", reqId);
@@ -500,24 +549,22 @@ public class CreditCalculationServiceImpl implements CreditCalculationService {
 
         String corpSize = basic.getCorpSize();
         String taxYear = basic.getTaxYear();
+        TaxYearRulePlan rulePlan = taxYearRulePlanCache.getPlan(basic.getTaxType(), taxYear);
         int seq = 1;
 
         for (InpDeduction deduction : deductions) {
             long baseAmount = deduction.getBaseAmount() != null ? deduction.getBaseAmount() : 0L;
             String investType = deduction.getAssetType();
 
-            // 투자 세액공제율 조회
-            List<RefInvestmentCreditRate> rates = refInvestmentCreditRateRepository
-                    .findByYearAndInvestTypeAndCorpSize(taxYear, investType, corpSize);
+            // 투자 세액공제율 조회 (귀속연도 이전 최신 개정분)
+            RefInvestmentCreditRate rate = rulePlan.getInvestmentRate(investType, corpSize);
 
-            if (rates.isEmpty()) {
+            if (rate == null) {
                 log.warn("[{}] M4-03 투자 공제율을 찾을 수 없습니다. investType={}, corpSize={}",
                         reqId, investType, corpSize);
                 continue;
             }
 
-            RefInvestmentCreditRate rate = rates.get(0);
-
             // 기본공제 = TRUNCATE(투자금액 × 기본공제율 / 100)
             BigDecimal basicRate = TruncationUtil.truncateRate(
                     rate.getBasicRate(), SystemConstants.RATE_SCALE);
@@ -588,12 +635,12 @@ public class CreditCalculationServiceImpl implements CreditCalculationService {
                     .legalBasis("조세특례제한법 제24조")
                     .build();
 
-            outCreditDetailRepository.save(creditDetail);
+            result.addCreditDetail(creditDetail);
 
-            saveCalculationLog(reqId, "M4-03", "calculateInvestmentCredit",
+            result.addCalculationLog(buildCalculationLog(reqId, "M4-03", "calculateInvestmentCredit",
                     String.format("baseAmount=%d, investType=%s", baseAmount, investType),
                     String.format("grossAmount=%d, netAmount=%d", grossAmount, netAmount),
-                    LogLevel.INFO.getCode(), null);
+                    LogLevel.INFO.getCode(), null));
         }
 
         log.debug("[{}] M4-03 §24 통합투자세액공제 산출 완료", reqId);
@@ -614,12 +661,14 @@ public class CreditCalculationServiceImpl implements CreditCalculationService {
      *
      * <p>농어촌특별세: §6은 비과세(면제) 대상이다.</p>
      *
-     * @param reqId       요청 ID
+     * @param context     분석 컨텍스트
      * @param basic       기본 정보
      * @param eligibility 적격 진단 결과
+     * @param result      산출 결과 수집 버퍼
      */
-    private void calculateStartupDeduction(String reqId, InpBasic basic,
-                                            ChkEligibility eligibility) {
+    private void calculateStartupDeduction(AnalysisContext context, InpBasic basic,
+                                            ChkEligibility eligibility, CreditCalculationResult result) {
+        String reqId = context.getReqId();
         log.debug("[{}] M4-04 §6 창업중소기업감면 산출 시작", reqId);
 
         // 중소기업 적격 여부 확인
@@ -628,9 +677,7 @@ public class CreditCalculationServiceImpl implements CreditCalculationService {
             return;
         }
 
-        List<InpDeduction> deductions = inpDeductionRepository
-                .findByReqIdAndItemCategoryAndProvision(reqId,
-                        ItemCategory.STARTUP.getCode(), ProvisionCode.ART_6);
+        List<InpDeduction> deductions = context.getDeductions(ItemCategory.STARTUP.getCode(), ProvisionCode.ART_6);
 
         if (deductions.isEmpty()) {
             log.debug("[{}] M4-04 §6 입력 데이터 없음", reqId);
@@ -654,20 +701,15 @@ public class CreditCalculationServiceImpl implements CreditCalculationService {
         String founderType = Boolean.TRUE.equals(basic.getVentureYn()) ? "청년" : "일반";
 
         String taxYear = basic.getTaxYear();
-        List<RefStartupDeductionRate> rates = refStartupDeductionRateRepository
-                .findByFounderTypeAndLocationType(founderType, locationType);
+        // 귀속연도 감면율 중 창업자·소재지 유형 일치분, 없으면 귀속연도 감면율로 대체
+        RefStartupDeductionRate rate = taxYearRulePlanCache.getPlan(basic.getTaxType(), taxYear)
+                .getStartupRate(founderType, locationType);
 
-        if (rates.isEmpty()) {
-            // 연도 기반으로 재조회
-            rates = refStartupDeductionRateRepository.findByYear(taxYear);
-            if (rates.isEmpty()) {
-                log.warn("[{}] M4-04 창업감면율을 찾을 수 없습니다. founderType={}, locationType={}",
-                        reqId, founderType, locationType);
-                return;
-            }
+        if (rate == null) {
+            log.warn("[{}] M4-04 창업감면율을 찾을 수 없습니다. founderType={}, locationType={}",
+                    reqId, founderType, locationType);
+            return;
         }
-
-        RefStartupDeductionRate rate = rates.get(0);
         BigDecimal deductionRate = TruncationUtil.truncateRate(
                 rate.getDeductionRate(), SystemConstants.RATE_SCALE);
 
@@ -723,13 +765,13 @@ public class CreditCalculationServiceImpl implements CreditCalculationService {
                             founderType, locationType, yearsFromFoundation))
                     .build();
 
-            outCreditDetailRepository.save(creditDetail);
+            result.addCreditDetail(creditDetail);
 
-            saveCalculationLog(reqId, "M4-04", "calculateStartupDeduction",
+            result.addCalculationLog(buildCalculationLog(reqId, "M4-04", "calculateStartupDeduction",
                     String.format("baseAmount=%d, founderType=%s, locationType=%s",
                             baseAmount, founderType, locationType),
                     String.format("grossAmount=%d, netAmount=%d", grossAmount, netAmount),
-                    LogLevel.INFO.getCode(), null);
+                    LogLevel.INFO.getCode(), null));
         }
 
         log.debug("[{}] M4-04 §6 창업중소기업감면 산출 완료", reqId);
@@ -751,17 +793,17 @@ public class CreditCalculationServiceImpl implements CreditCalculationService {
      *
      * <p>농어촌특별세: §10은 비과세(면제) 대상이다.</p>
      *
-     * @param reqId       요청 ID
+     * @param context     분석 컨텍스트
      * @param basic       기본 정보
      * @param eligibility 적격 진단 결과
+     * @param result      산출 결과 수집 버퍼
      */
-    private void calculateRdCredit(String reqId, InpBasic basic,
-                                    ChkEligibility eligibility) {
+    private void calculateRdCredit(AnalysisContext context, InpBasic basic,
+                                    ChkEligibility eligibility, CreditCalculationResult result) {
+        String reqId = context.getReqId();
         log.debug("[{}] M4-05 §10 R&D 세액공제 산출 시작", reqId);
 
-        List<InpDeduction> deductions = inpDeductionRepository
-                .findByReqIdAndItemCategoryAndProvision(reqId,
-                        ItemCategory.RD.getCode(), ProvisionCode.ART_10);
+        List<InpDeduction> deductions = context.getDeductions(ItemCategory.RD.getCode(), ProvisionCode.ART_10);
 
         if (deductions.isEmpty()) {
             log.debug("[{}] M4-05 §10 입력 데이터 없음", reqId);
@@ -846,12 +888,12 @@ public class CreditCalculationServiceImpl implements CreditCalculationService {
                     .conditions(String.format("R&D유형=%s, 산출방식=%s", rdType, method))
                     .build();
 
-            outCreditDetailRepository.save(creditDetail);
+            result.addCreditDetail(creditDetail);
 
-            saveCalculationLog(reqId, "M4-05", "calculateRdCredit",
+            result.addCalculationLog(buildCalculationLog(reqId, "M4-05", "calculateRdCredit",
                     String.format("baseAmount=%d, rdType=%s, method=%s", baseAmount, rdType, method),
                     String.format("grossAmount=%d, netAmount=%d", grossAmount, netAmount),
-                    LogLevel.INFO.getCode(), null);
+                    LogLevel.INFO.getCode(), null));
         }
 
         log.debug("[{}] M4-05 §10 R&D 세액공제 산출 완료", reqId);
@@ -874,22 +916,28 @@ public class CreditCalculationServiceImpl implements CreditCalculationService {
      * <p>농어촌특별세: 외국납부세액공제는 조세특례제한법 대상이 아니므로
      * 농어촌특별세가 부과되지 않는다.</p>
      *
-     * @param reqId 요청 ID
-     * @param basic 기본 정보
+     * @param context 분석 컨텍스트
+     * @param basic   기본 정보
+     * @param result  산출 결과 수집 버퍼
      */
-    private void calculateForeignTaxCredit(String reqId, InpBasic basic) {
+    private void calculateForeignTaxCredit(AnalysisContext context, InpBasic basic,
+                                            CreditCalculationResult result) {
+        String reqId = context.getReqId();
         log.debug("[{}] M4-06 §57 외국납부세액공제 산출 시작", reqId);
 
-        InpFinancial financial = inpFinancialRepository.findByReqId(reqId).orElse(null);
+        InpFinancial financial = context.getFinancial().orElse(null);
+
+        if (financial == null) {
+            log.debug("[{}] M4-06 외국납부세액 없음", reqId);
+            return;
+        }
 
-        if (financial == null
-                || financial.getForeignTaxTotal() == null
-                || financial.getForeignTaxTotal() <= 0L) {
+        long foreignTaxPaid = resolveForeignTaxPaid(reqId, financial);
+        if (foreignTaxPaid <= 0L) {
             log.debug("[{}] M4-06 외국납부세액 없음", reqId);
             return;
         }
 
-        long foreignTaxPaid = financial.getForeignTaxTotal();
         long foreignIncome = financial.getForeignIncomeTotal() != null
                 ? financial.getForeignIncomeTotal() : 0L;
         long taxableIncome = basic.getTaxableIncome() != null ? basic.getTaxableIncome() : 0L;
@@ -940,16 +988,113 @@ public class CreditCalculationServiceImpl implements CreditCalculationService {
                 .legalBasis("법인세법/소득세법 제57조")
                 .build();
 
-        outCreditDetailRepository.save(creditDetail);
+        result.addCreditDetail(creditDetail);
 
-        saveCalculationLog(reqId, "M4-06", "calculateForeignTaxCredit",
+        result.addCalculationLog(buildCalculationLog(reqId, "M4-06", "calculateForeignTaxCredit",
                 String.format("foreignTax=%d, foreignIncome=%d", foreignTaxPaid, foreignIncome),
                 String.format("grossAmount=%d, carryforward=%d", grossAmount, carryforwardAmount),
-                LogLevel.INFO.getCode(), null);
+                LogLevel.INFO.getCode(), null));
 
         log.debug("[{}] M4-06 §57 외국납부세액공제 산출 완료: netAmount={}", reqId, netAmount);
     }
 
+    /**
+     * 외국납부세액(원화)을 결정한다.
+     *
+     * <p>
+     * {@code foreign_tax} 원시 데이터의 건별 내역이 있으면 이를 합산한다.
+     * 원화 환산액(foreign_tax_paid)이 없고 외화 금액(foreign_tax_paid_fc)·통화(currency)·
+     * 납부일(payment_date)만 있는 건은 {@link ExchangeRateCache}로 납부일 직전 영업일
+     * 매매기준율을 적용하여 일괄 환산한다.
+     * 내역이 없거나, 원화 금액을 확정하지 못한 건(금액·통화·납부일 누락, 형식 오류, 환율 미등록)이 하나라도 있으면
+     * 일부 건만 합산하여 공제액을 과소 산출하지 않도록 INP_FINANCIAL 합계를 사용하고, 제외된 건을 경고 로그로 남긴다.
+     * </p>
+     *
+     * @param reqId     요청 ID
+     * @param financial 재무 정보
+     * @return 원화 외국납부세액 합계
+     */
+    @SuppressWarnings("unchecked")
+    private long resolveForeignTaxPaid(String reqId, InpFinancial financial) {
+        long summaryTotal = financial.getForeignTaxTotal() != null ? financial.getForeignTaxTotal() : 0L;
+
+        List<InpRawData> rawDataList = inpRawDataRepository
+                .findByReqRequestReqIdAndCategory(reqId, CATEGORY_FOREIGN_TAX);
+        if (rawDataList.isEmpty()) {
+            return summaryTotal;
+        }
+
+        long krwTotal = 0L;
+        int lineCount = 0;
+        int resolvedCount = 0;
+        List<ForeignAmount> toConvert = new ArrayList<ForeignAmount>();
+        List<Integer> toConvertLines = new ArrayList<Integer>();
+        List<String> droppedLines = new ArrayList<String>();
+
+        for (InpRawData rawData : rawDataList) {
+            String rawJson = rawData.getRawJson();
+            if (rawJson == null || rawJson.trim().isEmpty()) {
+                continue;
+            }
+            List<Map> lines = new ArrayList<Map>();
+            if (rawJson.trim().startsWith("[")) {
+                lines.addAll(JsonUtil.fromJsonList(rawJson, Map.class));
+            } else {
+                lines.add(JsonUtil.fromJson(rawJson, Map.class));
+            }
+
+            for (Map<String, Object> line : lines) {
+                lineCount++;
+                Object krwPaid = line.get("foreign_tax_paid");
+                if (krwPaid instanceof Number) {
+                    krwTotal += ((Number) krwPaid).longValue();
+                    resolvedCount++;
+                    continue;
+                }
+                Object fcPaid = line.get("foreign_tax_paid_fc");
+                Object currency = line.get("currency");
+                Object paymentDate = line.get("payment_date");
+                if (fcPaid == null || currency == null || paymentDate == null) {
+                    droppedLines.add("#" + lineCount + "(금액·통화·납부일 누락)");
+                    continue;
+                }
+                try {
+                    toConvert.add(new ForeignAmount(String.valueOf(currency),
+                            new BigDecimal(String.valueOf(fcPaid)),
+                            DateUtil.parseDate(String.valueOf(paymentDate))));
+                    toConvertLines.add(lineCount);
+                } catch (IllegalArgumentException | DateTimeException e) {
+                    droppedLines.add("#" + lineCount + "(형식 오류: amount=" + fcPaid + ", date=" + paymentDate + ")");
+                }
+            }
+        }
+
+        if (!toConvert.isEmpty()) {
+            long[] converted = exchangeRateCache.convertAll(toConvert);
+            for (int i = 0; i < converted.length; i++) {
+                if (converted[i] == ExchangeRateTimeSeries.NO_RATE) {
+                    droppedLines.add("#" + toConvertLines.get(i) + "(환율 미등록: currency="
+                            + toConvert.get(i).getCurrency() + ", date=" + toConvert.get(i).getDate() + ")");
+                    continue;
+                }
+                krwTotal += converted[i];
+                resolvedCount++;
+            }
+        }
+
+        log.debug("[{}] M4-06 외국납부 내역 {}건 (환산 {}건, 확정 {}건) 합계={}",
+                reqId, lineCount, toConvert.size(), resolvedCount, krwTotal);
+        if (resolvedCount < lineCount) {
+            log.warn("[{}] M4-06 외국납부 내역 {}건 중 {}건 원화 확정 불가 — 재무 합계 사용: {}, 제외 내역={}",
+                    reqId, lineCount, lineCount - resolvedCount, summaryTotal, droppedLines);
+            return summaryTotal;
+        }
+        if (resolvedCount == 0) {
+            return summaryTotal;
+        }
+        return krwTotal;
+    }
+
     // ================================================================
     // M4-07: §30의4 사회보험료세액공제
     // ================================================================
@@ -965,17 +1110,17 @@ public class CreditCalculationServiceImpl implements CreditCalculationService {
      *
      * <p>농어촌특별세: §30의4는 과세 대상(20%)이다.</p>
      *
-     * @param reqId       요청 ID
+     * @param context     분석 컨텍스트
      * @param basic       기본 정보
      * @param eligibility 적격 진단 결과
+     * @param result      산출 결과 수집 버퍼
      */
-    private void calculateSocialInsuranceCredit(String reqId, InpBasic basic,
-                                                 ChkEligibility eligibility) {
+    private void calculateSocialInsuranceCredit(AnalysisContext context, InpBasic basic,
+                                                 ChkEligibility eligibility, CreditCalculationResult result) {
+        String reqId = context.getReqId();
         log.debug("[{}] M4-07 §30의4 사회보험료세액공제 산출 시작", reqId);
 
-        List<InpDeduction> deductions = inpDeductionRepository
-                .findByReqIdAndItemCategoryAndProvision(reqId,
-                        ItemCategory.SOCIAL_INS.getCode(), ProvisionCode.ART_30_4);
+        List<InpDeduction> deductions = context.getDeductions(ItemCategory.SOCIAL_INS.getCode(), ProvisionCode.ART_30_4);
 
         if (deductions.isEmpty()) {
             log.debug("[{}] M4-07 §30의4 입력 데이터 없음", reqId);
@@ -983,10 +1128,8 @@ public class CreditCalculationServiceImpl implements CreditCalculationService {
         }
 
         // 고용 증가 여부 확인
-        Optional<InpEmployee> currentEmpOpt = inpEmployeeRepository
-                .findByReqIdAndYearType(reqId, YEAR_TYPE_CURRENT);
-        Optional<InpEmployee> prevEmpOpt = inpEmployeeRepository
-                .findByReqIdAndYearType(reqId, YEAR_TYPE_PREV1);
+        Optional<InpEmployee> currentEmpOpt = context.findEmployee(YEAR_TYPE_CURRENT);
+        Optional<InpEmployee> prevEmpOpt = context.findEmployee(YEAR_TYPE_PREV1);
 
         if (!currentEmpOpt.isPresent() || !prevEmpOpt.isPresent()) {
             log.warn("[{}] M4-07 고용 정보 불완전 (당기 또는 전기 누락)", reqId);
@@ -1049,13 +1192,13 @@ public class CreditCalculationServiceImpl implements CreditCalculationService {
                     .conditions("상시근로자 수 증가 필요")
                     .build();
 
-            outCreditDetailRepository.save(creditDetail);
+            result.addCreditDetail(creditDetail);
 
-            saveCalculationLog(reqId, "M4-07", "calculateSocialInsuranceCredit",
+            result.addCalculationLog(buildCalculationLog(reqId, "M4-07", "calculateSocialInsuranceCredit",
                     String.format("증가인원=%d, baseAmount=%d", totalIncrease, baseAmount),
                     String.format("grossAmount=%d, nongteuk=%d, netAmount=%d",
                             grossAmount, nongteukAmount, netAmount),
-                    LogLevel.INFO.getCode(), null);
+                    LogLevel.INFO.getCode(), null));
         }
 
         log.debug("[{}] M4-07 §30의4 사회보험료세액공제 산출 완료", reqId);
@@ -1068,15 +1211,17 @@ public class CreditCalculationServiceImpl implements CreditCalculationService {
     /**
      * 상시근로자 산정 결과를 OUT_EMPLOYEE_SUMMARY에 저장한다.
      *
-     * @param reqId           요청 ID
+     * @param context         분석 컨텍스트
+     * @param result          산출 결과 수집 버퍼
      * @param currentEmp      당기 고용 정보
      * @param prevEmp         전기 고용 정보
      * @param youthIncrease   청년등 증가 인원
      * @param generalIncrease 일반 증가 인원
      */
-    private void saveEmployeeSummary(String reqId, InpEmployee currentEmp,
-                                      InpEmployee prevEmp, int youthIncrease,
+    private void saveEmployeeSummary(AnalysisContext context, CreditCalculationResult result,
+                                      InpEmployee currentEmp, InpEmployee prevEmp, int youthIncrease,
                                       int generalIncrease) {
+        String reqId = context.getReqId();
         // 당기 요약
         OutEmployeeSummary currentSummary = OutEmployeeSummary.builder()
                 .reqId(reqId)
@@ -1093,7 +1238,7 @@ public class CreditCalculationServiceImpl implements CreditCalculationService {
                         prevEmp.getTotalRegular()))
                 .build();
 
-        outEmployeeSummaryRepository.save(currentSummary);
+        result.addEmployeeSummary(currentSummary);
 
         // 전기 요약
         OutEmployeeSummary prevSummary = OutEmployeeSummary.builder()
@@ -1108,7 +1253,7 @@ public class CreditCalculationServiceImpl implements CreditCalculationService {
                 .excludedCount(prevEmp.getExcludedCount())
                 .build();
 
-        outEmployeeSummaryRepository.save(prevSummary);
+        result.addEmployeeSummary(prevSummary);
     }
 
     /**
@@ -1146,7 +1291,7 @@ public class CreditCalculationServiceImpl implements CreditCalculationService {
     }
 
     /**
-     * 계산 감사추적 로그를 저장한다.
+     * 계산 감사추적 로그를 생성한다. 저장은 M4 종료 시 일괄 수행한다.
      *
      * @param reqId        요청 ID
      * @param calcStep     계산 단계
@@ -1155,11 +1300,12 @@ public class CreditCalculationServiceImpl implements CreditCalculationService {
      * @param outputData   출력 데이터
      * @param logLevel     로그 레벨
      * @param durationMs   실행 시간 (밀리초)
+     * @return 계산 로그 엔티티
      */
-    private void saveCalculationLog(String reqId, String calcStep, String functionName,
-                                     String inputData, String outputData,
-                                     String logLevel, Integer durationMs) {
-        LogCalculation logEntry = LogCalculation.builder()
+    private LogCalculation buildCalculationLog(String reqId, String calcStep, String functionName,
+                                               String inputData, String outputData,
+                                               String logLevel, Integer durationMs) {
+        return LogCalculation.builder()
                 .reqId(reqId)
                 .calcStep(calcStep)
                 .functionName(functionName)
@@ -1171,7 +1317,5 @@ public class CreditCalculationServiceImpl implements CreditCalculationService {
                 .executedBy("SYSTEM")
                 .durationMs(durationMs)
                 .build();
-
-        logCalculationRepository.save(logEntry);
     }
 }
@@ -0,0 +1,30 @@
+package com.entec.tax.engine.credit.service;
+
+import com.entec.tax.domain.check.entity.ChkEligibility;
+import com.entec.tax.domain.input.entity.InpBasic;
+import com.entec.tax.engine.context.AnalysisContext;
+
+/**
+ * M4 개별 공제·감면 산출기.
+ * <p>
+ * 조항 하나(M4-01 ~ M4-07)의 공제/감면액을 산출한다.
+ * 산출기는 입력과 기준정보만 읽고 결과는 전달받은 {@link CreditCalculationResult}에만 기록하므로,
+ * 같은 컨텍스트에 대해 여러 산출기를 동시에 실행할 수 있다.
+ * </p>
+ *
+ * @see CreditCalculatorRunner
+ */
+@FunctionalInterface
+public interface CreditCalculator {
+
+    /**
+     * 공제/감면액을 산출한다.
+     *
+     * @param context     분석 컨텍스트 (읽기 전용으로 사용)
+     * @param basic       기본 정보
+     * @param eligibility 적격 진단 결과
+     * @param result      산출 결과 수집 버퍼
+     */
+    void calculate(AnalysisContext context, InpBasic basic, ChkEligibility eligibility,
+                   CreditCalculationResult result);
+}
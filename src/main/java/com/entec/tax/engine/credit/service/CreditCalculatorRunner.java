@@ -0,0 +1,159 @@
+package com.entec.tax.engine.credit.service;
+
+import com.entec.tax.common.constants.ConnectionPoolType;
+import com.entec.tax.common.exception.CalculationException;
+import com.entec.tax.common.exception.ErrorCode;
+import com.entec.tax.common.metrics.AnalysisMetrics;
+import com.entec.tax.config.PoolRoutingDataSource;
+import com.entec.tax.domain.check.entity.ChkEligibility;
+import com.entec.tax.domain.input.entity.InpBasic;
+import com.entec.tax.domain.reference.cache.ReferenceSnapshot;
+import com.entec.tax.domain.reference.cache.ReferenceSnapshotManager;
+import com.entec.tax.engine.context.AnalysisContext;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * M4 산출기 병렬 실행기.
+ * <p>
+ * 산출기들을 creditCalculatorExecutor 풀에서 동시에 실행하고, 모두 끝날 때까지 기다린 뒤
+ * 등록 순서대로 결과를 반환한다. 작업 스레드에는 호출 스레드가 참조하는 기준정보 스냅샷을 고정하여
+ * 분석 1건의 모든 산출기가 같은 버전의 기준정보로 계산하도록 한다.
+ * </p>
+ *
+ * <p>
+ * 풀이 포화되어 작업이 거부되면 해당 산출기는 호출 스레드에서 바로 실행한다.
+ * 산출기 하나라도 실패하면 남은 작업을 취소하고 첫 번째 오류를 그대로 전파한다.
+ * </p>
+ */
+@Component
+@Slf4j
+public class CreditCalculatorRunner {
+
+    private static final String CALC_STEP = "M4";
+
+    /** M4 산출기 전용 Executor */
+    private final Executor creditCalculatorExecutor;
+
+    /** 기준정보 스냅샷 관리자 */
+    private final ReferenceSnapshotManager referenceSnapshotManager;
+
+    /** 산출기 실행 시간 계측 */
+    private final AnalysisMetrics analysisMetrics;
+
+    public CreditCalculatorRunner(@Qualifier("creditCalculatorExecutor") Executor creditCalculatorExecutor,
+                                  ReferenceSnapshotManager referenceSnapshotManager,
+                                  AnalysisMetrics analysisMetrics) {
+        this.creditCalculatorExecutor = creditCalculatorExecutor;
+        this.referenceSnapshotManager = referenceSnapshotManager;
+        this.analysisMetrics = analysisMetrics;
+    }
+
+    /**
+     * 산출기를 병렬 실행한다.
+     *
+     * @param context     분석 컨텍스트
+     * @param basic       기본 정보
+     * @param eligibility 적격 진단 결과
+     * @param calculators 산출 단계 코드 → 산출기 (반복 순서가 결과 순서)
+     * @return 산출기별 결과 (등록 순서)
+     * @throws CalculationException 산출기 실행 중 오류가 발생한 경우
+     */
+    public List<CreditCalculationResult> runAll(AnalysisContext context, InpBasic basic,
+                                                ChkEligibility eligibility,
+                                                Map<String, CreditCalculator> calculators) {
+        String reqId = context.getReqId();
+        ReferenceSnapshot snapshot = referenceSnapshotManager.current();
+
+        List<CreditCalculationResult> results = new ArrayList<CreditCalculationResult>();
+        List<FutureTask<Void>> tasks = new ArrayList<FutureTask<Void>>();
+
+        for (Map.Entry<String, CreditCalculator> entry : calculators.entrySet()) {
+            CreditCalculator calculator = entry.getValue();
+            CreditCalculationResult result = new CreditCalculationResult(entry.getKey());
+            results.add(result);
+
+            FutureTask<Void> task = new FutureTask<Void>(() -> {
+                // 산출기 스레드의 기준정보 조회도 분석 풀에서 커넥션을 얻는다
+                ConnectionPoolType previousPool = PoolRoutingDataSource.use(ConnectionPoolType.ANALYSIS);
+                referenceSnapshotManager.pin(snapshot);
+                try {
+                    runCalculator(calculator, context, basic, eligibility, result);
+                } finally {
+                    referenceSnapshotManager.release();
+                    PoolRoutingDataSource.use(previousPool);
+                }
+            }, null);
+            try {
+                creditCalculatorExecutor.execute(task);
+            } catch (RejectedExecutionException e) {
+                // 풀 포화: 호출 스레드에서 실행 (호출 스레드의 스냅샷 고정은 그대로 유지)
+                log.debug("[{}] {} 산출기 풀 포화로 호출 스레드에서 실행", reqId, result.getCalcStep());
+                task = new FutureTask<Void>(
+                        () -> runCalculator(calculator, context, basic, eligibility, result), null);
+                task.run();
+            }
+            tasks.add(task);
+        }
+
+        for (int i = 0; i < tasks.size(); i++) {
+            try {
+                tasks.get(i).get();
+            } catch (ExecutionException e) {
+                cancelAll(tasks);
+                throw translate(reqId, results.get(i).getCalcStep(), e.getCause());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                cancelAll(tasks);
+                throw new CalculationException(
+                        ErrorCode.CALCULATION_STEP_FAILED,
+                        "M4 산출기 대기 중 인터럽트가 발생했습니다.",
+                        reqId, CALC_STEP, e);
+            }
+        }
+        return results;
+    }
+
+    private void runCalculator(CreditCalculator calculator, AnalysisContext context, InpBasic basic,
+                               ChkEligibility eligibility, CreditCalculationResult result) {
+        long startTime = System.currentTimeMillis();
+        long startNanos = System.nanoTime();
+        boolean success = false;
+        try {
+            calculator.calculate(context, basic, eligibility, result);
+            success = true;
+        } finally {
+            analysisMetrics.recordCalculator(result.getCalcStep(), success, System.nanoTime() - startNanos);
+        }
+        log.debug("[{}] {} 산출기 완료 — items={}, elapsed={}ms", context.getReqId(), result.getCalcStep(),
+                result.getCreditDetails().size(), System.currentTimeMillis() - startTime);
+    }
+
+    private void cancelAll(List<FutureTask<Void>> tasks) {
+        for (FutureTask<Void> task : tasks) {
+            task.cancel(true);
+        }
+    }
+
+    private RuntimeException translate(String reqId, String calcStep, Throwable cause) {
+        if (cause instanceof RuntimeException) {
+            return (RuntimeException) cause;
+        }
+        if (cause instanceof Error) {
+            throw (Error) cause;
+        }
+        return new CalculationException(
+                ErrorCode.CALCULATION_STEP_FAILED,
+                calcStep + " 산출 중 오류가 발생했습니다: " + (cause != null ? cause.getMessage() : null),
+                reqId, calcStep, cause);
+    }
+}
@@ -0,0 +1,184 @@
+package com.entec.tax.engine.orchestrator;
+
+import com.entec.tax.common.exception.ErrorCode;
+import com.entec.tax.domain.request.entity.ReqAnalysisBatch;
+import com.entec.tax.domain.request.entity.ReqAnalysisJob;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 일괄 분석(배치) 1건의 진행 상태 (조회 시점 스냅샷).
+ * <p>
+ * {@link AnalysisBatchService}가 REQ_ANALYSIS_BATCH 와 구성 요청의 REQ_ANALYSIS_JOB 행을 집계하여 생성한다.
+ * 진행 상태가 DB 에 있으므로 배치를 접수한 노드와 관계없이 같은 결과를 반환한다.
+ * 요청별 결과는 종료 순서로 보관한다.
+ * </p>
+ */
+public class AnalysisBatch {
+
+    static final String RESULT_COMPLETED = "completed";
+    static final String RESULT_FAILED = "failed";
+    static final String RESULT_HARD_FAIL = "hard_fail";
+    static final String RESULT_REJECTED = "rejected";
+
+    /**
+     * 배치 결과 수신자 (API 스트리밍 응답 등).
+     */
+    public interface Listener {
+
+        /**
+         * 요청 1건의 결과를 전달받는다.
+         *
+         * @param result 요청 결과 (req_id, status, trace_id, duration_ms, error_code, message)
+         * @throws Exception 전달 실패 시 (수신자는 등록 해제된다)
+         */
+        void onResult(Map<String, Object> result) throws Exception;
+
+        /**
+         * 배치 종료를 전달받는다.
+         *
+         * @param progress 최종 진행 상태
+         * @throws Exception 전달 실패 시
+         */
+        void onComplete(Map<String, Object> progress) throws Exception;
+    }
+
+    private final String batchId;
+    private final int concurrency;
+    private final int total;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime completedAt;
+
+    /** 요청별 결과 (종료 순서) */
+    private final List<Map<String, Object>> results = new ArrayList<Map<String, Object>>();
+
+    private int queued;
+    private int running;
+    private int succeeded;
+    private int failed;
+    private int rejected;
+
+    AnalysisBatch(ReqAnalysisBatch batch, List<ReqAnalysisJob> jobs) {
+        this.batchId = batch.getBatchId();
+        this.concurrency = batch.getConcurrency();
+        this.total = batch.getTotal();
+        this.createdAt = batch.getCreatedAt();
+
+        LocalDateTime lastFinishedAt = null;
+        for (ReqAnalysisJob job : jobs) {
+            if (AnalysisJobQueue.JOB_PENDING.equals(job.getJobStatus())) {
+                queued++;
+            } else if (AnalysisJobQueue.JOB_LEASED.equals(job.getJobStatus())) {
+                running++;
+            } else {
+                record(result(job));
+                if (lastFinishedAt == null || (job.getFinishedAt() != null && job.getFinishedAt().isAfter(lastFinishedAt))) {
+                    lastFinishedAt = job.getFinishedAt();
+                }
+            }
+        }
+        // 접수 중인 배치는 아직 등록되지 않은 구성 요청이 있으므로 종료로 보지 않는다
+        this.completedAt = jobs.size() >= total && queued == 0 && running == 0 ? lastFinishedAt : null;
+    }
+
+    public String getBatchId() {
+        return batchId;
+    }
+
+    public boolean isFinished() {
+        return completedAt != null;
+    }
+
+    /**
+     * 종료된 요청의 결과를 반환한다.
+     *
+     * @return 요청별 결과 목록 (종료 순서)
+     */
+    public List<Map<String, Object>> getResults() {
+        return Collections.unmodifiableList(results);
+    }
+
+    /**
+     * 배치 진행 상태를 반환한다.
+     *
+     * @return 진행 상태 맵 (batch_id, status, total, queued, running, succeeded, failed, rejected, created_at, completed_at)
+     */
+    public Map<String, Object> getProgress() {
+        Map<String, Object> progress = new LinkedHashMap<String, Object>();
+        progress.put("batch_id", batchId);
+        progress.put("status", completedAt != null ? "completed" : "running");
+        progress.put("total", total);
+        progress.put("concurrency", concurrency);
+        progress.put("queued", queued);
+        progress.put("running", running);
+        progress.put("succeeded", succeeded);
+        progress.put("failed", failed);
+        progress.put("rejected", rejected);
+        progress.put("created_at", createdAt);
+        progress.put("completed_at", completedAt);
+        return progress;
+    }
+
+    /**
+     * 실패·거부된 요청의 결과를 반환한다.
+     *
+     * @return 실패 결과 목록 (종료 순서)
+     */
+    public List<Map<String, Object>> getFailures() {
+        List<Map<String, Object>> failures = new ArrayList<Map<String, Object>>();
+        for (Map<String, Object> result : results) {
+            if (!RESULT_COMPLETED.equals(result.get("status"))) {
+                failures.add(result);
+            }
+        }
+        return failures;
+    }
+
+    private void record(Map<String, Object> result) {
+        results.add(result);
+        Object status = result.get("status");
+        if (RESULT_COMPLETED.equals(status)) {
+            succeeded++;
+        } else if (RESULT_REJECTED.equals(status)) {
+            rejected++;
+        } else {
+            failed++;
+        }
+    }
+
+    /**
+     * 종료된 작업 행을 요청 결과로 변환한다.
+     */
+    private static Map<String, Object> result(ReqAnalysisJob job) {
+        String status;
+        if (AnalysisJobQueue.JOB_DONE.equals(job.getJobStatus())) {
+            status = RESULT_COMPLETED;
+        } else if (AnalysisJobQueue.JOB_REJECTED.equals(job.getJobStatus())) {
+            status = RESULT_REJECTED;
+        } else if (ErrorCode.HARD_FAIL.getCode().equals(job.getErrorCode())
+                || ErrorCode.HARD_FAIL_BLOCKED.getCode().equals(job.getErrorCode())) {
+            status = RESULT_HARD_FAIL;
+        } else {
+            status = RESULT_FAILED;
+        }
+
+        Map<String, Object> result = new LinkedHashMap<String, Object>();
+        result.put("req_id", job.getReqId());
+        result.put("status", status);
+        result.put("trace_id", RESULT_REJECTED.equals(status) ? null : job.getTraceId());
+        result.put("duration_ms", RESULT_COMPLETED.equals(status) && job.getStartedAt() != null && job.getFinishedAt() != null
+                ? Duration.between(job.getStartedAt(), job.getFinishedAt()).toMillis()
+                : null);
+        if (job.getErrorCode() != null) {
+            result.put("error_code", job.getErrorCode());
+            result.put("message", job.getErrorMessage());
+        }
+        return result;
+    }
+}
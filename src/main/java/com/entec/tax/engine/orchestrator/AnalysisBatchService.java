@@ -0,0 +1,262 @@
+package com.entec.tax.engine.orchestrator;
+
+import com.entec.tax.common.annotation.ConnectionPool;
+import com.entec.tax.common.constants.ConnectionPoolType;
+import com.entec.tax.common.dto.RequestContext;
+import com.entec.tax.common.exception.ErrorCode;
+import com.entec.tax.common.exception.TaxServiceException;
+import com.entec.tax.common.exception.ValidationException;
+import com.entec.tax.domain.request.entity.ReqAnalysisBatch;
+import com.entec.tax.domain.request.repository.ReqAnalysisBatchRepository;
+import com.entec.tax.domain.request.repository.ReqAnalysisJobRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * 일괄 분석(배치) 서비스.
+ * <p>
+ * 여러 요청을 한 번에 접수하여 각 요청을 queued 상태로 선점하고, 같은 트랜잭션에서 공유 작업 대기열
+ * ({@link AnalysisJobQueue})에 일괄(BATCH) 등급 작업으로 등록한다. 실행은 단건 제출과 같이
+ * 여유가 있는 노드의 {@link AnalysisJobWorker}가 가져가므로, 접수한 노드가 재시작되어도 선점된 요청이 남지 않는다.
+ * 스케줄러의 테넌트 키는 배치 접수자이므로, 한 접수자의 대량 재처리가 다른 테넌트의 분석을 밀어내지 않는다.
+ * </p>
+ *
+ * <ul>
+ *   <li>동시 실행 한도: 전체 배치 합계 {@code tax-service.batch-max-concurrency} (기본 4),
+ *       배치별 한도는 요청 시 지정하되 전체 한도를 넘지 않는다. 한도는 리스 획득 시 적용된다.
+ *       분석 1건은 단계 트랜잭션 동안 DB 커넥션을 점유하므로, 한도는 커넥션 풀 크기보다 충분히 작게 둔다.</li>
+ *   <li>진행 상태: REQ_ANALYSIS_BATCH 와 구성 요청 작업 행을 조회 시점에 집계하므로 어느 노드에서나 조회할 수 있다.</li>
+ *   <li>결과 스트리밍: 이 노드에 등록된 수신자에게 주기 점검({@code tax-service.batch-event-interval}, 기본 1초)마다
+ *       새로 종료된 요청의 결과를 전달한다.</li>
+ * </ul>
+ */
+@Service
+@Slf4j
+public class AnalysisBatchService {
+
+    /** 배치당 최대 요청 수 */
+    public static final int MAX_BATCH_SIZE = 1000;
+
+    /** 분석 비동기 제출 서비스 (선점·등록) */
+    private final AnalysisSubmissionService analysisSubmissionService;
+
+    /** 분석 작업 공유 대기열 */
+    private final AnalysisJobQueue analysisJobQueue;
+
+    /** 일괄 분석 리포지토리 */
+    private final ReqAnalysisBatchRepository reqAnalysisBatchRepository;
+
+    /** 작업 대기열 리포지토리 (진행 상태 집계) */
+    private final ReqAnalysisJobRepository reqAnalysisJobRepository;
+
+    /** 전체 배치 합계 동시 실행 한도 */
+    private final int maxConcurrency;
+
+    /** 배치 ID → 이 노드에 등록된 결과 수신자 */
+    private final Map<String, List<Subscription>> subscriptions = new ConcurrentHashMap<String, List<Subscription>>();
+
+    public AnalysisBatchService(AnalysisSubmissionService analysisSubmissionService,
+                                AnalysisJobQueue analysisJobQueue,
+                                ReqAnalysisBatchRepository reqAnalysisBatchRepository,
+                                ReqAnalysisJobRepository reqAnalysisJobRepository,
+                                @Value("${tax-service.batch-max-concurrency:4}") int maxConcurrency) {
+        this.analysisSubmissionService = analysisSubmissionService;
+        this.analysisJobQueue = analysisJobQueue;
+        this.reqAnalysisBatchRepository = reqAnalysisBatchRepository;
+        this.reqAnalysisJobRepository = reqAnalysisJobRepository;
+        this.maxConcurrency = Math.max(1, maxConcurrency);
+    }
+
+    /**
+     * 일괄 분석을 접수한다.
+     * <p>
+     * 각 요청을 queued 로 선점하여 작업 대기열에 등록하며, 선점할 수 없는 요청(미존재, parsed 아닌 상태 등)은
+     * rejected 결과로 기록하고 실행하지 않는다. 중복 요청 ID는 한 번만 처리한다.
+     * </p>
+     *
+     * @param reqIds      요청 ID 목록
+     * @param concurrency 배치 동시 실행 한도 (null 이면 전체 한도)
+     * @return 접수된 배치
+     * @throws ValidationException 요청 ID가 없거나 {@link #MAX_BATCH_SIZE}를 초과한 경우
+     */
+    @ConnectionPool(ConnectionPoolType.INTAKE)
+    public AnalysisBatch submit(List<String> reqIds, Integer concurrency) {
+        Set<String> uniqueReqIds = new LinkedHashSet<String>();
+        for (String reqId : reqIds) {
+            if (reqId != null && !reqId.trim().isEmpty()) {
+                uniqueReqIds.add(reqId.trim());
+            }
+        }
+        if (uniqueReqIds.isEmpty() || uniqueReqIds.size() > MAX_BATCH_SIZE) {
+            throw new ValidationException(ErrorCode.VALIDATION_FAILED,
+                    "요청 ID는 1건 이상 " + MAX_BATCH_SIZE + "건 이하여야 합니다: " + uniqueReqIds.size(),
+                    null, null);
+        }
+
+        int limit = concurrency == null
+                ? maxConcurrency
+                : Math.max(1, Math.min(concurrency, maxConcurrency));
+        String batchId = UUID.randomUUID().toString();
+        String tenant = tenantOf(batchId);
+        reqAnalysisBatchRepository.save(ReqAnalysisBatch.builder()
+                .batchId(batchId)
+                .tenant(tenant)
+                .concurrency(limit)
+                .total(uniqueReqIds.size())
+                .createdAt(LocalDateTime.now())
+                .build());
+
+        for (String reqId : uniqueReqIds) {
+            try {
+                analysisSubmissionService.submitBatchMember(reqId, batchId, tenant);
+            } catch (RuntimeException e) {
+                log.info("일괄 분석 요청 거부 — batchId={}, reqId={}, message={}",
+                        batchId, reqId, e.getMessage());
+                ErrorCode errorCode = e instanceof TaxServiceException
+                        ? ((TaxServiceException) e).getErrorCode()
+                        : ErrorCode.CALCULATION_FAILED;
+                analysisJobQueue.recordRejected(batchId, reqId, tenant, errorCode.getCode(), e.getMessage());
+            }
+        }
+
+        log.info("일괄 분석 접수 — batchId={}, total={}, concurrency={}",
+                batchId, uniqueReqIds.size(), limit);
+
+        return getBatch(batchId);
+    }
+
+    /**
+     * 배치를 조회한다.
+     *
+     * @param batchId 배치 ID
+     * @return 배치 (조회 시점 진행 상태)
+     * @throws TaxServiceException 배치가 없는 경우(404)
+     */
+    @ConnectionPool(ConnectionPoolType.QUERY)
+    public AnalysisBatch getBatch(String batchId) {
+        ReqAnalysisBatch batch = reqAnalysisBatchRepository.findById(batchId)
+                .orElseThrow(() -> new TaxServiceException(
+                        ErrorCode.RESOURCE_NOT_FOUND,
+                        "배치를 찾을 수 없습니다: " + batchId,
+                        null));
+        return new AnalysisBatch(batch, reqAnalysisJobRepository.findByBatchIdOrderByFinishedAtAsc(batchId));
+    }
+
+    /**
+     * 결과 수신자를 등록한다. 이미 종료된 요청의 결과를 먼저 전달하며, 종료된 배치면 종료까지 전달한다.
+     *
+     * @param batchId  배치 ID
+     * @param listener 결과 수신자
+     * @throws TaxServiceException 배치가 없는 경우(404)
+     */
+    @ConnectionPool(ConnectionPoolType.QUERY)
+    public void subscribe(String batchId, AnalysisBatch.Listener listener) {
+        AnalysisBatch batch = getBatch(batchId);
+        Subscription subscription = new Subscription(listener);
+        if (!subscription.publish(batch)) {
+            subscriptions.computeIfAbsent(batchId, key -> new CopyOnWriteArrayList<Subscription>()).add(subscription);
+        }
+    }
+
+    /**
+     * 등록된 결과 수신자를 해제한다.
+     *
+     * @param batchId  배치 ID
+     * @param listener 결과 수신자
+     */
+    public void unsubscribe(String batchId, AnalysisBatch.Listener listener) {
+        List<Subscription> batchSubscriptions = subscriptions.get(batchId);
+        if (batchSubscriptions != null) {
+            batchSubscriptions.removeIf(subscription -> subscription.listener == listener);
+        }
+    }
+
+    /**
+     * 이 노드에 등록된 수신자에게 새로 종료된 요청의 결과를 전달한다.
+     */
+    @Scheduled(fixedDelayString = "${tax-service.batch-event-interval:1000}")
+    @ConnectionPool(ConnectionPoolType.QUERY)
+    public void publishResults() {
+        for (Map.Entry<String, List<Subscription>> entry : subscriptions.entrySet()) {
+            List<Subscription> batchSubscriptions = entry.getValue();
+            if (batchSubscriptions.isEmpty()) {
+                subscriptions.remove(entry.getKey());
+                continue;
+            }
+            AnalysisBatch batch;
+            try {
+                batch = getBatch(entry.getKey());
+            } catch (RuntimeException e) {
+                // 배치 삭제·DB 일시 장애: 다음 주기에 재시도
+                log.warn("일괄 분석 결과 조회 실패 — batchId={}, message={}", entry.getKey(), e.getMessage());
+                continue;
+            }
+            for (Subscription subscription : batchSubscriptions) {
+                if (subscription.publish(batch)) {
+                    batchSubscriptions.remove(subscription);
+                }
+            }
+            if (batch.isFinished()) {
+                log.info("일괄 분석 종료 — {}", batch.getProgress());
+            }
+        }
+    }
+
+    /**
+     * 배치의 스케줄러 테넌트 키를 결정한다 (접수자, 없으면 배치 ID).
+     */
+    private String tenantOf(String batchId) {
+        String requestedBy = RequestContext.get().getRequestedBy();
+        if (requestedBy == null || requestedBy.trim().isEmpty() || "ANONYMOUS".equals(requestedBy)) {
+            return "batch-" + batchId;
+        }
+        return requestedBy;
+    }
+
+    /**
+     * 결과 수신자 1건과 이미 전달한 요청 ID.
+     */
+    private static final class Subscription {
+
+        private final AnalysisBatch.Listener listener;
+        private final Set<Object> sent = new HashSet<Object>();
+
+        Subscription(AnalysisBatch.Listener listener) {
+            this.listener = listener;
+        }
+
+        /**
+         * 아직 전달하지 않은 결과를 전달하고, 배치가 끝났으면 종료를 전달한다.
+         *
+         * @return 더 전달할 것이 없으면(종료 전달 또는 수신자 연결 종료) true
+         */
+        synchronized boolean publish(AnalysisBatch batch) {
+            try {
+                for (Map<String, Object> result : batch.getResults()) {
+                    if (sent.add(result.get("req_id"))) {
+                        listener.onResult(result);
+                    }
+                }
+                if (batch.isFinished()) {
+                    listener.onComplete(batch.getProgress());
+                    return true;
+                }
+                return false;
+            } catch (Exception e) {
+                return true;
+            }
+        }
+    }
+}
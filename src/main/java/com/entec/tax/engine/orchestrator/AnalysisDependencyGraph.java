@@ -0,0 +1,151 @@
+package com.entec.tax.engine.orchestrator;
+
+import com.entec.tax.common.util.CryptoUtil;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 분석 단계 의존성 그래프.
+ * <p>
+ * 원시 입력 카테고리(INP_* 요약 그룹)와 각 단계·M4 산출기가 읽는 입력·선행 산출물의 관계를 정의하고,
+ * 노드별 입력 지문(fingerprint)을 산출한다. 노드 지문은 기준정보 지문, 소비하는 입력 그룹의 체크섬,
+ * 선행 노드의 지문으로 구성되므로, 입력이 바뀌면 해당 입력을 직·간접으로 읽는 노드의 지문만 바뀐다.
+ * </p>
+ *
+ * <pre>
+ * 노드        입력
+ * M3         basic, employee, deduction
+ * M4-01      basic, deduction, M3        (§7 중소기업 특별세액감면)
+ * M4-02      basic, deduction, employee  (§29의8 통합고용세액공제, 상시근로자 요약 포함)
+ * M4-03      basic, deduction            (§24 통합투자세액공제)
+ * M4-04      basic, deduction, M3        (§6 창업중소기업감면)
+ * M4-05      basic, deduction            (§10 R&amp;D 세액공제)
+ * M4-06      basic, financial            (§57 외국납부세액공제)
+ * M4-07      basic, deduction, employee  (§30의4 사회보험료세액공제)
+ * M5         basic, financial, M3, M4-01 ~ M4-07
+ * M6         basic, financial, M3, M4-01 ~ M4-07, M5
+ * </pre>
+ *
+ * <p>
+ * M3 재실행 시 상시근로자 요약(M4-02 산출물)도 삭제되므로, M4-02 의 입력은 M3 의 입력을 모두 포함해야 한다.
+ * 산출기가 읽는 입력을 바꿀 때는 이 표를 함께 수정한다.
+ * </p>
+ */
+public final class AnalysisDependencyGraph {
+
+    /** 입력 그룹: 기본 정보 (basic, corp_basic, inc_basic) */
+    public static final String INPUT_BASIC = "basic";
+
+    /** 입력 그룹: 고용 정보 */
+    public static final String INPUT_EMPLOYEE = "employee";
+
+    /** 입력 그룹: 공제·감면 항목 */
+    public static final String INPUT_DEDUCTION = "deduction";
+
+    /** 입력 그룹: 재무 정보 */
+    public static final String INPUT_FINANCIAL = "financial";
+
+    /** M4 산출기 단계 코드 (실행 순서) */
+    private static final List<String> CREDIT_CALC_STEPS = Collections.unmodifiableList(Arrays.asList(
+            "M4-01", "M4-02", "M4-03", "M4-04", "M4-05", "M4-06", "M4-07"));
+
+    /** 노드 → 입력 (위상 정렬 순서) */
+    private static final Map<String, List<String>> DEPENDENCIES = buildDependencies();
+
+    private AnalysisDependencyGraph() {
+    }
+
+    private static Map<String, List<String>> buildDependencies() {
+        Map<String, List<String>> graph = new LinkedHashMap<String, List<String>>();
+        graph.put("M3", Arrays.asList(INPUT_BASIC, INPUT_EMPLOYEE, INPUT_DEDUCTION));
+        graph.put("M4-01", Arrays.asList(INPUT_BASIC, INPUT_DEDUCTION, "M3"));
+        graph.put("M4-02", Arrays.asList(INPUT_BASIC, INPUT_DEDUCTION, INPUT_EMPLOYEE));
+        graph.put("M4-03", Arrays.asList(INPUT_BASIC, INPUT_DEDUCTION));
+        graph.put("M4-04", Arrays.asList(INPUT_BASIC, INPUT_DEDUCTION, "M3"));
+        graph.put("M4-05", Arrays.asList(INPUT_BASIC, INPUT_DEDUCTION));
+        graph.put("M4-06", Arrays.asList(INPUT_BASIC, INPUT_FINANCIAL));
+        graph.put("M4-07", Arrays.asList(INPUT_BASIC, INPUT_DEDUCTION, INPUT_EMPLOYEE));
+
+        List<String> m5 = new ArrayList<String>(Arrays.asList(INPUT_BASIC, INPUT_FINANCIAL, "M3"));
+        m5.addAll(CREDIT_CALC_STEPS);
+        graph.put("M5", Collections.unmodifiableList(m5));
+
+        List<String> m6 = new ArrayList<String>(m5);
+        m6.add("M5");
+        graph.put("M6", Collections.unmodifiableList(m6));
+        return Collections.unmodifiableMap(graph);
+    }
+
+    /**
+     * 원시 입력 카테고리가 속한 입력 그룹을 반환한다.
+     *
+     * @param category 원시 입력 카테고리
+     * @return 입력 그룹 (엔진이 읽지 않는 카테고리면 null)
+     */
+    public static String inputGroupOf(String category) {
+        if (category == null) {
+            return null;
+        }
+        switch (category.toLowerCase()) {
+            case "basic":
+            case "corp_basic":
+            case "inc_basic":
+                return INPUT_BASIC;
+            case "employee":
+                return INPUT_EMPLOYEE;
+            case "deduction":
+                return INPUT_DEDUCTION;
+            case "financial":
+                return INPUT_FINANCIAL;
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * @return M4 산출기 단계 코드 (M4-01 ~ M4-07)
+     */
+    public static List<String> creditCalcSteps() {
+        return CREDIT_CALC_STEPS;
+    }
+
+    /**
+     * 단계에 속한 노드를 반환한다 (M4 는 산출기 단위).
+     *
+     * @param stage 분석 단계
+     * @return 노드 목록
+     */
+    public static List<String> nodesOf(AnalysisStage stage) {
+        return stage == AnalysisStage.M4
+                ? CREDIT_CALC_STEPS
+                : Collections.singletonList(stage.getCode());
+    }
+
+    /**
+     * 노드별 입력 지문을 산출한다.
+     *
+     * @param inputChecksums       입력 그룹 → 체크섬 (없는 그룹은 빈 입력으로 본다)
+     * @param referenceFingerprint 기준정보 스냅샷 지문
+     * @return 노드 → 지문 (SHA-256, 위상 정렬 순서)
+     */
+    public static Map<String, String> fingerprints(Map<String, String> inputChecksums,
+                                                   String referenceFingerprint) {
+        Map<String, String> fingerprints = new LinkedHashMap<String, String>();
+        for (Map.Entry<String, List<String>> entry : DEPENDENCIES.entrySet()) {
+            StringBuilder sb = new StringBuilder(entry.getKey()).append('|').append(referenceFingerprint);
+            for (String dependency : entry.getValue()) {
+                String value = DEPENDENCIES.containsKey(dependency)
+                        ? fingerprints.get(dependency)
+                        : inputChecksums.get(dependency);
+                sb.append('\n').append(dependency).append('=').append(value != null ? value : "");
+            }
+            fingerprints.put(entry.getKey(), CryptoUtil.sha256(sb.toString()));
+        }
+        return fingerprints;
+    }
+}
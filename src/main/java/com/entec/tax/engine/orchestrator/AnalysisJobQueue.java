@@ -0,0 +1,334 @@
+package com.entec.tax.engine.orchestrator;
+
+import com.entec.tax.common.exception.ErrorCode;
+import com.entec.tax.common.exception.TooManyRequestsException;
+import com.entec.tax.domain.request.entity.ReqAnalysisBatch;
+import com.entec.tax.domain.request.entity.ReqAnalysisJob;
+import com.entec.tax.domain.request.entity.ReqRequest;
+import com.entec.tax.domain.request.repository.ReqAnalysisBatchRepository;
+import com.entec.tax.domain.request.repository.ReqAnalysisJobRepository;
+import com.entec.tax.domain.request.service.RequestStateMachine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 분석 작업 공유 대기열 (REQ_ANALYSIS_JOB).
+ * <p>
+ * 비동기 제출된 분석을 DB 작업 행으로 등록하고, 노드별 리스 획득·연장·종료를 처리한다.
+ * 요청을 받은 노드와 관계없이 여유가 있는 노드가 작업을 가져가 실행하며({@link AnalysisJobWorker}),
+ * 중단된 노드의 작업은 리스 만료 후 다른 노드가 다시 가져간다.
+ * </p>
+ *
+ * <ul>
+ *   <li>등록 한도: 테넌트별({@code tax-service.job-queue.max-pending-per-tenant})·전체({@code max-pending})
+ *       대기 작업 수를 넘으면 {@link TooManyRequestsException}(429)으로 거절한다.
+ *       일괄 분석 작업은 배치 크기로 제한되므로 이 한도에 포함하지 않는다.</li>
+ *   <li>일괄 분석 동시 실행 한도: 리스 획득 시 실행 중인 일괄 작업이 전체 합계({@code tax-service.batch-max-concurrency})
+ *       또는 배치별 한도에 도달했으면 해당 작업을 건너뛴다. 노드들이 동시에 리스를 획득하면 잠시 한도를 넘을 수 있다.</li>
+ *   <li>재시도 한도: 리스가 {@code max-attempts}회 만료된 작업은 더 가져가지 않고 failed 로 종료하며,
+ *       요청도 failed 로 기록한다.</li>
+ * </ul>
+ */
+@Service
+@Slf4j
+public class AnalysisJobQueue {
+
+    static final String JOB_PENDING = "pending";
+    static final String JOB_LEASED = "leased";
+    static final String JOB_DONE = "done";
+    static final String JOB_FAILED = "failed";
+    static final String JOB_REJECTED = "rejected";
+
+    private static final String STATUS_QUEUED = "queued";
+    private static final String STATUS_FAILED = "failed";
+
+    /** 작업 대기열 리포지토리 */
+    private final ReqAnalysisJobRepository reqAnalysisJobRepository;
+
+    /** 일괄 분석 리포지토리 (배치별 동시 실행 한도) */
+    private final ReqAnalysisBatchRepository reqAnalysisBatchRepository;
+
+    /** 요청 상태 전이기 */
+    private final RequestStateMachine requestStateMachine;
+
+    /** 분석 실행 스케줄러 (재시도 권장 시간 추정) */
+    private final AnalysisScheduler analysisScheduler;
+
+    /** 트랜잭션 매니저 (리스 획득 트랜잭션) */
+    private final PlatformTransactionManager transactionManager;
+
+    /** 테넌트별 대기 작업 한도 */
+    private final int maxPendingPerTenant;
+
+    /** 전체 대기 작업 한도 */
+    private final int maxPending;
+
+    /** 리스 획득 최대 횟수 */
+    private final int maxAttempts;
+
+    /** 전체 배치 합계 동시 실행 한도 */
+    private final int batchMaxConcurrency;
+
+    public AnalysisJobQueue(ReqAnalysisJobRepository reqAnalysisJobRepository,
+                            ReqAnalysisBatchRepository reqAnalysisBatchRepository,
+                            RequestStateMachine requestStateMachine,
+                            AnalysisScheduler analysisScheduler,
+                            PlatformTransactionManager transactionManager,
+                            @Value("${tax-service.job-queue.max-pending-per-tenant:20}") int maxPendingPerTenant,
+                            @Value("${tax-service.job-queue.max-pending:1000}") int maxPending,
+                            @Value("${tax-service.job-queue.max-attempts:3}") int maxAttempts,
+                            @Value("${tax-service.batch-max-concurrency:4}") int batchMaxConcurrency) {
+        this.reqAnalysisJobRepository = reqAnalysisJobRepository;
+        this.reqAnalysisBatchRepository = reqAnalysisBatchRepository;
+        this.requestStateMachine = requestStateMachine;
+        this.analysisScheduler = analysisScheduler;
+        this.transactionManager = transactionManager;
+        this.maxPendingPerTenant = Math.max(1, maxPendingPerTenant);
+        this.maxPending = Math.max(1, maxPending);
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.batchMaxConcurrency = Math.max(1, batchMaxConcurrency);
+    }
+
+    /**
+     * 분석 작업을 등록한다. 호출 측 트랜잭션(요청 선점)과 함께 커밋된다.
+     *
+     * @param reqId      요청 ID
+     * @param traceId    추적 ID
+     * @param tenant     테넌트 키
+     * @param priority   우선순위 등급
+     * @param resumeFrom 재개 단계 (null 이면 M3 부터 전체 실행)
+     * @return 등록된 작업
+     * @throws TooManyRequestsException 테넌트 또는 전체 대기 한도를 초과한 경우
+     */
+    public ReqAnalysisJob enqueue(String reqId, String traceId, String tenant,
+                                  AnalysisPriority priority, AnalysisStage resumeFrom) {
+        long pending = reqAnalysisJobRepository.countByJobStatusAndBatchIdIsNull(JOB_PENDING);
+        if (pending >= maxPending
+                || reqAnalysisJobRepository.countByTenantAndJobStatusAndBatchIdIsNull(tenant, JOB_PENDING)
+                        >= maxPendingPerTenant) {
+            log.warn("분석 작업 대기 한도 초과 — tenant={}, pending={}", tenant, pending);
+            throw new TooManyRequestsException(
+                    "분석 대기 요청이 많습니다. 잠시 후 다시 시도하십시오.",
+                    reqId, analysisScheduler.estimateRetryAfterSeconds((int) Math.min(pending, Integer.MAX_VALUE)));
+        }
+
+        return reqAnalysisJobRepository.save(ReqAnalysisJob.builder()
+                .jobId(UUID.randomUUID().toString())
+                .reqId(reqId)
+                .traceId(traceId)
+                .tenant(tenant)
+                .priority(priority.ordinal())
+                .resumeFrom(resumeFrom != null ? resumeFrom.getCode() : null)
+                .jobStatus(JOB_PENDING)
+                .createdAt(LocalDateTime.now())
+                .build());
+    }
+
+    /**
+     * 일괄 분석의 구성 요청을 일괄(BATCH) 등급 작업으로 등록한다. 호출 측 트랜잭션(요청 선점)과 함께 커밋된다.
+     *
+     * @param batchId 배치 ID
+     * @param reqId   요청 ID
+     * @param traceId 추적 ID
+     * @param tenant  테넌트 키 (배치 접수자)
+     * @return 등록된 작업
+     */
+    public ReqAnalysisJob enqueueBatchMember(String batchId, String reqId, String traceId, String tenant) {
+        return reqAnalysisJobRepository.save(ReqAnalysisJob.builder()
+                .jobId(UUID.randomUUID().toString())
+                .reqId(reqId)
+                .traceId(traceId)
+                .tenant(tenant)
+                .priority(AnalysisPriority.BATCH.ordinal())
+                .batchId(batchId)
+                .jobStatus(JOB_PENDING)
+                .createdAt(LocalDateTime.now())
+                .build());
+    }
+
+    /**
+     * 일괄 분석 접수 시 선점할 수 없었던 요청을 rejected 작업으로 기록한다 (실행하지 않음).
+     *
+     * @param batchId      배치 ID
+     * @param reqId        요청 ID
+     * @param tenant       테넌트 키 (배치 접수자)
+     * @param errorCode    오류 코드
+     * @param errorMessage 거부 사유
+     */
+    public void recordRejected(String batchId, String reqId, String tenant, String errorCode, String errorMessage) {
+        LocalDateTime now = LocalDateTime.now();
+        reqAnalysisJobRepository.save(ReqAnalysisJob.builder()
+                .jobId(UUID.randomUUID().toString())
+                .reqId(reqId)
+                .traceId(UUID.randomUUID().toString())
+                .tenant(tenant)
+                .priority(AnalysisPriority.BATCH.ordinal())
+                .batchId(batchId)
+                .jobStatus(JOB_REJECTED)
+                .errorCode(errorCode)
+                .errorMessage(truncate(errorMessage))
+                .createdAt(now)
+                .finishedAt(now)
+                .build());
+    }
+
+    /**
+     * 대기 작업과 리스가 만료된 작업의 리스를 획득한다.
+     * <p>
+     * 한 트랜잭션에서 SKIP LOCKED 잠금 조회와 리스 갱신을 수행하므로, 여러 노드가 동시에 호출해도
+     * 같은 작업을 중복으로 가져가지 않는다. 재시도 한도에 도달한 만료 작업은 failed 로 종료한다.
+     * </p>
+     *
+     * @param owner        리스 보유 노드 ID
+     * @param limit        최대 획득 건수
+     * @param leaseSeconds 리스 유지 시간 (초)
+     * @return 획득한 작업 목록 (리스 획득 직전 상태; attempts 가 0보다 크면 재획득한 작업)
+     */
+    public List<ReqAnalysisJob> lease(String owner, int limit, long leaseSeconds) {
+        if (limit <= 0) {
+            return Collections.emptyList();
+        }
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        return template.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            List<ReqAnalysisJob> leased = new ArrayList<ReqAnalysisJob>();
+            List<String> jobIds = new ArrayList<String>();
+            BatchSlots batchSlots = new BatchSlots(now);
+            for (ReqAnalysisJob job : reqAnalysisJobRepository.findLeasableForUpdate(now, PageRequest.of(0, limit))) {
+                if (job.getAttempts() >= maxAttempts) {
+                    abandon(job, now);
+                    continue;
+                }
+                if (job.getBatchId() != null && !batchSlots.acquire(job.getBatchId())) {
+                    continue;
+                }
+                if (JOB_LEASED.equals(job.getJobStatus())) {
+                    log.warn("리스 만료 작업 재획득 — jobId={}, reqId={}, previousOwner={}, attempts={}",
+                            job.getJobId(), job.getReqId(), job.getLeaseOwner(), job.getAttempts());
+                }
+                leased.add(job);
+                jobIds.add(job.getJobId());
+            }
+            if (!jobIds.isEmpty()) {
+                reqAnalysisJobRepository.lease(jobIds, owner, now.plusSeconds(leaseSeconds), now);
+            }
+            return leased;
+        });
+    }
+
+    /**
+     * 보유 중인 리스를 연장한다.
+     *
+     * @param owner        리스 보유 노드 ID
+     * @param jobIds       작업 ID 목록
+     * @param leaseSeconds 리스 유지 시간 (초)
+     * @return 연장된 작업 수
+     */
+    public int renew(String owner, Collection<String> jobIds, long leaseSeconds) {
+        if (jobIds.isEmpty()) {
+            return 0;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        return reqAnalysisJobRepository.renewLeases(jobIds, owner, now.plusSeconds(leaseSeconds), now);
+    }
+
+    /**
+     * 작업 종료를 기록한다.
+     *
+     * @param jobId        작업 ID
+     * @param owner        리스 보유 노드 ID
+     * @param jobStatus    종료 상태 (done/failed)
+     * @param errorCode    오류 코드
+     * @param errorMessage 오류 메시지
+     */
+    public void finish(String jobId, String owner, String jobStatus, String errorCode, String errorMessage) {
+        if (reqAnalysisJobRepository.finish(
+                jobId, owner, jobStatus, errorCode, truncate(errorMessage), LocalDateTime.now()) == 0) {
+            log.warn("리스를 잃은 작업의 종료 기록 생략 — jobId={}, owner={}", jobId, owner);
+        }
+    }
+
+    /**
+     * 실행을 시작하지 못한 작업의 리스를 반납한다.
+     *
+     * @param jobId 작업 ID
+     * @param owner 리스 보유 노드 ID
+     */
+    public void release(String jobId, String owner) {
+        reqAnalysisJobRepository.release(jobId, owner);
+    }
+
+    /**
+     * 재시도 한도에 도달한 작업을 종료하고, 실행 중 상태로 남은 요청을 failed 로 기록한다.
+     * 요청은 조회한 상태·version 그대로일 때만 기록하므로, 그 사이 다른 실행이 가져간 요청은 덮어쓰지 않는다.
+     */
+    private void abandon(ReqAnalysisJob job, LocalDateTime now) {
+        String message = "분석 노드 응답 없음으로 " + job.getAttempts() + "회 리스가 만료되어 작업을 중단합니다.";
+        log.error("분석 작업 재시도 한도 초과 — jobId={}, reqId={}, attempts={}",
+                job.getJobId(), job.getReqId(), job.getAttempts());
+
+        reqAnalysisJobRepository.finish(job.getJobId(), job.getLeaseOwner(), JOB_FAILED,
+                ErrorCode.SERVICE_UNAVAILABLE.getCode(), message, now);
+
+        ReqRequest request = requestStateMachine.findCurrent(job.getReqId()).orElse(null);
+        if (request != null && (STATUS_QUEUED.equalsIgnoreCase(request.getRequestStatus())
+                || AnalysisStage.fromRequestStatus(request.getRequestStatus()) != null)) {
+            requestStateMachine.fail(
+                    job.getReqId(), request.getRequestStatus(), request.getVersion(), STATUS_FAILED, message);
+        }
+    }
+
+    /**
+     * 리스 획득 1회 동안의 일괄 분석 실행 슬롯 (전체 합계·배치별 한도).
+     * 실행 중 작업 수는 배치별로 한 번만 조회하고, 이번에 획득한 작업 수를 더해 판정한다.
+     */
+    private final class BatchSlots {
+
+        private final LocalDateTime now;
+        private final Map<String, Integer> remainingByBatch = new HashMap<String, Integer>();
+        private int remaining = -1;
+
+        BatchSlots(LocalDateTime now) {
+            this.now = now;
+        }
+
+        boolean acquire(String batchId) {
+            if (remaining < 0) {
+                remaining = (int) Math.max(0L,
+                        batchMaxConcurrency - reqAnalysisJobRepository.countRunningBatchJobs(now));
+            }
+            Integer batchRemaining = remainingByBatch.get(batchId);
+            if (batchRemaining == null) {
+                int concurrency = reqAnalysisBatchRepository.findById(batchId)
+                        .map(ReqAnalysisBatch::getConcurrency)
+                        .orElse(batchMaxConcurrency);
+                batchRemaining = (int) Math.max(0L,
+                        concurrency - reqAnalysisJobRepository.countRunningByBatchId(batchId, now));
+            }
+            if (remaining == 0 || batchRemaining == 0) {
+                remainingByBatch.put(batchId, batchRemaining);
+                return false;
+            }
+            remaining--;
+            remainingByBatch.put(batchId, batchRemaining - 1);
+            return true;
+        }
+    }
+
+    private static String truncate(String message) {
+        return message != null && message.length() > 1000 ? message.substring(0, 1000) : message;
+    }
+}
@@ -0,0 +1,154 @@
+package com.entec.tax.engine.orchestrator;
+
+import com.entec.tax.common.exception.ErrorCode;
+import com.entec.tax.common.exception.TaxServiceException;
+import com.entec.tax.domain.request.entity.ReqAnalysisJob;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 분석 작업 공유 대기열 워커.
+ * <p>
+ * 모든 노드에서 실행되며, 주기적으로 {@link AnalysisJobQueue}에서 노드 수용량만큼 작업 리스를 획득해
+ * {@link AnalysisScheduler}에 등록하고, 보유 중인 리스를 heartbeat 로 연장한다.
+ * 노드를 추가하면 처리량이 그만큼 늘어난다.
+ * </p>
+ *
+ * <ul>
+ *   <li>노드 수용량: {@code tax-service.job-queue.node-capacity} (기본 8) — 리스를 보유할 수 있는 최대 작업 수.</li>
+ *   <li>리스: {@code lease-seconds}(기본 60초)마다 만료되며 {@code heartbeat-interval}(기본 15초)마다 연장한다.
+ *       노드가 중단되면 연장이 멈추고, 만료 후 다른 노드가 작업을 가져간다.</li>
+ *   <li>재획득: 다른 노드가 실행하던 작업은 요청을 queued 로 되돌리고 마지막 체크포인트 다음 단계부터 재개한다.</li>
+ *   <li>일괄 분석: 배치 구성 요청도 일괄(BATCH) 등급 작업으로 같은 방식으로 실행되며, 종료 시 오류 코드를 기록해
+ *       배치 결과(failed/hard_fail) 집계에 사용한다.</li>
+ * </ul>
+ */
+@Component
+@Slf4j
+public class AnalysisJobWorker {
+
+    /** 작업 대기열 */
+    private final AnalysisJobQueue analysisJobQueue;
+
+    /** 분석 실행 스케줄러 */
+    private final AnalysisScheduler analysisScheduler;
+
+    /** 분석 비동기 제출 서비스 (실행·재획득) */
+    private final AnalysisSubmissionService analysisSubmissionService;
+
+    /** 노드 ID (리스 보유자) */
+    private final String nodeId;
+
+    /** 노드 수용량 */
+    private final int nodeCapacity;
+
+    /** 리스 유지 시간 (초) */
+    private final long leaseSeconds;
+
+    /** 이 노드가 리스를 보유한 작업 (작업 ID → 작업) */
+    private final Map<String, ReqAnalysisJob> heldJobs = new ConcurrentHashMap<String, ReqAnalysisJob>();
+
+    public AnalysisJobWorker(AnalysisJobQueue analysisJobQueue,
+                             AnalysisScheduler analysisScheduler,
+                             AnalysisSubmissionService analysisSubmissionService,
+                             @Value("${tax-service.job-queue.node-id:}") String nodeId,
+                             @Value("${tax-service.job-queue.node-capacity:8}") int nodeCapacity,
+                             @Value("${tax-service.job-queue.lease-seconds:60}") long leaseSeconds) {
+        this.analysisJobQueue = analysisJobQueue;
+        this.analysisScheduler = analysisScheduler;
+        this.analysisSubmissionService = analysisSubmissionService;
+        this.nodeId = nodeId == null || nodeId.trim().isEmpty() ? defaultNodeId() : nodeId.trim();
+        this.nodeCapacity = Math.max(1, nodeCapacity);
+        this.leaseSeconds = Math.max(1L, leaseSeconds);
+        log.info("분석 작업 워커 초기화 — nodeId={}, nodeCapacity={}, leaseSeconds={}",
+                this.nodeId, this.nodeCapacity, this.leaseSeconds);
+    }
+
+    /**
+     * 여유 수용량만큼 작업 리스를 획득하여 스케줄러에 등록한다.
+     */
+    @Scheduled(fixedDelayString = "${tax-service.job-queue.poll-interval:1000}")
+    public void poll() {
+        int available = nodeCapacity - heldJobs.size();
+        if (available <= 0) {
+            return;
+        }
+
+        List<ReqAnalysisJob> jobs;
+        try {
+            jobs = analysisJobQueue.lease(nodeId, available, leaseSeconds);
+        } catch (RuntimeException e) {
+            // DB 일시 장애: 다음 주기에 재시도
+            log.warn("분석 작업 리스 획득 실패 — nodeId={}, message={}", nodeId, e.getMessage());
+            return;
+        }
+
+        for (ReqAnalysisJob job : jobs) {
+            heldJobs.put(job.getJobId(), job);
+            AnalysisPriority priority = AnalysisPriority.values()[job.getPriority()];
+            if (!analysisScheduler.offer(job.getTenant(), priority, () -> execute(job))) {
+                heldJobs.remove(job.getJobId());
+                analysisJobQueue.release(job.getJobId(), nodeId);
+            }
+        }
+    }
+
+    /**
+     * 보유 중인 리스를 연장한다.
+     */
+    @Scheduled(fixedDelayString = "${tax-service.job-queue.heartbeat-interval:15000}")
+    public void heartbeat() {
+        if (heldJobs.isEmpty()) {
+            return;
+        }
+        int held = heldJobs.size();
+        int renewed = analysisJobQueue.renew(nodeId, heldJobs.keySet(), leaseSeconds);
+        if (renewed < held) {
+            log.warn("리스 연장 누락 — nodeId={}, held={}, renewed={} (리스 만료 후 다른 노드가 재획득했을 수 있음)",
+                    nodeId, held, renewed);
+        }
+    }
+
+    /**
+     * 산출 스레드에서 작업 1건을 실행하고 종료 상태를 기록한다.
+     */
+    private void execute(ReqAnalysisJob job) {
+        try {
+            AnalysisStage resumeFrom = job.getResumeFrom() != null
+                    ? AnalysisStage.fromCode(job.getResumeFrom())
+                    : null;
+            if (job.getAttempts() > 0) {
+                resumeFrom = analysisSubmissionService.reclaim(job.getReqId(), resumeFrom);
+            }
+            analysisSubmissionService.runClaimed(job.getReqId(), job.getTraceId(), resumeFrom);
+            analysisJobQueue.finish(job.getJobId(), nodeId, AnalysisJobQueue.JOB_DONE, null, null);
+        } catch (RuntimeException e) {
+            ErrorCode errorCode = e instanceof TaxServiceException
+                    ? ((TaxServiceException) e).getErrorCode()
+                    : ErrorCode.CALCULATION_FAILED;
+            analysisJobQueue.finish(job.getJobId(), nodeId, AnalysisJobQueue.JOB_FAILED,
+                    errorCode.getCode(), e.getMessage());
+        } finally {
+            heldJobs.remove(job.getJobId());
+        }
+    }
+
+    private static String defaultNodeId() {
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            host = "node";
+        }
+        return host + "-" + UUID.randomUUID().toString().substring(0, 8);
+    }
+}
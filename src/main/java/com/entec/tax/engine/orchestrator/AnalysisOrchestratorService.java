@@ -1,25 +1,50 @@
 package com.entec.tax.engine.orchestrator;
 
+import com.entec.tax.common.annotation.ConnectionPool;
+import com.entec.tax.common.annotation.RehydrateArchived;
+import com.entec.tax.common.constants.ConnectionPoolType;
+import com.entec.tax.common.exception.ConcurrentConflictException;
 import com.entec.tax.common.exception.ErrorCode;
 import com.entec.tax.common.exception.HardFailException;
 import com.entec.tax.common.exception.RequestNotFoundException;
 import com.entec.tax.common.exception.TaxServiceException;
+import com.entec.tax.common.metrics.AnalysisMetrics;
+import com.entec.tax.common.util.CryptoUtil;
+import com.entec.tax.domain.input.entity.InpRawData;
+import com.entec.tax.domain.input.repository.InpRawDataRepository;
 import com.entec.tax.domain.log.entity.LogCalculation;
-import com.entec.tax.domain.log.repository.LogCalculationRepository;
+import com.entec.tax.domain.log.service.CalculationLogWriter;
+import com.entec.tax.domain.reference.cache.ReferenceSnapshot;
+import com.entec.tax.domain.reference.cache.ReferenceSnapshotManager;
+import com.entec.tax.domain.request.entity.ReqAnalysisCheckpoint;
+import com.entec.tax.domain.request.entity.ReqAnalysisFingerprint;
 import com.entec.tax.domain.request.entity.ReqRequest;
+import com.entec.tax.domain.request.repository.ReqAnalysisCheckpointRepository;
+import com.entec.tax.domain.request.repository.ReqAnalysisFingerprintRepository;
 import com.entec.tax.domain.request.repository.ReqRequestRepository;
+import com.entec.tax.domain.request.service.RequestStateMachine;
 import com.entec.tax.engine.combination.service.CombinationSearchService;
+import com.entec.tax.engine.context.AnalysisContext;
+import com.entec.tax.engine.context.AnalysisContextStore;
 import com.entec.tax.engine.credit.service.CreditCalculationService;
 import com.entec.tax.engine.precheck.service.PreCheckService;
 import com.entec.tax.engine.refund.service.RefundCalculationService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
 import java.util.UUID;
 
 /**
@@ -27,32 +52,91 @@ import java.util.UUID;
  * <p>
  * M3(사전점검) → M4(개별공제산출) → M5(최적조합탐색) → M6(환급액산출) 파이프라인을
  * 순차적으로 실행한다.
- * TX-2 트랜잭션 범위(300초) 내에서 전체 파이프라인을 실행하며,
- * 각 단계의 결과를 다음 단계에 전달한다.
+ * 각 단계는 독립 트랜잭션(단계별 300초)으로 커밋되며, 같은 트랜잭션에서
+ * 요청별 체크포인트(마지막 완료 단계, 입력 해시)를 기록한다.
+ * 후행 단계가 실패해도 앞 단계 결과는 보존되므로, 재실행 시 실패 단계부터 이어서 실행할 수 있다.
+ * </p>
+ *
+ * <p>
+ * 입력(INP_*)은 시작 시 {@link AnalysisContext}에 한 번 적재하고, 단계 산출물도 컨텍스트로 다음 단계에 전달한다.
+ * 산출물은 단계 트랜잭션 종료 직전에 일괄 저장되므로 단계 사이에 DB 재조회가 없다.
  * </p>
  *
  * <p>
  * API-02 (POST /api/v1/requests/{reqId}/analyze)에서 호출된다.
+ * 비동기 모드에서는 {@link AnalysisSubmissionService}가 요청을 queued 상태로 선점한 뒤
+ * calculationExecutor 스레드에서 {@link #executeQueuedAnalysis(String, String, AnalysisStage)}를 호출한다.
  * </p>
  *
  * <pre>
  * 처리 순서:
- *   1. 요청 상태 검증 (parsed 상태여야 실행 가능)
+ *   1. 요청 상태 검증 (parsed 상태여야 실행 가능, 재개 시 failed/completed 도 허용)
  *   2. M3 사전점검 (STEP 0) — 자격 진단, 상시근로자 산정, 결산확정 검증
  *   3. M4 개별 공제·감면 산출 (STEP 1-2) — 각 항목별 공제/감면액 산출
  *   4. M5 최적 조합 탐색 (STEP 3) — 상호배제, 최저한세 반영 조합 탐색
  *   5. M6 최종 환급액 산출 (STEP 4-5) — 환급가산금, 지방세, 보고서 생성
  *   6. 상태 업데이트 (completed / failed)
  * </pre>
+ *
+ * <h3>체크포인트 재개</h3>
+ * <p>
+ * 입력 해시는 원시 입력(INP_RAW_DATA) 체크섬과 기준정보 스냅샷 지문으로 산출한다.
+ * 재개 단계의 직전 단계까지 완료된 체크포인트가 있고 입력 해시가 같을 때만 재개를 허용하며,
+ * 입력이나 기준정보가 바뀌었으면 M3 부터 다시 실행해야 한다.
+ * </p>
+ *
+ * <h3>증분 재분석</h3>
+ * <p>
+ * 단계 산출물을 커밋할 때 노드(M3, M4 산출기, M5, M6)별 입력 지문({@link AnalysisDependencyGraph})을 함께 기록한다.
+ * 재개 단계를 지정하지 않은 실행은 현재 지문과 기록된 지문을 비교하여, 지문이 바뀐 첫 단계부터 실행하고
+ * M4 는 지문이 바뀐 산출기만 다시 산출한다. 예를 들어 financial 만 정정하면 M3 과 M4-06 외 산출기는 재사용하고
+ * M4-06, M5, M6 만 다시 계산한다. 바뀐 노드가 없으면 저장된 결과를 그대로 두고 completed 로 전환한다.
+ * </p>
+ *
+ * <h3>결과 재사용</h3>
+ * <p>
+ * 다시 계산할 노드가 있어도, 같은 입력 해시·요청 조건으로 분석을 완료한 다른 요청이 있으면
+ * ({@link AnalysisResultCache}) 계산하지 않고 그 요청의 산출물을 복제한 뒤 completed 로 전환하며,
+ * 감사추적 로그에 RESULT-REUSE 로 원본 요청을 기록한다.
+ * </p>
+ *
+ * <h3>상태 선점</h3>
+ * <p>
+ * 실행 시작 시 요청을 읽은 시점의 상태·version 으로 {@link RequestStateMachine} 조건부 전이를 수행하므로,
+ * 같은 요청에 대한 동시 실행은 한 건만 파이프라인에 진입하고 나머지는 409(CONCURRENT_CONFLICT)로 거절된다.
+ * 단계 진행과 실패 기록도 직전 상태를 조건으로 갱신하여, 다른 실행이 가져간 요청의 상태를 덮어쓰지 않는다.
+ * </p>
  */
 @Service
 @RequiredArgsConstructor
 @Slf4j
+@ConnectionPool(ConnectionPoolType.ANALYSIS)
 public class AnalysisOrchestratorService {
 
+    /** 단계별 트랜잭션 타임아웃 (초) */
+    private static final int STAGE_TIMEOUT_SECONDS = 300;
+
+    /** 재개 실행이 허용되는 요청 상태 */
+    private static final List<String> RESUMABLE_STATUSES = Arrays.asList("parsed", "failed", "completed");
+
     /** 요청 리포지토리 */
     private final ReqRequestRepository reqRequestRepository;
 
+    /** 요청 상태 전이기 */
+    private final RequestStateMachine requestStateMachine;
+
+    /** 분석 체크포인트 리포지토리 */
+    private final ReqAnalysisCheckpointRepository reqAnalysisCheckpointRepository;
+
+    /** 노드별 입력 지문 리포지토리 */
+    private final ReqAnalysisFingerprintRepository reqAnalysisFingerprintRepository;
+
+    /** 분석 결과 재사용 캐시 */
+    private final AnalysisResultCache analysisResultCache;
+
+    /** 원시 입력 리포지토리 */
+    private final InpRawDataRepository inpRawDataRepository;
+
     /** M3 사전점검 서비스 */
     private final PreCheckService preCheckService;
 
@@ -65,8 +149,32 @@ public class AnalysisOrchestratorService {
     /** M6 최종 환급액 산출 서비스 */
     private final RefundCalculationService refundCalculationService;
 
-    /** 감사추적 로그 리포지토리 */
-    private final LogCalculationRepository logCalculationRepository;
+    /** 감사추적 로그 기록기 */
+    private final CalculationLogWriter calculationLogWriter;
+
+    /** 기준정보 스냅샷 관리자 */
+    private final ReferenceSnapshotManager referenceSnapshotManager;
+
+    /** 분석 컨텍스트 적재·저장 */
+    private final AnalysisContextStore analysisContextStore;
+
+    /** 트랜잭션 매니저 (단계별 트랜잭션) */
+    private final PlatformTransactionManager transactionManager;
+
+    /** 파이프라인·단계 실행 시간 계측 */
+    private final AnalysisMetrics analysisMetrics;
+
+    /**
+     * 분석 파이프라인을 처음부터 실행한다.
+     *
+     * @param reqId 요청번호 (예: C-1234567890-20260216-001)
+     * @return 실행 결과 맵 (req_id, status, trace_id, start_stage, reused_nodes, reused_from, duration_ms)
+     * @see #executeAnalysis(String, AnalysisStage)
+     */
+    @RehydrateArchived
+    public Map<String, Object> executeAnalysis(String reqId) {
+        return executeAnalysis(reqId, null);
+    }
 
     /**
      * 분석 파이프라인을 실행한다.
@@ -76,130 +184,223 @@ public class AnalysisOrchestratorService {
      * 실패 시 요청 상태를 failed 또는 hard_fail 로 갱신한다.
      * </p>
      *
-     * <p>TX-2 트랜잭션 범위: 300초 타임아웃</p>
+     * <p>
+     * 시작 시점의 기준정보 스냅샷을 파이프라인 종료까지 고정하므로,
+     * 실행 중 기준정보가 재적재되어도 M3~M6 은 같은 버전의 기준정보로 계산한다.
+     * </p>
      *
-     * @param reqId 요청번호 (예: C-1234567890-20260216-001)
-     * @return 실행 결과 맵 (req_id, status, trace_id, duration_ms)
+     * <p>
+     * {@code resumeFrom} 이 지정되면 체크포인트를 검증한 뒤 해당 단계부터 실행한다.
+     * 예를 들어 M6 보고서 직렬화 오류 후 {@code resumeFrom=M6} 으로 재실행하면 M3~M5 는 다시 계산하지 않는다.
+     * </p>
+     *
+     * @param reqId      요청번호
+     * @param resumeFrom 재개 단계 (null 이면 입력 지문이 바뀐 단계부터 실행)
+     * @return 실행 결과 맵 (req_id, status, trace_id, start_stage, reused_nodes, reused_from, duration_ms)
      * @throws RequestNotFoundException 요청이 존재하지 않을 경우
-     * @throws TaxServiceException 분석 중 오류 발생 시
+     * @throws TaxServiceException 실행 불가 상태·체크포인트 불일치 또는 분석 중 오류 발생 시
      * @throws HardFailException 결산조정 차단 항목이 발견된 경우
      */
-    @Transactional(timeout = 300)
-    public Map<String, Object> executeAnalysis(String reqId) {
-        long startTime = System.currentTimeMillis();
-        String traceId = UUID.randomUUID().toString();
+    @RehydrateArchived
+    public Map<String, Object> executeAnalysis(String reqId, AnalysisStage resumeFrom) {
+        List<String> startable = resumeFrom == null
+                ? Collections.singletonList("parsed")
+                : RESUMABLE_STATUSES;
+        return runPipeline(reqId, UUID.randomUUID().toString(), resumeFrom, startable, null);
+    }
 
-        log.info("분석 파이프라인 실행 시작 — reqId={}, traceId={}", reqId, traceId);
+    /**
+     * 비동기 제출로 queued 상태가 된 요청의 분석 파이프라인을 실행한다.
+     * <p>
+     * {@link AnalysisSubmissionService}가 산출 스레드에서 호출하며,
+     * 제출 시 발급한 추적 ID를 그대로 사용한다. 요청이 호출자가 확인한 queued version 이 아니면 실행하지 않는다.
+     * </p>
+     *
+     * @param reqId         요청번호
+     * @param traceId       제출 시 발급한 추적 ID
+     * @param resumeFrom    재개 단계 (null 이면 입력 지문이 바뀐 단계부터 실행)
+     * @param queuedVersion 호출자가 확인한 queued 상태의 version
+     * @return 실행 결과 맵 (req_id, status, trace_id, start_stage, reused_nodes, reused_from, duration_ms)
+     */
+    @RehydrateArchived
+    public Map<String, Object> executeQueuedAnalysis(String reqId, String traceId, AnalysisStage resumeFrom,
+                                                     int queuedVersion) {
+        return runPipeline(reqId, traceId, resumeFrom, Collections.singletonList("queued"), queuedVersion);
+    }
 
-        // ──────────────────────────────────────────────────────────────
-        // 1. 요청 상태 검증: parsed 상태여야 실행 가능
-        // ──────────────────────────────────────────────────────────────
-        ReqRequest request = reqRequestRepository.findById(reqId)
-                .orElseThrow(() -> new RequestNotFoundException(
-                        "요청을 찾을 수 없습니다: " + reqId, reqId));
+    /**
+     * 현재 입력과 기준정보로 지정 단계부터 재개할 수 있는지 검증한다.
+     * <p>
+     * 비동기 제출 시 요청을 선점하기 전에 호출하여, 재개 불가 요청이 대기열에 들어가지 않도록 한다.
+     * </p>
+     *
+     * @param reqId      요청번호
+     * @param resumeFrom 재개 단계
+     * @throws TaxServiceException 체크포인트가 없거나 입력 해시가 다를 경우
+     */
+    public void verifyResumable(String reqId, AnalysisStage resumeFrom) {
+        resolveStartStage(reqId, resumeFrom, computeInputHash(
+                inpRawDataRepository.findByReqRequestReqId(reqId), referenceSnapshotManager.current()));
+    }
 
-        String currentStatus = request.getRequestStatus();
-        if (!"parsed".equalsIgnoreCase(currentStatus)
-                && !"PARSED".equals(currentStatus)) {
-            throw new TaxServiceException(
-                    ErrorCode.CONCURRENT_CONFLICT,
-                    "현재 상태(" + currentStatus + ")에서는 점검을 실행할 수 없습니다. "
-                            + "'parsed' 상태에서만 분석을 시작할 수 있습니다.",
-                    reqId);
+    /**
+     * 중단된 실행을 이어서 실행할 단계를 찾는다.
+     * <p>
+     * 분석 노드가 단계 실행 도중 중단되어 다른 노드가 작업을 다시 가져간 경우에 사용한다.
+     * 체크포인트의 입력 해시가 현재 입력·기준정보와 같을 때만 다음 단계부터 재개한다.
+     * </p>
+     *
+     * @param reqId 요청번호
+     * @return 마지막 완료 단계의 다음 단계 (체크포인트가 없거나 입력이 변경되었으면 null — M3 부터 실행)
+     */
+    public AnalysisStage findResumeStage(String reqId) {
+        ReqAnalysisCheckpoint checkpoint = reqAnalysisCheckpointRepository.findById(reqId).orElse(null);
+        if (checkpoint == null) {
+            return null;
         }
+        AnalysisStage next = AnalysisStage.fromCode(checkpoint.getLastStage()).next();
+        if (next == null) {
+            return null;
+        }
+        String inputHash = computeInputHash(
+                inpRawDataRepository.findByReqRequestReqId(reqId), referenceSnapshotManager.current());
+        return checkpoint.getInputHash().equals(inputHash) ? next : null;
+    }
 
-        // 상태를 checking 으로 갱신
-        LocalDateTime now = LocalDateTime.now();
-        reqRequestRepository.updateStatus(reqId, "checking", now);
-
-        try {
-            // ──────────────────────────────────────────────────────────
-            // 2. STEP 0: M3 사전점검
-            //    - 자격 진단 (M3-01)
-            //    - 상시근로자 산정 (M3-02)
-            //    - 결산확정 검증 (M3-03)
-            // ──────────────────────────────────────────────────────────
-            logStep(reqId, "M3-START", traceId, startTime);
-            log.info("M3 사전점검 시작 — reqId={}", reqId);
-
-            preCheckService.executePreCheck(reqId);
-
-            logStep(reqId, "M3-END", traceId, startTime);
-            log.info("M3 사전점검 완료 — reqId={}, elapsed={}ms",
-                    reqId, System.currentTimeMillis() - startTime);
-
-            // ──────────────────────────────────────────────────────────
-            // 3. STEP 1-2: M4 개별 공제·감면 산출
-            //    - 각 항목별 공제/감면액 산출
-            //    - 고용증대, 연구개발비, 투자 등 개별 공제 항목 처리
-            // ──────────────────────────────────────────────────────────
-            logStep(reqId, "M4-START", traceId, startTime);
-            log.info("M4 개별 공제·감면 산출 시작 — reqId={}", reqId);
-
-            reqRequestRepository.updateStatus(reqId, "calculating", LocalDateTime.now());
-            creditCalculationService.calculateCredits(reqId);
-
-            logStep(reqId, "M4-END", traceId, startTime);
-            log.info("M4 개별 공제·감면 산출 완료 — reqId={}, elapsed={}ms",
-                    reqId, System.currentTimeMillis() - startTime);
-
-            // ──────────────────────────────────────────────────────────
-            // 4. STEP 3: M5 최적 조합 탐색
-            //    - 상호배제 규칙 적용
-            //    - 최저한세 제약 반영
-            //    - 환급액 최대화 조합 탐색
-            // ──────────────────────────────────────────────────────────
-            logStep(reqId, "M5-START", traceId, startTime);
-            log.info("M5 최적 조합 탐색 시작 — reqId={}", reqId);
+    /**
+     * 요청 상태를 검증·선점한 후 시작 단계부터 마지막 단계까지 실행한다.
+     *
+     * @param reqId             요청번호
+     * @param traceId           추적 ID
+     * @param resumeFrom        재개 단계 (null 이면 입력 지문이 바뀐 단계부터)
+     * @param startableStatuses 실행 가능한 요청 상태
+     * @param expectedVersion   선점 시 확인한 version (null 이면 조회한 version 으로 선점)
+     * @return 실행 결과 맵
+     */
+    private Map<String, Object> runPipeline(String reqId, String traceId, AnalysisStage resumeFrom,
+                                            List<String> startableStatuses, Integer expectedVersion) {
+        long startTime = System.currentTimeMillis();
+        long startNanos = System.nanoTime();
+        String outcome = "failed";
 
-            reqRequestRepository.updateStatus(reqId, "optimizing", LocalDateTime.now());
-            combinationSearchService.findOptimalCombination(reqId);
+        log.info("분석 파이프라인 실행 시작 — reqId={}, traceId={}, resumeFrom={}", reqId, traceId, resumeFrom);
 
-            logStep(reqId, "M5-END", traceId, startTime);
-            log.info("M5 최적 조합 탐색 완료 — reqId={}, elapsed={}ms",
-                    reqId, System.currentTimeMillis() - startTime);
+        // 기준정보 스냅샷 고정 (입력 해시에도 스냅샷 지문이 포함된다)
+        ReferenceSnapshot snapshot = referenceSnapshotManager.pin();
+        log.info("기준정보 스냅샷 고정 — reqId={}, snapshotVersion={}", reqId, snapshot.getVersion());
 
+        try {
             // ──────────────────────────────────────────────────────────
-            // 5. STEP 4-5: M6 최종 환급액 산출 및 보고서 생성
-            //    - 환급가산금 계산 (M6-01)
-            //    - 지방세 환급액 계산 (M6-02)
-            //    - 보고서 JSON 생성 (M6-03)
+            // 1. 요청 상태 검증 및 선점
             // ──────────────────────────────────────────────────────────
-            logStep(reqId, "M6-START", traceId, startTime);
-            log.info("M6 최종 환급액 산출 시작 — reqId={}", reqId);
-
-            reqRequestRepository.updateStatus(reqId, "reporting", LocalDateTime.now());
-            refundCalculationService.calculateFinalRefund(reqId);
-
-            logStep(reqId, "M6-END", traceId, startTime);
-            log.info("M6 최종 환급액 산출 완료 — reqId={}, elapsed={}ms",
-                    reqId, System.currentTimeMillis() - startTime);
+            ReqRequest request = requestStateMachine.findCurrent(reqId)
+                    .orElseThrow(() -> new RequestNotFoundException(
+                            "요청을 찾을 수 없습니다: " + reqId, reqId));
+
+            String currentStatus = request.getRequestStatus();
+            if (!containsIgnoreCase(startableStatuses, currentStatus)) {
+                throw new TaxServiceException(
+                        ErrorCode.CONCURRENT_CONFLICT,
+                        "현재 상태(" + currentStatus + ")에서는 점검을 실행할 수 없습니다. "
+                                + startableStatuses + " 상태에서만 분석을 시작할 수 있습니다.",
+                        reqId);
+            }
+            if (expectedVersion != null && !expectedVersion.equals(request.getVersion())) {
+                throw new ConcurrentConflictException(
+                        "선점 이후 다른 실행이 요청 상태를 변경했습니다. (선점 version: " + expectedVersion
+                                + ", 현재 version: " + request.getVersion() + ")",
+                        reqId);
+            }
+
+            List<InpRawData> rawDataList = inpRawDataRepository.findByReqRequestReqId(reqId);
+            String inputHash = computeInputHash(rawDataList, snapshot);
+            Map<String, String> fingerprints = computeFingerprints(rawDataList, snapshot);
+
+            AnalysisStage startStage;
+            Set<String> creditCalcSteps = null;
+            if (resumeFrom != null) {
+                startStage = resolveStartStage(reqId, resumeFrom, inputHash);
+            } else {
+                Set<String> staleNodes = findStaleNodes(reqId, fingerprints);
+                startStage = firstStaleStage(staleNodes);
+                creditCalcSteps = staleCreditCalcSteps(staleNodes);
+                if (startStage == null) {
+                    Map<String, Object> result = completeWithoutChanges(request, traceId, startTime);
+                    outcome = "unchanged";
+                    return result;
+                }
+            }
+
+            String cacheKey = analysisResultCache.cacheKey(request, inputHash);
+            if (resumeFrom == null) {
+                String sourceReqId = analysisResultCache.findSource(reqId, cacheKey, inputHash);
+                if (sourceReqId != null) {
+                    Map<String, Object> result = reuseResults(request, sourceReqId, traceId,
+                            inputHash, fingerprints, snapshot, startTime);
+                    outcome = "reused";
+                    return result;
+                }
+            }
+
+            int startVersion = requestStateMachine.transition(request, startStage.getRequestStatus());
 
             // ──────────────────────────────────────────────────────────
-            // 6. 완료 상태 갱신
+            // 2. 단계별 실행 (각 단계 독립 커밋)
             // ──────────────────────────────────────────────────────────
-            reqRequestRepository.updateStatus(reqId, "completed", LocalDateTime.now());
+            runStages(reqId, traceId, startStage, startVersion, creditCalcSteps, inputHash, fingerprints, snapshot,
+                    startTime);
+            analysisResultCache.register(cacheKey, reqId, inputHash, snapshot.getVersion());
 
             long durationMs = System.currentTimeMillis() - startTime;
-            log.info("분석 파이프라인 실행 완료 — reqId={}, traceId={}, duration={}ms",
-                    reqId, traceId, durationMs);
+            List<String> reusedNodes = reusedNodes(startStage, creditCalcSteps);
+            log.info("분석 파이프라인 실행 완료 — reqId={}, traceId={}, startStage={}, reusedNodes={}, duration={}ms",
+                    reqId, traceId, startStage, reusedNodes, durationMs);
 
             // 결과 맵 생성 (키 순서 보장을 위해 LinkedHashMap 사용)
             Map<String, Object> result = new LinkedHashMap<String, Object>();
             result.put("req_id", reqId);
             result.put("status", "completed");
             result.put("trace_id", traceId);
+            result.put("start_stage", startStage.getCode());
+            result.put("reused_nodes", reusedNodes);
             result.put("duration_ms", durationMs);
+            outcome = "completed";
             return result;
 
+        } finally {
+            referenceSnapshotManager.release();
+            analysisMetrics.recordPipeline(outcome, System.nanoTime() - startNanos);
+        }
+    }
+
+    /**
+     * 시작 단계부터 M6 까지 단계별 트랜잭션으로 실행한다.
+     * 실패한 단계의 트랜잭션만 롤백되며, 실패 상태와 오류 로그는 별도 트랜잭션으로 기록한다.
+     * 단계 진행과 실패 기록은 마지막으로 커밋된 상태·version 을 조건으로 하므로, 다른 실행이 선점한 요청은
+     * 같은 상태에 도달해 있어도 덮어쓰지 않는다.
+     * 입력과 선행 단계 산출물은 {@link AnalysisContext}로 한 번 적재하여 모든 단계가 공유한다.
+     */
+    private void runStages(String reqId, String traceId, AnalysisStage startStage, int startVersion,
+                           Set<String> creditCalcSteps, String inputHash, Map<String, String> fingerprints,
+                           ReferenceSnapshot snapshot, long startTime) {
+        String committedStatus = startStage.getRequestStatus();
+        int committedVersion = startVersion;
+        try {
+            AnalysisContext context = loadContext(reqId, startStage, creditCalcSteps);
+            for (AnalysisStage stage : AnalysisStage.values()) {
+                if (stage.ordinal() >= startStage.ordinal()) {
+                    committedVersion = runStage(context, stage, committedStatus, committedVersion, traceId,
+                            inputHash, fingerprints, snapshot, startTime);
+                    committedStatus = stage.getRequestStatus();
+                }
+            }
+
         } catch (HardFailException e) {
             // 결산조정 차단(Hard-Fail): 복구 불가능한 오류
             log.error("분석 파이프라인 Hard-Fail 발생 — reqId={}, blockedItems={}, message={}",
                     reqId, e.getBlockedItems(), e.getMessage(), e);
 
-            reqRequestRepository.updateStatusWithError(
-                    reqId, "hard_fail", e.getMessage(), LocalDateTime.now());
-            logError(reqId, "HARD_FAIL", e, traceId);
+            recordFailure(reqId, committedStatus, committedVersion, "hard_fail", "HARD_FAIL", e, traceId);
             throw e;
 
         } catch (TaxServiceException e) {
@@ -207,9 +408,7 @@ public class AnalysisOrchestratorService {
             log.error("분석 파이프라인 서비스 오류 — reqId={}, errorCode={}, message={}",
                     reqId, e.getErrorCode(), e.getMessage(), e);
 
-            reqRequestRepository.updateStatusWithError(
-                    reqId, "failed", e.getMessage(), LocalDateTime.now());
-            logError(reqId, "PIPELINE_ERROR", e, traceId);
+            recordFailure(reqId, committedStatus, committedVersion, "failed", "PIPELINE_ERROR", e, traceId);
             throw e;
 
         } catch (Exception e) {
@@ -217,9 +416,7 @@ public class AnalysisOrchestratorService {
             log.error("분석 파이프라인 시스템 오류 — reqId={}, message={}",
                     reqId, e.getMessage(), e);
 
-            reqRequestRepository.updateStatusWithError(
-                    reqId, "failed", e.getMessage(), LocalDateTime.now());
-            logError(reqId, "PIPELINE_ERROR", e, traceId);
+            recordFailure(reqId, committedStatus, committedVersion, "failed", "PIPELINE_ERROR", e, traceId);
 
             throw new TaxServiceException(
                     ErrorCode.CALCULATION_FAILED,
@@ -229,6 +426,385 @@ public class AnalysisOrchestratorService {
         }
     }
 
+    /**
+     * 분석 컨텍스트를 적재한다. 단계 재개 시에는 시작 단계 이전의 커밋된 산출물을 복원한다.
+     * M4 를 일부 산출기만 다시 산출하는 경우에는 나머지 산출기 결과를 위해 M4 산출물도 복원한다.
+     */
+    private AnalysisContext loadContext(String reqId, AnalysisStage startStage, Set<String> creditCalcSteps) {
+        AnalysisContext context = analysisContextStore.load(reqId);
+        if (startStage.ordinal() > AnalysisStage.M3.ordinal()) {
+            analysisContextStore.restorePreCheck(context);
+        }
+        if (startStage.ordinal() > AnalysisStage.M4.ordinal() || creditCalcSteps != null) {
+            analysisContextStore.restoreCredits(context);
+        }
+        context.limitCreditCalcSteps(creditCalcSteps);
+        if (startStage.ordinal() > AnalysisStage.M5.ordinal()) {
+            analysisContextStore.restoreCombinations(context);
+        }
+        return context;
+    }
+
+    /**
+     * 한 단계를 독립 트랜잭션으로 실행하고, 같은 트랜잭션에서 단계 산출물 저장과 체크포인트를 기록한다.
+     * 마지막 단계(M6)는 completed 상태 갱신까지 함께 커밋한다.
+     * 단계 상태는 직전에 커밋된 상태·version 일 때만 갱신하며, 그 사이 다른 실행이 상태를 바꿨으면 단계를 실행하지 않고 충돌로 끝낸다.
+     *
+     * @return 단계 커밋 후 요청 version
+     */
+    private int runStage(AnalysisContext context, AnalysisStage stage, String previousStatus, int previousVersion,
+                         String traceId, String inputHash, Map<String, String> fingerprints,
+                         ReferenceSnapshot snapshot, long startTime) {
+        String reqId = context.getReqId();
+        long stageStartNanos = System.nanoTime();
+        boolean success = false;
+        int committedVersion;
+        try {
+            committedVersion = stageTransaction().execute(status -> {
+                logStep(reqId, stage.getCode() + "-START", traceId, startTime);
+                log.info("{} {} 시작 — reqId={}", stage.getCode(), stage.getDescription(), reqId);
+
+                int version = requestStateMachine.transition(
+                        reqId, previousStatus, previousVersion, stage.getRequestStatus());
+                invokeStage(stage, context);
+                analysisContextStore.flush(context);
+
+                logStep(reqId, stage.getCode() + "-END", traceId, startTime);
+                if (stage == AnalysisStage.M6) {
+                    // 상태 UPDATE 가 영속성 컨텍스트를 비우므로 체크포인트·지문 저장보다 먼저 전이한다 (reuseResults 와 같은 순서)
+                    version = requestStateMachine.transition(reqId, stage.getRequestStatus(), version, "completed");
+                }
+                reqAnalysisCheckpointRepository.save(ReqAnalysisCheckpoint.builder()
+                        .reqId(reqId)
+                        .lastStage(stage.getCode())
+                        .inputHash(inputHash)
+                        .snapshotVersion(snapshot.getVersion())
+                        .traceId(traceId)
+                        .completedAt(LocalDateTime.now())
+                        .build());
+                saveFingerprints(reqId, stage, fingerprints, traceId);
+                return version;
+            });
+            success = true;
+        } finally {
+            analysisMetrics.recordStage(stage.getCode(), success, System.nanoTime() - stageStartNanos);
+        }
+
+        log.info("{} {} 완료 — reqId={}, elapsed={}ms",
+                stage.getCode(), stage.getDescription(), reqId, System.currentTimeMillis() - startTime);
+        return committedVersion;
+    }
+
+    /**
+     * 단계에 해당하는 엔진 서비스를 호출한다.
+     */
+    private void invokeStage(AnalysisStage stage, AnalysisContext context) {
+        switch (stage) {
+            case M3:
+                // 자격 진단 (M3-01), 상시근로자 산정 (M3-02), 결산확정 검증 (M3-03)
+                preCheckService.executePreCheck(context);
+                break;
+            case M4:
+                // 고용증대, 연구개발비, 투자 등 개별 공제 항목 처리
+                creditCalculationService.calculateCredits(context);
+                break;
+            case M5:
+                // 상호배제 규칙, 최저한세 제약 반영 환급액 최대화 조합 탐색
+                combinationSearchService.findOptimalCombination(context);
+                break;
+            case M6:
+                // 환급가산금 (M6-01), 지방세 환급액 (M6-02), 보고서 JSON 생성 (M6-03)
+                refundCalculationService.calculateFinalRefund(context);
+                break;
+            default:
+                throw new IllegalStateException("Unknown stage: " + stage);
+        }
+    }
+
+    // ──────────────────────────────────────────────
+    // 체크포인트
+    // ──────────────────────────────────────────────
+
+    /**
+     * 재개 단계를 검증하여 실제 시작 단계를 결정한다.
+     *
+     * @return 시작 단계 (재개 미지정 시 M3)
+     * @throws TaxServiceException 직전 단계까지의 체크포인트가 없거나 입력 해시가 다를 경우
+     */
+    private AnalysisStage resolveStartStage(String reqId, AnalysisStage resumeFrom, String inputHash) {
+        if (resumeFrom == null || resumeFrom.previous() == null) {
+            return AnalysisStage.M3;
+        }
+
+        AnalysisStage required = resumeFrom.previous();
+        ReqAnalysisCheckpoint checkpoint = reqAnalysisCheckpointRepository.findById(reqId).orElse(null);
+        if (checkpoint == null
+                || AnalysisStage.fromCode(checkpoint.getLastStage()).ordinal() < required.ordinal()) {
+            throw new TaxServiceException(
+                    ErrorCode.INVALID_STATUS,
+                    resumeFrom.getCode() + " 부터 재개하려면 " + required.getCode() + " 까지 완료된 체크포인트가 필요합니다. "
+                            + "(마지막 완료 단계: " + (checkpoint != null ? checkpoint.getLastStage() : "없음") + ")",
+                    reqId);
+        }
+        if (!checkpoint.getInputHash().equals(inputHash)) {
+            throw new TaxServiceException(
+                    ErrorCode.INVALID_STATUS,
+                    "체크포인트 이후 입력 데이터 또는 기준정보가 변경되었습니다. M3 부터 다시 실행하십시오.",
+                    reqId);
+        }
+        return resumeFrom;
+    }
+
+    /**
+     * 원시 입력 체크섬과 기준정보 스냅샷 지문으로 입력 해시를 산출한다.
+     */
+    private String computeInputHash(List<InpRawData> rawDataList, ReferenceSnapshot snapshot) {
+        List<String> parts = new ArrayList<String>();
+        for (InpRawData rawData : rawDataList) {
+            parts.add(checksumLine(rawData));
+        }
+        Collections.sort(parts);
+
+        StringBuilder sb = new StringBuilder(snapshot.getFingerprint());
+        for (String part : parts) {
+            sb.append('\n').append(part);
+        }
+        return CryptoUtil.sha256(sb.toString());
+    }
+
+    private static String checksumLine(InpRawData rawData) {
+        String checksum = rawData.getChecksum() != null
+                ? rawData.getChecksum()
+                : CryptoUtil.sha256(rawData.getRawJson() != null ? rawData.getRawJson() : "");
+        return rawData.getCategory() + "|" + rawData.getSubCategory() + "|" + checksum;
+    }
+
+    // ──────────────────────────────────────────────
+    // 증분 재분석
+    // ──────────────────────────────────────────────
+
+    /**
+     * 입력 그룹별 체크섬과 기준정보 지문으로 노드별 입력 지문을 산출한다.
+     */
+    private Map<String, String> computeFingerprints(List<InpRawData> rawDataList, ReferenceSnapshot snapshot) {
+        Map<String, List<String>> groupParts = new TreeMap<String, List<String>>();
+        for (InpRawData rawData : rawDataList) {
+            String group = AnalysisDependencyGraph.inputGroupOf(rawData.getCategory());
+            if (group == null) {
+                continue;
+            }
+            List<String> parts = groupParts.get(group);
+            if (parts == null) {
+                parts = new ArrayList<String>();
+                groupParts.put(group, parts);
+            }
+            parts.add(checksumLine(rawData));
+        }
+
+        Map<String, String> inputChecksums = new LinkedHashMap<String, String>();
+        for (Map.Entry<String, List<String>> entry : groupParts.entrySet()) {
+            Collections.sort(entry.getValue());
+            StringBuilder sb = new StringBuilder();
+            for (String part : entry.getValue()) {
+                sb.append(part).append('\n');
+            }
+            inputChecksums.put(entry.getKey(), CryptoUtil.sha256(sb.toString()));
+        }
+        return AnalysisDependencyGraph.fingerprints(inputChecksums, snapshot.getFingerprint());
+    }
+
+    /**
+     * 기록된 지문과 현재 지문이 다른 노드를 찾는다 (기록이 없는 노드 포함).
+     */
+    private Set<String> findStaleNodes(String reqId, Map<String, String> fingerprints) {
+        Map<String, String> stored = new LinkedHashMap<String, String>();
+        for (ReqAnalysisFingerprint fingerprint : reqAnalysisFingerprintRepository.findByReqId(reqId)) {
+            stored.put(fingerprint.getNode(), fingerprint.getFingerprint());
+        }
+        Set<String> staleNodes = new LinkedHashSet<String>();
+        for (Map.Entry<String, String> entry : fingerprints.entrySet()) {
+            if (!entry.getValue().equals(stored.get(entry.getKey()))) {
+                staleNodes.add(entry.getKey());
+            }
+        }
+        return staleNodes;
+    }
+
+    /**
+     * @return 다시 계산할 노드가 있는 첫 단계 (없으면 null)
+     */
+    private static AnalysisStage firstStaleStage(Set<String> staleNodes) {
+        for (AnalysisStage stage : AnalysisStage.values()) {
+            for (String node : AnalysisDependencyGraph.nodesOf(stage)) {
+                if (staleNodes.contains(node)) {
+                    return stage;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @return 다시 산출할 M4 산출기 (전체 산출기가 대상이면 null)
+     */
+    private static Set<String> staleCreditCalcSteps(Set<String> staleNodes) {
+        Set<String> calcSteps = new LinkedHashSet<String>();
+        for (String calcStep : AnalysisDependencyGraph.creditCalcSteps()) {
+            if (staleNodes.contains(calcStep)) {
+                calcSteps.add(calcStep);
+            }
+        }
+        return calcSteps.size() == AnalysisDependencyGraph.creditCalcSteps().size() ? null : calcSteps;
+    }
+
+    /**
+     * @param startStage 시작 단계 (null 이면 전체 재사용)
+     * @return 이번 실행에서 다시 계산하지 않고 저장된 산출물을 사용한 노드
+     */
+    private static List<String> reusedNodes(AnalysisStage startStage, Set<String> creditCalcSteps) {
+        List<String> reused = new ArrayList<String>();
+        for (AnalysisStage stage : AnalysisStage.values()) {
+            for (String node : AnalysisDependencyGraph.nodesOf(stage)) {
+                boolean recomputed = startStage != null && stage.ordinal() >= startStage.ordinal()
+                        && (stage != AnalysisStage.M4 || creditCalcSteps == null || creditCalcSteps.contains(node));
+                if (!recomputed) {
+                    reused.add(node);
+                }
+            }
+        }
+        return reused;
+    }
+
+    /**
+     * 단계 노드의 입력 지문을 기록한다 (단계 트랜잭션 안에서 호출).
+     */
+    private void saveFingerprints(String reqId, AnalysisStage stage, Map<String, String> fingerprints,
+                                  String traceId) {
+        LocalDateTime now = LocalDateTime.now();
+        List<ReqAnalysisFingerprint> entities = new ArrayList<ReqAnalysisFingerprint>();
+        for (String node : AnalysisDependencyGraph.nodesOf(stage)) {
+            entities.add(ReqAnalysisFingerprint.builder()
+                    .reqId(reqId)
+                    .node(node)
+                    .fingerprint(fingerprints.get(node))
+                    .traceId(traceId)
+                    .computedAt(now)
+                    .build());
+        }
+        reqAnalysisFingerprintRepository.saveAll(entities);
+    }
+
+    /**
+     * 모든 노드의 지문이 기록과 같으면 저장된 결과를 그대로 두고 completed 로 전환한다.
+     */
+    private Map<String, Object> completeWithoutChanges(ReqRequest request, String traceId, long startTime) {
+        String reqId = request.getReqId();
+        requestStateMachine.transition(request, "completed");
+        long durationMs = System.currentTimeMillis() - startTime;
+        log.info("분석 입력 변경 없음 — 저장된 결과 재사용, reqId={}, traceId={}, duration={}ms",
+                reqId, traceId, durationMs);
+
+        Map<String, Object> result = new LinkedHashMap<String, Object>();
+        result.put("req_id", reqId);
+        result.put("status", "completed");
+        result.put("trace_id", traceId);
+        result.put("start_stage", null);
+        result.put("reused_nodes", reusedNodes(null, null));
+        result.put("duration_ms", durationMs);
+        return result;
+    }
+
+    // ──────────────────────────────────────────────
+    // 결과 재사용
+    // ──────────────────────────────────────────────
+
+    /**
+     * 같은 입력으로 분석을 완료한 요청의 산출물을 복제하고 completed 로 전환한다.
+     * 산출물 복제, 체크포인트·지문 기록, 상태 전환, 감사추적 로그를 한 트랜잭션으로 커밋한다.
+     */
+    private Map<String, Object> reuseResults(ReqRequest request, String sourceReqId, String traceId,
+                                             String inputHash, Map<String, String> fingerprints,
+                                             ReferenceSnapshot snapshot, long startTime) {
+        String reqId = request.getReqId();
+        int copied = stageTransaction().execute(status -> {
+            requestStateMachine.transition(request, "completed");
+            int rows = analysisResultCache.cloneResults(sourceReqId, reqId);
+
+            reqAnalysisCheckpointRepository.save(ReqAnalysisCheckpoint.builder()
+                    .reqId(reqId)
+                    .lastStage(AnalysisStage.M6.getCode())
+                    .inputHash(inputHash)
+                    .snapshotVersion(snapshot.getVersion())
+                    .traceId(traceId)
+                    .completedAt(LocalDateTime.now())
+                    .build());
+            for (AnalysisStage stage : AnalysisStage.values()) {
+                saveFingerprints(reqId, stage, fingerprints, traceId);
+            }
+
+            calculationLogWriter.write(LogCalculation.builder()
+                    .reqId(reqId)
+                    .calcStep("RESULT-REUSE")
+                    .functionName("AnalysisOrchestratorService.executeAnalysis")
+                    .inputData("{\"source_req_id\": \"" + sourceReqId + "\", \"input_hash\": \"" + inputHash + "\"}")
+                    .outputData("{\"copied_rows\": " + rows + "}")
+                    .logLevel("INFO")
+                    .traceId(traceId)
+                    .durationMs((int) (System.currentTimeMillis() - startTime))
+                    .executedAt(LocalDateTime.now())
+                    .build());
+            return rows;
+        });
+
+        long durationMs = System.currentTimeMillis() - startTime;
+        log.info("분석 결과 재사용 — reqId={}, sourceReqId={}, traceId={}, copiedRows={}, duration={}ms",
+                reqId, sourceReqId, traceId, copied, durationMs);
+
+        Map<String, Object> result = new LinkedHashMap<String, Object>();
+        result.put("req_id", reqId);
+        result.put("status", "completed");
+        result.put("trace_id", traceId);
+        result.put("start_stage", null);
+        result.put("reused_nodes", reusedNodes(null, null));
+        result.put("reused_from", sourceReqId);
+        result.put("duration_ms", durationMs);
+        return result;
+    }
+
+    // ──────────────────────────────────────────────
+    // 트랜잭션·로그
+    // ──────────────────────────────────────────────
+
+    /**
+     * 단계별 트랜잭션 템플릿 (TX-2, 단계당 300초 타임아웃).
+     */
+    private TransactionTemplate stageTransaction() {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setTimeout(STAGE_TIMEOUT_SECONDS);
+        return template;
+    }
+
+    /**
+     * 실패 상태와 오류 로그를 별도 트랜잭션으로 기록한다 (요청이 마지막으로 커밋된 상태·version 일 때만).
+     */
+    private void recordFailure(String reqId, String committedStatus, int committedVersion, String status,
+                               String step, Exception e, String traceId) {
+        stageTransaction().execute(txStatus -> {
+            requestStateMachine.fail(reqId, committedStatus, committedVersion, status, e.getMessage());
+            logError(reqId, step, e, traceId);
+            return null;
+        });
+    }
+
+    private static boolean containsIgnoreCase(List<String> values, String value) {
+        for (String candidate : values) {
+            if (candidate.equalsIgnoreCase(value)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     /**
      * 파이프라인 단계별 감사추적 로그를 기록한다.
      *
@@ -247,7 +823,7 @@ public class AnalysisOrchestratorService {
                 .durationMs((int) (System.currentTimeMillis() - startTime))
                 .executedAt(LocalDateTime.now())
                 .build();
-        logCalculationRepository.save(logEntry);
+        calculationLogWriter.write(logEntry);
     }
 
     /**
@@ -273,6 +849,6 @@ public class AnalysisOrchestratorService {
                 .traceId(traceId)
                 .executedAt(LocalDateTime.now())
                 .build();
-        logCalculationRepository.save(logEntry);
+        calculationLogWriter.write(logEntry);
     }
 }
@@ -0,0 +1,27 @@
+package com.entec.tax.engine.orchestrator;
+
+/**
+ * 분석 실행 우선순위 등급.
+ * <p>
+ * {@link AnalysisScheduler}가 등급별 대기열을 가중치에 따라 번갈아 꺼내며,
+ * 일괄 처리(BATCH)는 대화형(INTERACTIVE) 몫으로 예약된 실행 슬롯을 사용할 수 없다.
+ * </p>
+ */
+public enum AnalysisPriority {
+
+    /** 단건 분석 (API-02 비동기) — 응답 지연에 민감 */
+    INTERACTIVE("대화형"),
+
+    /** 일괄 분석·재처리 — 처리량 위주 */
+    BATCH("일괄");
+
+    private final String description;
+
+    AnalysisPriority(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+}
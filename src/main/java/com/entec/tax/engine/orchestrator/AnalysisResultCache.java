@@ -0,0 +1,233 @@
+package com.entec.tax.engine.orchestrator;
+
+import com.entec.tax.common.util.CryptoUtil;
+import com.entec.tax.domain.request.entity.ReqAnalysisCheckpoint;
+import com.entec.tax.domain.request.entity.ReqRequest;
+import com.entec.tax.domain.request.entity.ReqResultCache;
+import com.entec.tax.domain.request.repository.ReqAnalysisCheckpointRepository;
+import com.entec.tax.domain.request.repository.ReqRequestRepository;
+import com.entec.tax.domain.request.repository.ReqResultCacheRepository;
+import com.entec.tax.domain.request.service.RequestArchiveService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * 분석 결과 재사용 캐시 (REQ_RESULT_CACHE).
+ * <p>
+ * 같은 고객 자료가 중복 제출(재시도, 담당자별 중복 업로드)되면 분석을 다시 계산하지 않고,
+ * 같은 입력으로 분석을 완료한 요청의 산출물을 {@code INSERT … SELECT} 로 복제한다.
+ * </p>
+ *
+ * <ul>
+ *   <li>캐시 키: 엔진 버전({@code tax-service.result-cache.engine-version}), 입력 해시
+ *       (데이터셋 체크섬을 정렬한 목록 + 기준정보 스냅샷 지문), 요청 조건(세목·귀속연도·신청자 유형·접수일)의 SHA-256.
+ *       접수일은 경정청구기한·환급가산금 기간 판정에 쓰이므로 키에 포함한다.</li>
+ *   <li>원본 검증: 원본 요청이 completed 이고 M6 체크포인트의 입력 해시가 같을 때만 재사용한다.
+ *       원본이 정정·재분석되었거나 보관(REQ_ARCHIVE)되어 산출물 행이 없으면 캐시 항목을 무시한다.</li>
+ *   <li>복제 대상: CHK_ELIGIBILITY, CHK_INSPECTION_LOG, OUT_* 산출물, OUT_REPORT_JSON.
+ *       보고서 JSON 의 요청 ID 는 대상 요청 ID 로 바꾸고 크기·체크섬을 다시 산출한다.</li>
+ * </ul>
+ */
+@Service
+@Slf4j
+public class AnalysisResultCache {
+
+    private static final String STATUS_COMPLETED = "completed";
+
+    /**
+     * 복제 대상 테이블과 req_id 외 컬럼 (삭제·복제 순서).
+     */
+    private static final String[][] RESULT_TABLES = {
+            {"CHK_ELIGIBILITY", "tax_type, company_size, capital_zone, filing_deadline, claim_deadline, "
+                    + "deadline_eligible, sme_eligible, sme_grace_end_year, small_vs_medium, venture_confirmed, "
+                    + "settlement_check_result, settlement_blocked_items, estimate_check, sincerity_target, "
+                    + "overall_status, diagnosis_detail, checked_at"},
+            {"CHK_INSPECTION_LOG", "inspection_code, inspection_name, legal_basis, judgment, summary, "
+                    + "related_module, calculated_amount, sort_order, checked_at"},
+            {"OUT_EMPLOYEE_SUMMARY", "year_type, total_regular, youth_count, general_count, increase_total, "
+                    + "increase_youth, increase_general, excluded_count, calc_detail"},
+            {"OUT_CREDIT_DETAIL", "item_id, item_name, provision, credit_type, item_status, gross_amount, "
+                    + "nongteuk_exempt, nongteuk_amount, net_amount, min_tax_subject, is_carryforward, "
+                    + "carryforward_amount, sunset_date, deduction_rate, conditions, required_documents, "
+                    + "exclusion_items, notes, tax_year, rd_type, method, calc_detail, legal_basis, exclusion_reasons"},
+            {"OUT_COMBINATION", "combo_id, combo_rank, group_type, combo_name, items_json, exemption_total, "
+                    + "credit_total, min_tax_adj, nongteuk_total, net_refund, is_valid, application_order, "
+                    + "carryforward_items"},
+            {"OUT_EXCLUSION_VERIFY", "verify_id, combo_id, provision_a, provision_b, overlap_allowed, "
+                    + "condition_note, violation_detected, legal_basis"},
+            {"OUT_REFUND", "existing_computed_tax, existing_deductions, existing_determined_tax, existing_paid_tax, "
+                    + "new_computed_tax, new_deductions, new_min_tax_adj, new_determined_tax, nongteuk_total, "
+                    + "refund_amount, refund_interest_start, refund_interest_end, refund_interest_rate, "
+                    + "refund_interest_amount, interim_refund_amount, interim_interest_amount, local_tax_refund, "
+                    + "total_expected, refund_cap_detail, optimal_combo_id, carryforward_credits, "
+                    + "carryforward_detail, penalty_tax_change"},
+            {"OUT_RISK", "risk_id, provision, risk_type, obligation, period_start, period_end, violation_action, "
+                    + "potential_clawback, interest_surcharge, risk_level, description"},
+            {"OUT_ADDITIONAL_CHECK", "check_id, description, reason, related_inspection, related_module, "
+                    + "priority, status"},
+            {"OUT_REPORT_JSON", "report_version, report_status, report_json, section_a_json, section_b_json, "
+                    + "section_c_json, section_d_json, section_e_json, section_f_json, section_g_meta, "
+                    + "json_byte_size, result_code, checksum, generated_at"}
+    };
+
+    /** 결과 캐시 리포지토리 */
+    private final ReqResultCacheRepository reqResultCacheRepository;
+
+    /** 요청 리포지토리 */
+    private final ReqRequestRepository reqRequestRepository;
+
+    /** 분석 체크포인트 리포지토리 */
+    private final ReqAnalysisCheckpointRepository reqAnalysisCheckpointRepository;
+
+    /** 요청 보관 서비스 (보관된 원본 제외) */
+    private final RequestArchiveService requestArchiveService;
+
+    /** 산출물 일괄 복제 (호출 측 트랜잭션 참여) */
+    private final JdbcTemplate jdbcTemplate;
+
+    /** 결과 재사용 여부 */
+    private final boolean enabled;
+
+    /** 분석 엔진 버전 (계산 로직이 바뀌면 올려서 기존 캐시를 무효화한다) */
+    private final String engineVersion;
+
+    public AnalysisResultCache(ReqResultCacheRepository reqResultCacheRepository,
+                               ReqRequestRepository reqRequestRepository,
+                               ReqAnalysisCheckpointRepository reqAnalysisCheckpointRepository,
+                               RequestArchiveService requestArchiveService,
+                               JdbcTemplate jdbcTemplate,
+                               @Value("${tax-service.result-cache.enabled:true}") boolean enabled,
+                               @Value("${tax-service.result-cache.engine-version:1.0.0}") String engineVersion) {
+        this.reqResultCacheRepository = reqResultCacheRepository;
+        this.reqRequestRepository = reqRequestRepository;
+        this.reqAnalysisCheckpointRepository = reqAnalysisCheckpointRepository;
+        this.requestArchiveService = requestArchiveService;
+        this.jdbcTemplate = jdbcTemplate;
+        this.enabled = enabled;
+        this.engineVersion = engineVersion;
+    }
+
+    /**
+     * 캐시 키를 산출한다.
+     *
+     * @param request   요청
+     * @param inputHash 입력 해시 (원시 입력 체크섬 + 기준정보 지문)
+     * @return 캐시 키 (SHA-256)
+     */
+    public String cacheKey(ReqRequest request, String inputHash) {
+        return CryptoUtil.sha256(engineVersion
+                + '\n' + inputHash
+                + '\n' + request.getTaxType() + '|' + request.getTaxYear()
+                + '|' + request.getApplicantType() + '|' + request.getRequestDate());
+    }
+
+    /**
+     * 재사용할 수 있는 원본 요청을 찾는다.
+     *
+     * @param reqId     대상 요청 ID
+     * @param cacheKey  캐시 키
+     * @param inputHash 입력 해시
+     * @return 원본 요청 ID (캐시 미적중, 비활성 또는 원본 검증 실패 시 null)
+     */
+    public String findSource(String reqId, String cacheKey, String inputHash) {
+        if (!enabled) {
+            return null;
+        }
+        ReqResultCache entry = reqResultCacheRepository.findById(cacheKey).orElse(null);
+        if (entry == null || entry.getSourceReqId().equals(reqId)) {
+            return null;
+        }
+
+        String sourceReqId = entry.getSourceReqId();
+        ReqRequest source = reqRequestRepository.findById(sourceReqId).orElse(null);
+        ReqAnalysisCheckpoint checkpoint = reqAnalysisCheckpointRepository.findById(sourceReqId).orElse(null);
+        if (source == null || !STATUS_COMPLETED.equalsIgnoreCase(source.getRequestStatus())
+                || checkpoint == null || !AnalysisStage.M6.getCode().equals(checkpoint.getLastStage())
+                || !inputHash.equals(checkpoint.getInputHash())) {
+            log.info("결과 캐시 원본 검증 실패 — 재사용하지 않음, reqId={}, sourceReqId={}", reqId, sourceReqId);
+            return null;
+        }
+        if (requestArchiveService.isArchived(sourceReqId)) {
+            log.info("결과 캐시 원본 보관됨 — 재사용하지 않음, reqId={}, sourceReqId={}", reqId, sourceReqId);
+            return null;
+        }
+        return sourceReqId;
+    }
+
+    /**
+     * 분석을 완료한 요청을 캐시 키의 원본으로 등록한다 (같은 키의 기존 항목은 교체).
+     *
+     * @param cacheKey        캐시 키
+     * @param reqId           분석 완료 요청 ID
+     * @param inputHash       입력 해시
+     * @param snapshotVersion 기준정보 스냅샷 버전
+     */
+    public void register(String cacheKey, String reqId, String inputHash, Long snapshotVersion) {
+        if (!enabled) {
+            return;
+        }
+        reqResultCacheRepository.save(ReqResultCache.builder()
+                .cacheKey(cacheKey)
+                .sourceReqId(reqId)
+                .inputHash(inputHash)
+                .engineVersion(engineVersion)
+                .snapshotVersion(snapshotVersion)
+                .createdAt(LocalDateTime.now())
+                .build());
+    }
+
+    /**
+     * 원본 요청의 산출물로 대상 요청의 산출물을 교체한다 (호출 측 트랜잭션 안에서 호출).
+     * <p>
+     * 테이블마다 대상 요청의 기존 행을 일괄 삭제한 뒤 {@code INSERT … SELECT} 한 번으로 복제하므로,
+     * 행 수와 관계없이 테이블당 두 문장으로 처리된다.
+     * </p>
+     *
+     * @param sourceReqId 원본 요청 ID
+     * @param targetReqId 대상 요청 ID
+     * @return 복제한 행 수
+     */
+    public int cloneResults(String sourceReqId, String targetReqId) {
+        int copied = 0;
+        for (String[] table : RESULT_TABLES) {
+            jdbcTemplate.update("DELETE FROM " + table[0] + " WHERE req_id = ?", targetReqId);
+            copied += jdbcTemplate.update(
+                    "INSERT INTO " + table[0] + " (req_id, " + table[1] + ") "
+                            + "SELECT ?, " + table[1] + " FROM " + table[0] + " WHERE req_id = ?",
+                    targetReqId, sourceReqId);
+        }
+        rewriteReport(sourceReqId, targetReqId);
+        return copied;
+    }
+
+    /**
+     * 복제한 보고서 JSON 의 요청 ID 를 대상 요청 ID 로 바꾸고 크기·체크섬을 다시 산출한다.
+     */
+    private void rewriteReport(String sourceReqId, String targetReqId) {
+        Map<String, Object> report = jdbcTemplate.queryForList(
+                "SELECT report_json, section_a_json FROM OUT_REPORT_JSON WHERE req_id = ?", targetReqId)
+                .stream().findFirst().orElse(null);
+        if (report == null || report.get("report_json") == null) {
+            return;
+        }
+        String reportJson = replaceReqId((String) report.get("report_json"), sourceReqId, targetReqId);
+        String sectionAJson = replaceReqId((String) report.get("section_a_json"), sourceReqId, targetReqId);
+        jdbcTemplate.update(
+                "UPDATE OUT_REPORT_JSON SET report_json = ?, section_a_json = ?, json_byte_size = ?, checksum = ? "
+                        + "WHERE req_id = ?",
+                reportJson, sectionAJson, reportJson.getBytes(StandardCharsets.UTF_8).length,
+                CryptoUtil.sha256(reportJson), targetReqId);
+    }
+
+    private static String replaceReqId(String json, String sourceReqId, String targetReqId) {
+        return json != null
+                ? json.replace("\"reqId\":\"" + sourceReqId + "\"", "\"reqId\":\"" + targetReqId + "\"")
+                : null;
+    }
+}
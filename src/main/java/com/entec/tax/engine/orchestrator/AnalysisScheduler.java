@@ -0,0 +1,268 @@
+package com.entec.tax.engine.orchestrator;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * 분석 실행 스케줄러.
+ * <p>
+ * calculationExecutor 앞에서 이 노드가 실행할 분석 작업의 순서를 정한다. 공유 대기열에서 리스를 획득한 작업
+ * ({@link AnalysisJobWorker})과 일괄 분석 작업({@link AnalysisBatchService})이 등록된다. 작업은 우선순위 등급별·테넌트별
+ * 대기열에 쌓이고, 실행 중 작업 수가 {@code max-running} 미만일 때만 실행기로 넘어간다.
+ * 따라서 실행기 자체의 대기열에는 작업이 쌓이지 않으며, 요청 스레드에서 작업이 실행되는 일도 없다.
+ * </p>
+ *
+ * <ul>
+ *   <li>등급 가중치: 대화형 작업을 {@code interactive-weight}건 꺼낼 때마다 일괄 작업을 1건 꺼낸다.</li>
+ *   <li>슬롯 예약: 일괄 작업은 {@code max-running - interactive-reserved}개 슬롯까지만 사용하므로,
+ *       일괄 재처리 중에도 대화형 작업은 대기 없이 시작된다.</li>
+ *   <li>테넌트 공정성: 같은 등급 안에서는 테넌트(요청자, 없으면 신청자 식별번호)를 돌아가며 1건씩 꺼낸다.
+ *       한 테넌트가 대량 제출해도 다른 테넌트의 작업은 다음 차례에 실행된다.</li>
+ *   <li>대기 한도: 테넌트별({@code max-queued-per-tenant})·전체({@code max-queued}) 한도를 넘으면
+ *       등록을 거절하며, 호출 측은 작업을 자신의 대기열에 남겨 두었다가 다시 등록한다.</li>
+ * </ul>
+ *
+ * <p>
+ * 대기·실행 작업 수는 {@code tax.analysis.scheduler.queued}, {@code tax.analysis.scheduler.running} 게이지로 노출한다.
+ * </p>
+ */
+@Component
+@Slf4j
+public class AnalysisScheduler {
+
+    /** 평균 실행 시간 초기값 (밀리초) */
+    private static final long INITIAL_AVERAGE_DURATION_MS = 30000L;
+
+    /** 산출 엔진 전용 Executor */
+    private final Executor calculationExecutor;
+
+    /** 동시 실행 작업 수 한도 */
+    private final int maxRunning;
+
+    /** 대화형 작업 전용 예약 슬롯 수 */
+    private final int interactiveReserved;
+
+    /** 일괄 1건당 대화형 작업 수 */
+    private final int interactiveWeight;
+
+    /** 테넌트·등급별 대기 한도 */
+    private final int maxQueuedPerTenant;
+
+    /** 전체 대기 한도 */
+    private final int maxQueued;
+
+    /** 등급 → 테넌트 → 대기 작업 (테넌트 순서가 다음 차례) */
+    private final Map<AnalysisPriority, LinkedHashMap<String, Deque<Job>>> queues =
+            new EnumMap<AnalysisPriority, LinkedHashMap<String, Deque<Job>>>(AnalysisPriority.class);
+
+    private int queued;
+    private int running;
+    private int batchRunning;
+    private int interactiveStreak;
+
+    /** 작업 실행 시간 지수이동평균 (밀리초) */
+    private volatile long averageDurationMs = INITIAL_AVERAGE_DURATION_MS;
+
+    public AnalysisScheduler(@Qualifier("calculationExecutor") Executor calculationExecutor,
+                             @Value("${tax-service.scheduler.max-running:8}") int maxRunning,
+                             @Value("${tax-service.scheduler.interactive-reserved:2}") int interactiveReserved,
+                             @Value("${tax-service.scheduler.interactive-weight:4}") int interactiveWeight,
+                             @Value("${tax-service.scheduler.max-queued-per-tenant:20}") int maxQueuedPerTenant,
+                             @Value("${tax-service.scheduler.max-queued:200}") int maxQueued,
+                             MeterRegistry meterRegistry) {
+        this.calculationExecutor = calculationExecutor;
+        this.maxRunning = Math.max(1, maxRunning);
+        this.interactiveReserved = Math.max(0, Math.min(interactiveReserved, this.maxRunning - 1));
+        this.interactiveWeight = Math.max(1, interactiveWeight);
+        this.maxQueuedPerTenant = Math.max(1, maxQueuedPerTenant);
+        this.maxQueued = Math.max(1, maxQueued);
+        for (AnalysisPriority priority : AnalysisPriority.values()) {
+            queues.put(priority, new LinkedHashMap<String, Deque<Job>>());
+        }
+        Gauge.builder("tax.analysis.scheduler.queued", this, AnalysisScheduler::queuedCount)
+                .description("실행 대기 중인 분석 작업 수")
+                .register(meterRegistry);
+        Gauge.builder("tax.analysis.scheduler.running", this, AnalysisScheduler::runningCount)
+                .description("실행 중인 분석 작업 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 대기 한도 안이면 작업을 등록한다.
+     *
+     * @param tenant   테넌트 키
+     * @param priority 우선순위 등급
+     * @param task     실행할 작업
+     * @return 등록되었으면 true, 대기 한도 초과로 거절되었으면 false
+     */
+    public synchronized boolean offer(String tenant, AnalysisPriority priority, Runnable task) {
+        LinkedHashMap<String, Deque<Job>> tenants = queues.get(priority);
+        Deque<Job> tenantQueue = tenants.get(tenant);
+        if (queued >= maxQueued || (tenantQueue != null && tenantQueue.size() >= maxQueuedPerTenant)) {
+            log.warn("분석 대기 한도 초과 — tenant={}, priority={}, queued={}", tenant, priority, queued);
+            return false;
+        }
+        if (tenantQueue == null) {
+            tenantQueue = new ArrayDeque<Job>();
+            tenants.put(tenant, tenantQueue);
+        }
+        tenantQueue.addLast(new Job(tenant, priority, task));
+        queued++;
+
+        dispatch();
+        return true;
+    }
+
+    /**
+     * 스케줄러 상태를 반환한다.
+     *
+     * @return 상태 맵 (running, batch_running, queued, average_duration_ms)
+     */
+    public synchronized Map<String, Object> getStatus() {
+        Map<String, Object> status = new LinkedHashMap<String, Object>();
+        status.put("running", running);
+        status.put("batch_running", batchRunning);
+        status.put("queued", queued);
+        status.put("average_duration_ms", averageDurationMs);
+        return status;
+    }
+
+    private synchronized double queuedCount() {
+        return queued;
+    }
+
+    private synchronized double runningCount() {
+        return running;
+    }
+
+    /**
+     * 재시도 권장 시간(초)을 추정한다: 앞선 대기 작업이 모두 시작되는 데 걸리는 시간.
+     *
+     * @param waiting 앞선 대기 작업 수
+     * @return 재시도 권장 시간 (초, 최소 1)
+     */
+    public long estimateRetryAfterSeconds(int waiting) {
+        long waves = waiting / maxRunning + 1;
+        return Math.max(1L, (waves * averageDurationMs + 999L) / 1000L);
+    }
+
+    // ──────────────────────────────────────────────
+    // 실행
+    // ──────────────────────────────────────────────
+
+    /**
+     * 빈 슬롯만큼 대기 작업을 실행기에 넘긴다. 호출자는 모니터를 보유해야 한다.
+     */
+    private void dispatch() {
+        while (running < maxRunning) {
+            AnalysisPriority priority = nextPriority();
+            if (priority == null) {
+                return;
+            }
+            Job job = poll(priority);
+            running++;
+            if (priority == AnalysisPriority.BATCH) {
+                batchRunning++;
+            }
+            try {
+                calculationExecutor.execute(() -> run(job));
+            } catch (RejectedExecutionException e) {
+                // 실행기 포화(설정 불일치 등): 작업을 되돌리고 다음 완료 시 재시도
+                finished(job);
+                queues.get(priority).computeIfAbsent(job.tenant, k -> new ArrayDeque<Job>()).addFirst(job);
+                queued++;
+                log.warn("calculationExecutor 가 작업을 거부하여 대기열로 되돌림 — tenant={}", job.tenant);
+                return;
+            }
+        }
+    }
+
+    /**
+     * 다음에 꺼낼 등급을 고른다.
+     */
+    private AnalysisPriority nextPriority() {
+        boolean interactiveWaiting = !queues.get(AnalysisPriority.INTERACTIVE).isEmpty();
+        boolean batchRunnable = !queues.get(AnalysisPriority.BATCH).isEmpty()
+                && batchRunning < maxRunning - interactiveReserved;
+
+        if (interactiveWaiting && (!batchRunnable || interactiveStreak < interactiveWeight)) {
+            interactiveStreak++;
+            return AnalysisPriority.INTERACTIVE;
+        }
+        if (batchRunnable) {
+            interactiveStreak = 0;
+            return AnalysisPriority.BATCH;
+        }
+        return null;
+    }
+
+    /**
+     * 등급 대기열에서 맨 앞 테넌트의 작업을 꺼내고, 남은 작업이 있으면 테넌트를 맨 뒤로 보낸다.
+     */
+    private Job poll(AnalysisPriority priority) {
+        LinkedHashMap<String, Deque<Job>> tenants = queues.get(priority);
+        Iterator<Map.Entry<String, Deque<Job>>> it = tenants.entrySet().iterator();
+        Map.Entry<String, Deque<Job>> head = it.next();
+        it.remove();
+
+        Job job = head.getValue().pollFirst();
+        if (!head.getValue().isEmpty()) {
+            tenants.put(head.getKey(), head.getValue());
+        }
+        queued--;
+        return job;
+    }
+
+    private void run(Job job) {
+        long startTime = System.currentTimeMillis();
+        try {
+            job.task.run();
+        } catch (RuntimeException e) {
+            log.error("분석 작업 실행 중 처리되지 않은 오류 — tenant={}, priority={}",
+                    job.tenant, job.priority, e);
+        } finally {
+            long duration = System.currentTimeMillis() - startTime;
+            averageDurationMs = (averageDurationMs * 4 + duration) / 5;
+            synchronized (this) {
+                finished(job);
+                dispatch();
+            }
+        }
+    }
+
+    private void finished(Job job) {
+        running--;
+        if (job.priority == AnalysisPriority.BATCH) {
+            batchRunning--;
+        }
+    }
+
+    /**
+     * 대기 작업.
+     */
+    private static final class Job {
+
+        private final String tenant;
+        private final AnalysisPriority priority;
+        private final Runnable task;
+
+        private Job(String tenant, AnalysisPriority priority, Runnable task) {
+            this.tenant = tenant;
+            this.priority = priority;
+            this.task = task;
+        }
+    }
+}
@@ -0,0 +1,261 @@
+package com.entec.tax.engine.orchestrator;
+
+import com.entec.tax.common.annotation.ConnectionPool;
+import com.entec.tax.common.constants.ConnectionPoolType;
+import com.entec.tax.common.constants.TaxType;
+import com.entec.tax.common.exception.ValidationException;
+import com.entec.tax.common.util.ValidationUtil;
+import com.entec.tax.domain.check.entity.ChkEligibility;
+import com.entec.tax.domain.input.entity.InpDeduction;
+import com.entec.tax.domain.input.entity.InpEmployee;
+import com.entec.tax.domain.output.entity.OutCombination;
+import com.entec.tax.domain.output.entity.OutCreditDetail;
+import com.entec.tax.domain.output.entity.OutRefund;
+import com.entec.tax.domain.reference.cache.ReferenceSnapshot;
+import com.entec.tax.domain.reference.cache.ReferenceSnapshotManager;
+import com.entec.tax.domain.request.dto.DatasetDto;
+import com.entec.tax.domain.request.dto.SimulationRequestDto;
+import com.entec.tax.domain.request.service.InputSummaryMapper;
+import com.entec.tax.engine.combination.service.CombinationSearchService;
+import com.entec.tax.engine.context.AnalysisContext;
+import com.entec.tax.engine.credit.service.CreditCalculationService;
+import com.entec.tax.engine.precheck.service.PreCheckService;
+import com.entec.tax.engine.refund.service.RefundCalculationService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 모의 분석(quick quote) 서비스.
+ * <p>
+ * 데이터셋을 메모리에서 변환하여 {@link AnalysisContext}(dry-run)를 만들고, 고정한 기준정보 스냅샷으로
+ * M3~M6 엔진을 실행한 뒤 결과를 바로 반환한다. 요청·입력·산출물·로그를 하나도 저장하지 않는다.
+ * </p>
+ *
+ * <ul>
+ *   <li>엔진 서비스는 dry-run 컨텍스트에서 기존 산출물 삭제를 건너뛴다.</li>
+ *   <li>산출물과 감사추적 로그는 컨텍스트 대기열에만 쌓이며 flush 하지 않는다 (결과 싱크로만 사용).</li>
+ *   <li>읽기 전용 트랜잭션으로 실행하므로 기준정보 조회 외의 DB 접근이 없다.</li>
+ * </ul>
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@ConnectionPool(ConnectionPoolType.ANALYSIS)
+public class AnalysisSimulationService {
+
+    /** 모의 분석 ID 접두사 */
+    private static final String SIM_ID_PREFIX = "SIM-";
+
+    private final ReferenceSnapshotManager referenceSnapshotManager;
+    private final PreCheckService preCheckService;
+    private final CreditCalculationService creditCalculationService;
+    private final CombinationSearchService combinationSearchService;
+    private final RefundCalculationService refundCalculationService;
+
+    /**
+     * 모의 분석을 실행한다.
+     *
+     * @param dto 모의 분석 요청
+     * @return 결과 맵 (sim_id, duration_ms, snapshot_version, eligibility, combinations, refund,
+     *         credit_details, risk_count)
+     * @throws ValidationException 입력 값 검증 실패 또는 기본 정보 데이터셋이 없는 경우
+     * @throws com.entec.tax.common.exception.HardFailException 결산조정 차단 항목이 있는 경우
+     */
+    @Transactional(readOnly = true)
+    public Map<String, Object> simulate(SimulationRequestDto dto) {
+        long startTime = System.currentTimeMillis();
+        validate(dto);
+
+        String simId = SIM_ID_PREFIX + UUID.randomUUID().toString();
+        AnalysisContext context = buildContext(simId, dto);
+
+        ReferenceSnapshot snapshot = referenceSnapshotManager.pin();
+        try {
+            preCheckService.executePreCheck(context);
+            creditCalculationService.calculateCredits(context);
+            combinationSearchService.findOptimalCombination(context);
+            refundCalculationService.calculateFinalRefund(context);
+        } finally {
+            referenceSnapshotManager.release();
+        }
+
+        long durationMs = System.currentTimeMillis() - startTime;
+        log.info("모의 분석 완료 — simId={}, taxType={}, taxYear={}, snapshotVersion={}, duration={}ms",
+                simId, dto.getTaxType(), dto.getTaxYear(), snapshot.getVersion(), durationMs);
+
+        Map<String, Object> result = new LinkedHashMap<String, Object>();
+        result.put("sim_id", simId);
+        result.put("duration_ms", durationMs);
+        result.put("snapshot_version", snapshot.getVersion());
+        result.put("eligibility", toEligibilityMap(context));
+        result.put("combinations", toCombinationList(context));
+        result.put("refund", toRefundMap(context));
+        result.put("credit_details", toCreditDetailList(context));
+        result.put("risk_count", context.getRisks().size());
+        return result;
+    }
+
+    // ──────────────────────────────────────────────
+    // 입력 검증·변환
+    // ──────────────────────────────────────────────
+
+    private void validate(SimulationRequestDto dto) {
+        List<ValidationException.FieldError> errors = new ArrayList<ValidationException.FieldError>();
+
+        if (!"C".equals(dto.getApplicantType()) && !"P".equals(dto.getApplicantType())) {
+            errors.add(new ValidationException.FieldError(
+                    "applicantType", "유효하지 않은 값", "C 또는 P", dto.getApplicantType()));
+        }
+        try {
+            TaxType.fromCode(dto.getTaxType());
+        } catch (IllegalArgumentException e) {
+            errors.add(new ValidationException.FieldError(
+                    "taxType", "유효하지 않은 세금 유형", "CORP 또는 INC", dto.getTaxType()));
+        }
+        if (!ValidationUtil.isValidTaxYear(dto.getTaxYear())) {
+            errors.add(new ValidationException.FieldError(
+                    "taxYear", "유효하지 않은 과세연도", "YYYY (4자리 숫자)", dto.getTaxYear()));
+        }
+        if (findBasicDataset(dto.getDatasets()) == null) {
+            errors.add(new ValidationException.FieldError(
+                    "datasets.category", "필수 카테고리 누락", "basic / corp_basic / inc_basic", "미포함"));
+        }
+
+        if (!errors.isEmpty()) {
+            throw new ValidationException("모의 분석 입력 값 검증에 실패했습니다.", null, errors);
+        }
+    }
+
+    /**
+     * 데이터셋을 입력 요약 엔티티로 변환하여 dry-run 컨텍스트를 만든다 (M1-03 과 같은 변환 규칙).
+     */
+    private AnalysisContext buildContext(String simId, SimulationRequestDto dto) {
+        AnalysisContext context = new AnalysisContext(simId, true);
+        List<InpEmployee> employees = new ArrayList<InpEmployee>();
+        List<Map<String, Object>> deductionRecords = new ArrayList<Map<String, Object>>();
+
+        for (DatasetDto dataset : dto.getDatasets()) {
+            List<Map<String, Object>> records = InputSummaryMapper.toRecords(dataset.getData());
+            if (records.isEmpty()) {
+                continue;
+            }
+            switch (dataset.getCategory().toLowerCase()) {
+                case "basic":
+                case "corp_basic":
+                case "inc_basic":
+                    if (context.getBasic() == null) {
+                        context.setBasic(InputSummaryMapper.toBasic(simId, records.get(0),
+                                LocalDate.now(), dto.getTaxType(), dto.getTaxYear()));
+                    }
+                    break;
+                case "employee":
+                    for (Map<String, Object> record : records) {
+                        employees.add(InputSummaryMapper.toEmployee(simId, record));
+                    }
+                    break;
+                case "deduction":
+                    deductionRecords.addAll(records);
+                    break;
+                case "financial":
+                    if (!context.getFinancial().isPresent()) {
+                        context.setFinancial(InputSummaryMapper.toFinancial(simId, records.get(0)));
+                    }
+                    break;
+                default:
+                    break;
+            }
+        }
+
+        List<InpDeduction> deductions = InputSummaryMapper.toDeductions(simId, deductionRecords, dto.getTaxYear());
+        context.setEmployees(employees);
+        context.setDeductions(deductions);
+        return context;
+    }
+
+    private static DatasetDto findBasicDataset(List<DatasetDto> datasets) {
+        if (datasets == null) {
+            return null;
+        }
+        for (DatasetDto dataset : datasets) {
+            String category = dataset.getCategory() != null ? dataset.getCategory().toLowerCase() : "";
+            if (("basic".equals(category) || "corp_basic".equals(category) || "inc_basic".equals(category))
+                    && !InputSummaryMapper.toRecords(dataset.getData()).isEmpty()) {
+                return dataset;
+            }
+        }
+        return null;
+    }
+
+    // ──────────────────────────────────────────────
+    // 결과 변환
+    // ──────────────────────────────────────────────
+
+    private static Map<String, Object> toEligibilityMap(AnalysisContext context) {
+        Map<String, Object> map = new LinkedHashMap<String, Object>();
+        ChkEligibility eligibility = context.getEligibility().orElse(null);
+        if (eligibility != null) {
+            map.put("overall_status", eligibility.getOverallStatus());
+            map.put("company_size", eligibility.getCompanySize());
+            map.put("diagnosis", eligibility.getDiagnosisDetail());
+        }
+        return map;
+    }
+
+    private static List<Map<String, Object>> toCombinationList(AnalysisContext context) {
+        List<Map<String, Object>> list = new ArrayList<Map<String, Object>>();
+        for (OutCombination combination : context.getCombinations()) {
+            Map<String, Object> map = new LinkedHashMap<String, Object>();
+            map.put("combo_rank", combination.getComboRank());
+            map.put("combo_id", combination.getComboId());
+            map.put("combo_name", combination.getComboName());
+            map.put("net_refund", combination.getNetRefund());
+            map.put("credit_total", combination.getCreditTotal());
+            map.put("exemption_total", combination.getExemptionTotal());
+            map.put("min_tax_adj", combination.getMinTaxAdj());
+            map.put("is_valid", combination.getIsValid());
+            list.add(map);
+        }
+        return list;
+    }
+
+    private static Map<String, Object> toRefundMap(AnalysisContext context) {
+        Map<String, Object> map = new LinkedHashMap<String, Object>();
+        List<OutRefund> refunds = context.getPending(OutRefund.class);
+        if (refunds.isEmpty()) {
+            return map;
+        }
+        OutRefund refund = refunds.get(refunds.size() - 1);
+        map.put("refund_amount", refund.getRefundAmount());
+        map.put("refund_interest_amount", refund.getRefundInterestAmount());
+        map.put("interim_refund_amount", refund.getInterimRefundAmount());
+        map.put("interim_interest_amount", refund.getInterimInterestAmount());
+        map.put("local_tax_refund", refund.getLocalTaxRefund());
+        map.put("total_expected", refund.getTotalExpected());
+        map.put("optimal_combo_id", refund.getOptimalComboId());
+        return map;
+    }
+
+    private static List<Map<String, Object>> toCreditDetailList(AnalysisContext context) {
+        List<Map<String, Object>> list = new ArrayList<Map<String, Object>>();
+        for (OutCreditDetail detail : context.getCreditDetails()) {
+            Map<String, Object> map = new LinkedHashMap<String, Object>();
+            map.put("item_id", detail.getItemId());
+            map.put("item_name", detail.getItemName());
+            map.put("provision", detail.getProvision());
+            map.put("item_status", detail.getItemStatus());
+            map.put("gross_amount", detail.getGrossAmount());
+            map.put("net_amount", detail.getNetAmount());
+            list.add(map);
+        }
+        return list;
+    }
+}
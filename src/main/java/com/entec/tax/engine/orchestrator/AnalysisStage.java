@@ -0,0 +1,86 @@
+package com.entec.tax.engine.orchestrator;
+
+/**
+ * 분석 파이프라인 단계.
+ * <p>
+ * 각 단계는 독립 트랜잭션으로 커밋되며, 실행 중 요청 상태와
+ * 체크포인트(REQ_ANALYSIS_CHECKPOINT.last_stage)에 기록되는 코드를 가진다.
+ * </p>
+ */
+public enum AnalysisStage {
+
+    M3("M3", "checking", "사전점검"),
+    M4("M4", "calculating", "개별 공제·감면 산출"),
+    M5("M5", "optimizing", "최적 조합 탐색"),
+    M6("M6", "reporting", "최종 환급액 산출");
+
+    private final String code;
+    private final String requestStatus;
+    private final String description;
+
+    AnalysisStage(String code, String requestStatus, String description) {
+        this.code = code;
+        this.requestStatus = requestStatus;
+        this.description = description;
+    }
+
+    public String getCode() {
+        return code;
+    }
+
+    /**
+     * @return 단계 실행 중 요청 상태 (REQ_REQUEST.request_status)
+     */
+    public String getRequestStatus() {
+        return requestStatus;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    /**
+     * @return 직전 단계 (첫 단계면 null)
+     */
+    public AnalysisStage previous() {
+        return ordinal() == 0 ? null : values()[ordinal() - 1];
+    }
+
+    /**
+     * @return 다음 단계 (마지막 단계면 null)
+     */
+    public AnalysisStage next() {
+        return ordinal() == values().length - 1 ? null : values()[ordinal() + 1];
+    }
+
+    /**
+     * 실행 중 요청 상태로부터 AnalysisStage 를 반환한다 (대소문자 무시).
+     *
+     * @param requestStatus 요청 상태 (예: "checking")
+     * @return 해당 상태로 실행 중인 단계 (단계 실행 상태가 아니면 null)
+     */
+    public static AnalysisStage fromRequestStatus(String requestStatus) {
+        for (AnalysisStage stage : values()) {
+            if (stage.requestStatus.equalsIgnoreCase(requestStatus)) {
+                return stage;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 코드 문자열로부터 AnalysisStage 를 반환한다 (대소문자 무시).
+     *
+     * @param code 코드 문자열 (예: "M3", "m5")
+     * @return 매칭되는 AnalysisStage
+     * @throws IllegalArgumentException 매칭되는 코드가 없을 경우
+     */
+    public static AnalysisStage fromCode(String code) {
+        for (AnalysisStage stage : values()) {
+            if (stage.code.equalsIgnoreCase(code)) {
+                return stage;
+            }
+        }
+        throw new IllegalArgumentException("Unknown AnalysisStage code: " + code);
+    }
+}
@@ -0,0 +1,259 @@
+package com.entec.tax.engine.orchestrator;
+
+import com.entec.tax.common.annotation.ConnectionPool;
+import com.entec.tax.common.annotation.RehydrateArchived;
+import com.entec.tax.common.constants.ConnectionPoolType;
+import com.entec.tax.common.exception.ErrorCode;
+import com.entec.tax.common.exception.HardFailException;
+import com.entec.tax.common.exception.RequestNotFoundException;
+import com.entec.tax.common.exception.TaxServiceException;
+import com.entec.tax.common.exception.TooManyRequestsException;
+import com.entec.tax.domain.request.entity.ReqRequest;
+import com.entec.tax.domain.request.service.RequestStateMachine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 분석 비동기 제출 서비스.
+ * <p>
+ * API-02 비동기 모드에서 요청을 parsed → queued 로 선점하고, 같은 트랜잭션에서 공유 작업 대기열
+ * ({@link AnalysisJobQueue})에 대화형(INTERACTIVE) 작업으로 등록한 뒤 즉시 추적 ID를 반환한다.
+ * 작업은 요청을 받은 노드와 관계없이 여유가 있는 노드의 {@link AnalysisJobWorker}가 가져가 실행한다.
+ * 요청 스레드(Tomcat)와 DB 커넥션은 선점·등록 동안만 사용되며,
+ * 300초 파이프라인 트랜잭션은 산출 스레드에서 열린다.
+ * </p>
+ *
+ * <pre>
+ * 상태 흐름:
+ *   parsed ─(제출)→ queued ─(워커 리스 획득·산출 스레드 시작)→ checking → … → completed
+ *                    │                                                   └→ failed / hard_fail
+ *                    └─(대기 한도 초과)→ parsed (롤백, 429 응답, Retry-After)
+ * </pre>
+ *
+ * <p>
+ * 단계 재개({@code resumeFrom}) 제출은 failed/completed 상태도 선점할 수 있으며,
+ * 선점 전에 체크포인트를 검증하여 재개 불가 요청은 대기열에 넣지 않는다.
+ * </p>
+ *
+ * <p>
+ * 작업의 테넌트 키는 요청 접수자(REQ_REQUEST.requested_by)이며, 접수자가 없으면 신청자 식별번호를 사용한다.
+ * </p>
+ *
+ * <p>
+ * 진행 상황은 API-03 (GET /api/v1/requests/{reqId}/status) 으로 조회한다.
+ * </p>
+ *
+ * <p>
+ * 커넥션 풀은 메서드별로 지정한다. 제출·선점은 intake 풀, 워커·일괄 분석이 호출하는 재선점과 파이프라인 실행은
+ * analysis 풀을 사용한다 (바깥에서 지정된 풀은 유지되므로 클래스 단위로 지정하면 파이프라인 전체가 intake 풀에서 실행된다).
+ * </p>
+ */
+@Service
+@Slf4j
+public class AnalysisSubmissionService {
+
+    private static final String STATUS_PARSED = "parsed";
+    private static final String STATUS_QUEUED = "queued";
+    private static final String STATUS_FAILED = "failed";
+    private static final String STATUS_HARD_FAIL = "hard_fail";
+
+    /** 단계 재개 제출이 허용되는 요청 상태 */
+    private static final List<String> RESUMABLE_STATUSES = Arrays.asList(STATUS_PARSED, STATUS_FAILED, "completed");
+
+    /** 요청 상태 전이기 */
+    private final RequestStateMachine requestStateMachine;
+
+    /** 분석 오케스트레이터 서비스 */
+    private final AnalysisOrchestratorService analysisOrchestratorService;
+
+    /** 분석 작업 공유 대기열 */
+    private final AnalysisJobQueue analysisJobQueue;
+
+    public AnalysisSubmissionService(RequestStateMachine requestStateMachine,
+                                     AnalysisOrchestratorService analysisOrchestratorService,
+                                     AnalysisJobQueue analysisJobQueue) {
+        this.requestStateMachine = requestStateMachine;
+        this.analysisOrchestratorService = analysisOrchestratorService;
+        this.analysisJobQueue = analysisJobQueue;
+    }
+
+    /**
+     * 분석 파이프라인 실행을 비동기로 제출한다.
+     *
+     * @param reqId      요청번호
+     * @param resumeFrom 재개 단계 (null 이면 M3 부터 전체 실행)
+     * @return 제출 결과 맵 (req_id, status, trace_id)
+     * @throws RequestNotFoundException 요청이 존재하지 않을 경우
+     * @throws TaxServiceException      실행 불가 상태·체크포인트 불일치인 경우(409)
+     * @throws TooManyRequestsException 테넌트 또는 전체 대기 한도를 초과한 경우(429)
+     */
+    @Transactional
+    @RehydrateArchived
+    @ConnectionPool(ConnectionPoolType.INTAKE)
+    public Map<String, Object> submit(String reqId, AnalysisStage resumeFrom) {
+        ReqRequest request = claim(reqId, resumeFrom);
+
+        // 대기 한도 초과 시 예외로 트랜잭션이 롤백되어 선점도 취소된다
+        String traceId = UUID.randomUUID().toString();
+        analysisJobQueue.enqueue(reqId, traceId, tenantOf(request), AnalysisPriority.INTERACTIVE, resumeFrom);
+
+        log.info("분석 비동기 제출 — reqId={}, traceId={}, resumeFrom={}", reqId, traceId, resumeFrom);
+
+        Map<String, Object> result = new LinkedHashMap<String, Object>();
+        result.put("req_id", reqId);
+        result.put("status", STATUS_QUEUED);
+        result.put("trace_id", traceId);
+        return result;
+    }
+
+    /**
+     * 일괄 분석의 구성 요청 1건을 queued 상태로 선점하고 일괄(BATCH) 등급 작업으로 등록한다.
+     * 선점과 등록은 한 트랜잭션으로 커밋되므로, 노드가 재시작되어도 선점된 요청은 작업 대기열에 남는다.
+     *
+     * @param reqId   요청번호
+     * @param batchId 배치 ID
+     * @param tenant  테넌트 키 (배치 접수자)
+     * @return 추적 ID
+     * @throws RequestNotFoundException 요청이 존재하지 않을 경우
+     * @throws TaxServiceException      실행 불가 상태이거나 다른 실행이 먼저 선점한 경우(409)
+     */
+    @Transactional
+    @RehydrateArchived
+    @ConnectionPool(ConnectionPoolType.INTAKE)
+    public String submitBatchMember(String reqId, String batchId, String tenant) {
+        claim(reqId, null);
+        String traceId = UUID.randomUUID().toString();
+        analysisJobQueue.enqueueBatchMember(batchId, reqId, traceId, tenant);
+        return traceId;
+    }
+
+    /**
+     * 요청 상태를 검증하고 queued 상태로 선점한다.
+     * <p>
+     * 선점은 조회 시점의 상태·version 조건부 전이이므로, 재시도 등으로 같은 요청이 동시에 제출되면
+     * 한 건만 대기열에 들어가고 나머지는 잠금 대기 없이 409 로 거절된다.
+     * </p>
+     *
+     * @param reqId      요청번호
+     * @param resumeFrom 재개 단계 (null 이면 M3 부터 전체 실행)
+     * @return 선점 전 요청 (선점 취소 시 이전 상태 복원용)
+     * @throws RequestNotFoundException 요청이 존재하지 않을 경우
+     * @throws TaxServiceException      실행 불가 상태·체크포인트 불일치이거나 다른 실행이 먼저 선점한 경우(409)
+     */
+    @ConnectionPool(ConnectionPoolType.INTAKE)
+    ReqRequest claim(String reqId, AnalysisStage resumeFrom) {
+        ReqRequest request = requestStateMachine.findCurrent(reqId)
+                .orElseThrow(() -> new RequestNotFoundException(
+                        "요청을 찾을 수 없습니다: " + reqId, reqId));
+
+        String currentStatus = request.getRequestStatus();
+        boolean startable = resumeFrom == null
+                ? STATUS_PARSED.equalsIgnoreCase(currentStatus)
+                : RESUMABLE_STATUSES.contains(currentStatus != null ? currentStatus.toLowerCase() : null);
+        if (!startable) {
+            throw new TaxServiceException(
+                    ErrorCode.CONCURRENT_CONFLICT,
+                    "현재 상태(" + currentStatus + ")에서는 점검을 실행할 수 없습니다. "
+                            + "'parsed' 상태에서만 분석을 시작할 수 있습니다.",
+                    reqId);
+        }
+        if (resumeFrom != null) {
+            analysisOrchestratorService.verifyResumable(reqId, resumeFrom);
+        }
+        requestStateMachine.transition(request, STATUS_QUEUED);
+        return request;
+    }
+
+    /**
+     * 리스가 만료되어 다시 가져온 작업의 요청을 queued 상태로 되돌리고 실행할 단계를 결정한다.
+     * <p>
+     * 이전 노드가 실행을 시작하기 전에 중단되었으면(queued) 제출 시 재개 단계를 그대로 사용하고,
+     * 단계 실행 도중 중단되었으면 마지막 체크포인트 다음 단계부터 이어서 실행한다.
+     * </p>
+     *
+     * @param reqId      요청번호
+     * @param resumeFrom 제출 시 재개 단계
+     * @return 실행할 재개 단계 (null 이면 M3 부터 전체 실행)
+     * @throws RequestNotFoundException 요청이 존재하지 않을 경우
+     * @throws TaxServiceException      이전 실행이 이미 종료되었거나 다른 실행이 먼저 상태를 변경한 경우(409)
+     */
+    @ConnectionPool(ConnectionPoolType.ANALYSIS)
+    AnalysisStage reclaim(String reqId, AnalysisStage resumeFrom) {
+        ReqRequest request = requestStateMachine.findCurrent(reqId)
+                .orElseThrow(() -> new RequestNotFoundException(
+                        "요청을 찾을 수 없습니다: " + reqId, reqId));
+
+        String currentStatus = request.getRequestStatus();
+        if (STATUS_QUEUED.equalsIgnoreCase(currentStatus)) {
+            return resumeFrom;
+        }
+        if (AnalysisStage.fromRequestStatus(currentStatus) == null) {
+            throw new TaxServiceException(
+                    ErrorCode.CONCURRENT_CONFLICT,
+                    "이전 실행이 이미 종료되었습니다. (현재 상태: " + currentStatus + ")",
+                    reqId);
+        }
+
+        AnalysisStage resumeStage = analysisOrchestratorService.findResumeStage(reqId);
+        requestStateMachine.transition(request, STATUS_QUEUED);
+        log.warn("중단된 분석 재개 — reqId={}, interruptedStatus={}, resumeFrom={}",
+                reqId, currentStatus, resumeStage);
+        return resumeStage;
+    }
+
+    /**
+     * 작업 테넌트 키를 결정한다 (접수자, 없으면 신청자 식별번호).
+     */
+    static String tenantOf(ReqRequest request) {
+        String requestedBy = request.getRequestedBy();
+        if (requestedBy != null && !requestedBy.trim().isEmpty() && !"ANONYMOUS".equals(requestedBy)) {
+            return requestedBy;
+        }
+        return request.getApplicantId();
+    }
+
+    /**
+     * queued 상태로 선점된 요청의 파이프라인을 현재 스레드에서 실행한다.
+     * <p>
+     * 실행 전에 queued 상태의 version 을 확인하여 파이프라인에 넘기며, 파이프라인은 그 version 일 때만 선점한다.
+     * 단계 실행 중 실패는 파이프라인이 직접 기록한다. 단계 시작 전에 실패하여(상태 충돌, 기준정보 변경 등)
+     * 요청이 확인한 queued 상태·version 그대로인 경우에만 failed(결산조정 차단 시 hard_fail) 상태와 오류 메시지를 기록한다.
+     * 기록 후 예외는 호출자에게 다시 전파한다.
+     * </p>
+     *
+     * @param reqId      요청번호
+     * @param traceId    추적 ID
+     * @param resumeFrom 재개 단계 (null 이면 M3 부터 전체 실행)
+     * @return 실행 결과 맵 (req_id, status, trace_id, start_stage, duration_ms)
+     */
+    @ConnectionPool(ConnectionPoolType.ANALYSIS)
+    Map<String, Object> runClaimed(String reqId, String traceId, AnalysisStage resumeFrom) {
+        int queuedVersion = requestStateMachine.findCurrent(reqId)
+                .orElseThrow(() -> new RequestNotFoundException("요청을 찾을 수 없습니다: " + reqId, reqId))
+                .getVersion();
+        try {
+            Map<String, Object> result = analysisOrchestratorService.executeQueuedAnalysis(
+                    reqId, traceId, resumeFrom, queuedVersion);
+            log.info("분석 비동기 실행 완료 — reqId={}, traceId={}, duration_ms={}",
+                    reqId, traceId, result.get("duration_ms"));
+            return result;
+        } catch (HardFailException e) {
+            log.error("분석 비동기 실행 Hard-Fail — reqId={}, traceId={}, blockedItems={}",
+                    reqId, traceId, e.getBlockedItems());
+            requestStateMachine.fail(reqId, STATUS_QUEUED, queuedVersion, STATUS_HARD_FAIL, e.getMessage());
+            throw e;
+        } catch (RuntimeException e) {
+            log.error("분석 비동기 실행 실패 — reqId={}, traceId={}, message={}",
+                    reqId, traceId, e.getMessage(), e);
+            requestStateMachine.fail(reqId, STATUS_QUEUED, queuedVersion, STATUS_FAILED, e.getMessage());
+            throw e;
+        }
+    }
+}
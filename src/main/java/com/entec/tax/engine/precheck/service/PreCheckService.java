@@ -17,13 +17,12 @@ import com.entec.tax.domain.check.repository.ChkInspectionLogRepository;
 import com.entec.tax.domain.input.entity.InpBasic;
 import com.entec.tax.domain.input.entity.InpDeduction;
 import com.entec.tax.domain.input.entity.InpEmployee;
-import com.entec.tax.domain.input.repository.InpBasicRepository;
-import com.entec.tax.domain.input.repository.InpDeductionRepository;
-import com.entec.tax.domain.input.repository.InpEmployeeRepository;
 import com.entec.tax.domain.log.entity.LogCalculation;
-import com.entec.tax.domain.log.repository.LogCalculationRepository;
 import com.entec.tax.domain.output.entity.OutEmployeeSummary;
 import com.entec.tax.domain.output.repository.OutEmployeeSummaryRepository;
+import com.entec.tax.domain.reference.cache.TaxYearRulePlan;
+import com.entec.tax.domain.reference.cache.TaxYearRulePlanCache;
+import com.entec.tax.engine.context.AnalysisContext;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -68,7 +67,7 @@ import java.util.Set;
  *
  * <h2>호출 흐름</h2>
  * <pre>
- *   Controller → PreCheckService.executePreCheck(reqId)
+ *   AnalysisOrchestratorService → PreCheckService.executePreCheck(context)
  *     ├─ M3-00: checkHardFail()
  *     ├─ M3-01: checkClaimDeadlineEligibility()
  *     ├─ M3-02: determineSmeStatus()
@@ -77,7 +76,7 @@ import java.util.Set;
  *     ├─ M3-05: confirmVentureStatus()
  *     ├─ M3-06: verifySettlementPrinciple()
  *     ├─ P3-01~03: executeIndividualChecks() (개인사업자인 경우)
- *     └─ 결과 저장 (CHK_ELIGIBILITY, OUT_EMPLOYEE_SUMMARY, CHK_INSPECTION_LOG)
+ *     └─ 결과 기록 (CHK_ELIGIBILITY, OUT_EMPLOYEE_SUMMARY, CHK_INSPECTION_LOG → 단계 종료 시 일괄 저장)
  * </pre>
  *
  * @author ENTEC Tax Engine
@@ -96,13 +95,10 @@ public class PreCheckService {
     // 의존성 주입 (Repository)
     // =========================================================================
 
-    private final InpBasicRepository inpBasicRepository;
-    private final InpEmployeeRepository inpEmployeeRepository;
-    private final InpDeductionRepository inpDeductionRepository;
     private final ChkEligibilityRepository chkEligibilityRepository;
     private final ChkInspectionLogRepository chkInspectionLogRepository;
     private final OutEmployeeSummaryRepository outEmployeeSummaryRepository;
-    private final LogCalculationRepository logCalculationRepository;
+    private final TaxYearRulePlanCache taxYearRulePlanCache;
 
     // =========================================================================
     // 상수 정의
@@ -141,9 +137,6 @@ public class PreCheckService {
     /** 고령자 기준 나이 (60세 이상) */
     private static final int AGED_THRESHOLD = 60;
 
-    /** 청년 기준 변경 경계 연도 (2025년부터 근로계약체결일 기준) */
-    private static final int YOUTH_CRITERIA_CHANGE_YEAR = 2025;
-
     // ─────────────────────────────────────────────────────────────────────
     // 결산조정 항목 (Hard Fail 대상) — M3-00, M3-06 공통
     // ─────────────────────────────────────────────────────────────────────
@@ -256,28 +249,33 @@ public class PreCheckService {
      *
      * <p>
      * 주어진 요청 ID에 대해 M3-00 ~ M3-06 (법인) 및 P3-01 ~ P3-03 (개인) 점검을 순차 실행하고,
-     * 결과를 CHK_ELIGIBILITY, OUT_EMPLOYEE_SUMMARY, CHK_INSPECTION_LOG 에 저장한다.
+     * 결과를 컨텍스트에 기록한다. CHK_ELIGIBILITY, OUT_EMPLOYEE_SUMMARY, CHK_INSPECTION_LOG 저장은
+     * 단계 종료 시 오케스트레이터가 일괄 수행한다.
      * </p>
      *
      * <p><b>M3-00 Hard Fail 발생 시:</b> HardFailException 을 throw 하여 이후 계산을 전면 차단한다.</p>
      *
-     * @param reqId 요청 ID (INP_BASIC.req_id)
+     * @param context 분석 컨텍스트 (입력 적재 완료)
      * @return 생성된 ChkEligibility 엔티티 (종합 진단 결과)
      * @throws HardFailException  결산조정 항목이 포함된 경우 (M3-00)
      * @throws TaxServiceException 기본 정보 조회 실패 등 시스템 오류
      */
-    public ChkEligibility executePreCheck(String reqId) {
+    public ChkEligibility executePreCheck(AnalysisContext context) {
+        String reqId = context.getReqId();
         long startTime = System.currentTimeMillis();
         log.info("[STEP0] 사전점검 시작 - reqId={}", reqId);
 
         // ── 1. 기본 정보 로드 ─────────────────────────────────────────
-        InpBasic basic = loadBasicInfo(reqId);
+        InpBasic basic = loadBasicInfo(context);
         String taxYear = basic.getTaxYear();
         String taxType = basic.getTaxType();
         LocalDateTime now = LocalDateTime.now();
 
         // ── 2. 기존 결과 초기화 (재시도 대비) ─────────────────────────
-        clearPreviousResults(reqId);
+        if (!context.isDryRun()) {
+            clearPreviousResults(reqId);
+        }
+        context.resetPreCheck();
 
         // ── 3. 점검 로그 수집 리스트 ──────────────────────────────────
         List<ChkInspectionLog> inspectionLogs = new ArrayList<ChkInspectionLog>();
@@ -291,7 +289,7 @@ public class PreCheckService {
         // M3-00: Hard Fail 검증 (결산조정 항목 포함 시 전체 차단)
         // ================================================================
         sortOrder++;
-        List<String> blockedItems = checkHardFail(reqId);
+        List<String> blockedItems = checkHardFail(reqId, context.getDeductions());
         if (!blockedItems.isEmpty()) {
             // Hard Fail → 즉시 차단, 이후 점검 불필요
             ChkInspectionLog hardFailLog = buildInspectionLog(reqId, "M3-00",
@@ -300,7 +298,7 @@ public class PreCheckService {
                     "결산조정 항목 검출: " + joinStrings(blockedItems),
                     sortOrder, now);
             inspectionLogs.add(hardFailLog);
-            chkInspectionLogRepository.saveAll(inspectionLogs);
+            context.addInspectionLogs(inspectionLogs);
 
             // CHK_ELIGIBILITY 에 차단 상태 기록
             ChkEligibility blocked = ChkEligibility.builder()
@@ -312,9 +310,9 @@ public class PreCheckService {
                     .diagnosisDetail("M3-00 Hard Fail: 결산조정 항목이 포함되어 전체 차단됨")
                     .checkedAt(now)
                     .build();
-            chkEligibilityRepository.save(blocked);
+            context.recordEligibility(blocked);
 
-            writeCalcLog(reqId, "M3-00", "checkHardFail",
+            writeCalcLog(context, "M3-00", "checkHardFail",
                     "blockedItems=" + joinStrings(blockedItems), "BLOCKED",
                     "결산조정 항목 포함 시 전체 차단", startTime);
 
@@ -382,7 +380,7 @@ public class PreCheckService {
         // M3-04: 상시근로자 수 산정
         // ================================================================
         sortOrder++;
-        Map<String, Object> employeeResult = calculateRegularEmployees(reqId, basic);
+        Map<String, Object> employeeResult = calculateRegularEmployees(reqId, basic, context);
         String empSummary = (String) employeeResult.get("summary");
         BigDecimal currentTotal = (BigDecimal) employeeResult.get("currentTotal");
 
@@ -410,7 +408,7 @@ public class PreCheckService {
         // M3-06: 결산확정 원칙 검증
         // ================================================================
         sortOrder++;
-        Map<String, Object> settlementResult = verifySettlementPrinciple(reqId);
+        Map<String, Object> settlementResult = verifySettlementPrinciple(reqId, context.getDeductions());
         String settlementCheckResult = (String) settlementResult.get("checkResult");
         String settlementBlockedItems = (String) settlementResult.get("blockedItems");
         String settlementSummary = (String) settlementResult.get("summary");
@@ -463,14 +461,14 @@ public class PreCheckService {
                 .diagnosisDetail(diagnosisBuilder.toString())
                 .checkedAt(now)
                 .build();
-        chkEligibilityRepository.save(eligibility);
+        context.recordEligibility(eligibility);
 
-        // 점검 로그 일괄 저장
-        chkInspectionLogRepository.saveAll(inspectionLogs);
+        // 점검 로그 기록 (단계 종료 시 일괄 저장)
+        context.addInspectionLogs(inspectionLogs);
 
         // 감사 로그 기록
         long elapsed = System.currentTimeMillis() - startTime;
-        writeCalcLog(reqId, CALC_STEP, "executePreCheck",
+        writeCalcLog(context, CALC_STEP, "executePreCheck",
                 "taxYear=" + taxYear + ", taxType=" + taxType,
                 "overallStatus=" + overallStatus,
                 "STEP0 사전점검 완료", startTime);
@@ -500,13 +498,13 @@ public class PreCheckService {
      * Hard Fail 로 전체 요청을 차단한다.
      * </p>
      *
-     * @param reqId 요청 ID
+     * @param reqId      요청 ID
+     * @param deductions 공제/감면 입력 목록
      * @return 검출된 결산조정 항목명 리스트 (비어 있으면 통과)
      */
-    private List<String> checkHardFail(String reqId) {
+    private List<String> checkHardFail(String reqId, List<InpDeduction> deductions) {
         log.debug("[M3-00] Hard Fail 검사 시작 - reqId={}", reqId);
 
-        List<InpDeduction> deductions = inpDeductionRepository.findByReqId(reqId);
         List<String> blockedItems = new ArrayList<String>();
 
         for (InpDeduction deduction : deductions) {
@@ -838,14 +836,18 @@ public class PreCheckService {
      * <b>청년등 판단:</b> 장애인, 60세 이상 고령자, 경력단절여성, 북한이탈주민
      * </p>
      *
-     * @param reqId 요청 ID
-     * @param basic 기본 정보 엔티티
+     * @param reqId   요청 ID
+     * @param basic   기본 정보 엔티티
+     * @param context 분석 컨텍스트 (고용 정보 조회, 상시근로자 요약 기록)
      * @return 산정 결과 맵 (summary, currentTotal, priorTotal)
      */
-    private Map<String, Object> calculateRegularEmployees(String reqId, InpBasic basic) {
+    private Map<String, Object> calculateRegularEmployees(String reqId, InpBasic basic,
+                                                          AnalysisContext context) {
         log.debug("[M3-04] 상시근로자 산정 시작 - reqId={}", reqId);
 
-        List<InpEmployee> employees = inpEmployeeRepository.findByReqId(reqId);
+        List<InpEmployee> employees = context.getEmployees();
+        TaxYearRulePlan rulePlan = taxYearRulePlanCache.getPlan(basic.getTaxType(), basic.getTaxYear());
+        String youthBasis = rulePlan.isYouthCriteriaByContractDate() ? "CONTRACT_DATE" : "YEAR_END";
         BigDecimal currentTotal = BigDecimal.ZERO;
         BigDecimal priorTotal = BigDecimal.ZERO;
         StringBuilder summaryBuilder = new StringBuilder();
@@ -888,9 +890,9 @@ public class PreCheckService {
                     .increaseYouth(null)
                     .increaseGeneral(null)
                     .excludedCount(excludedCount)
-                    .calcDetail(buildEmployeeCalcDetail(emp, youthEtcCount))
+                    .calcDetail(buildEmployeeCalcDetail(emp, youthEtcCount, youthBasis))
                     .build();
-            outEmployeeSummaryRepository.save(empSummary);
+            context.stage(empSummary);
 
             if ("CURRENT".equals(yearType)) {
                 currentTotal = totalRegular;
@@ -928,17 +930,19 @@ public class PreCheckService {
      *
      * @param emp            직원 입력 데이터
      * @param youthEtcCount  청년등 합산 인원 수
+     * @param youthBasis     청년 판단 기준 (YEAR_END: 과세연도 말일, CONTRACT_DATE: 근로계약 체결일)
      * @return 산정 상세 문자열
      */
-    private String buildEmployeeCalcDetail(InpEmployee emp, int youthEtcCount) {
+    private String buildEmployeeCalcDetail(InpEmployee emp, int youthEtcCount, String youthBasis) {
         return String.format(
-                "{ \"yearType\": \"%s\", \"totalRegular\": %s, "
+                "{ \"yearType\": \"%s\", \"totalRegular\": %s, \"youthBasis\": \"%s\", "
                         + "\"youth\": %d, \"disabled\": %d, \"aged\": %d, "
                         + "\"careerBreak\": %d, \"northDefector\": %d, "
                         + "\"youthEtcTotal\": %d, \"general\": %d, \"excluded\": %d, "
                         + "\"totalSalary\": %d, \"socialInsurance\": %d }",
                 emp.getYearType(),
                 emp.getTotalRegular() != null ? emp.getTotalRegular().toPlainString() : "0",
+                youthBasis,
                 safeInt(emp.getYouthCount()),
                 safeInt(emp.getDisabledCount()),
                 safeInt(emp.getAgedCount()),
@@ -1021,13 +1025,13 @@ public class PreCheckService {
      * 그러나 방어적 프로그래밍을 위해 이중 검증을 수행한다.
      * </p>
      *
-     * @param reqId 요청 ID
+     * @param reqId      요청 ID
+     * @param deductions 공제/감면 입력 목록
      * @return 검증 결과 맵 (checkResult, blockedItems, summary)
      */
-    private Map<String, Object> verifySettlementPrinciple(String reqId) {
+    private Map<String, Object> verifySettlementPrinciple(String reqId, List<InpDeduction> deductions) {
         log.debug("[M3-06] 결산확정 원칙 검증 시작 - reqId={}", reqId);
 
-        List<InpDeduction> deductions = inpDeductionRepository.findByReqId(reqId);
         List<String> settlementItems = new ArrayList<String>();  // 결산조정 항목
         List<String> filingItems = new ArrayList<String>();      // 신고조정 항목
 
@@ -1216,24 +1220,23 @@ public class PreCheckService {
     // =========================================================================
 
     /**
-     * 요청 ID 로 기본 정보(INP_BASIC)를 조회한다.
+     * 컨텍스트에서 기본 정보(INP_BASIC)를 조회한다.
      *
-     * @param reqId 요청 ID
+     * @param context 분석 컨텍스트
      * @return InpBasic 엔티티
      * @throws TaxServiceException 기본 정보가 존재하지 않는 경우
      */
-    private InpBasic loadBasicInfo(String reqId) {
-        return inpBasicRepository.findByReqId(reqId)
-                .orElseThrow(new java.util.function.Supplier<TaxServiceException>() {
-                    @Override
-                    public TaxServiceException get() {
-                        log.error("[STEP0] 기본 정보 없음 - reqId={}", reqId);
-                        return new TaxServiceException(
-                                ErrorCode.REQUEST_NOT_FOUND,
-                                "기본 정보(INP_BASIC)를 찾을 수 없습니다: " + reqId,
-                                reqId);
-                    }
-                });
+    private InpBasic loadBasicInfo(AnalysisContext context) {
+        InpBasic basic = context.getBasic();
+        if (basic == null) {
+            String reqId = context.getReqId();
+            log.error("[STEP0] 기본 정보 없음 - reqId={}", reqId);
+            throw new TaxServiceException(
+                    ErrorCode.REQUEST_NOT_FOUND,
+                    "기본 정보(INP_BASIC)를 찾을 수 없습니다: " + reqId,
+                    reqId);
+        }
+        return basic;
     }
 
     /**
@@ -1285,9 +1288,9 @@ public class PreCheckService {
     }
 
     /**
-     * 감사추적 로그(LOG_CALCULATION)를 기록한다.
+     * 감사추적 로그(LOG_CALCULATION)를 저장 대기열에 등록한다 (단계 종료 시 일괄 저장).
      *
-     * @param reqId        요청 ID
+     * @param context      분석 컨텍스트
      * @param calcStep     계산 단계
      * @param functionName 함수명
      * @param inputData    입력 데이터 요약
@@ -1295,12 +1298,12 @@ public class PreCheckService {
      * @param legalBasis   법적 근거
      * @param startTime    시작 시각 (밀리초)
      */
-    private void writeCalcLog(String reqId, String calcStep, String functionName,
+    private void writeCalcLog(AnalysisContext context, String calcStep, String functionName,
                                String inputData, String outputData,
                                String legalBasis, long startTime) {
         int durationMs = (int) (System.currentTimeMillis() - startTime);
         LogCalculation logEntry = LogCalculation.builder()
-                .reqId(reqId)
+                .reqId(context.getReqId())
                 .calcStep(calcStep)
                 .functionName(functionName)
                 .inputData(inputData)
@@ -1311,7 +1314,7 @@ public class PreCheckService {
                 .executedBy("PreCheckService")
                 .durationMs(durationMs)
                 .build();
-        logCalculationRepository.save(logEntry);
+        context.stage(logEntry);
     }
 
     /**
@@ -16,7 +16,7 @@ import com.entec.tax.domain.input.repository.InpBasicRepository;
 import com.entec.tax.domain.input.repository.InpDeductionRepository;
 import com.entec.tax.domain.input.repository.InpEmployeeRepository;
 import com.entec.tax.domain.log.entity.LogCalculation;
-import com.entec.tax.domain.log.repository.LogCalculationRepository;
+import com.entec.tax.domain.log.service.CalculationLogWriter;
 import com.entec.tax.domain.output.entity.OutEmployeeSummary;
 import com.entec.tax.domain.output.repository.OutEmployeeSummaryRepository;
 
@@ -111,7 +111,7 @@ public class PreCheckServiceImpl implements PreCheckService {
     private final ChkEligibilityRepository chkEligibilityRepository;
     private final ChkInspectionLogRepository chkInspectionLogRepository;
     private final OutEmployeeSummaryRepository outEmployeeSummaryRepository;
-    private final LogCalculationRepository logCalculationRepository;
+    private final CalculationLogWriter calculationLogWriter;
 
     /**
      * {@inheritDoc}
@@ -766,7 +766,7 @@ public class PreCheckServiceImpl implements PreCheckService {
                 .durationMs(durationMs)
                 .build();
 
-        logCalculationRepository.save(calcLog);
+        calculationLogWriter.write(calcLog);
     }
 
     // ====================================================================
@@ -9,28 +9,22 @@ import com.entec.tax.common.util.JsonUtil;
 import com.entec.tax.common.util.TruncationUtil;
 import com.entec.tax.domain.check.entity.ChkEligibility;
 import com.entec.tax.domain.check.entity.ChkInspectionLog;
-import com.entec.tax.domain.check.repository.ChkEligibilityRepository;
-import com.entec.tax.domain.check.repository.ChkInspectionLogRepository;
 import com.entec.tax.domain.input.entity.InpBasic;
 import com.entec.tax.domain.input.entity.InpFinancial;
-import com.entec.tax.domain.input.repository.InpBasicRepository;
-import com.entec.tax.domain.input.repository.InpFinancialRepository;
 import com.entec.tax.domain.log.entity.LogCalculation;
-import com.entec.tax.domain.log.repository.LogCalculationRepository;
 import com.entec.tax.domain.output.entity.OutAdditionalCheck;
 import com.entec.tax.domain.output.entity.OutCombination;
 import com.entec.tax.domain.output.entity.OutCreditDetail;
 import com.entec.tax.domain.output.entity.OutRefund;
 import com.entec.tax.domain.output.entity.OutRisk;
 import com.entec.tax.domain.output.repository.OutAdditionalCheckRepository;
-import com.entec.tax.domain.output.repository.OutCombinationRepository;
-import com.entec.tax.domain.output.repository.OutCreditDetailRepository;
 import com.entec.tax.domain.output.repository.OutRefundRepository;
 import com.entec.tax.domain.output.repository.OutRiskRepository;
 import com.entec.tax.domain.reference.entity.RefRefundInterestRate;
 import com.entec.tax.domain.reference.repository.RefRefundInterestRateRepository;
 import com.entec.tax.domain.report.entity.OutReportJson;
 import com.entec.tax.domain.report.repository.OutReportJsonRepository;
+import com.entec.tax.engine.context.AnalysisContext;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -91,17 +85,10 @@ public class RefundCalculationService {
     // 의존성 주입 (생성자 주입 via @RequiredArgsConstructor)
     // ──────────────────────────────────────────────
 
-    private final InpBasicRepository inpBasicRepository;
-    private final InpFinancialRepository inpFinancialRepository;
-    private final ChkEligibilityRepository chkEligibilityRepository;
-    private final ChkInspectionLogRepository chkInspectionLogRepository;
-    private final OutCombinationRepository outCombinationRepository;
-    private final OutCreditDetailRepository outCreditDetailRepository;
     private final OutRefundRepository outRefundRepository;
     private final OutRiskRepository outRiskRepository;
     private final OutAdditionalCheckRepository outAdditionalCheckRepository;
     private final OutReportJsonRepository outReportJsonRepository;
-    private final LogCalculationRepository logCalculationRepository;
     private final RefRefundInterestRateRepository refRefundInterestRateRepository;
     private final ObjectMapper objectMapper;
 
@@ -134,52 +121,58 @@ public class RefundCalculationService {
      * <p>
      * M6-01(환급액 산출) → M6-02(환급가산금) → M6-03(지방소득세 환급) →
      * M6-04(리스크 평가) → M6-05(보고서 생성) 순서로 처리한다.
-     * 결과는 OUT_REFUND, OUT_RISK, OUT_ADDITIONAL_CHECK, OUT_REPORT_JSON 테이블에 저장된다.
+     * 결과(OUT_REFUND, OUT_RISK, OUT_ADDITIONAL_CHECK, OUT_REPORT_JSON)는 컨텍스트에 기록되어
+     * 단계 종료 시 저장된다.
      * </p>
      *
-     * @param reqId 요청 ID (INP_BASIC.req_id)
+     * @param context 분석 컨텍스트 (M3 종합 진단·M4 산출·M5 조합 결과 포함)
      * @throws CalculationException 필수 데이터 누락 또는 계산 오류 시
      */
-    public void calculateFinalRefund(String reqId) {
+    public void calculateFinalRefund(AnalysisContext context) {
+        String reqId = context.getReqId();
         long startTime = System.currentTimeMillis();
         log.info("[M6] 최종 환급액 산출 시작 - reqId: {}", reqId);
 
         try {
             // ── 1. 기초 데이터 로딩 ──
-            InpBasic basic = inpBasicRepository.findByReqId(reqId)
-                    .orElseThrow(() -> new CalculationException(
-                            ErrorCode.RESOURCE_NOT_FOUND,
-                            "INP_BASIC 데이터를 찾을 수 없습니다. reqId=" + reqId,
-                            reqId, CALC_STEP));
+            InpBasic basic = context.getBasic();
+            if (basic == null) {
+                throw new CalculationException(
+                        ErrorCode.RESOURCE_NOT_FOUND,
+                        "INP_BASIC 데이터를 찾을 수 없습니다. reqId=" + reqId,
+                        reqId, CALC_STEP);
+            }
 
-            InpFinancial financial = inpFinancialRepository.findByReqId(reqId)
+            InpFinancial financial = context.getFinancial()
                     .orElseThrow(() -> new CalculationException(
                             ErrorCode.RESOURCE_NOT_FOUND,
                             "INP_FINANCIAL 데이터를 찾을 수 없습니다. reqId=" + reqId,
                             reqId, CALC_STEP));
 
-            ChkEligibility eligibility = chkEligibilityRepository.findByReqId(reqId)
+            ChkEligibility eligibility = context.getEligibility()
                     .orElseThrow(() -> new CalculationException(
                             ErrorCode.RESOURCE_NOT_FOUND,
                             "CHK_ELIGIBILITY 데이터를 찾을 수 없습니다. reqId=" + reqId,
                             reqId, CALC_STEP));
 
             // 최적 조합 조회 (순위 1위)
-            OutCombination optimalCombo = outCombinationRepository
-                    .findByReqIdAndComboRank(reqId, 1)
+            OutCombination optimalCombo = context.findCombination(1)
                     .orElseThrow(() -> new CalculationException(
                             ErrorCode.RESOURCE_NOT_FOUND,
                             "최적 조합(COMBO_RANK=1) 결과를 찾을 수 없습니다. reqId=" + reqId,
                             reqId, CALC_STEP));
 
             // 공제·감면 항목 전체 조회
-            List<OutCreditDetail> allCreditDetails = outCreditDetailRepository.findByReqId(reqId);
+            List<OutCreditDetail> allCreditDetails = context.getCreditDetails();
 
             // ── 2. 기존 결과 삭제 (재시도 지원) ──
-            outRefundRepository.deleteByReqId(reqId);
-            outRiskRepository.deleteByReqId(reqId);
-            outAdditionalCheckRepository.deleteByReqId(reqId);
-            outReportJsonRepository.deleteByReqId(reqId);
+            if (!context.isDryRun()) {
+                outRefundRepository.deleteByReqId(reqId);
+                outRiskRepository.deleteByReqId(reqId);
+                outAdditionalCheckRepository.deleteByReqId(reqId);
+                outReportJsonRepository.deleteByReqId(reqId);
+            }
+            context.resetRefund();
 
             // ── 3. M6-01: 최종 환급액 산출 ──
             RefundCalculationResult refundResult = calculateRefundAmount(basic, financial, optimalCombo);
@@ -199,14 +192,14 @@ public class RefundCalculationService {
                             + localTaxRefund);
 
             // ── 7. OUT_REFUND 저장 ──
-            saveOutRefund(reqId, basic, financial, optimalCombo, refundResult,
+            saveOutRefund(context, basic, financial, optimalCombo, refundResult,
                     interestResult, localTaxRefund, totalExpected);
 
             // ── 8. M6-04: 사후관리 리스크 평가 ──
-            evaluatePostManagementRisk(reqId, basic, optimalCombo, allCreditDetails);
+            evaluatePostManagementRisk(context, basic, optimalCombo, allCreditDetails);
 
             // ── 9. M6-05: 보고서 JSON 직렬화 및 저장 ──
-            generateAndSaveReportJson(reqId, basic, financial, eligibility,
+            generateAndSaveReportJson(context, basic, financial, eligibility,
                     optimalCombo, allCreditDetails, refundResult,
                     interestResult, localTaxRefund, totalExpected);
 
@@ -214,7 +207,7 @@ public class RefundCalculationService {
             log.info("[M6] 최종 환급액 산출 완료 - reqId: {}, 환급액: {}, 총수령예상: {}, 소요: {}ms",
                     reqId, refundResult.refundAmount, totalExpected, elapsed);
 
-            saveCalcLog(reqId, CALC_STEP, "calculateFinalRefund",
+            saveCalcLog(context, CALC_STEP, "calculateFinalRefund",
                     "기납부세액=" + nullToZero(basic.getPaidTax()),
                     "환급액=" + refundResult.refundAmount + ", 총수령예상=" + totalExpected,
                     startTime);
@@ -532,14 +525,15 @@ public class RefundCalculationService {
      *   <li><b>감가상각 의무 미이행:</b> 조특법 §128⑨, 감가상각 의무화 대상 미이행</li>
      * </ol>
      *
-     * @param reqId             요청 ID
+     * @param context           분석 컨텍스트
      * @param basic             기본 입력 정보
      * @param optimalCombo      최적 조합 결과
      * @param allCreditDetails  전체 공제·감면 항목 목록
      */
     private void evaluatePostManagementRisk(
-            String reqId, InpBasic basic, OutCombination optimalCombo,
+            AnalysisContext context, InpBasic basic, OutCombination optimalCombo,
             List<OutCreditDetail> allCreditDetails) {
+        String reqId = context.getReqId();
 
         log.debug("[M6-04] 사후관리 리스크 평가 시작 - reqId: {}", reqId);
 
@@ -581,7 +575,7 @@ public class RefundCalculationService {
                                 + EMPLOYMENT_RETENTION_YEARS + "년간 유지해야 합니다. "
                                 + "감소 시 감소분에 대한 세액 추징 및 이자상당가산액이 부과됩니다.")
                         .build();
-                outRiskRepository.save(employmentRisk);
+                context.addRisk(employmentRisk);
 
                 // 추가 확인 항목 등록
                 OutAdditionalCheck employmentCheck = OutAdditionalCheck.builder()
@@ -594,7 +588,7 @@ public class RefundCalculationService {
                         .priority("HIGH")
                         .status("PENDING")
                         .build();
-                outAdditionalCheckRepository.save(employmentCheck);
+                context.addAdditionalCheck(employmentCheck);
             }
 
             // ── (2) 자산 조기 처분 리스크 (투자 관련 조항) ──
@@ -619,7 +613,7 @@ public class RefundCalculationService {
                                 + ASSET_DISPOSAL_LIMIT_YEARS + "년 이내에 처분하면 "
                                 + "공제세액 전액 추징 및 이자상당가산액이 부과됩니다.")
                         .build();
-                outRiskRepository.save(assetRisk);
+                context.addRisk(assetRisk);
             }
 
             // ── (3) 감가상각 의무 미이행 리스크 ──
@@ -639,7 +633,7 @@ public class RefundCalculationService {
                         .description("세액공제를 적용받은 자산에 대해 감가상각 의무가 발생하며, "
                                 + "미이행 시 세무조정이 추가될 수 있습니다.")
                         .build();
-                outRiskRepository.save(depreciationRisk);
+                context.addRisk(depreciationRisk);
 
                 OutAdditionalCheck depreciationCheck = OutAdditionalCheck.builder()
                         .reqId(reqId)
@@ -651,7 +645,7 @@ public class RefundCalculationService {
                         .priority("MEDIUM")
                         .status("PENDING")
                         .build();
-                outAdditionalCheckRepository.save(depreciationCheck);
+                context.addAdditionalCheck(depreciationCheck);
             }
         }
 
@@ -664,7 +658,7 @@ public class RefundCalculationService {
     // ══════════════════════════════════════════════
 
     /**
-     * 보고서 JSON을 생성하여 OUT_REPORT_JSON 테이블에 저장한다 (M6-05).
+     * 보고서 JSON을 생성하여 컨텍스트 저장 대기열에 등록한다 (M6-05, OUT_REPORT_JSON).
      *
      * <p>
      * 7개 섹션(A~G)으로 구성된 보고서 JSON을 생성한다:
@@ -679,7 +673,7 @@ public class RefundCalculationService {
      *   <li><b>Section G:</b> 메타정보 및 체크리스트</li>
      * </ul>
      *
-     * @param reqId            요청 ID
+     * @param context          분석 컨텍스트
      * @param basic            기본 입력 정보
      * @param financial        재무/세무 정보
      * @param eligibility      자격 진단 결과
@@ -691,11 +685,12 @@ public class RefundCalculationService {
      * @param totalExpected    총수령예상액
      */
     private void generateAndSaveReportJson(
-            String reqId, InpBasic basic, InpFinancial financial,
+            AnalysisContext context, InpBasic basic, InpFinancial financial,
             ChkEligibility eligibility, OutCombination optimalCombo,
             List<OutCreditDetail> allCreditDetails,
             RefundCalculationResult refundResult, InterestResult interestResult,
             long localTaxRefund, long totalExpected) {
+        String reqId = context.getReqId();
 
         log.debug("[M6-05] 보고서 JSON 생성 시작 - reqId: {}", reqId);
 
@@ -703,20 +698,20 @@ public class RefundCalculationService {
         Map<String, Object> sectionA = buildSectionA(basic);
 
         // ── Section B: 자격 진단 결과 ──
-        Map<String, Object> sectionB = buildSectionB(reqId, eligibility);
+        Map<String, Object> sectionB = buildSectionB(context, eligibility);
 
         // ── Section C: 공제·감면 항목 상세 ──
         Map<String, Object> sectionC = buildSectionC(allCreditDetails);
 
         // ── Section D: 최적 조합 분석 ──
-        Map<String, Object> sectionD = buildSectionD(reqId, optimalCombo);
+        Map<String, Object> sectionD = buildSectionD(context, optimalCombo);
 
         // ── Section E: 환급액 산출 내역 ──
         Map<String, Object> sectionE = buildSectionE(refundResult, interestResult,
                 localTaxRefund, totalExpected);
 
         // ── Section F: 사후관리 리스크 ──
-        Map<String, Object> sectionF = buildSectionF(reqId);
+        Map<String, Object> sectionF = buildSectionF(context);
 
         // ── Section G: 메타정보 및 체크리스트 ──
         Map<String, Object> sectionGMeta = buildSectionGMeta(reqId, basic);
@@ -766,7 +761,7 @@ public class RefundCalculationService {
                 .generatedAt(LocalDateTime.now())
                 .build();
 
-        outReportJsonRepository.save(outReport);
+        context.stage(outReport);
 
         log.debug("[M6-05] 보고서 JSON 생성 완료 - reqId: {}, 크기: {} bytes", reqId, jsonByteSize);
     }
@@ -803,11 +798,11 @@ public class RefundCalculationService {
     /**
      * Section B: 자격 진단 결과를 빌드한다.
      *
-     * @param reqId       요청 ID
+     * @param context     분석 컨텍스트
      * @param eligibility 자격 진단 결과
      * @return Section B 맵
      */
-    private Map<String, Object> buildSectionB(String reqId, ChkEligibility eligibility) {
+    private Map<String, Object> buildSectionB(AnalysisContext context, ChkEligibility eligibility) {
         Map<String, Object> section = new LinkedHashMap<>();
         section.put("sectionTitle", "자격 진단 결과");
         section.put("overallStatus", eligibility.getOverallStatus());
@@ -819,7 +814,7 @@ public class RefundCalculationService {
 
         // 점검 로그 포함
         List<ChkInspectionLog> inspectionLogs =
-                chkInspectionLogRepository.findByReqIdOrderBySortOrder(reqId);
+                context.getInspectionLogs();
         List<Map<String, Object>> inspections = new ArrayList<>();
         for (ChkInspectionLog log : inspectionLogs) {
             Map<String, Object> entry = new LinkedHashMap<>();
@@ -867,11 +862,11 @@ public class RefundCalculationService {
     /**
      * Section D: 최적 조합 분석을 빌드한다.
      *
-     * @param reqId        요청 ID
+     * @param context      분석 컨텍스트
      * @param optimalCombo 최적 조합 결과
      * @return Section D 맵
      */
-    private Map<String, Object> buildSectionD(String reqId, OutCombination optimalCombo) {
+    private Map<String, Object> buildSectionD(AnalysisContext context, OutCombination optimalCombo) {
         Map<String, Object> section = new LinkedHashMap<>();
         section.put("sectionTitle", "최적 조합 분석");
         section.put("optimalComboId", optimalCombo.getComboId());
@@ -883,7 +878,7 @@ public class RefundCalculationService {
         section.put("netRefund", optimalCombo.getNetRefund());
 
         // 전체 조합 순위 목록
-        List<OutCombination> allCombos = outCombinationRepository.findByReqIdOrderByComboRankAsc(reqId);
+        List<OutCombination> allCombos = context.getCombinations();
         List<Map<String, Object>> comboRanking = new ArrayList<>();
         for (OutCombination combo : allCombos) {
             Map<String, Object> entry = new LinkedHashMap<>();
@@ -960,14 +955,14 @@ public class RefundCalculationService {
     /**
      * Section F: 사후관리 리스크를 빌드한다.
      *
-     * @param reqId 요청 ID
+     * @param context 분석 컨텍스트
      * @return Section F 맵
      */
-    private Map<String, Object> buildSectionF(String reqId) {
+    private Map<String, Object> buildSectionF(AnalysisContext context) {
         Map<String, Object> section = new LinkedHashMap<>();
         section.put("sectionTitle", "사후관리 리스크");
 
-        List<OutRisk> risks = outRiskRepository.findByReqId(reqId);
+        List<OutRisk> risks = context.getRisks();
         List<Map<String, Object>> riskList = new ArrayList<>();
         for (OutRisk risk : risks) {
             Map<String, Object> entry = new LinkedHashMap<>();
@@ -985,7 +980,7 @@ public class RefundCalculationService {
         section.put("totalRisks", risks.size());
 
         // 추가 확인 항목
-        List<OutAdditionalCheck> checks = outAdditionalCheckRepository.findByReqId(reqId);
+        List<OutAdditionalCheck> checks = context.getAdditionalChecks();
         List<Map<String, Object>> checkList = new ArrayList<>();
         for (OutAdditionalCheck check : checks) {
             Map<String, Object> entry = new LinkedHashMap<>();
@@ -1064,9 +1059,9 @@ public class RefundCalculationService {
     // ══════════════════════════════════════════════
 
     /**
-     * 환급 산출 결과를 OUT_REFUND 테이블에 저장한다.
+     * 환급 산출 결과를 컨텍스트 저장 대기열에 등록한다 (OUT_REFUND).
      *
-     * @param reqId          요청 ID
+     * @param context        분석 컨텍스트
      * @param basic          기본 입력 정보
      * @param financial      재무/세무 정보
      * @param optimalCombo   최적 조합 결과
@@ -1076,9 +1071,10 @@ public class RefundCalculationService {
      * @param totalExpected  총수령예상액
      */
     private void saveOutRefund(
-            String reqId, InpBasic basic, InpFinancial financial,
+            AnalysisContext context, InpBasic basic, InpFinancial financial,
             OutCombination optimalCombo, RefundCalculationResult refundResult,
             InterestResult interestResult, long localTaxRefund, long totalExpected) {
+        String reqId = context.getReqId();
 
         // 환급 한도 상세 JSON
         Map<String, Object> refundCapDetail = new LinkedHashMap<>();
@@ -1116,7 +1112,7 @@ public class RefundCalculationService {
                 .penaltyTaxChange(0L)
                 .build();
 
-        outRefundRepository.save(outRefund);
+        context.stage(outRefund);
     }
 
     // ══════════════════════════════════════════════
@@ -1236,20 +1232,20 @@ public class RefundCalculationService {
     }
 
     /**
-     * 계산 로그를 LOG_CALCULATION 테이블에 저장한다.
+     * 계산 로그(LOG_CALCULATION)를 저장 대기열에 등록한다 (단계 종료 시 일괄 저장).
      *
-     * @param reqId        요청 ID
+     * @param context      분석 컨텍스트
      * @param calcStep     계산 단계
      * @param functionName 함수명
      * @param inputData    입력 데이터 요약
      * @param outputData   출력 데이터 요약
      * @param startTime    시작 시각 (밀리초)
      */
-    private void saveCalcLog(String reqId, String calcStep, String functionName,
+    private void saveCalcLog(AnalysisContext context, String calcStep, String functionName,
                              String inputData, String outputData, long startTime) {
         int durationMs = (int) (System.currentTimeMillis() - startTime);
         LogCalculation logEntry = LogCalculation.builder()
-                .reqId(reqId)
+                .reqId(context.getReqId())
                 .calcStep(calcStep)
                 .functionName(functionName)
                 .inputData(inputData)
@@ -1260,7 +1256,7 @@ public class RefundCalculationService {
                 .executedBy("RefundCalculationService")
                 .durationMs(durationMs)
                 .build();
-        logCalculationRepository.save(logEntry);
+        context.stage(logEntry);
     }
 
     // ══════════════════════════════════════════════
@@ -16,7 +16,7 @@ import com.entec.tax.domain.input.entity.InpFinancial;
 import com.entec.tax.domain.input.repository.InpBasicRepository;
 import com.entec.tax.domain.input.repository.InpFinancialRepository;
 import com.entec.tax.domain.log.entity.LogCalculation;
-import com.entec.tax.domain.log.repository.LogCalculationRepository;
+import com.entec.tax.domain.log.service.CalculationLogWriter;
 import com.entec.tax.domain.output.entity.OutAdditionalCheck;
 import com.entec.tax.domain.output.entity.OutCombination;
 import com.entec.tax.domain.output.entity.OutCreditDetail;
@@ -111,7 +111,7 @@ public class RefundCalculationServiceImpl implements RefundCalculationService {
     // ──────────────────────────────────────────────
     // 로그 리포지토리
     // ──────────────────────────────────────────────
-    private final LogCalculationRepository logCalculationRepository;
+    private final CalculationLogWriter calculationLogWriter;
 
     // ──────────────────────────────────────────────
     // 기준정보 리포지토리
@@ -983,6 +983,6 @@ public class RefundCalculationServiceImpl implements RefundCalculationService {
                 .durationMs(durationMs)
                 .build();
 
-        logCalculationRepository.save(logEntry);
+        calculationLogWriter.write(logEntry);
     }
 }
@@ -0,0 +1,150 @@
+package com.entec.tax.common.aspect;
+
+import com.entec.tax.config.PoolRoutingDataSource;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ReplicaRoutingAspectTest {
+
+    private JdbcTemplate primary;
+    private JdbcTemplate replica;
+    private ReplicaRoutingAspect aspect;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource primaryDataSource = dataSource();
+        DriverManagerDataSource replicaDataSource = dataSource();
+        primary = new JdbcTemplate(primaryDataSource);
+        replica = new JdbcTemplate(replicaDataSource);
+        primary.execute("CREATE TABLE REQ_REQUEST (req_id VARCHAR(30) PRIMARY KEY, version INT NOT NULL)");
+        replica.execute("CREATE TABLE REQ_REQUEST (req_id VARCHAR(30) PRIMARY KEY, version INT NOT NULL)");
+        aspect = new ReplicaRoutingAspect(primaryDataSource, replicaDataSource);
+    }
+
+    @AfterEach
+    void tearDown() {
+        primary.execute("DROP ALL OBJECTS");
+        replica.execute("DROP ALL OBJECTS");
+        PoolRoutingDataSource.forcePrimary(false);
+    }
+
+    @Test
+    void replicaBehindRoutesToPrimary() throws Throwable {
+        primary.update("INSERT INTO REQ_REQUEST VALUES ('R1', 3)");
+        replica.update("INSERT INTO REQ_REQUEST VALUES ('R1', 2)");
+
+        assertThat(aspect.routeRecentlyWritten(joinPoint("find"), "R1")).isEqualTo(true);
+    }
+
+    @Test
+    void replicaCaughtUpUsesReplica() throws Throwable {
+        primary.update("INSERT INTO REQ_REQUEST VALUES ('R1', 3)");
+        replica.update("INSERT INTO REQ_REQUEST VALUES ('R1', 3)");
+
+        assertThat(aspect.routeRecentlyWritten(joinPoint("find"), "R1")).isEqualTo(false);
+    }
+
+    @Test
+    void requestMissingOnReplicaRoutesToPrimary() throws Throwable {
+        primary.update("INSERT INTO REQ_REQUEST VALUES ('R1', 0)");
+
+        assertThat(aspect.routeRecentlyWritten(joinPoint("find"), "R1")).isEqualTo(true);
+    }
+
+    @Test
+    void requestMissingOnPrimaryUsesReplica() throws Throwable {
+        assertThat(aspect.routeRecentlyWritten(joinPoint("find"), "R1")).isEqualTo(false);
+    }
+
+    @Test
+    void writeTransactionIsNotChecked() throws Throwable {
+        primary.update("INSERT INTO REQ_REQUEST VALUES ('R1', 3)");
+        replica.update("INSERT INTO REQ_REQUEST VALUES ('R1', 2)");
+
+        assertThat(aspect.routeRecentlyWritten(joinPoint("save"), "R1")).isEqualTo(false);
+    }
+
+    @Test
+    void readOnlyClassLevelTransactionIsChecked() throws Throwable {
+        primary.update("INSERT INTO REQ_REQUEST VALUES ('R1', 3)");
+        replica.update("INSERT INTO REQ_REQUEST VALUES ('R1', 2)");
+
+        assertThat(aspect.routeRecentlyWritten(joinPoint(new ReadOnlyService(), "find"), "R1")).isEqualTo(true);
+    }
+
+    @Test
+    void replicaFailureRoutesToPrimary() throws Throwable {
+        primary.update("INSERT INTO REQ_REQUEST VALUES ('R1', 3)");
+        replica.execute("DROP TABLE REQ_REQUEST");
+
+        assertThat(aspect.routeRecentlyWritten(joinPoint("find"), "R1")).isEqualTo(true);
+    }
+
+    @Test
+    void forcePrimaryIsRestoredAfterCall() throws Throwable {
+        primary.update("INSERT INTO REQ_REQUEST VALUES ('R1', 3)");
+
+        aspect.routeRecentlyWritten(joinPoint("find"), "R1");
+
+        assertThat(PoolRoutingDataSource.forcePrimary(false)).isFalse();
+    }
+
+    private static DriverManagerDataSource dataSource() {
+        return new DriverManagerDataSource(
+                "jdbc:h2:mem:" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1;MODE=MySQL", "sa", "");
+    }
+
+    private static ProceedingJoinPoint joinPoint(String methodName) throws Throwable {
+        return joinPoint(new RequestService(), methodName);
+    }
+
+    /**
+     * 대상 메서드 실행 시 원본 고정 여부를 반환하는 조인포인트.
+     */
+    private static ProceedingJoinPoint joinPoint(Object target, String methodName) throws Throwable {
+        MethodSignature signature = mock(MethodSignature.class);
+        when(signature.getMethod()).thenReturn(target.getClass().getMethod(methodName, String.class));
+        ProceedingJoinPoint joinPoint = mock(ProceedingJoinPoint.class);
+        when(joinPoint.getSignature()).thenReturn(signature);
+        when(joinPoint.getTarget()).thenReturn(target);
+        when(joinPoint.proceed()).thenAnswer(invocation -> {
+            boolean forced = PoolRoutingDataSource.forcePrimary(true);
+            PoolRoutingDataSource.forcePrimary(forced);
+            return forced;
+        });
+        return joinPoint;
+    }
+
+    static class RequestService {
+
+        @Transactional(readOnly = true)
+        public Object find(String reqId) {
+            return null;
+        }
+
+        @Transactional
+        public Object save(String reqId) {
+            return null;
+        }
+    }
+
+    @Transactional(readOnly = true)
+    static class ReadOnlyService {
+
+        public Object find(String reqId) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.entec.tax.config;
+
+import com.entec.tax.common.constants.ConnectionPoolType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PoolRoutingDataSourceTest {
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        PoolRoutingDataSource.use(null);
+        PoolRoutingDataSource.forcePrimary(false);
+    }
+
+    @Test
+    void readOnlyTransactionUsesReplica() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        PoolRoutingDataSource.use(ConnectionPoolType.QUERY);
+
+        assertThat(new PoolRoutingDataSource(true).determineCurrentLookupKey())
+                .isEqualTo(PoolRoutingDataSource.REPLICA);
+    }
+
+    @Test
+    void forcePrimaryKeepsReadOnlyTransactionOnPrimaryPool() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        PoolRoutingDataSource.forcePrimary(true);
+
+        assertThat(new PoolRoutingDataSource(true).determineCurrentLookupKey())
+                .isEqualTo(ConnectionPoolType.QUERY.getCode());
+    }
+
+    @Test
+    void forcePrimaryKeepsBoundPool() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        PoolRoutingDataSource.use(ConnectionPoolType.INTAKE);
+        PoolRoutingDataSource.forcePrimary(true);
+
+        assertThat(new PoolRoutingDataSource(true).determineCurrentLookupKey())
+                .isEqualTo(ConnectionPoolType.INTAKE.getCode());
+    }
+
+    @Test
+    void readOnlyTransactionWithoutReplicaUsesQueryPool() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertThat(new PoolRoutingDataSource(false).determineCurrentLookupKey())
+                .isEqualTo(ConnectionPoolType.QUERY.getCode());
+    }
+
+    @Test
+    void writeTransactionUsesBoundPool() {
+        PoolRoutingDataSource.use(ConnectionPoolType.INTAKE);
+
+        assertThat(new PoolRoutingDataSource(true).determineCurrentLookupKey())
+                .isEqualTo(ConnectionPoolType.INTAKE.getCode());
+    }
+
+    @Test
+    void unboundWriteUsesAnalysisPool() {
+        assertThat(new PoolRoutingDataSource(true).determineCurrentLookupKey())
+                .isEqualTo(ConnectionPoolType.ANALYSIS.getCode());
+    }
+
+    @Test
+    void forcePrimaryReturnsPreviousValue() {
+        assertThat(PoolRoutingDataSource.forcePrimary(true)).isFalse();
+        assertThat(PoolRoutingDataSource.forcePrimary(false)).isTrue();
+    }
+}
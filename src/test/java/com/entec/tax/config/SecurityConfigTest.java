@@ -0,0 +1,83 @@
+package com.entec.tax.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.servlet.Filter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SecurityConfigTest {
+
+    private static final String RELOAD_PATH = "/api/v1/reference/reload";
+
+    private static final String SYSTEM_PARAMS_RELOAD_PATH = "/api/v1/reference/system-params/reload";
+
+    @Test
+    void reloadRejectsApiKeyWithoutAdminKey() throws Exception {
+        Filter filter = filter("api-key", "admin-key");
+
+        MockHttpServletResponse response = post(filter, RELOAD_PATH, "X-API-Key", "api-key");
+
+        assertThat(response.getStatus()).isEqualTo(403);
+    }
+
+    @Test
+    void reloadAcceptsAdminKey() throws Exception {
+        Filter filter = filter("api-key", "admin-key");
+
+        assertThat(post(filter, RELOAD_PATH, "X-Admin-Key", "admin-key").getStatus()).isEqualTo(200);
+        assertThat(post(filter, SYSTEM_PARAMS_RELOAD_PATH, "X-Admin-Key", "admin-key").getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    void trailingSlashDoesNotBypassAdminKey() throws Exception {
+        Filter filter = filter("api-key", "admin-key");
+
+        MockHttpServletResponse response = post(filter, SYSTEM_PARAMS_RELOAD_PATH + "/", "X-API-Key", "api-key");
+
+        assertThat(response.getStatus()).isEqualTo(403);
+    }
+
+    @Test
+    void reloadIsClosedWhenOnlyApiKeyIsConfigured() throws Exception {
+        Filter filter = filter("api-key", null);
+
+        assertThat(post(filter, RELOAD_PATH, "X-Admin-Key", "").getStatus()).isEqualTo(403);
+        assertThat(post(filter, RELOAD_PATH, "X-API-Key", "api-key").getStatus()).isEqualTo(403);
+    }
+
+    @Test
+    void otherApiPathsStillUseApiKey() throws Exception {
+        Filter filter = filter("api-key", "admin-key");
+
+        assertThat(post(filter, "/api/v1/requests", "X-API-Key", "api-key").getStatus()).isEqualTo(200);
+        assertThat(post(filter, "/api/v1/requests", "X-Admin-Key", "admin-key").getStatus()).isEqualTo(401);
+    }
+
+    @Test
+    void developmentModeWithoutKeysPassesEverything() throws Exception {
+        Filter filter = filter(null, null);
+
+        assertThat(post(filter, RELOAD_PATH, "X-Other", "none").getStatus()).isEqualTo(200);
+    }
+
+    private static Filter filter(String apiKey, String adminApiKey) {
+        SecurityConfig config = new SecurityConfig();
+        ReflectionTestUtils.setField(config, "apiKey", apiKey);
+        ReflectionTestUtils.setField(config, "adminApiKey", adminApiKey);
+        return config.apiKeyAuthenticationFilter();
+    }
+
+    private static MockHttpServletResponse post(Filter filter, String path, String header, String value)
+            throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", path);
+        request.addHeader(header, value);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+}
@@ -0,0 +1,123 @@
+package com.entec.tax.domain.request.service;
+
+import com.entec.tax.common.constants.RequestStatus;
+import com.entec.tax.domain.input.entity.InpEmployee;
+import com.entec.tax.domain.input.entity.InpRawData;
+import com.entec.tax.domain.input.repository.InpEmployeeRepository;
+import com.entec.tax.domain.input.repository.InpRawDataRepository;
+import com.entec.tax.domain.log.service.CalculationLogWriter;
+import com.entec.tax.domain.request.dto.DatasetDto;
+import com.entec.tax.domain.request.dto.RequestStatusDto;
+import com.entec.tax.domain.request.entity.ReqRequest;
+import com.entec.tax.domain.request.repository.ReqRequestRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({RequestManagementServiceImpl.class, RequestStateMachine.class})
+class RequestManagementServiceImplTest {
+
+    private static final String REQ_ID = "C1234567890-20260101-001";
+
+    @Autowired
+    private RequestManagementService requestManagementService;
+
+    @Autowired
+    private ReqRequestRepository reqRequestRepository;
+
+    @Autowired
+    private InpRawDataRepository inpRawDataRepository;
+
+    @Autowired
+    private InpEmployeeRepository inpEmployeeRepository;
+
+    @MockBean
+    private CalculationLogWriter calculationLogWriter;
+
+    @BeforeEach
+    void setUp() {
+        ReqRequest request = reqRequestRepository.save(ReqRequest.builder()
+                .reqId(REQ_ID)
+                .applicantType("C")
+                .applicantId("1234567890")
+                .applicantName("테스트")
+                .taxType("CORP")
+                .taxYear("2025")
+                .requestDate(LocalDate.of(2026, 1, 1))
+                .seqNo(1)
+                .requestStatus(RequestStatus.COMPLETED.getCode())
+                .createdAt(LocalDateTime.now())
+                .build());
+        inpRawDataRepository.save(InpRawData.builder()
+                .reqRequest(request)
+                .category("employee")
+                .rawJson("[{\"year_type\":\"CURRENT\",\"total_regular\":10}]")
+                .checksum("old")
+                .receivedAt(LocalDateTime.now())
+                .build());
+        inpEmployeeRepository.save(InpEmployee.builder()
+                .reqId(REQ_ID)
+                .yearType("CURRENT")
+                .totalRegular(new BigDecimal("10.00"))
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        inpEmployeeRepository.deleteAllInBatch();
+        inpRawDataRepository.deleteAllInBatch();
+        reqRequestRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void correctedSummaryRowsSurviveParsedTransition() {
+        DatasetDto dataset = new DatasetDto();
+        dataset.setCategory("employee");
+        dataset.setData(Arrays.asList(employee("CURRENT", 25), employee("PREV1", 20)));
+
+        RequestStatusDto status = requestManagementService.correctDataset(REQ_ID, dataset);
+
+        assertThat(status.getStatus()).isEqualTo(RequestStatus.PARSED.getCode());
+        ReqRequest request = reqRequestRepository.findById(REQ_ID).get();
+        assertThat(request.getRequestStatus()).isEqualTo(RequestStatus.PARSED.getCode());
+        assertThat(request.getVersion()).isEqualTo(3);
+
+        List<InpRawData> rawData = inpRawDataRepository.findByReqRequestReqIdAndCategory(REQ_ID, "employee");
+        assertThat(rawData).hasSize(1);
+        assertThat(rawData.get(0).getChecksum()).isNotEqualTo("old");
+
+        List<InpEmployee> employees = inpEmployeeRepository.findByReqId(REQ_ID);
+        assertThat(employees).extracting(InpEmployee::getYearType).containsExactlyInAnyOrder("CURRENT", "PREV1");
+        assertThat(inpEmployeeRepository.findByReqIdAndYearType(REQ_ID, "CURRENT").get().getTotalRegular())
+                .isEqualByComparingTo("25");
+    }
+
+    private static Map<String, Object> employee(String yearType, int totalRegular) {
+        Map<String, Object> employee = new HashMap<String, Object>();
+        employee.put("year_type", yearType);
+        employee.put("total_regular", totalRegular);
+        return employee;
+    }
+}
@@ -0,0 +1,145 @@
+package com.entec.tax.domain.request.service;
+
+import com.entec.tax.common.exception.ConcurrentConflictException;
+import com.entec.tax.domain.request.entity.ReqAnalysisCheckpoint;
+import com.entec.tax.domain.request.entity.ReqRequest;
+import com.entec.tax.domain.request.repository.ReqAnalysisCheckpointRepository;
+import com.entec.tax.domain.request.repository.ReqRequestRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import(RequestStateMachine.class)
+class RequestStateMachineTest {
+
+    private static final String REQ_ID = "C1234567890-20260101-001";
+
+    @Autowired
+    private RequestStateMachine requestStateMachine;
+
+    @Autowired
+    private ReqRequestRepository reqRequestRepository;
+
+    @Autowired
+    private ReqAnalysisCheckpointRepository reqAnalysisCheckpointRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @BeforeEach
+    void setUp() {
+        reqRequestRepository.saveAndFlush(ReqRequest.builder()
+                .reqId(REQ_ID)
+                .applicantType("C")
+                .applicantId("1234567890")
+                .applicantName("테스트")
+                .taxType("CORP")
+                .taxYear("2025")
+                .requestDate(LocalDate.of(2026, 1, 1))
+                .seqNo(1)
+                .requestStatus("parsed")
+                .createdAt(LocalDateTime.now())
+                .build());
+        entityManager.clear();
+    }
+
+    @Test
+    void transitionIncrementsVersion() {
+        ReqRequest request = requestStateMachine.findCurrent(REQ_ID).get();
+
+        int version = requestStateMachine.transition(request, "checking");
+
+        ReqRequest updated = reqRequestRepository.findById(REQ_ID).get();
+        assertThat(version).isEqualTo(request.getVersion() + 1);
+        assertThat(updated.getVersion()).isEqualTo(version);
+        assertThat(updated.getRequestStatus()).isEqualTo("checking");
+    }
+
+    @Test
+    void staleVersionIsRejected() {
+        ReqRequest request = requestStateMachine.findCurrent(REQ_ID).get();
+        requestStateMachine.transition(request, "checking");
+
+        assertThatThrownBy(() -> requestStateMachine.transition(request, "queued"))
+                .isInstanceOf(ConcurrentConflictException.class);
+        assertThat(reqRequestRepository.findById(REQ_ID).get().getRequestStatus()).isEqualTo("checking");
+    }
+
+    @Test
+    void sameStatusReachedByAnotherRunIsRejected() {
+        ReqRequest request = requestStateMachine.findCurrent(REQ_ID).get();
+        int version = requestStateMachine.transition(request, "checking");
+        requestStateMachine.transition(REQ_ID, "checking", version, "checking");
+
+        assertThatThrownBy(() -> requestStateMachine.transition(REQ_ID, "checking", version, "calculating"))
+                .isInstanceOf(ConcurrentConflictException.class);
+    }
+
+    @Test
+    void transitionOutsideTableIsRejectedWithoutUpdate() {
+        ReqRequest request = requestStateMachine.findCurrent(REQ_ID).get();
+
+        assertThatThrownBy(() -> requestStateMachine.transition(request, "received"))
+                .isInstanceOf(ConcurrentConflictException.class);
+        assertThat(reqRequestRepository.findById(REQ_ID).get().getVersion()).isEqualTo(request.getVersion());
+    }
+
+    @Test
+    void failOnStaleVersionReturnsFalse() {
+        ReqRequest request = requestStateMachine.findCurrent(REQ_ID).get();
+        int version = requestStateMachine.transition(request, "checking");
+
+        assertThat(requestStateMachine.fail(REQ_ID, "checking", version - 1, "failed", "boom")).isFalse();
+        assertThat(requestStateMachine.fail(REQ_ID, "checking", version, "failed", "boom")).isTrue();
+
+        ReqRequest failed = reqRequestRepository.findById(REQ_ID).get();
+        assertThat(failed.getRequestStatus()).isEqualTo("failed");
+        assertThat(failed.getErrorMessage()).isEqualTo("boom");
+    }
+
+    @Test
+    void pendingWritesSurviveTransition() {
+        ReqRequest request = requestStateMachine.findCurrent(REQ_ID).get();
+        reqAnalysisCheckpointRepository.save(ReqAnalysisCheckpoint.builder()
+                .reqId(REQ_ID)
+                .lastStage("M6")
+                .inputHash("hash")
+                .completedAt(LocalDateTime.now())
+                .build());
+
+        requestStateMachine.transition(request, "checking");
+
+        assertThat(reqAnalysisCheckpointRepository.findById(REQ_ID))
+                .hasValueSatisfying(checkpoint -> assertThat(checkpoint.getLastStage()).isEqualTo("M6"));
+    }
+
+    @Test
+    void pendingWritesSurviveFail() {
+        ReqRequest request = requestStateMachine.findCurrent(REQ_ID).get();
+        int version = requestStateMachine.transition(request, "checking");
+        reqAnalysisCheckpointRepository.save(ReqAnalysisCheckpoint.builder()
+                .reqId(REQ_ID)
+                .lastStage("M3")
+                .inputHash("hash")
+                .completedAt(LocalDateTime.now())
+                .build());
+
+        requestStateMachine.fail(REQ_ID, "checking", version, "failed", "boom");
+
+        assertThat(reqAnalysisCheckpointRepository.findById(REQ_ID)).isPresent();
+    }
+}
@@ -0,0 +1,263 @@
+package com.entec.tax.engine.credit.service;
+
+import com.entec.tax.common.constants.ItemCategory;
+import com.entec.tax.common.constants.ProvisionCode;
+import com.entec.tax.common.metrics.AnalysisMetrics;
+import com.entec.tax.config.MyBatisConfig;
+import com.entec.tax.domain.check.repository.ChkEligibilityRepository;
+import com.entec.tax.domain.check.repository.ChkInspectionLogRepository;
+import com.entec.tax.domain.input.entity.InpBasic;
+import com.entec.tax.domain.input.entity.InpDeduction;
+import com.entec.tax.domain.input.entity.InpEmployee;
+import com.entec.tax.domain.input.entity.InpFinancial;
+import com.entec.tax.domain.input.entity.InpRawData;
+import com.entec.tax.domain.input.repository.InpRawDataRepository;
+import com.entec.tax.domain.log.service.CalculationLogWriter;
+import com.entec.tax.domain.output.entity.OutCreditDetail;
+import com.entec.tax.domain.output.entity.OutEmployeeSummary;
+import com.entec.tax.domain.output.repository.OutCreditDetailRepository;
+import com.entec.tax.domain.output.repository.OutEmployeeSummaryRepository;
+import com.entec.tax.domain.reference.cache.ExchangeRateCache;
+import com.entec.tax.domain.reference.cache.ReferenceSnapshotManager;
+import com.entec.tax.domain.reference.cache.TaxYearRulePlanCache;
+import com.entec.tax.domain.request.entity.ReqRequest;
+import com.entec.tax.domain.request.repository.ReqRequestRepository;
+import com.entec.tax.engine.context.AnalysisContext;
+import com.entec.tax.engine.context.AnalysisContextStore;
+import com.entec.tax.engine.precheck.service.PreCheckService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({PreCheckService.class, CreditCalculationServiceImpl.class, CreditCalculatorRunner.class,
+        AnalysisContextStore.class, MyBatisConfig.class, ReferenceSnapshotManager.class,
+        TaxYearRulePlanCache.class, ExchangeRateCache.class,
+        CreditCalculationServiceImplTest.ExecutorConfig.class})
+class CreditCalculationServiceImplTest {
+
+    private static final String REQ_ID = "C1234567890-20260101-001";
+
+    @Autowired
+    private PreCheckService preCheckService;
+
+    @Autowired
+    private CreditCalculationService creditCalculationService;
+
+    @Autowired
+    private AnalysisContextStore analysisContextStore;
+
+    @Autowired
+    private OutEmployeeSummaryRepository outEmployeeSummaryRepository;
+
+    @Autowired
+    private OutCreditDetailRepository outCreditDetailRepository;
+
+    @Autowired
+    private ChkEligibilityRepository chkEligibilityRepository;
+
+    @Autowired
+    private ChkInspectionLogRepository chkInspectionLogRepository;
+
+    @Autowired
+    private ReqRequestRepository reqRequestRepository;
+
+    @Autowired
+    private InpRawDataRepository inpRawDataRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @MockBean
+    private CalculationLogWriter calculationLogWriter;
+
+    @MockBean
+    private AnalysisMetrics analysisMetrics;
+
+    @TestConfiguration
+    static class ExecutorConfig {
+
+        @Bean
+        Executor creditCalculatorExecutor() {
+            return new SyncTaskExecutor();
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        outCreditDetailRepository.deleteAllInBatch();
+        outEmployeeSummaryRepository.deleteAllInBatch();
+        chkInspectionLogRepository.deleteAllInBatch();
+        chkEligibilityRepository.deleteAllInBatch();
+        inpRawDataRepository.deleteAllInBatch();
+        reqRequestRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void fullPreCheckThenCreditRunKeepsOneEmployeeSummaryPerYearType() {
+        AnalysisContext context = context();
+
+        runStage(() -> preCheckService.executePreCheck(context), context);
+        assertThat(outEmployeeSummaryRepository.findByReqId(REQ_ID)).hasSize(3);
+
+        runStage(() -> creditCalculationService.calculateCredits(context), context);
+
+        List<OutEmployeeSummary> summaries = outEmployeeSummaryRepository.findByReqId(REQ_ID);
+        assertThat(summaries).extracting(OutEmployeeSummary::getYearType)
+                .containsExactlyInAnyOrder("CURRENT", "PREV1", "PREV2");
+        OutEmployeeSummary current = outEmployeeSummaryRepository.findByReqIdAndYearType(REQ_ID, "CURRENT").get();
+        // M4-02 가 M3 행을 증가 인원으로 갱신
+        assertThat(current.getIncreaseYouth()).isEqualTo(2);
+        assertThat(current.getIncreaseGeneral()).isEqualTo(3);
+
+        // 같은 요청의 M4 재실행도 같은 키로 다시 저장된다
+        runStage(() -> creditCalculationService.calculateCredits(context), context);
+        assertThat(outEmployeeSummaryRepository.findByReqId(REQ_ID)).hasSize(3);
+    }
+
+    @Test
+    void partialEmploymentRerunKeepsPreCheckRows() {
+        AnalysisContext context = context();
+        runStage(() -> preCheckService.executePreCheck(context), context);
+        runStage(() -> creditCalculationService.calculateCredits(context), context);
+
+        context.limitCreditCalcSteps(Collections.singleton("M4-02"));
+        runStage(() -> creditCalculationService.calculateCredits(context), context);
+
+        // M3 만 저장하는 PREV2 행은 M4-02 부분 재산출 후에도 남는다
+        assertThat(outEmployeeSummaryRepository.findByReqId(REQ_ID)).extracting(OutEmployeeSummary::getYearType)
+                .containsExactlyInAnyOrder("CURRENT", "PREV1", "PREV2");
+        assertThat(outEmployeeSummaryRepository.findByReqIdAndYearType(REQ_ID, "CURRENT").get().getIncreaseYouth())
+                .isEqualTo(2);
+    }
+
+    @Test
+    void foreignTaxFallsBackToSummaryWhenAnyLineIsUnresolved() {
+        // 원화 확정 1건 + 환율 미등록 외화 1건 → 일부 합계(1,000,000) 대신 재무 합계 사용
+        saveForeignTaxLines("[{\"foreign_tax_paid\":1000000},"
+                + "{\"foreign_tax_paid_fc\":100,\"currency\":\"USD\",\"payment_date\":\"2024-05-10\"}]");
+
+        assertThat(foreignTaxCredit().getGrossAmount()).isEqualTo(5_000_000L);
+    }
+
+    @Test
+    void foreignTaxSumsLinesWhenAllAreResolved() {
+        saveForeignTaxLines("[{\"foreign_tax_paid\":1000000},{\"foreign_tax_paid\":2000000}]");
+
+        assertThat(foreignTaxCredit().getGrossAmount()).isEqualTo(3_000_000L);
+    }
+
+    private void saveForeignTaxLines(String rawJson) {
+        ReqRequest request = reqRequestRepository.save(ReqRequest.builder()
+                .reqId(REQ_ID)
+                .applicantType("C")
+                .applicantId("1234567890")
+                .applicantName("테스트")
+                .taxType("CORP")
+                .taxYear("2024")
+                .requestDate(LocalDate.of(2026, 1, 1))
+                .seqNo(1)
+                .requestStatus("analyzing")
+                .createdAt(LocalDateTime.now())
+                .build());
+        inpRawDataRepository.save(InpRawData.builder()
+                .reqRequest(request)
+                .category("foreign_tax")
+                .rawJson(rawJson)
+                .checksum("checksum")
+                .receivedAt(LocalDateTime.now())
+                .build());
+    }
+
+    private OutCreditDetail foreignTaxCredit() {
+        AnalysisContext context = context();
+        context.setFinancial(InpFinancial.builder()
+                .reqId(REQ_ID)
+                .foreignTaxTotal(5_000_000L)
+                .foreignIncomeTotal(500_000_000L)
+                .build());
+        runStage(() -> preCheckService.executePreCheck(context), context);
+        runStage(() -> creditCalculationService.calculateCredits(context), context);
+        return outCreditDetailRepository.findByReqId(REQ_ID).stream()
+                .filter(detail -> "M4-06-001".equals(detail.getItemId()))
+                .findFirst()
+                .get();
+    }
+
+    private void runStage(Runnable engine, AnalysisContext context) {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            engine.run();
+            analysisContextStore.flush(context);
+        });
+    }
+
+    private static AnalysisContext context() {
+        AnalysisContext context = new AnalysisContext(REQ_ID);
+        context.setBasic(InpBasic.builder()
+                .reqId(REQ_ID)
+                .requestDate(LocalDate.of(2026, 1, 1))
+                .taxType("CORP")
+                .applicantName("테스트")
+                .corpSize("SMALL")
+                .industryCode("C26")
+                .hqLocation("대전")
+                .capitalZone("NON_CAPITAL")
+                .taxYear("2024")
+                .fiscalStart(LocalDate.of(2024, 1, 1))
+                .fiscalEnd(LocalDate.of(2024, 12, 31))
+                .revenue(10_000_000_000L)
+                .taxableIncome(1_000_000_000L)
+                .computedTax(180_000_000L)
+                .paidTax(180_000_000L)
+                .foundingDate(LocalDate.of(2010, 1, 1))
+                .build());
+        context.setEmployees(Arrays.asList(
+                employee("CURRENT", "25.00", 7, 18),
+                employee("PREV1", "20.00", 5, 15),
+                employee("PREV2", "18.00", 4, 14)));
+        context.setDeductions(Collections.singletonList(InpDeduction.builder()
+                .reqId(REQ_ID)
+                .itemCategory(ItemCategory.EMPLOYMENT.getCode())
+                .provision(ProvisionCode.ART_29_8)
+                .taxYear("2024")
+                .itemSeq(1)
+                .build()));
+        return context;
+    }
+
+    private static InpEmployee employee(String yearType, String totalRegular, int youth, int general) {
+        return InpEmployee.builder()
+                .reqId(REQ_ID)
+                .yearType(yearType)
+                .totalRegular(new BigDecimal(totalRegular))
+                .youthCount(youth)
+                .generalCount(general)
+                .excludedCount(0)
+                .build();
+    }
+}
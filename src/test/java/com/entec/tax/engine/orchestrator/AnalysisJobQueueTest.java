@@ -0,0 +1,173 @@
+package com.entec.tax.engine.orchestrator;
+
+import com.entec.tax.domain.request.entity.ReqAnalysisJob;
+import com.entec.tax.domain.request.entity.ReqRequest;
+import com.entec.tax.domain.request.repository.ReqAnalysisJobRepository;
+import com.entec.tax.domain.request.repository.ReqRequestRepository;
+import com.entec.tax.domain.request.service.RequestStateMachine;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.JdbcTemplateAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({AnalysisJobQueue.class, RequestStateMachine.class})
+@ImportAutoConfiguration(JdbcTemplateAutoConfiguration.class)
+class AnalysisJobQueueTest {
+
+    private static final String REQ_ID = "C1234567890-20260101-001";
+
+    @Autowired
+    private AnalysisJobQueue analysisJobQueue;
+
+    @Autowired
+    private ReqAnalysisJobRepository reqAnalysisJobRepository;
+
+    @Autowired
+    private ReqRequestRepository reqRequestRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @MockBean
+    private AnalysisScheduler analysisScheduler;
+
+    @AfterEach
+    void tearDown() {
+        reqAnalysisJobRepository.deleteAllInBatch();
+        reqRequestRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void concurrentOwnersNeverLeaseTheSameJob() throws Exception {
+        for (int i = 0; i < 6; i++) {
+            analysisJobQueue.enqueue(REQ_ID.substring(0, 22) + i, "trace-" + i, "tenant",
+                    AnalysisPriority.INTERACTIVE, null);
+        }
+
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<List<ReqAnalysisJob>> first = executor.submit(leaseAfter(start, "node-a"));
+            Future<List<ReqAnalysisJob>> second = executor.submit(leaseAfter(start, "node-b"));
+            start.countDown();
+
+            List<String> leasedIds = new ArrayList<String>();
+            for (ReqAnalysisJob job : first.get(30, TimeUnit.SECONDS)) {
+                leasedIds.add(job.getJobId());
+            }
+            for (ReqAnalysisJob job : second.get(30, TimeUnit.SECONDS)) {
+                leasedIds.add(job.getJobId());
+            }
+
+            Set<String> distinct = new HashSet<String>(leasedIds);
+            assertThat(distinct).hasSameSizeAs(leasedIds);
+            assertThat(leasedIds).hasSize(6);
+            for (ReqAnalysisJob job : reqAnalysisJobRepository.findAll()) {
+                if (distinct.contains(job.getJobId())) {
+                    assertThat(job.getJobStatus()).isEqualTo(AnalysisJobQueue.JOB_LEASED);
+                    assertThat(job.getAttempts()).isEqualTo(1);
+                } else {
+                    assertThat(job.getJobStatus()).isEqualTo(AnalysisJobQueue.JOB_PENDING);
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void expiredLeaseIsReclaimedByAnotherOwner() {
+        ReqAnalysisJob job = analysisJobQueue.enqueue(REQ_ID, "trace", "tenant", AnalysisPriority.INTERACTIVE, null);
+        assertThat(analysisJobQueue.lease("node-a", 10, 60)).hasSize(1);
+
+        // 유효한 리스는 다른 노드가 가져가지 않는다
+        assertThat(analysisJobQueue.lease("node-b", 10, 60)).isEmpty();
+
+        expireLease(job.getJobId());
+        List<ReqAnalysisJob> reclaimed = analysisJobQueue.lease("node-b", 10, 60);
+
+        assertThat(reclaimed).extracting(ReqAnalysisJob::getJobId).containsExactly(job.getJobId());
+        assertThat(reclaimed.get(0).getLeaseOwner()).isEqualTo("node-a");
+        ReqAnalysisJob current = reqAnalysisJobRepository.findById(job.getJobId()).get();
+        assertThat(current.getLeaseOwner()).isEqualTo("node-b");
+        assertThat(current.getAttempts()).isEqualTo(2);
+
+        // 리스를 잃은 노드의 종료 기록은 반영되지 않는다
+        analysisJobQueue.finish(job.getJobId(), "node-a", AnalysisJobQueue.JOB_DONE, null, null);
+        assertThat(reqAnalysisJobRepository.findById(job.getJobId()).get().getJobStatus())
+                .isEqualTo(AnalysisJobQueue.JOB_LEASED);
+        analysisJobQueue.finish(job.getJobId(), "node-b", AnalysisJobQueue.JOB_DONE, null, null);
+        assertThat(reqAnalysisJobRepository.findById(job.getJobId()).get().getJobStatus())
+                .isEqualTo(AnalysisJobQueue.JOB_DONE);
+    }
+
+    @Test
+    void jobPastMaxAttemptsIsAbandonedAndRequestFailed() {
+        reqRequestRepository.save(ReqRequest.builder()
+                .reqId(REQ_ID)
+                .applicantType("C")
+                .applicantId("1234567890")
+                .applicantName("테스트")
+                .taxType("CORP")
+                .taxYear("2025")
+                .requestDate(LocalDate.of(2026, 1, 1))
+                .seqNo(1)
+                .requestStatus(AnalysisStage.M4.getRequestStatus())
+                .createdAt(LocalDateTime.now())
+                .build());
+        ReqAnalysisJob job = analysisJobQueue.enqueue(REQ_ID, "trace", "tenant", AnalysisPriority.INTERACTIVE, null);
+        for (int attempt = 1; attempt <= 3; attempt++) {
+            assertThat(analysisJobQueue.lease("node-" + attempt, 10, 60)).hasSize(1);
+            expireLease(job.getJobId());
+        }
+
+        assertThat(analysisJobQueue.lease("node-4", 10, 60)).isEmpty();
+
+        ReqAnalysisJob abandoned = reqAnalysisJobRepository.findById(job.getJobId()).get();
+        assertThat(abandoned.getJobStatus()).isEqualTo(AnalysisJobQueue.JOB_FAILED);
+        assertThat(abandoned.getAttempts()).isEqualTo(3);
+        ReqRequest request = reqRequestRepository.findById(REQ_ID).get();
+        assertThat(request.getRequestStatus()).isEqualTo("failed");
+        assertThat(request.getVersion()).isEqualTo(2);
+    }
+
+    private Callable<List<ReqAnalysisJob>> leaseAfter(CountDownLatch start, String owner) {
+        return () -> {
+            start.await();
+            return analysisJobQueue.lease(owner, 4, 60);
+        };
+    }
+
+    private void expireLease(String jobId) {
+        jdbcTemplate.update("UPDATE REQ_ANALYSIS_JOB SET lease_expires_at = ? WHERE job_id = ?",
+                LocalDateTime.now().minusSeconds(1), jobId);
+    }
+}
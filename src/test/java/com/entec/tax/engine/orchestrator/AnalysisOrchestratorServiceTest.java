@@ -0,0 +1,167 @@
+package com.entec.tax.engine.orchestrator;
+
+import com.entec.tax.common.metrics.AnalysisMetrics;
+import com.entec.tax.domain.input.entity.InpRawData;
+import com.entec.tax.domain.input.repository.InpRawDataRepository;
+import com.entec.tax.domain.log.service.CalculationLogWriter;
+import com.entec.tax.domain.reference.cache.ReferenceSnapshotManager;
+import com.entec.tax.domain.request.entity.ReqRequest;
+import com.entec.tax.domain.request.repository.ReqAnalysisCheckpointRepository;
+import com.entec.tax.domain.request.repository.ReqAnalysisFingerprintRepository;
+import com.entec.tax.domain.request.repository.ReqRequestRepository;
+import com.entec.tax.domain.request.repository.ReqResultCacheRepository;
+import com.entec.tax.domain.request.service.RequestArchiveService;
+import com.entec.tax.domain.request.service.RequestStateMachine;
+import com.entec.tax.engine.combination.service.CombinationSearchService;
+import com.entec.tax.engine.context.AnalysisContext;
+import com.entec.tax.engine.context.AnalysisContextStore;
+import com.entec.tax.engine.credit.service.CreditCalculationService;
+import com.entec.tax.engine.precheck.service.PreCheckService;
+import com.entec.tax.engine.refund.service.RefundCalculationService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.JdbcTemplateAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({AnalysisOrchestratorService.class, RequestStateMachine.class, AnalysisResultCache.class,
+        ReferenceSnapshotManager.class})
+@ImportAutoConfiguration(JdbcTemplateAutoConfiguration.class)
+class AnalysisOrchestratorServiceTest {
+
+    private static final String REQ_ID = "C1234567890-20260101-001";
+
+    @Autowired
+    private AnalysisOrchestratorService analysisOrchestratorService;
+
+    @Autowired
+    private ReqRequestRepository reqRequestRepository;
+
+    @Autowired
+    private InpRawDataRepository inpRawDataRepository;
+
+    @Autowired
+    private ReqAnalysisCheckpointRepository reqAnalysisCheckpointRepository;
+
+    @Autowired
+    private ReqAnalysisFingerprintRepository reqAnalysisFingerprintRepository;
+
+    @Autowired
+    private ReqResultCacheRepository reqResultCacheRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @MockBean
+    private PreCheckService preCheckService;
+
+    @MockBean
+    private CreditCalculationService creditCalculationService;
+
+    @MockBean
+    private CombinationSearchService combinationSearchService;
+
+    @MockBean
+    private RefundCalculationService refundCalculationService;
+
+    @MockBean
+    private AnalysisContextStore analysisContextStore;
+
+    @MockBean
+    private CalculationLogWriter calculationLogWriter;
+
+    @MockBean
+    private RequestArchiveService requestArchiveService;
+
+    @MockBean
+    private AnalysisMetrics analysisMetrics;
+
+    @BeforeEach
+    void setUp() {
+        when(analysisContextStore.load(anyString()))
+                .thenAnswer(invocation -> new AnalysisContext(invocation.getArgument(0)));
+        createParsedRequest(REQ_ID);
+    }
+
+    @AfterEach
+    void tearDown() {
+        reqResultCacheRepository.deleteAllInBatch();
+        reqAnalysisFingerprintRepository.deleteAllInBatch();
+        reqAnalysisCheckpointRepository.deleteAllInBatch();
+        inpRawDataRepository.deleteAllInBatch();
+        reqRequestRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void fullRunCommitsM6CheckpointAndFingerprints() {
+        Map<String, Object> result = analysisOrchestratorService.executeAnalysis(REQ_ID);
+
+        assertThat(result.get("status")).isEqualTo("completed");
+        assertThat(reqRequestRepository.findById(REQ_ID).get().getRequestStatus()).isEqualTo("completed");
+        assertThat(reqAnalysisCheckpointRepository.findById(REQ_ID))
+                .hasValueSatisfying(checkpoint -> assertThat(checkpoint.getLastStage()).isEqualTo("M6"));
+        assertThat(reqAnalysisFingerprintRepository.findByReqId(REQ_ID))
+                .extracting("node")
+                .containsAll(AnalysisDependencyGraph.nodesOf(AnalysisStage.M6));
+    }
+
+    @Test
+    void reanalysisWithUnchangedInputRunsNoStage() {
+        analysisOrchestratorService.executeAnalysis(REQ_ID);
+        // 같은 내용으로 데이터셋을 정정한 경우 (parsed 로 복귀, 입력 체크섬 동일)
+        jdbcTemplate.update("UPDATE REQ_REQUEST SET request_status = 'parsed' WHERE req_id = ?", REQ_ID);
+
+        Map<String, Object> result = analysisOrchestratorService.executeAnalysis(REQ_ID);
+
+        assertThat(result.get("status")).isEqualTo("completed");
+        assertThat(result.get("start_stage")).isNull();
+        verify(preCheckService, times(1)).executePreCheck(any(AnalysisContext.class));
+        verify(refundCalculationService, times(1)).calculateFinalRefund(any(AnalysisContext.class));
+    }
+
+    private void createParsedRequest(String reqId) {
+        ReqRequest request = reqRequestRepository.saveAndFlush(ReqRequest.builder()
+                .reqId(reqId)
+                .applicantType("C")
+                .applicantId("1234567890")
+                .applicantName("테스트")
+                .taxType("CORP")
+                .taxYear("2025")
+                .requestDate(LocalDate.of(2026, 1, 1))
+                .seqNo(1)
+                .requestStatus("parsed")
+                .createdAt(LocalDateTime.now())
+                .build());
+        inpRawDataRepository.saveAndFlush(InpRawData.builder()
+                .reqRequest(request)
+                .category("basic")
+                .rawJson("{\"corp_size\":\"SME\"}")
+                .checksum("checksum-basic")
+                .receivedAt(LocalDateTime.now())
+                .build());
+    }
+}
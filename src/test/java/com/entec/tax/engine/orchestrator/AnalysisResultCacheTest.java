@@ -0,0 +1,166 @@
+package com.entec.tax.engine.orchestrator;
+
+import com.entec.tax.common.util.CryptoUtil;
+import com.entec.tax.domain.output.entity.OutEmployeeSummary;
+import com.entec.tax.domain.output.repository.OutEmployeeSummaryRepository;
+import com.entec.tax.domain.report.entity.OutReportJson;
+import com.entec.tax.domain.report.repository.OutReportJsonRepository;
+import com.entec.tax.domain.request.entity.ReqAnalysisCheckpoint;
+import com.entec.tax.domain.request.entity.ReqRequest;
+import com.entec.tax.domain.request.repository.ReqAnalysisCheckpointRepository;
+import com.entec.tax.domain.request.repository.ReqRequestRepository;
+import com.entec.tax.domain.request.repository.ReqResultCacheRepository;
+import com.entec.tax.domain.request.service.RequestArchiveService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.JdbcTemplateAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import(AnalysisResultCache.class)
+@ImportAutoConfiguration(JdbcTemplateAutoConfiguration.class)
+class AnalysisResultCacheTest {
+
+    private static final String SOURCE_REQ_ID = "C1234567890-20260101-001";
+
+    private static final String TARGET_REQ_ID = "C1234567890-20260101-002";
+
+    private static final String INPUT_HASH = "input-hash";
+
+    @Autowired
+    private AnalysisResultCache analysisResultCache;
+
+    @Autowired
+    private ReqRequestRepository reqRequestRepository;
+
+    @Autowired
+    private ReqAnalysisCheckpointRepository reqAnalysisCheckpointRepository;
+
+    @Autowired
+    private ReqResultCacheRepository reqResultCacheRepository;
+
+    @Autowired
+    private OutEmployeeSummaryRepository outEmployeeSummaryRepository;
+
+    @Autowired
+    private OutReportJsonRepository outReportJsonRepository;
+
+    @MockBean
+    private RequestArchiveService requestArchiveService;
+
+    @BeforeEach
+    void setUp() {
+        reqRequestRepository.save(request(SOURCE_REQ_ID, 1, "completed"));
+        reqRequestRepository.save(request(TARGET_REQ_ID, 2, "analyzing"));
+        reqAnalysisCheckpointRepository.save(ReqAnalysisCheckpoint.builder()
+                .reqId(SOURCE_REQ_ID)
+                .lastStage(AnalysisStage.M6.getCode())
+                .inputHash(INPUT_HASH)
+                .completedAt(LocalDateTime.now())
+                .build());
+        outEmployeeSummaryRepository.save(OutEmployeeSummary.builder()
+                .reqId(SOURCE_REQ_ID)
+                .yearType("CURRENT")
+                .youthCount(3)
+                .build());
+        outReportJsonRepository.save(OutReportJson.builder()
+                .reqId(SOURCE_REQ_ID)
+                .reportStatus("COMPLETED")
+                .reportJson("{\"reqId\":\"" + SOURCE_REQ_ID + "\",\"refund\":100}")
+                .sectionAJson("{\"reqId\":\"" + SOURCE_REQ_ID + "\"}")
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        outReportJsonRepository.deleteAllInBatch();
+        outEmployeeSummaryRepository.deleteAllInBatch();
+        reqResultCacheRepository.deleteAllInBatch();
+        reqAnalysisCheckpointRepository.deleteAllInBatch();
+        reqRequestRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void registeredSourceIsClonedWithReportRewritten() {
+        ReqRequest target = reqRequestRepository.findById(TARGET_REQ_ID).get();
+        String cacheKey = analysisResultCache.cacheKey(target, INPUT_HASH);
+        analysisResultCache.register(cacheKey, SOURCE_REQ_ID, INPUT_HASH, 1L);
+
+        String sourceReqId = analysisResultCache.findSource(TARGET_REQ_ID, cacheKey, INPUT_HASH);
+        int copied = analysisResultCache.cloneResults(sourceReqId, TARGET_REQ_ID);
+
+        assertThat(sourceReqId).isEqualTo(SOURCE_REQ_ID);
+        assertThat(copied).isEqualTo(2);
+        assertThat(outEmployeeSummaryRepository.findByReqIdAndYearType(TARGET_REQ_ID, "CURRENT").get()
+                .getYouthCount()).isEqualTo(3);
+
+        OutReportJson report = outReportJsonRepository.findById(TARGET_REQ_ID).get();
+        String expectedJson = "{\"reqId\":\"" + TARGET_REQ_ID + "\",\"refund\":100}";
+        assertThat(report.getReportJson()).isEqualTo(expectedJson);
+        assertThat(report.getSectionAJson()).isEqualTo("{\"reqId\":\"" + TARGET_REQ_ID + "\"}");
+        assertThat(report.getJsonByteSize()).isEqualTo(expectedJson.getBytes(StandardCharsets.UTF_8).length);
+        assertThat(report.getChecksum()).isEqualTo(CryptoUtil.sha256(expectedJson));
+        // 원본 보고서는 그대로 둔다
+        assertThat(outReportJsonRepository.findById(SOURCE_REQ_ID).get().getReportJson())
+                .contains(SOURCE_REQ_ID);
+    }
+
+    @Test
+    void sourceIsNotReusedWhenCheckpointInputDiffers() {
+        ReqRequest target = reqRequestRepository.findById(TARGET_REQ_ID).get();
+        String cacheKey = analysisResultCache.cacheKey(target, INPUT_HASH);
+        analysisResultCache.register(cacheKey, SOURCE_REQ_ID, INPUT_HASH, 1L);
+        reqAnalysisCheckpointRepository.save(ReqAnalysisCheckpoint.builder()
+                .reqId(SOURCE_REQ_ID)
+                .lastStage(AnalysisStage.M6.getCode())
+                .inputHash("corrected-input-hash")
+                .completedAt(LocalDateTime.now())
+                .build());
+
+        assertThat(analysisResultCache.findSource(TARGET_REQ_ID, cacheKey, INPUT_HASH)).isNull();
+    }
+
+    @Test
+    void archivedSourceIsNotReused() {
+        ReqRequest target = reqRequestRepository.findById(TARGET_REQ_ID).get();
+        String cacheKey = analysisResultCache.cacheKey(target, INPUT_HASH);
+        analysisResultCache.register(cacheKey, SOURCE_REQ_ID, INPUT_HASH, 1L);
+        when(requestArchiveService.isArchived(SOURCE_REQ_ID)).thenReturn(true);
+
+        assertThat(analysisResultCache.findSource(TARGET_REQ_ID, cacheKey, INPUT_HASH)).isNull();
+    }
+
+    private static ReqRequest request(String reqId, int seqNo, String status) {
+        return ReqRequest.builder()
+                .reqId(reqId)
+                .applicantType("C")
+                .applicantId("1234567890")
+                .applicantName("테스트")
+                .taxType("CORP")
+                .taxYear("2025")
+                .requestDate(LocalDate.of(2026, 1, 1))
+                .seqNo(seqNo)
+                .requestStatus(status)
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+}